@@ -0,0 +1,61 @@
+#!/usr/bin/env bash
+# ========================================
+# JVM jar / 네이티브 이미지 기동 시간 비교
+# ========================================
+# 사용법: scripts/startup-comparison.sh <jar 경로> [네이티브 바이너리 경로]
+#
+# 각 런타임을 RUNS회(기본 5) 기동하여 "Started UserServiceApplication" 로그의
+# "process running for N" 값을 수집하고 중앙값을 출력한다.
+# Config Server, Eureka는 비교 대상에서 제외하고(비활성화), DB 등은 환경변수로 지정한다.
+# ========================================
+set -euo pipefail
+
+JAR="${1:?jar 경로가 필요합니다}"
+NATIVE="${2:-}"
+RUNS="${RUNS:-5}"
+TIMEOUT_SECONDS="${TIMEOUT_SECONDS:-120}"
+APP_ARGS=(
+  "--server.port=0"
+  "--spring.cloud.config.enabled=false"
+  "--eureka.client.enabled=false"
+  "--spring.docker.compose.enabled=false"
+)
+
+# 한 번 기동하여 process running 시간(초)을 출력한다.
+measure() {
+  local log
+  log="$(mktemp)"
+  "$@" "${APP_ARGS[@]}" >"$log" 2>&1 &
+  local pid=$!
+  local elapsed=0
+  while ! grep -q "Started UserServiceApplication" "$log"; do
+    if ! kill -0 "$pid" 2>/dev/null || [ "$elapsed" -ge "$((TIMEOUT_SECONDS * 10))" ]; then
+      kill "$pid" 2>/dev/null || true
+      echo "기동 실패. 로그: $log" >&2
+      return 1
+    fi
+    sleep 0.1
+    elapsed=$((elapsed + 1))
+  done
+  kill "$pid" 2>/dev/null || true
+  wait "$pid" 2>/dev/null || true
+  grep -o "process running for [0-9.]*" "$log" | awk '{print $4}'
+  rm -f "$log"
+}
+
+# RUNS회 측정한 값의 중앙값을 출력한다.
+median_of() {
+  local values=()
+  for _ in $(seq "$RUNS"); do
+    values+=("$(measure "$@")")
+  done
+  printf '%s\n' "${values[@]}" | sort -n | awk '{a[NR]=$1} END {print (NR % 2) ? a[(NR+1)/2] : (a[NR/2] + a[NR/2+1]) / 2}'
+}
+
+printf '%-8s %s\n' "runtime" "startup(s, median of ${RUNS})"
+printf '%-8s %s\n' "jvm" "$(median_of java -jar "$JAR")"
+if [ -n "$NATIVE" ] && [ -x "$NATIVE" ]; then
+  printf '%-8s %s\n' "native" "$(median_of "$NATIVE")"
+else
+  echo "네이티브 바이너리가 없어 JVM만 측정했습니다. (./gradlew -Pnative startupComparison)"
+fi
@@ -1,7 +1,10 @@
 package com.tickatch.user_service;
 
+import com.tickatch.user_service.global.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
@@ -9,11 +12,15 @@ import org.springframework.scheduling.annotation.EnableScheduling;
  *
  * <p>이 클래스는 {@link SpringBootApplication}을 사용하여 Spring Boot 환경에서 애플리케이션을 실행합니다.
  *
+ * <p>R2DBC 자동 구성은 제외합니다. R2DBC {@code ConnectionFactory} 빈이 등록되면 JDBC {@code DataSource} 자동 구성이
+ * 비활성화되므로, 반응형 조회 경로의 커넥션 풀은 {@code ReactiveDatabase}가 빈으로 노출하지 않고 직접 관리합니다.
+ *
  * @author 김형섭
  * @since 1.0.0
  */
 @EnableScheduling
-@SpringBootApplication
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class UserServiceApplication {
 
   /**
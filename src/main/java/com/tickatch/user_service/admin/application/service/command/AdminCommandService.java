@@ -8,9 +8,12 @@ import com.tickatch.user_service.admin.domain.Admin;
 import com.tickatch.user_service.admin.domain.AdminRepository;
 import com.tickatch.user_service.admin.domain.exception.AdminErrorCode;
 import com.tickatch.user_service.admin.domain.exception.AdminException;
+import com.tickatch.user_service.common.domain.vo.UserStatusTransition;
+import com.tickatch.user_service.global.jdbc.UniqueViolation;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +22,9 @@ import org.springframework.transaction.annotation.Transactional;
  *
  * <p>관리자 생성, 수정, 역할 변경, 상태 변경 등 상태를 변경하는 작업을 처리한다. 모든 주요 작업에 대해 성공/실패 로그를 로그 서비스로 발행한다.
  *
+ * <p>정지, 활성화, 탈퇴는 엔티티를 조회하지 않고 조건부 UPDATE 한 문장으로 처리한다. 바뀐 행이 없을 때만 엔티티를 조회하여 도메인 규칙을
+ * 적용한다.
+ *
  * @author Tickatch
  * @since 1.0.0
  */
@@ -34,18 +40,16 @@ public class AdminCommandService {
   /**
    * 관리자를 생성한다.
    *
+   * <p>존재 여부를 먼저 조회하지 않고 바로 INSERT하며, ID 또는 이메일(대소문자 무시)의 유일 제약 위반을 중복으로 처리한다.
+   *
    * <p>성공 시 ADMIN_CREATED 로그를, 실패 시 ADMIN_CREATE_FAILED 로그를 발행한다.
    *
    * @param command 생성 커맨드
    * @return 생성된 관리자 ID
-   * @throws AdminException 이미 존재하는 이메일인 경우
+   * @throws AdminException 이미 존재하는 관리자 ID 또는 이메일인 경우
    */
   public UUID createAdmin(CreateAdminCommand command) {
     try {
-      if (adminRepository.existsByEmail(command.email())) {
-        throw new AdminException(AdminErrorCode.ADMIN_ALREADY_EXISTS);
-      }
-
       Admin admin =
           Admin.create(
               command.authId(),
@@ -55,7 +59,7 @@ public class AdminCommandService {
               command.department(),
               command.adminRole());
 
-      UUID adminId = adminRepository.save(admin).getId();
+      UUID adminId = insert(admin).getId();
       log.info("관리자 생성 완료. adminId: {}", adminId);
 
       logEventPublisher.publishCreated(adminId);
@@ -127,8 +131,9 @@ public class AdminCommandService {
    */
   public void suspendAdmin(UUID adminId) {
     try {
-      Admin admin = findAdminById(adminId);
-      admin.suspend();
+      if (!adminRepository.transitionStatus(adminId, UserStatusTransition.SUSPEND)) {
+        findAdminById(adminId).suspend();
+      }
       log.info("관리자 정지 완료. adminId: {}", adminId);
 
       logEventPublisher.publishSuspended(adminId);
@@ -149,8 +154,9 @@ public class AdminCommandService {
    */
   public void activateAdmin(UUID adminId) {
     try {
-      Admin admin = findAdminById(adminId);
-      admin.activate();
+      if (!adminRepository.transitionStatus(adminId, UserStatusTransition.ACTIVATE)) {
+        findAdminById(adminId).activate();
+      }
       log.info("관리자 활성화 완료. adminId: {}", adminId);
 
       logEventPublisher.publishActivated(adminId);
@@ -171,8 +177,9 @@ public class AdminCommandService {
    */
   public void withdrawAdmin(UUID adminId) {
     try {
-      Admin admin = findAdminById(adminId);
-      admin.withdraw();
+      if (!adminRepository.transitionStatus(adminId, UserStatusTransition.WITHDRAW)) {
+        findAdminById(adminId).withdraw();
+      }
       log.info("관리자 탈퇴 완료. adminId: {}", adminId);
 
       logEventPublisher.publishWithdrawn(adminId);
@@ -188,4 +195,15 @@ public class AdminCommandService {
         .findById(adminId)
         .orElseThrow(() -> new AdminException(AdminErrorCode.ADMIN_NOT_FOUND));
   }
+
+  private Admin insert(Admin admin) {
+    try {
+      return adminRepository.insert(admin);
+    } catch (DataIntegrityViolationException e) {
+      if (UniqueViolation.matches(e)) {
+        throw new AdminException(AdminErrorCode.ADMIN_ALREADY_EXISTS);
+      }
+      throw e;
+    }
+  }
 }
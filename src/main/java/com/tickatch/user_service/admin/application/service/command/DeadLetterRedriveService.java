@@ -0,0 +1,69 @@
+package com.tickatch.user_service.admin.application.service.command;
+
+import com.tickatch.user_service.admin.domain.Admin;
+import com.tickatch.user_service.admin.domain.AdminRepository;
+import com.tickatch.user_service.admin.domain.exception.AdminErrorCode;
+import com.tickatch.user_service.admin.domain.exception.AdminException;
+import com.tickatch.user_service.common.domain.exception.UserException;
+import com.tickatch.user_service.common.infrastructure.messaging.redrive.DeadLetterRedriver;
+import com.tickatch.user_service.common.infrastructure.messaging.redrive.dto.DeadLetterQueueStatus;
+import com.tickatch.user_service.common.infrastructure.messaging.redrive.dto.RedriveResult;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * DLQ 재처리 서비스.
+ *
+ * <p>활성 상태의 최고 관리자(ADMIN)만 호출할 수 있다. 재처리는 오래 걸릴 수 있으므로 트랜잭션 밖에서 실행한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see DeadLetterRedriver
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeadLetterRedriveService {
+
+  private final AdminRepository adminRepository;
+  private final DeadLetterRedriver deadLetterRedriver;
+
+  /**
+   * DLQ별 적재 현황을 조회한다.
+   *
+   * @param operatorId 조회하는 관리자 ID
+   * @return DLQ별 적재 현황
+   * @throws AdminException 조회자가 활성 최고 관리자가 아닌 경우
+   */
+  public List<DeadLetterQueueStatus> getStatuses(UUID operatorId) {
+    verifyOperator(operatorId);
+    return deadLetterRedriver.getStatuses();
+  }
+
+  /**
+   * DLQ의 메시지를 원래 큐로 다시 발행한다.
+   *
+   * @param operatorId 재처리하는 관리자 ID
+   * @param queue DLQ 이름
+   * @param limit 최대 처리 건수
+   * @return 재처리 결과
+   * @throws AdminException 요청자가 활성 최고 관리자가 아닌 경우
+   * @throws UserException 재처리 대상이 아닌 큐이거나 이미 재처리 중인 경우
+   */
+  public RedriveResult redrive(UUID operatorId, String queue, int limit) {
+    verifyOperator(operatorId);
+    log.info("DLQ 재처리 요청. operatorId: {}, queue: {}, limit: {}", operatorId, queue, limit);
+    return deadLetterRedriver.redrive(queue, limit);
+  }
+
+  private void verifyOperator(UUID operatorId) {
+    adminRepository
+        .findById(operatorId)
+        .filter(Admin::isActive)
+        .filter(Admin::isAdmin)
+        .orElseThrow(() -> new AdminException(AdminErrorCode.ADMIN_PERMISSION_DENIED));
+  }
+}
@@ -7,17 +7,22 @@ import com.tickatch.user_service.admin.domain.AdminRepository;
 import com.tickatch.user_service.admin.domain.exception.AdminErrorCode;
 import com.tickatch.user_service.admin.domain.exception.AdminException;
 import com.tickatch.user_service.admin.domain.vo.AdminRole;
+import com.tickatch.user_service.common.domain.vo.CanonicalEmail;
+import com.tickatch.user_service.global.cache.SingleFlight;
+import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 관리자 조회 서비스.
  *
- * <p>관리자 조회 작업을 처리한다.
+ * <p>관리자 조회 작업을 처리한다. ID/이메일 단건 조회는 {@link SingleFlight}로 동일 키 동시 요청을 하나의 DB 조회로
+ * 병합한다. 병합을 기다리는 요청이 DB 커넥션을 점유하지 않도록 단건 조회는 트랜잭션 없이 시작한다.
  *
  * @author Tickatch
  * @since 1.0.0
@@ -28,6 +33,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class AdminQueryService {
 
   private final AdminRepository adminRepository;
+  private final SingleFlight singleFlight;
 
   /**
    * ID로 관리자를 조회한다.
@@ -36,12 +42,16 @@ public class AdminQueryService {
    * @return 관리자 응답
    * @throws AdminException 관리자를 찾을 수 없는 경우
    */
+  @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
   public AdminResponse getAdmin(UUID adminId) {
-    Admin admin =
-        adminRepository
-            .findById(adminId)
-            .orElseThrow(() -> new AdminException(AdminErrorCode.ADMIN_NOT_FOUND));
-    return AdminResponse.from(admin);
+    return singleFlight.load(
+        SingleFlight.lookupName(Admin.class, "id"),
+        adminId,
+        () ->
+            AdminResponse.from(
+                adminRepository
+                    .findById(adminId)
+                    .orElseThrow(() -> new AdminException(AdminErrorCode.ADMIN_NOT_FOUND))));
   }
 
   /**
@@ -51,12 +61,31 @@ public class AdminQueryService {
    * @return 관리자 응답
    * @throws AdminException 관리자를 찾을 수 없는 경우
    */
+  @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
   public AdminResponse getAdminByEmail(String email) {
-    Admin admin =
-        adminRepository
-            .findByEmail(email)
-            .orElseThrow(() -> new AdminException(AdminErrorCode.ADMIN_NOT_FOUND));
-    return AdminResponse.from(admin);
+    return singleFlight.load(
+        SingleFlight.lookupName(Admin.class, "email"),
+        CanonicalEmail.of(email),
+        () ->
+            AdminResponse.from(
+                adminRepository
+                    .findByEmail(email)
+                    .orElseThrow(() -> new AdminException(AdminErrorCode.ADMIN_NOT_FOUND))));
+  }
+
+  /**
+   * 관리자의 현재 버전(수정 일시)만 조회한다.
+   *
+   * <p>조건부 GET에서 엔티티를 로딩하지 않고 ETag를 비교하기 위해 사용한다.
+   *
+   * @param adminId 관리자 ID
+   * @return 수정 일시
+   * @throws AdminException 관리자를 찾을 수 없는 경우
+   */
+  public LocalDateTime getAdminVersion(UUID adminId) {
+    return adminRepository
+        .findUpdatedAtById(adminId)
+        .orElseThrow(() -> new AdminException(AdminErrorCode.ADMIN_NOT_FOUND));
   }
 
   /**
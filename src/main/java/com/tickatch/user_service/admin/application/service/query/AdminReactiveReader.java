@@ -0,0 +1,77 @@
+package com.tickatch.user_service.admin.application.service.query;
+
+import com.tickatch.user_service.admin.application.service.query.dto.AdminResponse;
+import com.tickatch.user_service.admin.domain.Admin;
+import com.tickatch.user_service.admin.domain.vo.AdminRole;
+import com.tickatch.user_service.common.domain.vo.UserStatus;
+import com.tickatch.user_service.global.cache.SecondLevelCacheReader;
+import com.tickatch.user_service.global.reactive.ReactiveDatabase;
+import io.r2dbc.spi.Readable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 관리자 반응형 조회기.
+ *
+ * <p>2차 캐시, R2DBC 순으로 조회하고, 둘 다 없으면 {@link AdminQueryService}에 위임한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Service
+@ConditionalOnProperty(name = "user.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class AdminReactiveReader {
+
+  private static final String SELECT_BY_ID =
+      """
+      SELECT id, email, name, phone, department, admin_role, status, created_at, updated_at
+        FROM admins
+       WHERE id = :id AND deleted_at IS NULL
+      """;
+
+  private final SecondLevelCacheReader secondLevelCacheReader;
+  private final ReactiveDatabase reactiveDatabase;
+  private final AdminQueryService adminQueryService;
+
+  /**
+   * ID로 관리자를 조회한다.
+   *
+   * @param adminId 관리자 ID
+   * @return 관리자 응답 (없으면 AdminException 에러)
+   */
+  public Mono<AdminResponse> getAdmin(UUID adminId) {
+    return secondLevelCacheReader
+        .find(Admin.class, adminId)
+        .filter(admin -> !admin.isDeleted())
+        .map(AdminResponse::from)
+        .switchIfEmpty(
+            reactiveDatabase
+                .client()
+                .sql(SELECT_BY_ID)
+                .bind("id", adminId)
+                .map(AdminReactiveReader::toResponse)
+                .one())
+        .switchIfEmpty(
+            Mono.fromCallable(() -> adminQueryService.getAdmin(adminId))
+                .subscribeOn(Schedulers.boundedElastic()));
+  }
+
+  private static AdminResponse toResponse(Readable row) {
+    return new AdminResponse(
+        row.get("id", UUID.class),
+        row.get("email", String.class),
+        row.get("name", String.class),
+        row.get("phone", String.class),
+        row.get("department", String.class),
+        AdminRole.valueOf(row.get("admin_role", String.class)),
+        UserStatus.valueOf(row.get("status", String.class)),
+        row.get("created_at", LocalDateTime.class),
+        row.get("updated_at", LocalDateTime.class));
+  }
+}
@@ -0,0 +1,96 @@
+package com.tickatch.user_service.admin.application.service.query;
+
+import com.tickatch.user_service.admin.application.service.query.dto.UserAuditResponse;
+import com.tickatch.user_service.admin.domain.Admin;
+import com.tickatch.user_service.admin.domain.AdminRepository;
+import com.tickatch.user_service.admin.domain.exception.AdminErrorCode;
+import com.tickatch.user_service.admin.domain.exception.AdminException;
+import com.tickatch.user_service.customer.domain.CustomerRepository;
+import com.tickatch.user_service.customer.domain.exception.CustomerErrorCode;
+import com.tickatch.user_service.customer.domain.exception.CustomerException;
+import com.tickatch.user_service.seller.domain.SellerRepository;
+import com.tickatch.user_service.seller.domain.exception.SellerErrorCode;
+import com.tickatch.user_service.seller.domain.exception.SellerException;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 감사용 사용자 조회 서비스.
+ *
+ * <p>논리 삭제 필터를 무시하고 고객/판매자/관리자를 조회한다. 활성 상태의 관리자만 호출할 수 있으며, 모든 조회는 감사 로그로 남긴다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserAuditQueryService {
+
+  private final AdminRepository adminRepository;
+  private final CustomerRepository customerRepository;
+  private final SellerRepository sellerRepository;
+
+  /**
+   * 논리 삭제된 고객을 포함하여 조회한다.
+   *
+   * @param auditorId 조회하는 관리자 ID
+   * @param customerId 고객 ID
+   * @return 감사용 사용자 응답
+   * @throws AdminException 조회자가 활성 관리자가 아닌 경우
+   * @throws CustomerException 고객을 찾을 수 없는 경우
+   */
+  public UserAuditResponse getCustomer(UUID auditorId, UUID customerId) {
+    verifyAuditor(auditorId, "customer", customerId);
+    return customerRepository
+        .findByIdIncludingDeleted(customerId)
+        .map(UserAuditResponse::from)
+        .orElseThrow(() -> new CustomerException(CustomerErrorCode.CUSTOMER_NOT_FOUND));
+  }
+
+  /**
+   * 논리 삭제된 판매자를 포함하여 조회한다.
+   *
+   * @param auditorId 조회하는 관리자 ID
+   * @param sellerId 판매자 ID
+   * @return 감사용 사용자 응답
+   * @throws AdminException 조회자가 활성 관리자가 아닌 경우
+   * @throws SellerException 판매자를 찾을 수 없는 경우
+   */
+  public UserAuditResponse getSeller(UUID auditorId, UUID sellerId) {
+    verifyAuditor(auditorId, "seller", sellerId);
+    return sellerRepository
+        .findByIdIncludingDeleted(sellerId)
+        .map(UserAuditResponse::from)
+        .orElseThrow(() -> new SellerException(SellerErrorCode.SELLER_NOT_FOUND));
+  }
+
+  /**
+   * 논리 삭제된 관리자를 포함하여 조회한다.
+   *
+   * @param auditorId 조회하는 관리자 ID
+   * @param adminId 관리자 ID
+   * @return 감사용 사용자 응답
+   * @throws AdminException 조회자가 활성 관리자가 아니거나 관리자를 찾을 수 없는 경우
+   */
+  public UserAuditResponse getAdmin(UUID auditorId, UUID adminId) {
+    verifyAuditor(auditorId, "admin", adminId);
+    return adminRepository
+        .findByIdIncludingDeleted(adminId)
+        .map(UserAuditResponse::from)
+        .orElseThrow(() -> new AdminException(AdminErrorCode.ADMIN_NOT_FOUND));
+  }
+
+  private void verifyAuditor(UUID auditorId, String targetType, UUID targetId) {
+    adminRepository
+        .findById(auditorId)
+        .filter(Admin::isActive)
+        .orElseThrow(() -> new AdminException(AdminErrorCode.ADMIN_PERMISSION_DENIED));
+    log.info(
+        "감사 조회. auditorId: {}, targetType: {}, targetId: {}", auditorId, targetType, targetId);
+  }
+}
@@ -0,0 +1,62 @@
+package com.tickatch.user_service.admin.application.service.query.dto;
+
+import com.tickatch.user_service.admin.domain.Admin;
+import com.tickatch.user_service.common.domain.BaseUser;
+import com.tickatch.user_service.common.domain.vo.UserStatus;
+import com.tickatch.user_service.customer.domain.Customer;
+import com.tickatch.user_service.seller.domain.Seller;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** 감사용 사용자 조회 응답 DTO (논리 삭제 정보 포함). */
+public record UserAuditResponse(
+    UUID id,
+    String userType,
+    String email,
+    String name,
+    UserStatus status,
+    LocalDateTime createdAt,
+    String createdBy,
+    LocalDateTime updatedAt,
+    String updatedBy,
+    LocalDateTime deletedAt,
+    String deletedBy) {
+
+  public static UserAuditResponse from(Customer customer) {
+    return from("CUSTOMER", customer);
+  }
+
+  public static UserAuditResponse from(Seller seller) {
+    return from("SELLER", seller);
+  }
+
+  public static UserAuditResponse from(Admin admin) {
+    return new UserAuditResponse(
+        admin.getId(),
+        "ADMIN",
+        admin.getEmail(),
+        admin.getProfile().getName(),
+        admin.getStatus(),
+        admin.getCreatedAt(),
+        admin.getCreatedBy(),
+        admin.getUpdatedAt(),
+        admin.getUpdatedBy(),
+        admin.getDeletedAt(),
+        admin.getDeletedBy());
+  }
+
+  private static UserAuditResponse from(String userType, BaseUser user) {
+    return new UserAuditResponse(
+        user.getId(),
+        userType,
+        user.getEmail(),
+        user.getProfile().getName(),
+        user.getStatus(),
+        user.getCreatedAt(),
+        user.getCreatedBy(),
+        user.getUpdatedAt(),
+        user.getUpdatedBy(),
+        user.getDeletedAt(),
+        user.getDeletedBy());
+  }
+}
@@ -6,43 +6,73 @@ import static com.tickatch.user_service.admin.domain.exception.AdminErrorCode.ON
 import com.tickatch.user_service.admin.domain.exception.AdminException;
 import com.tickatch.user_service.admin.domain.vo.AdminProfile;
 import com.tickatch.user_service.admin.domain.vo.AdminRole;
+import com.tickatch.user_service.common.domain.vo.CanonicalEmail;
 import com.tickatch.user_service.common.domain.vo.UserStatus;
+import com.tickatch.user_service.global.cache.CacheRegions;
+import com.tickatch.user_service.global.cache.LookupFlightListener;
 import com.tickatch.user_service.global.domain.AbstractAuditEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.SQLRestriction;
+import org.springframework.data.domain.Persistable;
 
 /**
  * 관리자 엔티티 (Aggregate Root).
  *
  * <p>시스템 관리자를 나타낸다. BaseUser를 상속하지 않고 별도로 구현 (AdminProfile 사용).
  *
+ * <p>논리 삭제({@code deleted_at})된 행은 모든 엔티티 조회에서 제외된다. 감사 목적의 조회는 리포지토리의 {@code
+ * findByIdIncludingDeleted}를 사용한다.
+ *
+ * <p>2차 캐시 대상이며, 정규화한 이메일({@link CanonicalEmail})을 자연 키로 사용하여 이메일 조회도 자연 키 캐시를 거친다.
+ *
+ * <p>ID를 직접 할당하므로 {@code BaseUser}와 같이 {@link Persistable}로 새 엔티티 여부를 알려준다.
+ *
  * @author Tickatch
  * @since 1.0.0
  */
 @Entity
 @Table(name = "admins")
+@SQLRestriction("deleted_at IS NULL")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ADMIN)
+@NaturalIdCache(region = CacheRegions.ADMIN_NATURAL_ID)
+@EntityListeners(LookupFlightListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Admin extends AbstractAuditEntity {
+public class Admin extends AbstractAuditEntity
+    implements Persistable<UUID>, LookupFlightListener.LookupKeys {
 
   /** 관리자 ID (Auth Service의 authId와 동일). */
   @Id
   @Column(name = "id", nullable = false, updatable = false)
   private UUID id;
 
-  /** 이메일 (조회용, 수정 불가). */
-  @Column(name = "email", nullable = false, length = 255)
+  /** 이메일 (입력한 그대로, 수정 불가). */
+  @Column(name = "email", nullable = false, updatable = false, length = 255)
   private String email;
 
+  /** 정규화한 이메일 (조회용, 자연 키). */
+  @NaturalId
+  @Column(name = "email_canonical", length = 255)
+  private String emailCanonical;
+
   /** 관리자 프로필. */
   @Embedded private AdminProfile profile;
 
@@ -56,9 +86,15 @@ public class Admin extends AbstractAuditEntity {
   @Column(name = "admin_role", nullable = false, length = 20)
   private AdminRole adminRole;
 
+  /** DB에 저장되었거나 DB에서 읽은 엔티티인지 여부. */
+  @Transient
+  @Getter(AccessLevel.NONE)
+  private boolean persisted;
+
   private Admin(UUID id, String email, AdminProfile profile, AdminRole adminRole) {
     this.id = id;
     this.email = email;
+    this.emailCanonical = CanonicalEmail.of(email);
     this.profile = profile;
     this.status = UserStatus.ACTIVE;
     this.adminRole = adminRole;
@@ -86,6 +122,17 @@ public class Admin extends AbstractAuditEntity {
     return new Admin(authId, email, profile, adminRole);
   }
 
+  @Override
+  public boolean isNew() {
+    return !persisted;
+  }
+
+  @PostPersist
+  @PostLoad
+  private void markPersisted() {
+    this.persisted = true;
+  }
+
   /**
    * 프로필 수정.
    *
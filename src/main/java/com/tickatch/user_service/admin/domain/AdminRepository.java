@@ -2,8 +2,12 @@ package com.tickatch.user_service.admin.domain;
 
 import com.tickatch.user_service.admin.domain.repository.dto.AdminSearchCondition;
 import com.tickatch.user_service.admin.domain.vo.AdminRole;
+import com.tickatch.user_service.common.domain.vo.UserStatusTransition;
+import com.tickatch.user_service.global.jdbc.UniqueViolation;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -25,6 +29,18 @@ public interface AdminRepository {
    */
   Admin save(Admin admin);
 
+  /**
+   * 새 Admin을 즉시 INSERT한다.
+   *
+   * <p>존재 여부를 먼저 조회하지 않는다. ID 또는 정규화한 이메일이 이미 있으면 유일 제약 위반으로 {@link
+   * DataIntegrityViolationException}이 발생하므로, 호출한 쪽에서 {@link UniqueViolation}으로 판별하여 중복으로 처리한다.
+   *
+   * @param admin 저장할 Admin 엔티티
+   * @return 저장된 Admin 엔티티
+   * @throws DataIntegrityViolationException 무결성 제약을 위반한 경우
+   */
+  Admin insert(Admin admin);
+
   /**
    * ID로 Admin을 조회한다.
    *
@@ -34,7 +50,27 @@ public interface AdminRepository {
   Optional<Admin> findById(UUID id);
 
   /**
-   * 이메일로 Admin을 조회한다.
+   * ID로 Admin의 수정 일시만 조회한다.
+   *
+   * <p>엔티티를 로딩하지 않는 조건부 조회(ETag 비교)용 경량 쿼리이다.
+   *
+   * @param id Admin ID
+   * @return 수정 일시 (없으면 empty)
+   */
+  Optional<LocalDateTime> findUpdatedAtById(UUID id);
+
+  /**
+   * 논리 삭제된 Admin를 포함하여 ID로 조회한다.
+   *
+   * <p>감사 목적으로만 사용한다.
+   *
+   * @param id Admin ID
+   * @return 조회된 Admin (없으면 empty)
+   */
+  Optional<Admin> findByIdIncludingDeleted(UUID id);
+
+  /**
+   * 이메일로 Admin을 조회한다. 대소문자를 구분하지 않는다.
    *
    * @param email 이메일
    * @return 조회된 Admin (없으면 empty)
@@ -65,4 +101,16 @@ public interface AdminRepository {
    * @return 페이징된 Admin 목록
    */
   Page<Admin> findAllByCondition(AdminSearchCondition condition, Pageable pageable);
+
+  /**
+   * 현재 상태에서 허용되는 경우에만 Admin 상태를 전이한다.
+   *
+   * <p>엔티티를 로딩하지 않고 조건부 UPDATE 한 문장으로 실행한다. 변경된 행이 없으면(없는 ID, 허용되지 않는 상태) false를
+   * 반환하며, 호출한 쪽에서 엔티티를 조회하여 기존 도메인 예외로 변환한다. 실행 후 영속성 컨텍스트는 비워진다.
+   *
+   * @param id Admin ID
+   * @param transition 상태 전이
+   * @return 상태가 바뀌었으면 true
+   */
+  boolean transitionStatus(UUID id, UserStatusTransition transition);
 }
@@ -3,9 +3,18 @@ package com.tickatch.user_service.admin.domain.repository;
 import com.tickatch.user_service.admin.domain.Admin;
 import com.tickatch.user_service.admin.domain.vo.AdminRole;
 import com.tickatch.user_service.common.domain.vo.UserStatus;
+import com.tickatch.user_service.global.cache.CacheRegions;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 /**
  * Admin JPA 리포지토리.
@@ -18,27 +27,72 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface AdminJpaRepository extends JpaRepository<Admin, UUID> {
 
   /**
-   * 이메일로 Admin을 조회한다.
+   * 정규화한 이메일로 Admin 존재 여부를 확인한다.
    *
-   * @param email 이메일
-   * @return 조회된 Admin (없으면 empty)
-   */
-  Optional<Admin> findByEmail(String email);
-
-  /**
-   * 이메일로 Admin 존재 여부를 확인한다.
-   *
-   * @param email 이메일
+   * @param emailCanonical 정규화한 이메일
    * @return 존재하면 true
    */
-  boolean existsByEmail(String email);
+  boolean existsByEmailCanonical(String emailCanonical);
 
   /**
    * 특정 역할과 상태의 Admin 수를 조회한다.
    *
+   * <p>쿼리 캐시({@link CacheRegions#ADMIN_ROLE_COUNT})를 사용한다. admins 테이블이 변경되면 캐시된 결과는 자동으로 무효화된다.
+   *
    * @param role 역할
    * @param status 상태
    * @return Admin 수
    */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+    @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.ADMIN_ROLE_COUNT)
+  })
   long countByAdminRoleAndStatus(AdminRole role, UserStatus status);
+
+  /**
+   * ID로 Admin의 수정 일시만 조회한다.
+   *
+   * @param id Admin ID
+   * @return 수정 일시 (없으면 empty)
+   */
+  @Query("SELECT a.updatedAt FROM Admin a WHERE a.id = :id")
+  Optional<LocalDateTime> findUpdatedAtById(@Param("id") UUID id);
+
+  /**
+   * 논리 삭제된 행을 포함하여 ID로 Admin를 조회한다.
+   *
+   * <p>엔티티의 논리 삭제 필터는 네이티브 쿼리에 적용되지 않는다. 감사 목적으로만 사용한다.
+   *
+   * @param id Admin ID
+   * @return 조회된 Admin (없으면 empty)
+   */
+  @Query(value = "SELECT * FROM admins WHERE id = :id", nativeQuery = true)
+  Optional<Admin> findByIdIncludingDeleted(@Param("id") UUID id);
+
+  /**
+   * 현재 상태가 허용 상태 중 하나일 때만 상태를 바꾼다.
+   *
+   * <p>조회 없이 조건부 UPDATE 한 문장으로 실행한다. 감사 컬럼은 엔티티 리스너를 거치지 않으므로 직접 갱신한다. 역할별 관리자 수 쿼리 캐시가
+   * 상태에 따라 달라지므로 JPQL로 실행하여 Hibernate가 Admin 리전과 쿼리 캐시를 무효화하게 한다.
+   *
+   * @param id Admin ID
+   * @param sources 전이가 허용되는 현재 상태
+   * @param target 바꿀 상태
+   * @param updatedAt 수정 일시
+   * @param updatedBy 수정자
+   * @return 변경된 행 수 (0 또는 1)
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      """
+      UPDATE Admin a
+         SET a.status = :target, a.updatedAt = :updatedAt, a.updatedBy = :updatedBy
+       WHERE a.id = :id AND a.status IN :sources AND a.deletedAt IS NULL
+      """)
+  int updateStatusIfIn(
+      @Param("id") UUID id,
+      @Param("sources") Collection<UserStatus> sources,
+      @Param("target") UserStatus target,
+      @Param("updatedAt") LocalDateTime updatedAt,
+      @Param("updatedBy") String updatedBy);
 }
@@ -11,12 +11,18 @@ import com.tickatch.user_service.admin.domain.Admin;
 import com.tickatch.user_service.admin.domain.AdminRepository;
 import com.tickatch.user_service.admin.domain.repository.dto.AdminSearchCondition;
 import com.tickatch.user_service.admin.domain.vo.AdminRole;
+import com.tickatch.user_service.common.domain.vo.CanonicalEmail;
 import com.tickatch.user_service.common.domain.vo.UserStatus;
+import com.tickatch.user_service.common.domain.vo.UserStatusTransition;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -29,6 +35,11 @@ import org.springframework.util.StringUtils;
  *
  * <p>JPA와 QueryDSL을 사용하여 Admin 데이터를 조회/저장한다.
  *
+ * <p>이메일 조회는 자연 키 조회로 2차 캐시를 거친다. 2차 캐시에서 조립된 엔티티에는 논리 삭제 필터가 적용되지 않으므로 ID/이메일 조회
+ * 결과의 삭제 여부를 다시 확인한다.
+ *
+ * <p>상태 전이는 엔티티를 로딩하지 않는 조건부 UPDATE 한 문장으로 실행한다.
+ *
  * @author Tickatch
  * @since 1.0.0
  */
@@ -36,27 +47,51 @@ import org.springframework.util.StringUtils;
 @RequiredArgsConstructor
 public class AdminRepositoryImpl implements AdminRepository {
 
+  /** 인증 정보가 없을 때 사용하는 수정자. */
+  private static final String SYSTEM_AUDITOR = "SYSTEM";
+
   private final AdminJpaRepository adminJpaRepository;
+  private final EntityManager entityManager;
   private final JPAQueryFactory queryFactory;
+  private final AuditorAware<String> auditorAware;
 
   @Override
   public Admin save(Admin admin) {
     return adminJpaRepository.save(admin);
   }
 
+  @Override
+  public Admin insert(Admin admin) {
+    return adminJpaRepository.saveAndFlush(admin);
+  }
+
   @Override
   public Optional<Admin> findById(UUID id) {
-    return adminJpaRepository.findById(id);
+    return adminJpaRepository.findById(id).filter(found -> !found.isDeleted());
+  }
+
+  @Override
+  public Optional<LocalDateTime> findUpdatedAtById(UUID id) {
+    return adminJpaRepository.findUpdatedAtById(id);
+  }
+
+  @Override
+  public Optional<Admin> findByIdIncludingDeleted(UUID id) {
+    return adminJpaRepository.findByIdIncludingDeleted(id);
   }
 
   @Override
   public Optional<Admin> findByEmail(String email) {
-    return adminJpaRepository.findByEmail(email);
+    return entityManager
+        .unwrap(Session.class)
+        .bySimpleNaturalId(Admin.class)
+        .loadOptional(CanonicalEmail.of(email))
+        .filter(found -> !found.isDeleted());
   }
 
   @Override
   public boolean existsByEmail(String email) {
-    return adminJpaRepository.existsByEmail(email);
+    return adminJpaRepository.existsByEmailCanonical(CanonicalEmail.of(email));
   }
 
   @Override
@@ -94,8 +129,26 @@ public class AdminRepositoryImpl implements AdminRepository {
     return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
   }
 
+  @Override
+  public boolean transitionStatus(UUID id, UserStatusTransition transition) {
+    int updated =
+        adminJpaRepository.updateStatusIfIn(
+            id,
+            transition.getSources(),
+            transition.getTarget(),
+            LocalDateTime.now(),
+            currentAuditor());
+    return updated > 0;
+  }
+
+  private String currentAuditor() {
+    return auditorAware.getCurrentAuditor().orElse(SYSTEM_AUDITOR);
+  }
+
   private BooleanExpression emailContains(String email) {
-    return StringUtils.hasText(email) ? admin.email.containsIgnoreCase(email) : null;
+    return StringUtils.hasText(email)
+        ? admin.emailCanonical.contains(CanonicalEmail.of(email))
+        : null;
   }
 
   private BooleanExpression nameContains(String name) {
@@ -1,13 +1,19 @@
 package com.tickatch.user_service.admin.presentation.api;
 
 import com.tickatch.user_service.admin.application.service.command.AdminCommandService;
+import com.tickatch.user_service.admin.application.service.command.DeadLetterRedriveService;
 import com.tickatch.user_service.admin.application.service.query.AdminQueryService;
+import com.tickatch.user_service.admin.application.service.query.UserAuditQueryService;
 import com.tickatch.user_service.admin.application.service.query.dto.AdminResponse;
 import com.tickatch.user_service.admin.application.service.query.dto.AdminSearchRequest;
+import com.tickatch.user_service.admin.application.service.query.dto.UserAuditResponse;
 import com.tickatch.user_service.admin.domain.vo.AdminRole;
 import com.tickatch.user_service.admin.presentation.api.dto.ChangeRoleRequest;
 import com.tickatch.user_service.admin.presentation.api.dto.CreateAdminRequest;
 import com.tickatch.user_service.admin.presentation.api.dto.UpdateAdminProfileRequest;
+import com.tickatch.user_service.common.infrastructure.messaging.redrive.dto.DeadLetterQueueStatus;
+import com.tickatch.user_service.common.infrastructure.messaging.redrive.dto.RedriveResult;
+import com.tickatch.user_service.global.web.ConditionalGet;
 import io.github.tickatch.common.api.ApiResponse;
 import io.github.tickatch.common.api.PageResponse;
 import io.github.tickatch.common.security.AuthenticatedUser;
@@ -16,12 +22,16 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -30,6 +40,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -44,6 +55,8 @@ import org.springframework.web.bind.annotation.RestController;
  * @since 1.0.0
  * @see AdminCommandService
  * @see AdminQueryService
+ * @see UserAuditQueryService
+ * @see DeadLetterRedriveService
  */
 @Tag(name = "Admin", description = "관리자 관리 API")
 @RestController
@@ -51,8 +64,16 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class AdminApi {
 
+  /** 단건 조회 캐시 정책: no-cache, private. */
+  private static final CacheControl ADMIN_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+  /** 내 정보 조회 캐시 정책: no-cache, private. */
+  private static final CacheControl ME_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
   private final AdminCommandService adminCommandService;
   private final AdminQueryService adminQueryService;
+  private final UserAuditQueryService userAuditQueryService;
+  private final DeadLetterRedriveService deadLetterRedriveService;
 
   // ========== 조회 ==========
 
@@ -82,42 +103,71 @@ public class AdminApi {
    * 관리자 단건을 조회한다.
    *
    * @param id 관리자 ID
+   * @param ifNoneMatch 클라이언트가 보유한 ETag (일치하면 304)
    * @return 관리자 상세 정보
    */
-  @Operation(summary = "관리자 단건 조회", description = "관리자 ID로 관리자 상세 정보를 조회한다.")
+  @Operation(
+      summary = "관리자 단건 조회",
+      description = "관리자 ID로 관리자 상세 정보를 조회한다. If-None-Match가 현재 ETag와 일치하면 304를 반환한다.")
   @ApiResponses({
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
         responseCode = "200",
         description = "조회 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "304",
+        description = "변경 없음 (ETag 일치)"),
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
         responseCode = "404",
         description = "관리자를 찾을 수 없음")
   })
   @GetMapping("/{id}")
-  public ApiResponse<AdminResponse> getAdmin(
-      @Parameter(description = "관리자 ID", required = true) @PathVariable UUID id) {
-    return ApiResponse.success(adminQueryService.getAdmin(id));
+  public ResponseEntity<ApiResponse<AdminResponse>> getAdmin(
+      @Parameter(description = "관리자 ID", required = true) @PathVariable UUID id,
+      @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+          String ifNoneMatch) {
+    return ConditionalGet.respond(
+        id,
+        ifNoneMatch,
+        ADMIN_CACHE_CONTROL,
+        () -> adminQueryService.getAdminVersion(id),
+        () -> adminQueryService.getAdmin(id),
+        AdminResponse::updatedAt);
   }
 
   /**
    * 내 정보를 조회한다.
    *
    * @param user 인증된 사용자 정보
+   * @param ifNoneMatch 클라이언트가 보유한 ETag (일치하면 304)
    * @return 내 관리자 정보
    */
-  @Operation(summary = "내 정보 조회", description = "인증된 사용자의 관리자 정보를 조회한다.")
+  @Operation(
+      summary = "내 정보 조회",
+      description = "인증된 사용자의 관리자 정보를 조회한다. If-None-Match가 현재 ETag와 일치하면 304를 반환한다.")
   @ApiResponses({
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
         responseCode = "200",
         description = "조회 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "304",
+        description = "변경 없음 (ETag 일치)"),
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
         responseCode = "404",
         description = "관리자를 찾을 수 없음")
   })
   @GetMapping("/me")
-  public ApiResponse<AdminResponse> getMe(
-      @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user) {
-    return ApiResponse.success(adminQueryService.getAdmin(UUID.fromString(user.getUserId())));
+  public ResponseEntity<ApiResponse<AdminResponse>> getMe(
+      @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+      @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+          String ifNoneMatch) {
+    UUID adminId = UUID.fromString(user.getUserId());
+    return ConditionalGet.respond(
+        adminId,
+        ifNoneMatch,
+        ME_CACHE_CONTROL,
+        () -> adminQueryService.getAdminVersion(adminId),
+        () -> adminQueryService.getAdmin(adminId),
+        AdminResponse::updatedAt);
   }
 
   /**
@@ -138,6 +188,157 @@ public class AdminApi {
     return ApiResponse.success(adminQueryService.countActiveByRole(role));
   }
 
+  // ========== 감사 ==========
+
+  /**
+   * 논리 삭제된 고객을 포함하여 감사용으로 조회한다.
+   *
+   * @param id 고객 ID
+   * @param user 인증된 사용자 정보
+   * @return 논리 삭제 정보를 포함한 고객 정보
+   */
+  @Operation(
+      summary = "고객 감사 조회",
+      description = "논리 삭제된 고객을 포함하여 조회한다. 활성 관리자만 호출할 수 있다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "조회 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "403",
+        description = "활성 관리자가 아님"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "404",
+        description = "고객을 찾을 수 없음")
+  })
+  @GetMapping("/audit/customers/{id}")
+  public ApiResponse<UserAuditResponse> getCustomerForAudit(
+      @Parameter(description = "고객 ID", required = true) @PathVariable UUID id,
+      @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user) {
+    return ApiResponse.success(
+        userAuditQueryService.getCustomer(UUID.fromString(user.getUserId()), id));
+  }
+
+  /**
+   * 논리 삭제된 판매자를 포함하여 감사용으로 조회한다.
+   *
+   * @param id 판매자 ID
+   * @param user 인증된 사용자 정보
+   * @return 논리 삭제 정보를 포함한 판매자 정보
+   */
+  @Operation(
+      summary = "판매자 감사 조회",
+      description = "논리 삭제된 판매자를 포함하여 조회한다. 활성 관리자만 호출할 수 있다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "조회 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "403",
+        description = "활성 관리자가 아님"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "404",
+        description = "판매자를 찾을 수 없음")
+  })
+  @GetMapping("/audit/sellers/{id}")
+  public ApiResponse<UserAuditResponse> getSellerForAudit(
+      @Parameter(description = "판매자 ID", required = true) @PathVariable UUID id,
+      @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user) {
+    return ApiResponse.success(
+        userAuditQueryService.getSeller(UUID.fromString(user.getUserId()), id));
+  }
+
+  /**
+   * 논리 삭제된 관리자를 포함하여 감사용으로 조회한다.
+   *
+   * @param id 관리자 ID
+   * @param user 인증된 사용자 정보
+   * @return 논리 삭제 정보를 포함한 관리자 정보
+   */
+  @Operation(
+      summary = "관리자 감사 조회",
+      description = "논리 삭제된 관리자를 포함하여 조회한다. 활성 관리자만 호출할 수 있다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "조회 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "403",
+        description = "활성 관리자가 아님"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "404",
+        description = "관리자를 찾을 수 없음")
+  })
+  @GetMapping("/audit/admins/{id}")
+  public ApiResponse<UserAuditResponse> getAdminForAudit(
+      @Parameter(description = "관리자 ID", required = true) @PathVariable UUID id,
+      @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user) {
+    return ApiResponse.success(
+        userAuditQueryService.getAdmin(UUID.fromString(user.getUserId()), id));
+  }
+
+  // ========== 메시징 ==========
+
+  /**
+   * DLQ별 적재 현황을 조회한다.
+   *
+   * @param user 인증된 사용자 정보
+   * @return DLQ와 격리 큐의 메시지 수
+   */
+  @Operation(
+      summary = "DLQ 현황 조회",
+      description = "이벤트/로그 DLQ와 재처리 격리 큐의 메시지 수를 조회한다. 활성 최고 관리자만 호출할 수 있다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "조회 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "403",
+        description = "활성 최고 관리자가 아님")
+  })
+  @GetMapping("/dlq")
+  public ApiResponse<List<DeadLetterQueueStatus>> getDeadLetterQueues(
+      @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user) {
+    return ApiResponse.success(
+        deadLetterRedriveService.getStatuses(UUID.fromString(user.getUserId())));
+  }
+
+  /**
+   * DLQ의 메시지를 원래 큐로 다시 발행한다.
+   *
+   * @param queue DLQ 이름
+   * @param limit 최대 처리 건수
+   * @param user 인증된 사용자 정보
+   * @return 재처리 결과
+   */
+  @Operation(
+      summary = "DLQ 재처리",
+      description =
+          "DLQ 메시지를 원래 큐로 다시 발행한다. 처리량을 제한하며, 재처리를 반복해서 실패한 메시지는 격리 큐로 옮긴다."
+              + " 활성 최고 관리자만 호출할 수 있다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "재처리 완료"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "400",
+        description = "재처리 대상이 아닌 큐"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "403",
+        description = "활성 최고 관리자가 아님"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "409",
+        description = "이미 재처리 중인 큐")
+  })
+  @PostMapping("/dlq/{queue}/redrive")
+  public ApiResponse<RedriveResult> redriveDeadLetters(
+      @Parameter(description = "DLQ 이름", required = true) @PathVariable String queue,
+      @Parameter(description = "최대 처리 건수") @RequestParam(defaultValue = "100") int limit,
+      @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user) {
+    return ApiResponse.success(
+        deadLetterRedriveService.redrive(UUID.fromString(user.getUserId()), queue, limit));
+  }
+
   // ========== 생성 ==========
 
   /**
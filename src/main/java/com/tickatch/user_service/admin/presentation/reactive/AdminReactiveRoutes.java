@@ -0,0 +1,46 @@
+package com.tickatch.user_service.admin.presentation.reactive;
+
+import com.tickatch.user_service.admin.application.service.query.AdminReactiveReader;
+import com.tickatch.user_service.admin.application.service.query.dto.AdminResponse;
+import com.tickatch.user_service.global.reactive.ReactiveConditionalGet;
+import com.tickatch.user_service.global.reactive.ReactiveRoutes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * 관리자 반응형 조회 라우트.
+ *
+ * <p>MVC의 {@code GET /api/v1/user/admins/me}와 같은 경로, 응답 형식, ETag로 반응형 조회 서버에서 제공한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "user.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class AdminReactiveRoutes implements ReactiveRoutes {
+
+  /** 내 정보 조회 캐시 정책: no-cache, private. (MVC와 같음) */
+  private static final CacheControl ME_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+  private final AdminReactiveReader adminReactiveReader;
+
+  @Override
+  public RouterFunction<ServerResponse> routes() {
+    return RouterFunctions.route()
+        .GET(
+            "/api/v1/user/admins/me",
+            request ->
+                ReactiveConditionalGet.me(
+                    request,
+                    ME_CACHE_CONTROL,
+                    adminReactiveReader::getAdmin,
+                    AdminResponse::updatedAt))
+        .build();
+  }
+}
@@ -5,42 +5,63 @@ import static com.tickatch.user_service.common.domain.exception.UserErrorCode.US
 import static com.tickatch.user_service.common.domain.exception.UserErrorCode.USER_ALREADY_WITHDRAWN;
 
 import com.tickatch.user_service.common.domain.exception.UserException;
+import com.tickatch.user_service.common.domain.vo.CanonicalEmail;
 import com.tickatch.user_service.common.domain.vo.UserProfile;
 import com.tickatch.user_service.common.domain.vo.UserStatus;
+import com.tickatch.user_service.global.cache.LookupFlightListener;
 import com.tickatch.user_service.global.domain.AbstractAuditEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.NaturalId;
+import org.springframework.data.domain.Persistable;
 
 /**
  * 사용자 공통 추상 클래스.
  *
  * <p>Customer, Seller가 상속받는 공통 클래스이다. ID는 Auth Service의 authId와 동일한 값을 사용한다.
  *
+ * <p>자연 키는 정규화한 이메일({@link CanonicalEmail})이므로 대소문자만 다른 이메일은 같은 사용자로 본다.
+ *
+ * <p>ID를 직접 할당하므로 {@link Persistable}로 새 엔티티 여부를 알려준다. 그렇지 않으면 Spring Data의 {@code save}가 새 엔티티도
+ * {@code merge}하여 INSERT 전에 SELECT를 한 번 더 실행한다.
+ *
  * @author Tickatch
  * @since 1.0.0
  */
 @Getter
 @MappedSuperclass
+@EntityListeners(LookupFlightListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public abstract class BaseUser extends AbstractAuditEntity {
+public abstract class BaseUser extends AbstractAuditEntity
+    implements Persistable<UUID>, LookupFlightListener.LookupKeys {
 
   /** 사용자 ID (Auth Service의 authId와 동일). */
   @Id
   @Column(name = "id", nullable = false, updatable = false)
   private UUID id;
 
-  /** 이메일 (조회용, 수정 불가). */
-  @Column(name = "email", nullable = false, length = 255)
+  /** 이메일 (입력한 그대로, 수정 불가). */
+  @Column(name = "email", nullable = false, updatable = false, length = 255)
   private String email;
 
+  /** 정규화한 이메일 (조회용, 자연 키). */
+  @NaturalId
+  @Column(name = "email_canonical", length = 255)
+  private String emailCanonical;
+
   /** 사용자 프로필. */
   @Embedded private UserProfile profile;
 
@@ -49,13 +70,34 @@ public abstract class BaseUser extends AbstractAuditEntity {
   @Column(name = "status", nullable = false, length = 20)
   private UserStatus status;
 
+  /** 탈퇴 일시 (탈퇴 전이에서만 기록, 보관 대상 판단에 사용). */
+  @Column(name = "withdrawn_at")
+  private LocalDateTime withdrawnAt;
+
+  /** DB에 저장되었거나 DB에서 읽은 엔티티인지 여부. */
+  @Transient
+  @Getter(AccessLevel.NONE)
+  private boolean persisted;
+
   protected BaseUser(UUID id, String email, UserProfile profile) {
     this.id = id;
     this.email = email;
+    this.emailCanonical = CanonicalEmail.of(email);
     this.profile = profile;
     this.status = UserStatus.ACTIVE;
   }
 
+  @Override
+  public boolean isNew() {
+    return !persisted;
+  }
+
+  @PostPersist
+  @PostLoad
+  private void markPersisted() {
+    this.persisted = true;
+  }
+
   /**
    * 프로필 수정.
    *
@@ -67,6 +109,19 @@ public abstract class BaseUser extends AbstractAuditEntity {
     this.profile = this.profile.update(name, phone);
   }
 
+  /**
+   * 프로필 부분 수정.
+   *
+   * <p>전달된 항목만 바꾼다. 엔티티는 {@code @DynamicUpdate}로 매핑되어 있어 바뀐 컬럼만 UPDATE된다.
+   *
+   * @param name 새 이름 (null이면 유지)
+   * @param phone 새 연락처 (null이면 유지, 빈 문자열이면 삭제)
+   */
+  public void patchProfile(String name, String phone) {
+    validateNotWithdrawn();
+    this.profile = this.profile.patch(name, phone);
+  }
+
   /**
    * 사용자 정지.
    *
@@ -101,6 +156,7 @@ public abstract class BaseUser extends AbstractAuditEntity {
   public void withdraw() {
     validateNotWithdrawn();
     this.status = UserStatus.WITHDRAWN;
+    this.withdrawnAt = LocalDateTime.now();
   }
 
   /**
@@ -22,6 +22,11 @@ public enum UserErrorCode implements ErrorCode {
   INVALID_PHONE(HttpStatus.BAD_REQUEST.value(), "INVALID_PHONE"),
   INVALID_ADDRESS(HttpStatus.BAD_REQUEST.value(), "INVALID_ADDRESS"),
 
+  // ========================================
+  // 검증 - 조회 (400)
+  // ========================================
+  INVALID_FIELDS(HttpStatus.BAD_REQUEST.value(), "INVALID_FIELDS"),
+
   // ========================================
   // 상태 (422)
   // ========================================
@@ -29,6 +34,12 @@ public enum UserErrorCode implements ErrorCode {
   USER_ALREADY_ACTIVE(HttpStatus.UNPROCESSABLE_ENTITY.value(), "USER_ALREADY_ACTIVE"),
   USER_ALREADY_WITHDRAWN(HttpStatus.UNPROCESSABLE_ENTITY.value(), "USER_ALREADY_WITHDRAWN"),
 
+  // ========================================
+  // 메시징 - DLQ 재처리 (400, 409)
+  // ========================================
+  UNKNOWN_DEAD_LETTER_QUEUE(HttpStatus.BAD_REQUEST.value(), "UNKNOWN_DEAD_LETTER_QUEUE"),
+  REDRIVE_IN_PROGRESS(HttpStatus.CONFLICT.value(), "REDRIVE_IN_PROGRESS"),
+
   // ========================================
   // 이벤트 (503)
   // ========================================
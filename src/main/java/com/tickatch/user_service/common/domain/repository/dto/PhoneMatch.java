@@ -0,0 +1,54 @@
+package com.tickatch.user_service.common.domain.repository.dto;
+
+import static com.tickatch.user_service.common.domain.exception.UserErrorCode.INVALID_PHONE;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.tickatch.user_service.common.domain.exception.UserException;
+import com.tickatch.user_service.common.domain.vo.QUserProfile;
+import com.tickatch.user_service.common.domain.vo.UserProfile;
+import org.springframework.util.StringUtils;
+
+/**
+ * 연락처 검색 방식.
+ *
+ * <p>{@code EXACT}, {@code PREFIX}는 검색어를 E.164 형식으로 정규화하여 인덱스가 있는 {@code phone_e164} 컬럼과 비교하므로 하이픈,
+ * 국가 번호 유무와 관계없이 같은 번호를 찾는다. {@code CONTAINS}는 저장된 연락처에 대한 부분 일치로, 인덱스를 사용하지 못한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public enum PhoneMatch {
+
+  /** 전체 번호 일치. */
+  EXACT,
+
+  /** 앞부분 일치 (예: 010-1234). */
+  PREFIX,
+
+  /** 부분 일치. 검색 방식을 지정하지 않으면 사용한다. */
+  CONTAINS;
+
+  /**
+   * 연락처 검색 조건을 만든다.
+   *
+   * @param profile 검색 대상 프로필 경로
+   * @param phone 검색어 (없으면 조건 없음)
+   * @param match 검색 방식 (null이면 {@link #CONTAINS})
+   * @return 검색 조건 (검색어가 없으면 null)
+   * @throws UserException {@code EXACT}, {@code PREFIX}에서 검색어에 숫자가 없는 경우
+   */
+  public static BooleanExpression condition(QUserProfile profile, String phone, PhoneMatch match) {
+    if (!StringUtils.hasText(phone)) {
+      return null;
+    }
+    if (match == null || match == CONTAINS) {
+      return profile.phone.contains(phone);
+    }
+
+    String e164 = UserProfile.toE164(phone);
+    if (e164 == null) {
+      throw new UserException(INVALID_PHONE);
+    }
+    return match == EXACT ? profile.phoneE164.eq(e164) : profile.phoneE164.startsWith(e164);
+  }
+}
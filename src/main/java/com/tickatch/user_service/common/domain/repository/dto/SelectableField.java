@@ -0,0 +1,100 @@
+package com.tickatch.user_service.common.domain.repository.dto;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.tickatch.user_service.common.domain.exception.UserErrorCode;
+import com.tickatch.user_service.common.domain.exception.UserException;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 목록 조회에서 선택할 수 있는 필드.
+ *
+ * <p>{@code fields=id,name,status}처럼 요청한 필드만 SELECT 절에 넣고 같은 이름으로 응답한다. 필드명은 전체 응답 DTO의 필드명과
+ * 같다. 각 도메인은 이 인터페이스를 구현한 enum으로 선택 가능한 필드와 조회 식을 정의하며, enum의 첫 번째 상수(ID)는 요청하지 않아도 항상
+ * 포함된다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public interface SelectableField {
+
+  /**
+   * 응답 필드명을 반환한다.
+   *
+   * @return 필드명 (예: createdAt)
+   */
+  String fieldName();
+
+  /**
+   * SELECT 절에 넣을 조회 식을 반환한다.
+   *
+   * @return 조회 식
+   */
+  Expression<?> expression();
+
+  /**
+   * 조회 결과에서 필드 값을 꺼낸다. 조회 값을 응답 형식으로 바꿔야 하는 필드는 재정의한다.
+   *
+   * @param tuple 조회 결과
+   * @return 필드 값
+   */
+  default Object read(Tuple tuple) {
+    return tuple.get(expression());
+  }
+
+  /**
+   * {@code fields} 파라미터를 선택 필드 목록으로 변환한다.
+   *
+   * @param fields 쉼표로 구분한 필드명
+   * @param type 필드 enum 타입
+   * @return 선택 필드 목록 (enum 선언 순서, 첫 번째 상수 포함)
+   * @param <F> 필드 enum 타입
+   * @throws UserException 선택할 수 없는 필드명이 있는 경우
+   */
+  static <F extends Enum<F> & SelectableField> List<F> parse(String fields, Class<F> type) {
+    F[] constants = type.getEnumConstants();
+    Set<F> selected = EnumSet.of(constants[0]);
+    for (String name : fields.split(",")) {
+      String trimmed = name.trim();
+      if (trimmed.isEmpty()) {
+        continue;
+      }
+      selected.add(
+          Arrays.stream(constants)
+              .filter(field -> field.fieldName().equals(trimmed))
+              .findFirst()
+              .orElseThrow(() -> new UserException(UserErrorCode.INVALID_FIELDS, trimmed)));
+    }
+    return List.copyOf(selected);
+  }
+
+  /**
+   * 선택 필드의 조회 식을 SELECT 절 순서대로 반환한다.
+   *
+   * @param fields 선택 필드 목록
+   * @return 조회 식 배열
+   */
+  static Expression<?>[] expressions(List<? extends SelectableField> fields) {
+    return fields.stream().map(SelectableField::expression).toArray(Expression<?>[]::new);
+  }
+
+  /**
+   * 조회 결과를 필드명-값 맵으로 변환한다.
+   *
+   * @param tuple 조회 결과
+   * @param fields 선택 필드 목록
+   * @return 필드명-값 맵 (선택 필드 순서)
+   */
+  static Map<String, Object> toMap(Tuple tuple, List<? extends SelectableField> fields) {
+    Map<String, Object> values = new LinkedHashMap<>();
+    for (SelectableField field : fields) {
+      values.put(field.fieldName(), field.read(tuple));
+    }
+    return values;
+  }
+}
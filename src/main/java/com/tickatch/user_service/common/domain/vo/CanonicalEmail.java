@@ -0,0 +1,27 @@
+package com.tickatch.user_service.common.domain.vo;
+
+import java.util.Locale;
+
+/**
+ * 이메일 정규화.
+ *
+ * <p>이메일은 대소문자를 구분하지 않는다. 입력한 이메일은 표시용으로 그대로 저장하고, 앞뒤 공백을 제거하고 소문자로 바꾼 값을 {@code
+ * email_canonical} 컬럼(자연 키, 유일 제약)에 함께 저장한다. 이메일 조회, 존재 확인, 검색은 모두 정규화한 값으로 비교한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public final class CanonicalEmail {
+
+  private CanonicalEmail() {}
+
+  /**
+   * 이메일을 정규화한다.
+   *
+   * @param email 이메일 (null 허용)
+   * @return 정규화한 이메일 (null이면 null)
+   */
+  public static String of(String email) {
+    return email != null ? email.strip().toLowerCase(Locale.ROOT) : null;
+  }
+}
@@ -15,6 +15,9 @@ import lombok.NoArgsConstructor;
 /**
  * 사용자 프로필 Value Object.
  *
+ * <p>연락처는 하이픈을 제거한 국내 형식({@code phone})과 E.164 형식({@code phone_e164})으로 함께 저장한다. E.164 컬럼은 인덱스가
+ * 있으며 연락처 일치/앞부분 일치 검색에 사용한다.
+ *
  * @author Tickatch
  * @since 1.0.0
  */
@@ -26,6 +29,12 @@ public class UserProfile {
 
   private static final int MAX_NAME_LENGTH = 50;
   private static final Pattern PHONE_PATTERN = Pattern.compile("^01[0-9]-?[0-9]{3,4}-?[0-9]{4}$");
+  private static final String KOREA_COUNTRY_CODE = "82";
+
+  /** 맨 앞 0을 뺀 국내 휴대폰 번호 길이 범위 (예: 1012345678, 112345678). */
+  private static final int MIN_NATIONAL_NUMBER_LENGTH = 9;
+
+  private static final int MAX_NATIONAL_NUMBER_LENGTH = 10;
 
   @Column(name = "name", nullable = false, length = 50)
   private String name;
@@ -33,9 +42,14 @@ public class UserProfile {
   @Column(name = "phone", length = 20)
   private String phone;
 
+  /** E.164 형식 연락처 (예: +821012345678). */
+  @Column(name = "phone_e164", length = 20)
+  private String phoneE164;
+
   private UserProfile(String name, String phone) {
     this.name = name;
     this.phone = phone;
+    this.phoneE164 = toE164(phone);
   }
 
   /**
@@ -63,6 +77,56 @@ public class UserProfile {
     return UserProfile.of(name, phone);
   }
 
+  /**
+   * 프로필 부분 수정.
+   *
+   * <p>null인 항목은 기존 값을 유지한다. 결과가 기존 값과 같으면 자기 자신을 반환하여 변경 감지 대상이 되지 않게 한다.
+   *
+   * @param name 새 이름 (null이면 유지)
+   * @param phone 새 연락처 (null이면 유지, 빈 문자열이면 삭제)
+   * @return 수정된 UserProfile
+   * @throws UserException 유효성 검증 실패 시
+   */
+  public UserProfile patch(String name, String phone) {
+    UserProfile patched =
+        UserProfile.of(name != null ? name : this.name, phone != null ? phone : this.phone);
+    return patched.equals(this) ? this : patched;
+  }
+
+  /**
+   * 연락처를 E.164 형식으로 변환한다.
+   *
+   * <p>숫자만 남긴 뒤 국내 번호(0으로 시작)는 국가 번호 82를 붙이고 맨 앞 0을 뺀다. {@code +}로 시작하거나, 82 뒤에 전체 국내 번호
+   * 길이(9~10자리)가 이어지는 경우에만 국가 번호가 있는 것으로 본다. 82로 시작하는 번호 일부(예: 8212)는 국내 번호로 본다. 번호
+   * 일부(예: 010-1234)도 같은 규칙으로 변환되므로 앞부분 일치 검색어로 사용할 수 있다.
+   *
+   * @param phone 연락처 (하이픈, 공백 허용)
+   * @return E.164 형식 연락처 (숫자가 없으면 null)
+   */
+  public static String toE164(String phone) {
+    if (phone == null) {
+      return null;
+    }
+    String digits = phone.replaceAll("[^0-9]", "");
+    if (digits.isEmpty()) {
+      return null;
+    }
+    if (phone.strip().startsWith("+") || hasKoreaCountryCode(digits)) {
+      return "+" + digits;
+    }
+    if (digits.startsWith("0")) {
+      return "+" + KOREA_COUNTRY_CODE + digits.substring(1);
+    }
+    return "+" + KOREA_COUNTRY_CODE + digits;
+  }
+
+  private static boolean hasKoreaCountryCode(String digits) {
+    int nationalLength = digits.length() - KOREA_COUNTRY_CODE.length();
+    return digits.startsWith(KOREA_COUNTRY_CODE)
+        && nationalLength >= MIN_NATIONAL_NUMBER_LENGTH
+        && nationalLength <= MAX_NATIONAL_NUMBER_LENGTH;
+  }
+
   private static void validateName(String name) {
     if (name == null || name.isBlank()) {
       throw new UserException(INVALID_NAME);
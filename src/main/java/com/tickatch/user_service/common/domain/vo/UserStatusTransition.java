@@ -0,0 +1,49 @@
+package com.tickatch.user_service.common.domain.vo;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+/**
+ * 사용자 상태 전이.
+ *
+ * <p>전이 후 상태와 전이가 허용되는 현재 상태 목록을 가진다. 허용 상태는 {@link UserStatus}의 {@code canXxx} 규칙에서 만들어지므로
+ * 엔티티의 상태 변경 메서드와 같은 규칙을 따른다. 리포지토리의 조건부 UPDATE({@code WHERE status IN (...)})에 사용한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Getter
+public enum UserStatusTransition {
+
+  /** 정지. */
+  SUSPEND(UserStatus.SUSPENDED, UserStatus::canSuspend),
+
+  /** 정지 해제. */
+  ACTIVATE(UserStatus.ACTIVE, UserStatus::canActivate),
+
+  /** 탈퇴. */
+  WITHDRAW(UserStatus.WITHDRAWN, UserStatus::canWithdraw);
+
+  private final UserStatus target;
+  private final Set<UserStatus> sources;
+
+  UserStatusTransition(UserStatus target, Predicate<UserStatus> allowed) {
+    this.target = target;
+    this.sources =
+        Arrays.stream(UserStatus.values())
+            .filter(allowed)
+            .collect(Collectors.toUnmodifiableSet());
+  }
+
+  /**
+   * 조건부 UPDATE에 바인딩할 허용 상태 이름 목록.
+   *
+   * @return 허용 상태 이름
+   */
+  public Set<String> sourceNames() {
+    return sources.stream().map(Enum::name).collect(Collectors.toUnmodifiableSet());
+  }
+}
@@ -1,8 +1,10 @@
 package com.tickatch.user_service.common.infrastructure.messaging.config;
 
 import io.github.tickatch.common.util.JsonUtils;
+import java.util.List;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.ExchangeBuilder;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
@@ -27,6 +29,7 @@ import org.springframework.context.annotation.Configuration;
  *   <li>Exchange: tickatch.log (Topic) - 로그 이벤트용
  *   <li>Routing Keys: customer.*, seller.*, admin.*
  *   <li>수신 서비스: Auth Service, Log Service
+ *   <li>DLQ: 큐별 {@code .dlq}, 재처리 격리 큐 {@code .dlq.parking} ({@code DeadLetterRedriver})
  * </ul>
  *
  * @author Tickatch
@@ -107,6 +110,24 @@ public class RabbitMQConfig {
    */
   public static final String QUEUE_USER_LOG = "tickatch.user.log.queue";
 
+  // ========================================
+  // Queue Names - Dead Letter
+  // ========================================
+
+  /** DLQ 이름 접미사 */
+  public static final String DLQ_SUFFIX = ".dlq";
+
+  /** 재처리를 반복해서 실패한 메시지를 격리하는 큐의 이름 접미사 (DLQ 이름 뒤에 붙는다) */
+  public static final String PARKING_SUFFIX = ".parking";
+
+  /** 재처리 대상 DLQ 목록 */
+  public static final List<String> DEAD_LETTER_QUEUES =
+      List.of(
+          QUEUE_USER_WITHDRAWN_AUTH + DLQ_SUFFIX,
+          QUEUE_USER_SUSPENDED_AUTH + DLQ_SUFFIX,
+          QUEUE_USER_ACTIVATED_AUTH + DLQ_SUFFIX,
+          QUEUE_USER_LOG + DLQ_SUFFIX);
+
   // ========================================
   // Exchange - 도메인 이벤트용
   // ========================================
@@ -304,17 +325,17 @@ public class RabbitMQConfig {
 
   @Bean
   public Queue userWithdrawnDlq() {
-    return QueueBuilder.durable(QUEUE_USER_WITHDRAWN_AUTH + ".dlq").build();
+    return QueueBuilder.durable(QUEUE_USER_WITHDRAWN_AUTH + DLQ_SUFFIX).build();
   }
 
   @Bean
   public Queue userSuspendedDlq() {
-    return QueueBuilder.durable(QUEUE_USER_SUSPENDED_AUTH + ".dlq").build();
+    return QueueBuilder.durable(QUEUE_USER_SUSPENDED_AUTH + DLQ_SUFFIX).build();
   }
 
   @Bean
   public Queue userActivatedDlq() {
-    return QueueBuilder.durable(QUEUE_USER_ACTIVATED_AUTH + ".dlq").build();
+    return QueueBuilder.durable(QUEUE_USER_ACTIVATED_AUTH + DLQ_SUFFIX).build();
   }
 
   @Bean
@@ -356,7 +377,7 @@ public class RabbitMQConfig {
    */
   @Bean
   public Queue userLogDlq() {
-    return QueueBuilder.durable(QUEUE_USER_LOG + ".dlq").build();
+    return QueueBuilder.durable(QUEUE_USER_LOG + DLQ_SUFFIX).build();
   }
 
   /**
@@ -373,6 +394,25 @@ public class RabbitMQConfig {
         .with("dlq." + ROUTING_KEY_USER_LOG);
   }
 
+  // ========================================
+  // Parking Queues - 재처리 격리용
+  // ========================================
+
+  /**
+   * DLQ별 재처리 격리 큐를 생성한다.
+   *
+   * <p>재처리 횟수를 넘긴 메시지와 원래 라우팅 정보가 없는 메시지를 보관한다. 자동으로 재처리하지 않는다.
+   *
+   * @return DLQ마다 하나씩 생성된 durable Queue
+   */
+  @Bean
+  public Declarables deadLetterParkingQueues() {
+    return new Declarables(
+        DEAD_LETTER_QUEUES.stream()
+            .map(queue -> QueueBuilder.durable(queue + PARKING_SUFFIX).build())
+            .toList());
+  }
+
   // ========================================
   // Message Converter & Template
   // ========================================
@@ -0,0 +1,311 @@
+package com.tickatch.user_service.common.infrastructure.messaging.redrive;
+
+import static com.tickatch.user_service.common.infrastructure.messaging.config.RabbitMQConfig.DEAD_LETTER_QUEUES;
+import static com.tickatch.user_service.common.infrastructure.messaging.config.RabbitMQConfig.PARKING_SUFFIX;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.GetResponse;
+import com.tickatch.user_service.common.domain.exception.UserErrorCode;
+import com.tickatch.user_service.common.domain.exception.UserException;
+import com.tickatch.user_service.common.infrastructure.messaging.redrive.dto.DeadLetterQueueStatus;
+import com.tickatch.user_service.common.infrastructure.messaging.redrive.dto.RedriveResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * DLQ 재처리기.
+ *
+ * <p>{@code RabbitMQConfig}가 선언한 DLQ의 메시지를 {@code x-death} 헤더에 기록된 원래 큐로 다시 발행한다. 원래 Exchange를 거치지
+ * 않고 기본 Exchange에 큐 이름을 라우팅 키로 발행하므로, 같은 이벤트를 받는 다른 큐에는 중복 전달되지 않는다({@link DeadLetterRoute}).
+ *
+ * <p>처리 방식:
+ *
+ * <ul>
+ *   <li>배치({@code user.redrive.batch-size}) 단위로 수동 ack로 꺼내고, 배치 사이에 쉬어 초당 처리량을 {@code
+ *       user.redrive.rate-per-second} 이하로 유지
+ *   <li>메시지마다 발행 확인(publisher confirm)을 기다린 뒤 DLQ에서 ack한다. mandatory로 발행하여 큐가 없어 반송(return)된 메시지도
+ *       실패로 본다. 실패하면 DLQ로 되돌리고 재처리를 중단한다
+ *   <li>재처리 횟수는 {@value #REDRIVE_COUNT_HEADER} 헤더로 센다. {@code user.redrive.max-attempts}번 재처리했는데 다시
+ *       DLQ로 온 메시지와 원래 큐 정보가 없는 메시지는 격리 큐({@code .dlq.parking})로 옮긴다
+ *   <li>같은 DLQ를 한 인스턴스에서 동시에 재처리하지 않는다
+ * </ul>
+ *
+ * <p>발행 확인을 받으려면 {@code spring.rabbitmq.publisher-confirm-type}이 {@code correlated}여야 하고, 반송을 받으려면
+ * {@code spring.rabbitmq.publisher-returns}가 true여야 한다. 확인이 오지 않으면 확인 대기 시간({@code
+ * user.redrive.confirm-timeout-ms}) 후 실패로 처리된다. mandatory 발행이 공용 {@code RabbitTemplate}에 영향을 주지 않도록
+ * 전용 템플릿을 사용한다.
+ *
+ * <p>메트릭:
+ *
+ * <ul>
+ *   <li>{@code user.redrive.messages{queue,result=replayed|quarantined|failed}} - 처리한 메시지 수
+ *   <li>{@code user.redrive.duration{queue}} - 재처리 요청 1회의 소요 시간
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class DeadLetterRedriver {
+
+  /** 재처리 횟수 헤더. */
+  static final String REDRIVE_COUNT_HEADER = "tickatch-redrive-count";
+
+  private final RabbitTemplate rabbitTemplate;
+  private final AmqpAdmin amqpAdmin;
+  private final MeterRegistry meterRegistry;
+  private final int batchSize;
+  private final double ratePerSecond;
+  private final int maxAttempts;
+  private final long confirmTimeoutMs;
+  private final int maxPerRequest;
+
+  private final MessagePropertiesConverter propertiesConverter =
+      new DefaultMessagePropertiesConverter();
+  private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+  public DeadLetterRedriver(
+      ConnectionFactory connectionFactory,
+      AmqpAdmin amqpAdmin,
+      MeterRegistry meterRegistry,
+      @Value("${user.redrive.batch-size:50}") int batchSize,
+      @Value("${user.redrive.rate-per-second:100}") double ratePerSecond,
+      @Value("${user.redrive.max-attempts:3}") int maxAttempts,
+      @Value("${user.redrive.confirm-timeout-ms:5000}") long confirmTimeoutMs,
+      @Value("${user.redrive.max-per-request:1000}") int maxPerRequest) {
+    this.rabbitTemplate = new RabbitTemplate(connectionFactory);
+    this.rabbitTemplate.setMandatory(true);
+    this.amqpAdmin = amqpAdmin;
+    this.meterRegistry = meterRegistry;
+    this.batchSize = batchSize;
+    this.ratePerSecond = ratePerSecond;
+    this.maxAttempts = maxAttempts;
+    this.confirmTimeoutMs = confirmTimeoutMs;
+    this.maxPerRequest = maxPerRequest;
+  }
+
+  /**
+   * 재처리 대상 DLQ와 격리 큐의 메시지 수를 조회한다.
+   *
+   * @return DLQ별 적재 현황
+   */
+  public List<DeadLetterQueueStatus> getStatuses() {
+    return DEAD_LETTER_QUEUES.stream()
+        .map(
+            queue ->
+                new DeadLetterQueueStatus(
+                    queue,
+                    messageCount(queue),
+                    queue + PARKING_SUFFIX,
+                    messageCount(queue + PARKING_SUFFIX)))
+        .toList();
+  }
+
+  /**
+   * DLQ의 메시지를 원래 큐로 다시 발행한다.
+   *
+   * <p>DLQ가 비거나, {@code limit}건을 처리하거나, 발행 확인을 받지 못하면 멈춘다.
+   *
+   * @param queue DLQ 이름
+   * @param limit 최대 처리 건수 ({@code user.redrive.max-per-request}를 넘으면 그 값으로 제한)
+   * @return 재처리 결과
+   * @throws UserException 재처리 대상이 아닌 큐이거나 이미 재처리 중인 경우
+   */
+  public RedriveResult redrive(String queue, int limit) {
+    if (!DEAD_LETTER_QUEUES.contains(queue)) {
+      throw new UserException(UserErrorCode.UNKNOWN_DEAD_LETTER_QUEUE, queue);
+    }
+    if (!running.add(queue)) {
+      throw new UserException(UserErrorCode.REDRIVE_IN_PROGRESS, queue);
+    }
+
+    int cappedLimit = Math.min(limit, maxPerRequest);
+    Timer.Sample sample = Timer.start(meterRegistry);
+    Tally tally = new Tally(queue);
+    try {
+      while (tally.total() < cappedLimit) {
+        long batchStart = System.nanoTime();
+        int requested = Math.min(batchSize, cappedLimit - tally.total());
+        Integer handled =
+            rabbitTemplate.execute(channel -> redriveBatch(channel, queue, requested, tally));
+        if (handled == null || handled < requested || tally.failed > 0) {
+          break;
+        }
+        pace(batchStart, handled);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("DLQ 재처리 중단 (인터럽트). queue: {}", queue);
+    } finally {
+      sample.stop(
+          Timer.builder("user.redrive.duration")
+              .description("DLQ 재처리 요청 소요 시간")
+              .tag("queue", queue)
+              .register(meterRegistry));
+      running.remove(queue);
+    }
+
+    log.info(
+        "DLQ 재처리 완료. queue: {}, replayed: {}, quarantined: {}, failed: {}",
+        queue,
+        tally.replayed,
+        tally.quarantined,
+        tally.failed);
+    return new RedriveResult(queue, tally.replayed, tally.quarantined, tally.failed);
+  }
+
+  /**
+   * 한 채널에서 배치 하나를 처리한다.
+   *
+   * @return 꺼낸 메시지 수
+   */
+  private int redriveBatch(Channel channel, String queue, int requested, Tally tally)
+      throws IOException {
+    int handled = 0;
+    while (handled < requested) {
+      GetResponse response = channel.basicGet(queue, false);
+      if (response == null) {
+        break;
+      }
+      handled++;
+
+      long deliveryTag = response.getEnvelope().getDeliveryTag();
+      MessageProperties properties =
+          propertiesConverter.toMessageProperties(
+              response.getProps(), response.getEnvelope(), StandardCharsets.UTF_8.name());
+      // 수신 속성은 receivedDeliveryMode로만 채워지므로 다시 발행할 때 영속성을 유지하도록 옮긴다
+      properties.setDeliveryMode(properties.getReceivedDeliveryMode());
+      Optional<DeadLetterRoute> route = DeadLetterRoute.from(properties);
+      int attempts = redriveCount(properties);
+
+      boolean quarantine = route.isEmpty() || attempts >= maxAttempts;
+      if (!quarantine) {
+        properties.setHeader(REDRIVE_COUNT_HEADER, attempts + 1);
+      }
+      Message message = new Message(response.getBody(), properties);
+      boolean confirmed =
+          publishConfirmed(quarantine ? queue + PARKING_SUFFIX : route.get().queue(), message);
+
+      if (!confirmed) {
+        channel.basicNack(deliveryTag, false, true);
+        tally.record("failed");
+        break;
+      }
+      channel.basicAck(deliveryTag, false);
+      tally.record(quarantine ? "quarantined" : "replayed");
+    }
+    return handled;
+  }
+
+  /** 기본 Exchange로 큐에 발행하고 확인을 기다린다. 거부되거나 반송되면 false. */
+  private boolean publishConfirmed(String targetQueue, Message message) {
+    CorrelationData correlation = new CorrelationData();
+    try {
+      rabbitTemplate.send(DeadLetterRoute.DEFAULT_EXCHANGE, targetQueue, message, correlation);
+      CorrelationData.Confirm confirm =
+          correlation.getFuture().get(confirmTimeoutMs, TimeUnit.MILLISECONDS);
+      if (!confirm.isAck()) {
+        log.warn("DLQ 재처리 발행 거부. queue: {}, reason: {}", targetQueue, confirm.getReason());
+        return false;
+      }
+      ReturnedMessage returned = correlation.getReturned();
+      if (returned != null) {
+        log.warn(
+            "DLQ 재처리 발행 반송. queue: {}, replyCode: {}, replyText: {}",
+            targetQueue,
+            returned.getReplyCode(),
+            returned.getReplyText());
+        return false;
+      }
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } catch (AmqpException | ExecutionException | TimeoutException e) {
+      log.warn("DLQ 재처리 발행 확인 실패. queue: {}, error: {}", targetQueue, e.toString());
+      return false;
+    }
+  }
+
+  /** 배치 처리 시간이 허용 처리량보다 짧았으면 남은 만큼 쉰다. */
+  private void pace(long batchStartNanos, int handled) throws InterruptedException {
+    long minNanos = (long) (handled * 1_000_000_000L / ratePerSecond);
+    long remaining = batchStartNanos + minNanos - System.nanoTime();
+    if (remaining > 0) {
+      TimeUnit.NANOSECONDS.sleep(remaining);
+    }
+  }
+
+  private long messageCount(String queue) {
+    QueueInformation info = amqpAdmin.getQueueInfo(queue);
+    return info == null ? 0 : info.getMessageCount();
+  }
+
+  /**
+   * 메시지가 재처리된 횟수를 읽는다.
+   *
+   * @param properties 메시지 속성
+   * @return 재처리 횟수 (헤더가 없으면 0)
+   */
+  static int redriveCount(MessageProperties properties) {
+    return properties.getHeader(REDRIVE_COUNT_HEADER) instanceof Number count
+        ? count.intValue()
+        : 0;
+  }
+
+  /** 재처리 요청 1회의 처리 건수. */
+  private final class Tally {
+
+    private final String queue;
+    private int replayed;
+    private int quarantined;
+    private int failed;
+
+    private Tally(String queue) {
+      this.queue = queue;
+    }
+
+    private int total() {
+      return replayed + quarantined + failed;
+    }
+
+    private void record(String result) {
+      switch (result) {
+        case "replayed" -> replayed++;
+        case "quarantined" -> quarantined++;
+        default -> failed++;
+      }
+      Counter.builder("user.redrive.messages")
+          .description("DLQ 재처리 메시지 수")
+          .tag("queue", queue)
+          .tag("result", result)
+          .register(meterRegistry)
+          .increment();
+    }
+  }
+}
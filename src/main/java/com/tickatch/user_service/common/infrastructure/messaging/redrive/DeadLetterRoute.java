@@ -0,0 +1,42 @@
+package com.tickatch.user_service.common.infrastructure.messaging.redrive;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.amqp.core.MessageProperties;
+
+/**
+ * Dead letter 메시지가 원래 소비되던 큐.
+ *
+ * <p>RabbitMQ가 dead letter 처리 시 기록하는 {@code x-death} 헤더에서 읽는다. 가장 최근 기록(첫 번째 항목)이 DLQ로 오기 직전의 큐이다.
+ * 원래 Exchange와 라우팅 키로 다시 발행하면 같은 바인딩의 다른 큐(이미 처리한 소비자)에도 다시 전달되므로, 기본 Exchange({@code ""})에 이
+ * 큐 이름을 라우팅 키로 발행하여 원래 큐에만 보낸다.
+ *
+ * @param queue 원래 큐 이름
+ * @author Tickatch
+ * @since 1.0.0
+ */
+record DeadLetterRoute(String queue) {
+
+  /** 큐 이름을 라우팅 키로 받는 기본 Exchange. */
+  static final String DEFAULT_EXCHANGE = "";
+
+  /**
+   * 메시지 속성에서 원래 큐를 읽는다.
+   *
+   * @param properties dead letter 메시지 속성
+   * @return 원래 큐 ({@code x-death} 헤더가 없거나 큐 이름이 없으면 empty)
+   */
+  static Optional<DeadLetterRoute> from(MessageProperties properties) {
+    List<Map<String, ?>> deaths = properties.getXDeathHeader();
+    if (deaths == null || deaths.isEmpty()) {
+      return Optional.empty();
+    }
+
+    Object queue = deaths.get(0).get("queue");
+    if (queue == null || queue.toString().isBlank()) {
+      return Optional.empty();
+    }
+    return Optional.of(new DeadLetterRoute(queue.toString()));
+  }
+}
@@ -0,0 +1,14 @@
+package com.tickatch.user_service.common.infrastructure.messaging.redrive.dto;
+
+/**
+ * DLQ 적재 현황.
+ *
+ * @param queue DLQ 이름
+ * @param messageCount DLQ에 쌓인 메시지 수
+ * @param parkingQueue 재처리 격리 큐 이름
+ * @param parkedCount 격리 큐에 쌓인 메시지 수
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public record DeadLetterQueueStatus(
+    String queue, long messageCount, String parkingQueue, long parkedCount) {}
@@ -0,0 +1,13 @@
+package com.tickatch.user_service.common.infrastructure.messaging.redrive.dto;
+
+/**
+ * DLQ 재처리 결과.
+ *
+ * @param queue DLQ 이름
+ * @param replayed 원래 큐로 다시 발행한 메시지 수
+ * @param quarantined 격리 큐로 옮긴 메시지 수
+ * @param failed 발행 확인을 받지 못해 DLQ로 되돌린 메시지 수 (1이면 재처리를 중단했다)
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public record RedriveResult(String queue, int replayed, int quarantined, int failed) {}
@@ -1,6 +1,8 @@
 package com.tickatch.user_service.customer.application.messaging;
 
 import com.tickatch.user_service.customer.domain.Customer;
+import java.util.List;
+import java.util.UUID;
 
 /**
  * 고객 도메인 이벤트 발행 인터페이스.
@@ -39,4 +41,22 @@ public interface CustomerEventPublisher {
    * @param customer 활성화된 고객 엔티티
    */
   void publishActivated(Customer customer);
+
+  /**
+   * 여러 고객의 정지 이벤트를 발행한다.
+   *
+   * <p>일괄 정지에서 사용한다. 고객마다 {@link #publishSuspended(Customer)}와 같은 이벤트를 하나의 채널로 연속 발행한다.
+   *
+   * @param customerIds 정지된 고객 ID 목록
+   */
+  void publishSuspendedAll(List<UUID> customerIds);
+
+  /**
+   * 여러 고객의 활성화 이벤트를 발행한다.
+   *
+   * <p>일괄 활성화에서 사용한다. 고객마다 {@link #publishActivated(Customer)}와 같은 이벤트를 하나의 채널로 연속 발행한다.
+   *
+   * @param customerIds 활성화된 고객 ID 목록
+   */
+  void publishActivatedAll(List<UUID> customerIds);
 }
@@ -1,5 +1,6 @@
 package com.tickatch.user_service.customer.application.messaging;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -78,4 +79,22 @@ public interface CustomerLogEventPublisher {
    * @param customerId 고객 ID
    */
   void publishActivateFailed(UUID customerId);
+
+  /**
+   * 여러 고객의 정지 성공 로그를 발행한다.
+   *
+   * <p>일괄 정지에서 사용한다. 고객마다 정지 로그를 하나의 채널로 연속 발행한다.
+   *
+   * @param customerIds 정지된 고객 ID 목록
+   */
+  void publishSuspendedAll(List<UUID> customerIds);
+
+  /**
+   * 여러 고객의 활성화 성공 로그를 발행한다.
+   *
+   * <p>일괄 활성화에서 사용한다. 고객마다 활성화 로그를 하나의 채널로 연속 발행한다.
+   *
+   * @param customerIds 활성화된 고객 ID 목록
+   */
+  void publishActivatedAll(List<UUID> customerIds);
 }
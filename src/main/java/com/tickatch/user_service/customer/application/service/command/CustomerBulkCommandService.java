@@ -0,0 +1,139 @@
+package com.tickatch.user_service.customer.application.service.command;
+
+import com.tickatch.user_service.common.domain.vo.UserStatusTransition;
+import com.tickatch.user_service.customer.application.messaging.CustomerEventPublisher;
+import com.tickatch.user_service.customer.application.messaging.CustomerLogEventPublisher;
+import com.tickatch.user_service.customer.domain.CustomerRepository;
+import com.tickatch.user_service.global.job.BulkJob;
+import com.tickatch.user_service.global.job.BulkJobRegistry;
+import com.tickatch.user_service.global.job.dto.BulkJobResponse;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 고객 일괄 상태 변경 서비스.
+ *
+ * <p>부정 이용 대응처럼 많은 고객을 한 번에 정지/활성화하는 작업을 처리한다. 요청은 {@link BulkJobRegistry}에 일괄 작업으로 등록하고 작업
+ * 핸들을 바로 반환하며, 실제 처리는 별도 스레드에서 청크({@code user.bulk.chunk-size}) 단위로 진행한다.
+ *
+ * <ul>
+ *   <li>청크마다 별도 트랜잭션에서 허용 상태인 행을 잠그고 한 문장으로 UPDATE한다
+ *   <li>커밋 후 상태가 바뀐 고객의 상태 변경 이벤트(Auth Service)와 로그 이벤트를 청크 단위로 묶어 발행한다
+ *   <li>중복 ID는 한 번만 처리하고, 없는 고객이나 이미 대상 상태인 고객은 건너뛴 건수로 집계한다
+ *   <li>처리 중 예외가 발생하면 작업을 실패로 종료하며, 이미 커밋된 청크는 되돌리지 않는다
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class CustomerBulkCommandService {
+
+  /** 고객 일괄 작업 유형 접두사. */
+  public static final String JOB_TYPE_PREFIX = "CUSTOMER_";
+
+  private static final String JOB_TYPE_SUSPEND = JOB_TYPE_PREFIX + "SUSPEND";
+  private static final String JOB_TYPE_ACTIVATE = JOB_TYPE_PREFIX + "ACTIVATE";
+
+  private final CustomerRepository customerRepository;
+  private final CustomerEventPublisher eventPublisher;
+  private final CustomerLogEventPublisher logEventPublisher;
+  private final BulkJobRegistry bulkJobRegistry;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+
+  public CustomerBulkCommandService(
+      CustomerRepository customerRepository,
+      CustomerEventPublisher eventPublisher,
+      CustomerLogEventPublisher logEventPublisher,
+      BulkJobRegistry bulkJobRegistry,
+      TransactionTemplate transactionTemplate,
+      @Value("${user.bulk.chunk-size:500}") int chunkSize) {
+    this.customerRepository = customerRepository;
+    this.eventPublisher = eventPublisher;
+    this.logEventPublisher = logEventPublisher;
+    this.bulkJobRegistry = bulkJobRegistry;
+    this.transactionTemplate = transactionTemplate;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * 고객을 일괄 정지한다.
+   *
+   * @param customerIds 정지할 고객 ID 목록
+   * @return 작업 핸들 (진행 상황은 작업 ID로 조회)
+   */
+  public BulkJobResponse suspendCustomers(List<UUID> customerIds) {
+    return submit(
+        JOB_TYPE_SUSPEND,
+        customerIds,
+        UserStatusTransition.SUSPEND,
+        changed -> {
+          eventPublisher.publishSuspendedAll(changed);
+          logEventPublisher.publishSuspendedAll(changed);
+        });
+  }
+
+  /**
+   * 정지된 고객을 일괄 활성화한다.
+   *
+   * @param customerIds 활성화할 고객 ID 목록
+   * @return 작업 핸들 (진행 상황은 작업 ID로 조회)
+   */
+  public BulkJobResponse activateCustomers(List<UUID> customerIds) {
+    return submit(
+        JOB_TYPE_ACTIVATE,
+        customerIds,
+        UserStatusTransition.ACTIVATE,
+        changed -> {
+          eventPublisher.publishActivatedAll(changed);
+          logEventPublisher.publishActivatedAll(changed);
+        });
+  }
+
+  private BulkJobResponse submit(
+      String type,
+      List<UUID> customerIds,
+      UserStatusTransition transition,
+      Consumer<List<UUID>> publisher) {
+    List<UUID> ids = customerIds.stream().distinct().toList();
+    BulkJob job =
+        bulkJobRegistry.submit(
+            type, ids.size(), started -> transitionInChunks(started, ids, transition, publisher));
+    return BulkJobResponse.from(job);
+  }
+
+  /**
+   * 청크 단위로 상태를 전이하고 이벤트를 발행한다.
+   *
+   * @param job 진행 상황을 기록할 작업
+   * @param ids 고객 ID 목록 (중복 제거됨)
+   * @param transition 상태 전이
+   * @param publisher 커밋 후 상태가 바뀐 고객 ID로 이벤트를 발행하는 함수
+   */
+  void transitionInChunks(
+      BulkJob job,
+      List<UUID> ids,
+      UserStatusTransition transition,
+      Consumer<List<UUID>> publisher) {
+    for (int from = 0; from < ids.size(); from += chunkSize) {
+      List<UUID> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+      List<UUID> changed =
+          transactionTemplate.execute(
+              status -> customerRepository.transitionStatusAll(chunk, transition));
+      publisher.accept(changed);
+      job.recordChunk(chunk.size(), changed.size());
+      log.debug(
+          "고객 일괄 상태 변경 청크 처리. jobId: {}, chunk: {}, changed: {}",
+          job.getJobId(),
+          chunk.size(),
+          changed.size());
+    }
+  }
+}
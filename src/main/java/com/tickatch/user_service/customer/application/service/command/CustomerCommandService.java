@@ -1,5 +1,6 @@
 package com.tickatch.user_service.customer.application.service.command;
 
+import com.tickatch.user_service.common.domain.vo.UserStatusTransition;
 import com.tickatch.user_service.customer.application.messaging.CustomerLogEventPublisher;
 import com.tickatch.user_service.customer.application.service.command.dto.CreateCustomerCommand;
 import com.tickatch.user_service.customer.application.service.command.dto.UpdateCustomerProfileCommand;
@@ -8,9 +9,11 @@ import com.tickatch.user_service.customer.domain.CustomerRepository;
 import com.tickatch.user_service.customer.domain.exception.CustomerErrorCode;
 import com.tickatch.user_service.customer.domain.exception.CustomerException;
 import com.tickatch.user_service.customer.domain.vo.CustomerGrade;
+import com.tickatch.user_service.global.jdbc.UniqueViolation;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +22,9 @@ import org.springframework.transaction.annotation.Transactional;
  *
  * <p>고객 생성, 수정, 상태 변경 등 상태를 변경하는 작업을 처리한다. 모든 주요 작업에 대해 성공/실패 로그를 로그 서비스로 발행한다.
  *
+ * <p>정지, 활성화, 탈퇴는 엔티티를 조회하지 않고 조건부 UPDATE 한 문장으로 처리한다. 바뀐 행이 없을 때만 엔티티를 조회하여 도메인 규칙으로
+ * 기존 예외(고객 없음, 이미 정지 등)를 발생시킨다.
+ *
  * @author Tickatch
  * @since 1.0.0
  */
@@ -34,18 +40,16 @@ public class CustomerCommandService {
   /**
    * 고객을 생성한다.
    *
+   * <p>존재 여부를 먼저 조회하지 않고 바로 INSERT하며, ID 또는 이메일(대소문자 무시)의 유일 제약 위반을 중복으로 처리한다.
+   *
    * <p>성공 시 CUSTOMER_CREATED 로그를, 실패 시 CUSTOMER_CREATE_FAILED 로그를 발행한다.
    *
    * @param command 생성 커맨드
    * @return 생성된 고객 ID
-   * @throws CustomerException 이미 존재하는 이메일인 경우
+   * @throws CustomerException 이미 존재하는 고객 ID 또는 이메일인 경우
    */
   public UUID createCustomer(CreateCustomerCommand command) {
     try {
-      if (customerRepository.existsByEmail(command.email())) {
-        throw new CustomerException(CustomerErrorCode.CUSTOMER_ALREADY_EXISTS);
-      }
-
       Customer customer =
           Customer.create(
               command.authId(),
@@ -54,7 +58,7 @@ public class CustomerCommandService {
               command.phone(),
               command.birthDate());
 
-      UUID customerId = customerRepository.save(customer).getId();
+      UUID customerId = insert(customer).getId();
       log.info("고객 생성 완료. customerId: {}", customerId);
 
       logEventPublisher.publishCreated(customerId);
@@ -92,6 +96,34 @@ public class CustomerCommandService {
     }
   }
 
+  /**
+   * 고객 프로필을 부분 수정한다.
+   *
+   * <p>커맨드에서 null인 항목은 기존 값을 유지하며, 바뀐 컬럼만 UPDATE된다. 성공 시 CUSTOMER_UPDATED 로그를, 실패 시
+   * CUSTOMER_UPDATE_FAILED 로그를 발행한다.
+   *
+   * @param command 프로필 수정 커맨드
+   * @throws CustomerException 고객을 찾을 수 없는 경우
+   */
+  public void patchProfile(UpdateCustomerProfileCommand command) {
+    try {
+      Customer customer = findCustomerById(command.customerId());
+      customer.patchProfile(command.name(), command.phone());
+
+      if (command.birthDate() != null) {
+        customer.updateBirthDate(command.birthDate());
+      }
+      log.info("고객 프로필 부분 수정 완료. customerId: {}", command.customerId());
+
+      logEventPublisher.publishUpdated(command.customerId());
+    } catch (Exception e) {
+      logEventPublisher.publishUpdateFailed(command.customerId());
+      log.error(
+          "고객 프로필 부분 수정 실패. customerId: {}, error: {}", command.customerId(), e.getMessage(), e);
+      throw e;
+    }
+  }
+
   /**
    * 고객 등급을 변경한다.
    *
@@ -130,8 +162,9 @@ public class CustomerCommandService {
    */
   public void suspendCustomer(UUID customerId) {
     try {
-      Customer customer = findCustomerById(customerId);
-      customer.suspend();
+      if (!customerRepository.transitionStatus(customerId, UserStatusTransition.SUSPEND)) {
+        findCustomerById(customerId).suspend();
+      }
       log.info("고객 정지 완료. customerId: {}", customerId);
 
       logEventPublisher.publishSuspended(customerId);
@@ -152,8 +185,9 @@ public class CustomerCommandService {
    */
   public void activateCustomer(UUID customerId) {
     try {
-      Customer customer = findCustomerById(customerId);
-      customer.activate();
+      if (!customerRepository.transitionStatus(customerId, UserStatusTransition.ACTIVATE)) {
+        findCustomerById(customerId).activate();
+      }
       log.info("고객 활성화 완료. customerId: {}", customerId);
 
       logEventPublisher.publishActivated(customerId);
@@ -174,8 +208,9 @@ public class CustomerCommandService {
    */
   public void withdrawCustomer(UUID customerId) {
     try {
-      Customer customer = findCustomerById(customerId);
-      customer.withdraw();
+      if (!customerRepository.transitionStatus(customerId, UserStatusTransition.WITHDRAW)) {
+        findCustomerById(customerId).withdraw();
+      }
       log.info("고객 탈퇴 완료. customerId: {}", customerId);
 
       logEventPublisher.publishWithdrawn(customerId);
@@ -191,4 +226,15 @@ public class CustomerCommandService {
         .findById(customerId)
         .orElseThrow(() -> new CustomerException(CustomerErrorCode.CUSTOMER_NOT_FOUND));
   }
+
+  private Customer insert(Customer customer) {
+    try {
+      return customerRepository.insert(customer);
+    } catch (DataIntegrityViolationException e) {
+      if (UniqueViolation.matches(e)) {
+        throw new CustomerException(CustomerErrorCode.CUSTOMER_ALREADY_EXISTS);
+      }
+      throw e;
+    }
+  }
 }
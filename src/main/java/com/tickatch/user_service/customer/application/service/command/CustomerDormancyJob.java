@@ -0,0 +1,82 @@
+package com.tickatch.user_service.customer.application.service.command;
+
+import com.tickatch.user_service.customer.domain.CustomerRepository;
+import com.tickatch.user_service.global.job.scan.ChunkedScanJob;
+import com.tickatch.user_service.global.job.scan.ChunkedScanRunner;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 휴면 고객 전환 작업.
+ *
+ * <p>마지막 활동 일시(없으면 가입 일시)로부터 {@code user.dormancy.inactive-days}일이 지난 활성 고객을 휴면으로 표시한다. 고객 테이블
+ * 전체를 {@link ChunkedScanRunner}로 청크 단위로 훑으며, 청크마다 별도 트랜잭션에서 대상 행을 잠그고 한 문장으로 UPDATE한다.
+ *
+ * <p>휴면은 다음 구매 시 해제된다. {@code user.dormancy.enabled}가 false이면 실행하지 않는다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class CustomerDormancyJob implements ChunkedScanJob {
+
+  /** 작업 이름 (체크포인트 키). */
+  public static final String NAME = "customer-dormancy";
+
+  private final CustomerRepository customerRepository;
+  private final ChunkedScanRunner chunkedScanRunner;
+  private final TransactionTemplate transactionTemplate;
+  private final boolean enabled;
+  private final int inactiveDays;
+
+  public CustomerDormancyJob(
+      CustomerRepository customerRepository,
+      ChunkedScanRunner chunkedScanRunner,
+      TransactionTemplate transactionTemplate,
+      @Value("${user.dormancy.enabled:false}") boolean enabled,
+      @Value("${user.dormancy.inactive-days:365}") int inactiveDays) {
+    this.customerRepository = customerRepository;
+    this.chunkedScanRunner = chunkedScanRunner;
+    this.transactionTemplate = transactionTemplate;
+    this.enabled = enabled;
+    this.inactiveDays = inactiveDays;
+  }
+
+  /** 휴면 고객 전환을 실행한다. 이전 실행이 중단되었으면 체크포인트부터 재개한다. */
+  @Scheduled(cron = "${user.dormancy.cron:0 0 2 * * *}")
+  public void run() {
+    if (!enabled) {
+      return;
+    }
+    chunkedScanRunner.run(this);
+  }
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  @Override
+  public List<UUID> readChunk(UUID after, int size) {
+    return customerRepository.findIdsAfter(after, size);
+  }
+
+  @Override
+  public int processChunk(List<UUID> ids) {
+    LocalDateTime inactiveBefore = LocalDateTime.now().minusDays(inactiveDays);
+    List<UUID> dormant =
+        transactionTemplate.execute(
+            status -> customerRepository.markDormantAll(ids, inactiveBefore));
+    if (!dormant.isEmpty()) {
+      log.debug("휴면 고객 전환. chunk: {}, dormant: {}", ids.size(), dormant.size());
+    }
+    return dormant.size();
+  }
+}
@@ -0,0 +1,133 @@
+package com.tickatch.user_service.customer.application.service.command;
+
+import com.tickatch.user_service.customer.application.service.command.dto.PurchaseCommand;
+import com.tickatch.user_service.customer.domain.CustomerPurchaseRepository;
+import com.tickatch.user_service.customer.domain.CustomerRepository;
+import com.tickatch.user_service.customer.domain.repository.dto.MonthlyPurchase;
+import com.tickatch.user_service.customer.domain.repository.dto.PaymentEventKey;
+import com.tickatch.user_service.customer.domain.vo.CustomerGrade;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 고객 등급 자동 산정 서비스.
+ *
+ * <p>결제/환불 이벤트를 묶음(마이크로 배치) 단위로 받아 월별 구매 집계에 더하고, 최근 {@code user.grade.window-months}개월 구매
+ * 금액이 {@code user.grade.vip-min-amount} 이상인 고객을 VIP로 올린다. 등급은 자동으로 내리지 않으며, 수동 변경은 {@link
+ * CustomerCommandService#changeGrade}를 사용한다.
+ *
+ * <ul>
+ *   <li>결제 이벤트는 다시 전달될 수 있으므로 (결제 ID, 환불 여부)를 처리 기록에 남기고, 이미 반영한 이벤트는 건너뛴다
+ *   <li>묶음 안에서 같은 고객/월의 증분을 먼저 합쳐 집계 행마다 한 번만 갱신한다
+ *   <li>등급은 묶음에서 구매가 있었던 고객만 대상으로 한 문장으로 UPDATE한다
+ *   <li>구매한 고객의 마지막 활동 일시도 한 문장으로 갱신하며, 휴면 고객은 휴면이 해제된다
+ *   <li>처리 기록, 집계 갱신과 등급 변경은 한 트랜잭션에서 실행되어 실패하면 묶음 전체가 롤백된다
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class CustomerGradeCommandService {
+
+  private final CustomerRepository customerRepository;
+  private final CustomerPurchaseRepository customerPurchaseRepository;
+  private final long vipMinAmount;
+  private final int windowMonths;
+
+  public CustomerGradeCommandService(
+      CustomerRepository customerRepository,
+      CustomerPurchaseRepository customerPurchaseRepository,
+      @Value("${user.grade.vip-min-amount:1000000}") long vipMinAmount,
+      @Value("${user.grade.window-months:12}") int windowMonths) {
+    this.customerRepository = customerRepository;
+    this.customerPurchaseRepository = customerPurchaseRepository;
+    this.vipMinAmount = vipMinAmount;
+    this.windowMonths = windowMonths;
+  }
+
+  /**
+   * 구매 묶음을 집계에 반영하고 기준을 넘은 고객의 등급을 올린다.
+   *
+   * @param purchases 결제/환불 목록
+   * @return 등급이 바뀐 고객 ID
+   */
+  @Transactional
+  public List<UUID> applyPurchases(List<PurchaseCommand> purchases) {
+    if (purchases.isEmpty()) {
+      return List.of();
+    }
+
+    Map<PaymentEventKey, PurchaseCommand> unique = new LinkedHashMap<>();
+    purchases.forEach(purchase -> unique.putIfAbsent(purchase.eventKey(), purchase));
+    Set<PaymentEventKey> fresh =
+        customerPurchaseRepository.recordProcessed(unique.keySet(), LocalDateTime.now());
+    List<PurchaseCommand> applicable =
+        unique.values().stream().filter(purchase -> fresh.contains(purchase.eventKey())).toList();
+    if (applicable.isEmpty()) {
+      log.info("이미 반영된 결제 이벤트만 있어 건너뜀. purchases: {}", purchases.size());
+      return List.of();
+    }
+
+    Map<MonthKey, MonthlyPurchase> merged = new LinkedHashMap<>();
+    for (PurchaseCommand purchase : applicable) {
+      LocalDate month = purchase.occurredAt().toLocalDate().withDayOfMonth(1);
+      merged.merge(
+          new MonthKey(purchase.customerId(), month),
+          new MonthlyPurchase(purchase.customerId(), month, purchase.amount(), purchase.count()),
+          MonthlyPurchase::plus);
+    }
+    customerPurchaseRepository.accumulate(merged.values());
+
+    List<UUID> candidates =
+        applicable.stream()
+            .filter(purchase -> purchase.amount() > 0)
+            .map(PurchaseCommand::customerId)
+            .distinct()
+            .toList();
+    customerRepository.recordActivityAll(candidates);
+    List<UUID> upgraded =
+        customerRepository.upgradeGradeAll(
+            candidates, CustomerGrade.VIP, windowStart(), vipMinAmount);
+
+    log.info(
+        "고객 구매 반영 완료. purchases: {}, duplicates: {}, rows: {}, upgraded: {}",
+        purchases.size(),
+        purchases.size() - applicable.size(),
+        merged.size(),
+        upgraded.size());
+    return upgraded;
+  }
+
+  /**
+   * 산정 기간이 지난 월별 구매 집계와 결제 이벤트 처리 기록을 삭제한다.
+   *
+   * <p>처리 기록이 삭제된 뒤 같은 이벤트가 다시 오면 다시 반영되지만, 산정 기간 밖의 월에 더해지므로 등급에는 영향이 없다.
+   */
+  @Scheduled(cron = "${user.grade.cleanup-cron:0 0 4 1 * *}")
+  @Transactional
+  public void removeExpiredPurchases() {
+    LocalDate windowStart = windowStart();
+    int deleted = customerPurchaseRepository.deleteBefore(windowStart);
+    int processed = customerPurchaseRepository.deleteProcessedBefore(windowStart.atStartOfDay());
+    log.info("만료된 구매 집계 삭제 완료. count: {}, processedPayments: {}", deleted, processed);
+  }
+
+  /** 산정 기간 시작 월 (이번 달 포함 {@code windowMonths}개월). */
+  private LocalDate windowStart() {
+    return LocalDate.now().withDayOfMonth(1).minusMonths(windowMonths - 1L);
+  }
+
+  private record MonthKey(UUID customerId, LocalDate month) {}
+}
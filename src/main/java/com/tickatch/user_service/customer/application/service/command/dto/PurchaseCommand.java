@@ -0,0 +1,39 @@
+package com.tickatch.user_service.customer.application.service.command.dto;
+
+import com.tickatch.user_service.customer.domain.repository.dto.PaymentEventKey;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 고객 구매 반영 커맨드.
+ *
+ * <p>결제 완료는 양수, 환불은 음수 금액/건수로 월별 구매 집계에 더한다. 같은 결제 ID의 완료/환불은 각각 한 번만 반영한다.
+ *
+ * @param paymentId 결제 ID (중복 반영 방지)
+ * @param customerId 고객 ID
+ * @param amount 금액 (환불이면 음수)
+ * @param count 건수 (결제 1, 환불 -1)
+ * @param occurredAt 결제/환불 일시 (집계 월 결정)
+ */
+public record PurchaseCommand(
+    UUID paymentId, UUID customerId, long amount, int count, LocalDateTime occurredAt) {
+
+  public static PurchaseCommand purchase(
+      UUID paymentId, UUID customerId, long amount, LocalDateTime paidAt) {
+    return new PurchaseCommand(paymentId, customerId, amount, 1, paidAt);
+  }
+
+  public static PurchaseCommand refund(
+      UUID paymentId, UUID customerId, long amount, LocalDateTime refundedAt) {
+    return new PurchaseCommand(paymentId, customerId, -amount, -1, refundedAt);
+  }
+
+  /**
+   * 중복 반영 확인에 쓰는 결제 이벤트 식별자.
+   *
+   * @return 결제 ID와 환불 여부
+   */
+  public PaymentEventKey eventKey() {
+    return new PaymentEventKey(paymentId, count < 0);
+  }
+}
@@ -1,22 +1,36 @@
 package com.tickatch.user_service.customer.application.service.query;
 
+import com.tickatch.user_service.common.domain.vo.CanonicalEmail;
+import com.tickatch.user_service.customer.application.service.command.CustomerBulkCommandService;
 import com.tickatch.user_service.customer.application.service.query.dto.CustomerResponse;
 import com.tickatch.user_service.customer.application.service.query.dto.CustomerSearchRequest;
 import com.tickatch.user_service.customer.domain.Customer;
 import com.tickatch.user_service.customer.domain.CustomerRepository;
 import com.tickatch.user_service.customer.domain.exception.CustomerErrorCode;
 import com.tickatch.user_service.customer.domain.exception.CustomerException;
+import com.tickatch.user_service.customer.domain.repository.dto.CustomerField;
+import com.tickatch.user_service.global.cache.SingleFlight;
+import com.tickatch.user_service.global.job.BulkJobRegistry;
+import com.tickatch.user_service.global.job.dto.BulkJobResponse;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 고객 조회 서비스.
  *
- * <p>고객 조회 작업을 처리한다.
+ * <p>고객 조회 작업을 처리한다. ID/이메일 단건 조회는 {@link SingleFlight}로 동일 키 동시 요청을 하나의 DB 조회로
+ * 병합한다. 병합을 기다리는 요청이 DB 커넥션을 점유하지 않도록 단건 조회는 트랜잭션 없이 시작한다.
  *
  * @author Tickatch
  * @since 1.0.0
@@ -27,6 +41,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class CustomerQueryService {
 
   private final CustomerRepository customerRepository;
+  private final SingleFlight singleFlight;
+  private final BulkJobRegistry bulkJobRegistry;
 
   /**
    * ID로 고객을 조회한다.
@@ -35,12 +51,32 @@ public class CustomerQueryService {
    * @return 고객 응답
    * @throws CustomerException 고객을 찾을 수 없는 경우
    */
+  @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
   public CustomerResponse getCustomer(UUID customerId) {
-    Customer customer =
-        customerRepository
-            .findById(customerId)
-            .orElseThrow(() -> new CustomerException(CustomerErrorCode.CUSTOMER_NOT_FOUND));
-    return CustomerResponse.from(customer);
+    return singleFlight.load(
+        SingleFlight.lookupName(Customer.class, "id"),
+        customerId,
+        () ->
+            CustomerResponse.from(
+                customerRepository
+                    .findById(customerId)
+                    .orElseThrow(
+                        () -> new CustomerException(CustomerErrorCode.CUSTOMER_NOT_FOUND))));
+  }
+
+  /**
+   * ID 목록으로 고객을 일괄 조회한다.
+   *
+   * <p>내부 서비스 간 조회용이다. 중복 ID는 한 번만 조회하며, 존재하지 않는 고객은 결과에서 제외한다.
+   *
+   * @param customerIds 고객 ID 목록
+   * @return 고객 응답 목록 (요청 순서 유지)
+   */
+  public List<CustomerResponse> getCustomers(List<UUID> customerIds) {
+    Map<UUID, CustomerResponse> found =
+        customerRepository.findAllByIds(new LinkedHashSet<>(customerIds)).stream()
+            .collect(Collectors.toMap(Customer::getId, CustomerResponse::from));
+    return customerIds.stream().distinct().map(found::get).filter(Objects::nonNull).toList();
   }
 
   /**
@@ -50,12 +86,32 @@ public class CustomerQueryService {
    * @return 고객 응답
    * @throws CustomerException 고객을 찾을 수 없는 경우
    */
+  @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
   public CustomerResponse getCustomerByEmail(String email) {
-    Customer customer =
-        customerRepository
-            .findByEmail(email)
-            .orElseThrow(() -> new CustomerException(CustomerErrorCode.CUSTOMER_NOT_FOUND));
-    return CustomerResponse.from(customer);
+    return singleFlight.load(
+        SingleFlight.lookupName(Customer.class, "email"),
+        CanonicalEmail.of(email),
+        () ->
+            CustomerResponse.from(
+                customerRepository
+                    .findByEmail(email)
+                    .orElseThrow(
+                        () -> new CustomerException(CustomerErrorCode.CUSTOMER_NOT_FOUND))));
+  }
+
+  /**
+   * 고객의 현재 버전(수정 일시)만 조회한다.
+   *
+   * <p>조건부 GET에서 엔티티를 로딩하지 않고 ETag를 비교하기 위해 사용한다.
+   *
+   * @param customerId 고객 ID
+   * @return 수정 일시
+   * @throws CustomerException 고객을 찾을 수 없는 경우
+   */
+  public LocalDateTime getCustomerVersion(UUID customerId) {
+    return customerRepository
+        .findUpdatedAtById(customerId)
+        .orElseThrow(() -> new CustomerException(CustomerErrorCode.CUSTOMER_NOT_FOUND));
   }
 
   /**
@@ -71,13 +127,50 @@ public class CustomerQueryService {
         .map(CustomerResponse::from);
   }
 
+  /**
+   * 조건에 맞는 고객 목록을 선택한 필드만 페이징하여 조회한다.
+   *
+   * <p>선택한 필드의 컬럼만 조회하므로 목록 화면처럼 일부 필드만 필요한 경우 조회/전송량이 줄어든다. ID는 항상 포함된다.
+   *
+   * @param request 검색 요청
+   * @param fields 쉼표로 구분한 필드명 (예: id,name,status)
+   * @param pageable 페이징 정보
+   * @return 페이징된 필드명-값 맵 목록
+   * @throws com.tickatch.user_service.common.domain.exception.UserException 선택할 수 없는 필드명이 있는 경우
+   */
+  public Page<Map<String, Object>> searchCustomers(
+      CustomerSearchRequest request, String fields, Pageable pageable) {
+    return customerRepository.findAllByCondition(
+        request.toCondition(), CustomerField.parse(fields), pageable);
+  }
+
   /**
    * 이메일 존재 여부를 확인한다.
    *
+   * <p>정규화한 이메일로 DB를 조회하므로 다른 인스턴스에서 가입한 사용자도 바로 확인된다.
+   *
    * @param email 이메일
    * @return 존재하면 true
    */
   public boolean existsByEmail(String email) {
     return customerRepository.existsByEmail(email);
   }
+
+  /**
+   * 고객 일괄 작업의 진행 상황을 조회한다.
+   *
+   * <p>작업 진행 상황은 {@code bulk_jobs} 테이블에 있으므로 작업을 시작한 인스턴스가 아니어도 조회된다.
+   *
+   * @param jobId 작업 ID
+   * @return 작업 진행 상황
+   * @throws CustomerException 작업이 없거나 고객 일괄 작업이 아닌 경우
+   */
+  @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+  public BulkJobResponse getBulkJob(UUID jobId) {
+    return bulkJobRegistry
+        .find(jobId)
+        .filter(job -> job.getType().startsWith(CustomerBulkCommandService.JOB_TYPE_PREFIX))
+        .map(BulkJobResponse::from)
+        .orElseThrow(() -> new CustomerException(CustomerErrorCode.BULK_JOB_NOT_FOUND, jobId));
+  }
 }
@@ -0,0 +1,80 @@
+package com.tickatch.user_service.customer.application.service.query;
+
+import com.tickatch.user_service.common.domain.vo.UserStatus;
+import com.tickatch.user_service.customer.application.service.query.dto.CustomerResponse;
+import com.tickatch.user_service.customer.domain.Customer;
+import com.tickatch.user_service.customer.domain.vo.CustomerGrade;
+import com.tickatch.user_service.global.cache.SecondLevelCacheReader;
+import com.tickatch.user_service.global.reactive.ReactiveDatabase;
+import io.r2dbc.spi.Readable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 고객 반응형 조회기.
+ *
+ * <p>2차 캐시, R2DBC 순으로 조회하고, 둘 다 없으면 {@link CustomerQueryService}에 위임하여 보관 테이블 조회와 404 처리를 MVC
+ * 경로와 같게 유지한다. 위임은 블로킹 조회이므로 boundedElastic 스케줄러에서 실행한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Service
+@ConditionalOnProperty(name = "user.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class CustomerReactiveReader {
+
+  private static final String SELECT_BY_ID =
+      """
+      SELECT id, email, name, phone, birth_date, grade, status, dormant_at, created_at, updated_at
+        FROM customers
+       WHERE id = :id AND deleted_at IS NULL
+      """;
+
+  private final SecondLevelCacheReader secondLevelCacheReader;
+  private final ReactiveDatabase reactiveDatabase;
+  private final CustomerQueryService customerQueryService;
+
+  /**
+   * ID로 고객을 조회한다.
+   *
+   * @param customerId 고객 ID
+   * @return 고객 응답 (없으면 CustomerException 에러)
+   */
+  public Mono<CustomerResponse> getCustomer(UUID customerId) {
+    return secondLevelCacheReader
+        .find(Customer.class, customerId)
+        .filter(customer -> !customer.isDeleted())
+        .map(CustomerResponse::from)
+        .switchIfEmpty(
+            reactiveDatabase
+                .client()
+                .sql(SELECT_BY_ID)
+                .bind("id", customerId)
+                .map(CustomerReactiveReader::toResponse)
+                .one())
+        .switchIfEmpty(
+            Mono.fromCallable(() -> customerQueryService.getCustomer(customerId))
+                .subscribeOn(Schedulers.boundedElastic()));
+  }
+
+  private static CustomerResponse toResponse(Readable row) {
+    return new CustomerResponse(
+        row.get("id", UUID.class),
+        row.get("email", String.class),
+        row.get("name", String.class),
+        row.get("phone", String.class),
+        row.get("birth_date", LocalDate.class),
+        CustomerGrade.valueOf(row.get("grade", String.class)),
+        UserStatus.valueOf(row.get("status", String.class)),
+        row.get("dormant_at", LocalDateTime.class),
+        row.get("created_at", LocalDateTime.class),
+        row.get("updated_at", LocalDateTime.class));
+  }
+}
@@ -16,6 +16,7 @@ public record CustomerResponse(
     LocalDate birthDate,
     CustomerGrade grade,
     UserStatus status,
+    LocalDateTime dormantAt,
     LocalDateTime createdAt,
     LocalDateTime updatedAt) {
 
@@ -28,6 +29,7 @@ public record CustomerResponse(
         customer.getBirthDate(),
         customer.getGrade(),
         customer.getStatus(),
+        customer.getDormantAt(),
         customer.getCreatedAt(),
         customer.getUpdatedAt());
   }
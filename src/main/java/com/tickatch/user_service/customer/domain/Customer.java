@@ -7,27 +7,48 @@ import com.tickatch.user_service.common.domain.BaseUser;
 import com.tickatch.user_service.common.domain.vo.UserProfile;
 import com.tickatch.user_service.customer.domain.exception.CustomerException;
 import com.tickatch.user_service.customer.domain.vo.CustomerGrade;
+import com.tickatch.user_service.global.cache.CacheRegions;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Table;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.SQLRestriction;
 
 /**
  * 고객 엔티티 (Aggregate Root).
  *
  * <p>티켓 구매 고객을 나타낸다.
  *
+ * <p>논리 삭제({@code deleted_at})된 행은 모든 엔티티 조회에서 제외된다. 감사 목적의 조회는 리포지토리의 {@code
+ * findByIdIncludingDeleted}를 사용한다.
+ *
+ * <p>2차 캐시 대상이며, 이메일을 자연 키로 사용하여 이메일 조회도 자연 키 캐시를 거친다.
+ *
+ * <p>수정 시 바뀐 컬럼만 UPDATE한다({@code @DynamicUpdate}).
+ *
+ * <p>마지막 활동 일시({@code last_activity_at})는 가입과 구매 시 갱신되며, 1년 넘게 활동이 없으면 휴면 계정 작업이 휴면 일시({@code
+ * dormant_at})를 기록한다. 두 컬럼은 일괄 UPDATE로만 바뀐다.
+ *
  * @author Tickatch
  * @since 1.0.0
  */
 @Entity
 @Table(name = "customers")
+@DynamicUpdate
+@SQLRestriction("deleted_at IS NULL")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CUSTOMER)
+@NaturalIdCache(region = CacheRegions.CUSTOMER_NATURAL_ID)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Customer extends BaseUser {
@@ -41,10 +62,19 @@ public class Customer extends BaseUser {
   @Column(name = "birth_date")
   private LocalDate birthDate;
 
+  /** 마지막 활동 일시 (기존 고객은 null일 수 있다). */
+  @Column(name = "last_activity_at")
+  private LocalDateTime lastActivityAt;
+
+  /** 휴면 전환 일시 (휴면이 아니면 null). */
+  @Column(name = "dormant_at")
+  private LocalDateTime dormantAt;
+
   private Customer(UUID id, String email, UserProfile profile, LocalDate birthDate) {
     super(id, email, profile);
     this.grade = CustomerGrade.NORMAL;
     this.birthDate = birthDate;
+    this.lastActivityAt = LocalDateTime.now();
   }
 
   /**
@@ -99,6 +129,15 @@ public class Customer extends BaseUser {
     return this.grade.isVip();
   }
 
+  /**
+   * 휴면 여부 확인.
+   *
+   * @return 휴면이면 true
+   */
+  public boolean isDormant() {
+    return this.dormantAt != null;
+  }
+
   private static void validateBirthDate(LocalDate birthDate) {
     if (birthDate == null) {
       return; // 선택 필드
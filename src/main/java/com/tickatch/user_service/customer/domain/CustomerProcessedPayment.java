@@ -0,0 +1,58 @@
+package com.tickatch.user_service.customer.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 월별 구매 집계에 반영한 결제 이벤트 기록.
+ *
+ * <p>결제 이벤트는 최소 한 번 전달되므로 같은 이벤트가 다시 올 수 있다. 집계에 더하기 전에 (결제 ID, 환불 여부)를 이 테이블에 기록하고, 이미
+ * 기록된 이벤트는 건너뛴다. 기록과 집계 갱신은 한 트랜잭션에서 실행된다. 갱신은 {@link CustomerPurchaseRepository}로만 하며 테이블
+ * 생성을 위해 엔티티로 매핑한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Entity
+@Table(name = "customer_processed_payments")
+@IdClass(CustomerProcessedPayment.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CustomerProcessedPayment {
+
+  /** 결제 ID. */
+  @Id
+  @Column(name = "payment_id", nullable = false)
+  private UUID paymentId;
+
+  /** 환불 이벤트 여부. */
+  @Id
+  @Column(name = "refund", nullable = false)
+  private boolean refund;
+
+  /** 처리 일시. */
+  @Column(name = "processed_at", nullable = false)
+  private LocalDateTime processedAt;
+
+  /** 복합 키. */
+  @Getter
+  @EqualsAndHashCode
+  @NoArgsConstructor(access = AccessLevel.PROTECTED)
+  @AllArgsConstructor
+  public static class Key implements Serializable {
+
+    private UUID paymentId;
+    private boolean refund;
+  }
+}
@@ -0,0 +1,61 @@
+package com.tickatch.user_service.customer.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 고객 월별 구매 집계.
+ *
+ * <p>등급 산정에 쓰는 누적 구매 금액 저장소다. 결제 이벤트마다 해당 월 행에 금액을 더하므로, 최근 N개월 구매 금액은 N개 행의 합으로 구한다.
+ * 갱신은 {@link CustomerPurchaseRepository}의 일괄 upsert로만 하고 엔티티로는 변경하지 않는다. 테이블 생성을 위해 엔티티로 매핑한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Entity
+@Table(name = "customer_purchase_monthly")
+@IdClass(CustomerPurchaseMonthly.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CustomerPurchaseMonthly {
+
+  /** 고객 ID. */
+  @Id
+  @Column(name = "customer_id", nullable = false)
+  private UUID customerId;
+
+  /** 집계 월 (해당 월 1일). */
+  @Id
+  @Column(name = "purchase_month", nullable = false)
+  private LocalDate purchaseMonth;
+
+  /** 구매 금액 합계 (환불 차감). */
+  @Column(name = "amount", nullable = false)
+  private long amount;
+
+  /** 구매 건수 (환불 차감). */
+  @Column(name = "purchase_count", nullable = false)
+  private int purchaseCount;
+
+  /** 복합 키. */
+  @Getter
+  @EqualsAndHashCode
+  @NoArgsConstructor(access = AccessLevel.PROTECTED)
+  @AllArgsConstructor
+  public static class Key implements Serializable {
+
+    private UUID customerId;
+    private LocalDate purchaseMonth;
+  }
+}
@@ -0,0 +1,57 @@
+package com.tickatch.user_service.customer.domain;
+
+import com.tickatch.user_service.customer.domain.repository.dto.MonthlyPurchase;
+import com.tickatch.user_service.customer.domain.repository.dto.PaymentEventKey;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 고객 월별 구매 집계 리포지토리 인터페이스.
+ *
+ * <p>도메인 레이어에서 정의하고, 인프라스트럭처 레이어에서 구현한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public interface CustomerPurchaseRepository {
+
+  /**
+   * 월별 구매 집계에 증분을 더한다. 행이 없으면 새로 만든다.
+   *
+   * <p>같은 고객/월의 증분은 호출 전에 하나로 합쳐야 한다.
+   *
+   * @param purchases 고객/월별 증분
+   */
+  void accumulate(Collection<MonthlyPurchase> purchases);
+
+  /**
+   * 처음 처리하는 결제 이벤트만 기록하고 돌려준다.
+   *
+   * <p>이미 기록된 이벤트는 결과에서 제외한다. 기록은 호출한 쪽의 트랜잭션에 포함되므로 집계 갱신과 함께 커밋/롤백된다. 같은 이벤트를 동시에
+   * 기록하면 한쪽이 유일 키 위반으로 실패한다.
+   *
+   * @param payments 결제 이벤트 식별자 (중복 없이)
+   * @param processedAt 처리 일시
+   * @return 새로 기록된 결제 이벤트 식별자
+   */
+  Set<PaymentEventKey> recordProcessed(
+      Collection<PaymentEventKey> payments, LocalDateTime processedAt);
+
+  /**
+   * 기준 일시 이전에 처리한 결제 이벤트 기록을 삭제한다.
+   *
+   * @param processedAt 이 일시보다 이전 기록을 삭제한다
+   * @return 삭제된 행 수
+   */
+  int deleteProcessedBefore(LocalDateTime processedAt);
+
+  /**
+   * 기준 월 이전의 집계를 삭제한다.
+   *
+   * @param month 이 월보다 이전 행을 삭제한다
+   * @return 삭제된 행 수
+   */
+  int deleteBefore(LocalDate month);
+}
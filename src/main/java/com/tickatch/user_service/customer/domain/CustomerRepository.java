@@ -1,8 +1,18 @@
 package com.tickatch.user_service.customer.domain;
 
+import com.tickatch.user_service.common.domain.vo.UserStatusTransition;
+import com.tickatch.user_service.customer.domain.repository.dto.CustomerField;
 import com.tickatch.user_service.customer.domain.repository.dto.CustomerSearchCondition;
+import com.tickatch.user_service.customer.domain.vo.CustomerGrade;
+import com.tickatch.user_service.global.jdbc.UniqueViolation;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -24,16 +34,60 @@ public interface CustomerRepository {
    */
   Customer save(Customer customer);
 
+  /**
+   * 새 Customer를 즉시 INSERT한다.
+   *
+   * <p>존재 여부를 먼저 조회하지 않는다. ID 또는 정규화한 이메일이 이미 있으면 유일 제약 위반으로 {@link
+   * DataIntegrityViolationException}이 발생하므로, 호출한 쪽에서 {@link UniqueViolation}으로 판별하여 중복으로 처리한다.
+   *
+   * @param customer 저장할 Customer 엔티티
+   * @return 저장된 Customer 엔티티
+   * @throws DataIntegrityViolationException 무결성 제약을 위반한 경우
+   */
+  Customer insert(Customer customer);
+
   /**
    * ID로 Customer를 조회한다.
    *
+   * <p>보관 테이블로 옮겨진 탈퇴 Customer도 조회되며, 이 경우 영속성 컨텍스트에서 분리된 상태로 반환된다.
+   *
    * @param id Customer ID (= Auth ID)
    * @return 조회된 Customer (없으면 empty)
    */
   Optional<Customer> findById(UUID id);
 
   /**
-   * 이메일로 Customer를 조회한다.
+   * ID 목록으로 Customer를 일괄 조회한다.
+   *
+   * <p>2차 캐시에 있는 Customer는 DB를 조회하지 않는다. 보관 테이블은 조회하지 않는다.
+   *
+   * @param ids Customer ID 목록
+   * @return 조회된 Customer 목록 (없는 ID는 제외, 순서 보장 안 함)
+   */
+  List<Customer> findAllByIds(Collection<UUID> ids);
+
+  /**
+   * ID로 Customer의 수정 일시만 조회한다.
+   *
+   * <p>엔티티를 로딩하지 않는 조건부 조회(ETag 비교)용 경량 쿼리이다. 보관 테이블도 조회한다.
+   *
+   * @param id Customer ID
+   * @return 수정 일시 (없으면 empty)
+   */
+  Optional<LocalDateTime> findUpdatedAtById(UUID id);
+
+  /**
+   * 논리 삭제된 Customer를 포함하여 ID로 조회한다.
+   *
+   * <p>감사 목적으로만 사용한다. 보관 테이블도 조회한다.
+   *
+   * @param id Customer ID
+   * @return 조회된 Customer (없으면 empty)
+   */
+  Optional<Customer> findByIdIncludingDeleted(UUID id);
+
+  /**
+   * 이메일로 Customer를 조회한다. 대소문자를 구분하지 않는다.
    *
    * @param email 이메일
    * @return 조회된 Customer (없으면 empty)
@@ -56,4 +110,83 @@ public interface CustomerRepository {
    * @return 페이징된 Customer 목록
    */
   Page<Customer> findAllByCondition(CustomerSearchCondition condition, Pageable pageable);
+
+  /**
+   * 검색 조건에 맞는 Customer 목록을 선택한 필드만 조회한다.
+   *
+   * <p>선택한 필드의 컬럼만 SELECT하며 엔티티를 로딩하지 않는다.
+   *
+   * @param condition 검색 조건
+   * @param fields 선택 필드 목록
+   * @param pageable 페이징 정보
+   * @return 페이징된 필드명-값 맵 목록
+   */
+  Page<Map<String, Object>> findAllByCondition(
+      CustomerSearchCondition condition, List<CustomerField> fields, Pageable pageable);
+
+  /**
+   * 현재 상태에서 허용되는 경우에만 Customer 상태를 전이한다.
+   *
+   * <p>엔티티를 로딩하지 않고 조건부 UPDATE 한 문장으로 실행한다. 변경된 행이 없으면(없는 ID, 허용되지 않는 상태, 보관 테이블로 옮겨진 경우) false를
+   * 반환하며, 호출한 쪽에서 엔티티를 조회하여 기존 도메인 예외로 변환한다. 실행 후 영속성 컨텍스트는 비워진다.
+   *
+   * @param id Customer ID
+   * @param transition 상태 전이
+   * @return 상태가 바뀌었으면 true
+   */
+  boolean transitionStatus(UUID id, UserStatusTransition transition);
+
+  /**
+   * 여러 Customer의 상태를 한 번에 전이한다.
+   *
+   * <p>허용 상태인 행을 잠그고 한 문장으로 UPDATE하므로 건수와 관계없이 두 번의 쿼리로 끝난다. 없는 ID나 허용되지 않는 상태의 ID는 건너뛴다.
+   * 트랜잭션 안에서 호출해야 하며, 한 번에 전달하는 ID 수는 호출한 쪽에서 청크 단위로 제한한다.
+   *
+   * @param ids Customer ID 목록
+   * @param transition 상태 전이
+   * @return 상태가 바뀐 Customer ID
+   */
+  List<UUID> transitionStatusAll(Collection<UUID> ids, UserStatusTransition transition);
+
+  /**
+   * 최근 구매 금액이 기준 이상인 Customer의 등급을 한 번에 올린다.
+   *
+   * <p>구매 금액은 월별 구매 집계({@link CustomerPurchaseMonthly})의 기준 월 이후 합계다. 목표 등급보다 낮은 등급의 행만 잠그고 한
+   * 문장으로 UPDATE하며, 등급을 내리지는 않는다. 트랜잭션 안에서 호출해야 한다.
+   *
+   * @param ids Customer ID 목록
+   * @param target 목표 등급
+   * @param fromMonth 합산 시작 월 (해당 월 1일)
+   * @param minAmount 최소 구매 금액
+   * @return 등급이 바뀐 Customer ID
+   */
+  List<UUID> upgradeGradeAll(
+      Collection<UUID> ids, CustomerGrade target, LocalDate fromMonth, long minAmount);
+
+  /**
+   * ID 기준 키셋 페이지네이션으로 논리 삭제되지 않은 Customer ID를 조회한다.
+   *
+   * @param after 이 ID보다 큰 ID만 조회한다 (처음이면 null)
+   * @param limit 최대 조회 건수
+   * @return ID 오름차순 Customer ID
+   */
+  List<UUID> findIdsAfter(UUID after, int limit);
+
+  /**
+   * 마지막 활동 일시가 기준 이전인 활성 Customer를 한 번에 휴면 전환한다.
+   *
+   * <p>대상 행을 잠그고 한 문장으로 UPDATE한다. 이미 휴면이거나 활성 상태가 아닌 ID는 건너뛴다. 트랜잭션 안에서 호출해야 한다.
+   *
+   * @param ids Customer ID 목록
+   * @param inactiveBefore 이 일시 이전에 마지막으로 활동한 고객만 전환
+   * @return 휴면 전환된 Customer ID
+   */
+  List<UUID> markDormantAll(Collection<UUID> ids, LocalDateTime inactiveBefore);
+
+  /**
+   * 여러 Customer의 마지막 활동 일시를 현재 시각으로 갱신하고 휴면을 해제한다.
+   *
+   * @param ids Customer ID 목록
+   */
+  void recordActivityAll(Collection<UUID> ids);
 }
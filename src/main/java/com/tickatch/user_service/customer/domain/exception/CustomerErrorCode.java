@@ -19,6 +19,7 @@ public enum CustomerErrorCode implements ErrorCode {
   // 조회 (404)
   // ========================================
   CUSTOMER_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "CUSTOMER_NOT_FOUND"),
+  BULK_JOB_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "BULK_JOB_NOT_FOUND"),
 
   // ========================================
   // 중복 (409)
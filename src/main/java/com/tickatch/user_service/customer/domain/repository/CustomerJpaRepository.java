@@ -1,9 +1,20 @@
 package com.tickatch.user_service.customer.domain.repository;
 
 import com.tickatch.user_service.customer.domain.Customer;
+import com.tickatch.user_service.global.cache.EntityCacheEvictor;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 /**
  * Customer JPA 리포지토리.
@@ -16,18 +27,286 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface CustomerJpaRepository extends JpaRepository<Customer, UUID> {
 
   /**
-   * 이메일로 Customer를 조회한다.
+   * 정규화한 이메일로 Customer 존재 여부를 확인한다.
    *
-   * @param email 이메일
+   * <p>파생 exists 쿼리는 LIMIT 1로 실행되어 첫 행에서 종료된다.
+   *
+   * @param emailCanonical 정규화한 이메일
+   * @return 존재하면 true
+   */
+  boolean existsByEmailCanonical(String emailCanonical);
+
+  /**
+   * ID로 Customer의 수정 일시만 조회한다.
+   *
+   * @param id Customer ID
+   * @return 수정 일시 (없으면 empty)
+   */
+  @Query("SELECT c.updatedAt FROM Customer c WHERE c.id = :id")
+  Optional<LocalDateTime> findUpdatedAtById(@Param("id") UUID id);
+
+  /**
+   * 논리 삭제된 행을 포함하여 ID로 Customer를 조회한다.
+   *
+   * <p>엔티티의 논리 삭제 필터는 네이티브 쿼리에 적용되지 않는다. 감사 목적으로만 사용한다.
+   *
+   * @param id Customer ID
    * @return 조회된 Customer (없으면 empty)
    */
-  Optional<Customer> findByEmail(String email);
+  @Query(value = "SELECT * FROM customers WHERE id = :id", nativeQuery = true)
+  Optional<Customer> findByIdIncludingDeleted(@Param("id") UUID id);
 
   /**
-   * 이메일로 Customer 존재 여부를 확인한다.
+   * 현재 상태가 허용 상태 중 하나일 때만 상태를 바꾼다.
    *
-   * @param email 이메일
-   * @return 존재하면 true
+   * <p>조회 없이 조건부 UPDATE 한 문장으로 실행한다. 감사 컬럼은 엔티티 리스너를 거치지 않으므로 직접 갱신한다. 탈퇴로 바꿀 때는 탈퇴
+   * 일시({@code withdrawn_at})도 수정 일시로 기록한다. 2차 캐시 리전 전체가 비워지지 않도록 쿼리 공간을 따로 지정하므로, 호출한 쪽에서
+   * 해당 엔티티만 무효화해야 한다.
+   *
+   * @param id Customer ID
+   * @param sources 전이가 허용되는 현재 상태 이름
+   * @param target 바꿀 상태 이름
+   * @param updatedAt 수정 일시
+   * @param updatedBy 수정자
+   * @return 변경된 행 수 (0 또는 1)
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      value =
+          """
+          UPDATE customers
+             SET status = :target, updated_at = :updatedAt, updated_by = :updatedBy,
+                 withdrawn_at = CASE WHEN :target = 'WITHDRAWN' THEN :updatedAt
+                                     ELSE withdrawn_at END
+           WHERE id = :id AND status IN (:sources) AND deleted_at IS NULL
+          """,
+      nativeQuery = true)
+  @QueryHints(
+      @QueryHint(
+          name = HibernateHints.HINT_NATIVE_SPACES,
+          value = EntityCacheEvictor.UNTRACKED_QUERY_SPACE))
+  int updateStatusIfIn(
+      @Param("id") UUID id,
+      @Param("sources") Collection<String> sources,
+      @Param("target") String target,
+      @Param("updatedAt") LocalDateTime updatedAt,
+      @Param("updatedBy") String updatedBy);
+
+  /**
+   * ID 목록 중 현재 상태가 허용 상태인 Customer의 ID를 행 잠금과 함께 조회한다.
+   *
+   * <p>일괄 상태 전이에서 실제로 바뀔 행을 확정하는 데 사용한다. 잠금은 트랜잭션이 끝날 때까지 유지되므로 트랜잭션 안에서 호출해야 한다.
+   * 일괄 상태 전이, 등급 승급, 휴면 전환이 같은 고객을 동시에 잠가도 교착 상태가 생기지 않도록 모든 잠금 조회는 ID 순서로 잠근다.
+   *
+   * @param ids Customer ID 목록
+   * @param sources 전이가 허용되는 현재 상태 이름
+   * @return 잠근 Customer ID
+   */
+  @Query(
+      value =
+          """
+          SELECT id FROM customers
+           WHERE id IN (:ids) AND status IN (:sources) AND deleted_at IS NULL
+           ORDER BY id
+           FOR UPDATE
+          """,
+      nativeQuery = true)
+  List<UUID> lockIdsByStatusIn(
+      @Param("ids") Collection<UUID> ids, @Param("sources") Collection<String> sources);
+
+  /**
+   * ID 목록의 상태를 한 문장으로 바꾼다.
+   *
+   * <p>{@link #lockIdsByStatusIn(Collection, Collection)}로 잠근 ID에만 사용한다. 탈퇴 일시 기록과 캐시 처리는 {@link
+   * #updateStatusIfIn(UUID, Collection, String, LocalDateTime, String)}와 같다.
+   *
+   * @param ids Customer ID 목록
+   * @param target 바꿀 상태 이름
+   * @param updatedAt 수정 일시
+   * @param updatedBy 수정자
+   * @return 변경된 행 수
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      value =
+          """
+          UPDATE customers
+             SET status = :target, updated_at = :updatedAt, updated_by = :updatedBy,
+                 withdrawn_at = CASE WHEN :target = 'WITHDRAWN' THEN :updatedAt
+                                     ELSE withdrawn_at END
+           WHERE id IN (:ids)
+          """,
+      nativeQuery = true)
+  @QueryHints(
+      @QueryHint(
+          name = HibernateHints.HINT_NATIVE_SPACES,
+          value = EntityCacheEvictor.UNTRACKED_QUERY_SPACE))
+  int updateStatusByIdIn(
+      @Param("ids") Collection<UUID> ids,
+      @Param("target") String target,
+      @Param("updatedAt") LocalDateTime updatedAt,
+      @Param("updatedBy") String updatedBy);
+
+  /**
+   * ID 목록 중 최근 구매 금액이 기준 이상이고 등급이 낮은 Customer의 ID를 행 잠금과 함께 조회한다.
+   *
+   * <p>구매 금액은 {@code customer_purchase_monthly}에서 기준 월 이후 행의 합으로 구한다. 탈퇴한 고객은 제외한다. 잠금은
+   * 트랜잭션이 끝날 때까지 유지되므로 트랜잭션 안에서 호출해야 한다. 다른 잠금 조회와 같이 ID 순서로 잠근다.
+   *
+   * @param ids Customer ID 목록
+   * @param grades 승급 대상 현재 등급 이름
+   * @param fromMonth 합산 시작 월 (해당 월 1일)
+   * @param minAmount 최소 구매 금액
+   * @return 잠근 Customer ID
+   */
+  @Query(
+      value =
+          """
+          SELECT c.id FROM customers c
+           WHERE c.id IN (:ids) AND c.grade IN (:grades)
+             AND c.status <> 'WITHDRAWN' AND c.deleted_at IS NULL
+             AND c.id IN (SELECT p.customer_id FROM customer_purchase_monthly p
+                           WHERE p.customer_id IN (:ids) AND p.purchase_month >= :fromMonth
+                           GROUP BY p.customer_id
+                          HAVING SUM(p.amount) >= :minAmount)
+           ORDER BY c.id
+           FOR UPDATE
+          """,
+      nativeQuery = true)
+  List<UUID> lockIdsForGradeUpgrade(
+      @Param("ids") Collection<UUID> ids,
+      @Param("grades") Collection<String> grades,
+      @Param("fromMonth") LocalDate fromMonth,
+      @Param("minAmount") long minAmount);
+
+  /**
+   * ID 목록의 등급을 한 문장으로 바꾼다.
+   *
+   * <p>{@link #lockIdsForGradeUpgrade(Collection, Collection, LocalDate, long)}로 잠근 ID에만 사용한다. 캐시
+   * 처리는 {@link #updateStatusIfIn(UUID, Collection, String, LocalDateTime, String)}와 같다.
+   *
+   * @param ids Customer ID 목록
+   * @param grade 바꿀 등급 이름
+   * @param updatedAt 수정 일시
+   * @param updatedBy 수정자
+   * @return 변경된 행 수
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      value =
+          """
+          UPDATE customers
+             SET grade = :grade, updated_at = :updatedAt, updated_by = :updatedBy
+           WHERE id IN (:ids)
+          """,
+      nativeQuery = true)
+  @QueryHints(
+      @QueryHint(
+          name = HibernateHints.HINT_NATIVE_SPACES,
+          value = EntityCacheEvictor.UNTRACKED_QUERY_SPACE))
+  int updateGradeByIdIn(
+      @Param("ids") Collection<UUID> ids,
+      @Param("grade") String grade,
+      @Param("updatedAt") LocalDateTime updatedAt,
+      @Param("updatedBy") String updatedBy);
+
+  /**
+   * ID 기준 키셋 페이지네이션으로 논리 삭제되지 않은 Customer ID를 조회한다.
+   *
+   * <p>OFFSET 없이 기본 키 인덱스 범위 탐색으로 읽으므로 테이블 위치와 관계없이 일정한 비용으로 다음 청크를 읽는다.
+   *
+   * @param after 이 ID보다 큰 ID만 조회한다
+   * @param limit 최대 조회 건수
+   * @return ID 오름차순 Customer ID
+   */
+  @Query(
+      value =
+          """
+          SELECT id FROM customers
+           WHERE id > :after AND deleted_at IS NULL
+           ORDER BY id
+           LIMIT :limit
+          """,
+      nativeQuery = true)
+  List<UUID> findIdsAfter(@Param("after") UUID after, @Param("limit") int limit);
+
+  /**
+   * ID 목록 중 휴면 전환 대상인 Customer의 ID를 행 잠금과 함께 조회한다.
+   *
+   * <p>활성 상태이고 아직 휴면이 아니며, 마지막 활동 일시(없으면 가입 일시)가 기준 이전인 고객이 대상이다. 트랜잭션 안에서 호출해야 한다.
+   * 다른 잠금 조회와 같이 ID 순서로 잠근다.
+   *
+   * @param ids Customer ID 목록
+   * @param inactiveBefore 이 일시 이전에 마지막으로 활동한 고객만 대상
+   * @return 잠근 Customer ID
+   */
+  @Query(
+      value =
+          """
+          SELECT id FROM customers
+           WHERE id IN (:ids) AND status = 'ACTIVE' AND dormant_at IS NULL AND deleted_at IS NULL
+             AND COALESCE(last_activity_at, created_at) < :inactiveBefore
+           ORDER BY id
+           FOR UPDATE
+          """,
+      nativeQuery = true)
+  List<UUID> lockIdsForDormancy(
+      @Param("ids") Collection<UUID> ids, @Param("inactiveBefore") LocalDateTime inactiveBefore);
+
+  /**
+   * ID 목록을 한 문장으로 휴면 전환한다.
+   *
+   * <p>{@link #lockIdsForDormancy(Collection, LocalDateTime)}로 잠근 ID에만 사용한다. 캐시 처리는 {@link
+   * #updateStatusIfIn(UUID, Collection, String, LocalDateTime, String)}와 같다.
+   *
+   * @param ids Customer ID 목록
+   * @param dormantAt 휴면 전환 일시 (수정 일시로도 기록)
+   * @param updatedBy 수정자
+   * @return 변경된 행 수
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      value =
+          """
+          UPDATE customers
+             SET dormant_at = :dormantAt, updated_at = :dormantAt, updated_by = :updatedBy
+           WHERE id IN (:ids)
+          """,
+      nativeQuery = true)
+  @QueryHints(
+      @QueryHint(
+          name = HibernateHints.HINT_NATIVE_SPACES,
+          value = EntityCacheEvictor.UNTRACKED_QUERY_SPACE))
+  int updateDormantAtByIdIn(
+      @Param("ids") Collection<UUID> ids,
+      @Param("dormantAt") LocalDateTime dormantAt,
+      @Param("updatedBy") String updatedBy);
+
+  /**
+   * ID 목록의 마지막 활동 일시를 갱신하고 휴면을 해제한다.
+   *
+   * <p>활동 기록은 고객 정보 수정이 아니므로 수정자는 바꾸지 않는다. 수정 일시는 조회 응답의 ETag로 쓰이므로 휴면이 해제되는 행만 바꾼다.
+   * 캐시 처리는 {@link #updateStatusIfIn(UUID, Collection, String, LocalDateTime, String)}와 같다.
+   *
+   * @param ids Customer ID 목록
+   * @param activityAt 활동 일시
+   * @return 변경된 행 수
    */
-  boolean existsByEmail(String email);
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      value =
+          """
+          UPDATE customers
+             SET last_activity_at = :activityAt,
+                 updated_at = CASE WHEN dormant_at IS NULL THEN updated_at ELSE :activityAt END,
+                 dormant_at = NULL
+           WHERE id IN (:ids) AND deleted_at IS NULL
+          """,
+      nativeQuery = true)
+  @QueryHints(
+      @QueryHint(
+          name = HibernateHints.HINT_NATIVE_SPACES,
+          value = EntityCacheEvictor.UNTRACKED_QUERY_SPACE))
+  int updateLastActivityByIdIn(
+      @Param("ids") Collection<UUID> ids, @Param("activityAt") LocalDateTime activityAt);
 }
@@ -0,0 +1,121 @@
+package com.tickatch.user_service.customer.domain.repository;
+
+import com.tickatch.user_service.customer.domain.CustomerPurchaseRepository;
+import com.tickatch.user_service.customer.domain.repository.dto.MonthlyPurchase;
+import com.tickatch.user_service.customer.domain.repository.dto.PaymentEventKey;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 고객 월별 구매 집계 리포지토리 구현체.
+ *
+ * <p>집계는 엔티티를 로딩하지 않고 {@code MERGE}로 기존 행에 금액을 더한다. 증분 목록은 JDBC 배치 한 번으로 전송한다.
+ *
+ * <p>처리한 결제 이벤트 기록은 기존 기록을 한 번에 조회한 뒤 없는 것만 JDBC 배치로 INSERT한다.
+ *
+ * <p>같은 고객/월 행을 동시에 처음 만들면 한쪽이 유일 키 위반으로 실패한다. 호출한 쪽의 트랜잭션이 롤백되므로 메시지를 다시 처리하면 된다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Repository
+@RequiredArgsConstructor
+public class CustomerPurchaseRepositoryImpl implements CustomerPurchaseRepository {
+
+  private static final String ACCUMULATE_SQL =
+      """
+      MERGE INTO customer_purchase_monthly t
+      USING (SELECT CAST(? AS UUID) AS customer_id, CAST(? AS DATE) AS purchase_month,
+                    CAST(? AS BIGINT) AS amount, CAST(? AS INTEGER) AS purchase_count) s
+         ON t.customer_id = s.customer_id AND t.purchase_month = s.purchase_month
+       WHEN MATCHED THEN
+            UPDATE SET amount = t.amount + s.amount,
+                       purchase_count = t.purchase_count + s.purchase_count
+       WHEN NOT MATCHED THEN
+            INSERT (customer_id, purchase_month, amount, purchase_count)
+            VALUES (s.customer_id, s.purchase_month, s.amount, s.purchase_count)
+      """;
+
+  private static final String INSERT_PROCESSED_SQL =
+      "INSERT INTO customer_processed_payments (payment_id, refund, processed_at) VALUES (?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public void accumulate(Collection<MonthlyPurchase> purchases) {
+    if (purchases.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(
+        ACCUMULATE_SQL,
+        new ArrayList<>(purchases),
+        purchases.size(),
+        (ps, purchase) -> {
+          ps.setObject(1, purchase.customerId());
+          ps.setDate(2, Date.valueOf(purchase.purchaseMonth()));
+          ps.setLong(3, purchase.amount());
+          ps.setInt(4, purchase.count());
+        });
+  }
+
+  @Override
+  public Set<PaymentEventKey> recordProcessed(
+      Collection<PaymentEventKey> payments, LocalDateTime processedAt) {
+    if (payments.isEmpty()) {
+      return Set.of();
+    }
+    List<UUID> paymentIds = payments.stream().map(PaymentEventKey::paymentId).distinct().toList();
+    Set<PaymentEventKey> processed =
+        new HashSet<>(
+            jdbcTemplate.query(
+                "SELECT payment_id, refund FROM customer_processed_payments WHERE payment_id IN ("
+                    + String.join(",", Collections.nCopies(paymentIds.size(), "?"))
+                    + ")",
+                (rs, rowNum) ->
+                    new PaymentEventKey(
+                        rs.getObject("payment_id", UUID.class), rs.getBoolean("refund")),
+                paymentIds.toArray()));
+
+    List<PaymentEventKey> fresh =
+        payments.stream().filter(payment -> !processed.contains(payment)).toList();
+    if (!fresh.isEmpty()) {
+      Timestamp timestamp = Timestamp.valueOf(processedAt);
+      jdbcTemplate.batchUpdate(
+          INSERT_PROCESSED_SQL,
+          fresh,
+          fresh.size(),
+          (ps, payment) -> {
+            ps.setObject(1, payment.paymentId());
+            ps.setBoolean(2, payment.refund());
+            ps.setTimestamp(3, timestamp);
+          });
+    }
+    return new LinkedHashSet<>(fresh);
+  }
+
+  @Override
+  public int deleteProcessedBefore(LocalDateTime processedAt) {
+    return jdbcTemplate.update(
+        "DELETE FROM customer_processed_payments WHERE processed_at < ?",
+        Timestamp.valueOf(processedAt));
+  }
+
+  @Override
+  public int deleteBefore(LocalDate month) {
+    return jdbcTemplate.update(
+        "DELETE FROM customer_purchase_monthly WHERE purchase_month < ?", Date.valueOf(month));
+  }
+}
@@ -7,16 +7,31 @@ import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.tickatch.user_service.common.domain.repository.dto.PhoneMatch;
+import com.tickatch.user_service.common.domain.repository.dto.SelectableField;
+import com.tickatch.user_service.common.domain.vo.CanonicalEmail;
 import com.tickatch.user_service.common.domain.vo.UserStatus;
+import com.tickatch.user_service.common.domain.vo.UserStatusTransition;
 import com.tickatch.user_service.customer.domain.Customer;
 import com.tickatch.user_service.customer.domain.CustomerRepository;
+import com.tickatch.user_service.customer.domain.repository.dto.CustomerField;
 import com.tickatch.user_service.customer.domain.repository.dto.CustomerSearchCondition;
 import com.tickatch.user_service.customer.domain.vo.CustomerGrade;
+import com.tickatch.user_service.global.archive.UserArchive;
+import com.tickatch.user_service.global.cache.EntityCacheEvictor;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -27,7 +42,12 @@ import org.springframework.util.StringUtils;
 /**
  * Customer 리포지토리 구현체.
  *
- * <p>JPA와 QueryDSL을 사용하여 Customer 데이터를 조회/저장한다.
+ * <p>JPA와 QueryDSL을 사용하여 Customer 데이터를 조회/저장한다. ID 조회는 원본 테이블에 없으면 탈퇴 사용자 보관 테이블을 조회한다.
+ *
+ * <p>이메일 조회는 자연 키 조회로 2차 캐시를 거친다. 2차 캐시에서 조립된 엔티티에는 논리 삭제 필터가 적용되지 않으므로 ID/이메일 조회
+ * 결과의 삭제 여부를 다시 확인한다.
+ *
+ * <p>상태 전이는 엔티티를 로딩하지 않는 조건부 UPDATE 한 문장으로 실행하고, 바뀐 엔티티만 2차 캐시에서 무효화한다.
  *
  * @author Tickatch
  * @since 1.0.0
@@ -36,27 +56,77 @@ import org.springframework.util.StringUtils;
 @RequiredArgsConstructor
 public class CustomerRepositoryImpl implements CustomerRepository {
 
+  /** 인증 정보가 없을 때 사용하는 수정자. */
+  private static final String SYSTEM_AUDITOR = "SYSTEM";
+
+  /** 보관 테이블 조회 시 사용하는 원본 테이블명. */
+  private static final String TABLE_NAME = "customers";
+
+  /** 키셋 페이지네이션 시작 키 (가장 작은 UUID). */
+  private static final UUID FIRST_ID = new UUID(0L, 0L);
+
   private final CustomerJpaRepository customerJpaRepository;
+  private final EntityManager entityManager;
   private final JPAQueryFactory queryFactory;
+  private final UserArchive userArchive;
+  private final AuditorAware<String> auditorAware;
+  private final EntityCacheEvictor entityCacheEvictor;
 
   @Override
   public Customer save(Customer customer) {
     return customerJpaRepository.save(customer);
   }
 
+  @Override
+  public Customer insert(Customer customer) {
+    return customerJpaRepository.saveAndFlush(customer);
+  }
+
   @Override
   public Optional<Customer> findById(UUID id) {
-    return customerJpaRepository.findById(id);
+    return customerJpaRepository
+        .findById(id)
+        .filter(found -> !found.isDeleted())
+        .or(() -> userArchive.findById(TABLE_NAME, id, Customer.class));
+  }
+
+  @Override
+  public List<Customer> findAllByIds(Collection<UUID> ids) {
+    return entityManager
+        .unwrap(Session.class)
+        .byMultipleIds(Customer.class)
+        .multiLoad(List.copyOf(ids))
+        .stream()
+        .filter(found -> found != null && !found.isDeleted())
+        .toList();
+  }
+
+  @Override
+  public Optional<LocalDateTime> findUpdatedAtById(UUID id) {
+    return customerJpaRepository
+        .findUpdatedAtById(id)
+        .or(() -> userArchive.findUpdatedAtById(TABLE_NAME, id));
+  }
+
+  @Override
+  public Optional<Customer> findByIdIncludingDeleted(UUID id) {
+    return customerJpaRepository
+        .findByIdIncludingDeleted(id)
+        .or(() -> userArchive.findByIdIncludingDeleted(TABLE_NAME, id, Customer.class));
   }
 
   @Override
   public Optional<Customer> findByEmail(String email) {
-    return customerJpaRepository.findByEmail(email);
+    return entityManager
+        .unwrap(Session.class)
+        .bySimpleNaturalId(Customer.class)
+        .loadOptional(CanonicalEmail.of(email))
+        .filter(found -> !found.isDeleted());
   }
 
   @Override
   public boolean existsByEmail(String email) {
-    return customerJpaRepository.existsByEmail(email);
+    return customerJpaRepository.existsByEmailCanonical(CanonicalEmail.of(email));
   }
 
   @Override
@@ -64,12 +134,7 @@ public class CustomerRepositoryImpl implements CustomerRepository {
     List<Customer> content =
         queryFactory
             .selectFrom(customer)
-            .where(
-                emailContains(condition.getEmail()),
-                nameContains(condition.getName()),
-                phoneContains(condition.getPhone()),
-                statusEq(condition.getStatus()),
-                gradeEq(condition.getGrade()))
+            .where(searchConditions(condition))
             .orderBy(getOrderSpecifiers(pageable.getSort()))
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize())
@@ -79,28 +144,136 @@ public class CustomerRepositoryImpl implements CustomerRepository {
         queryFactory
             .select(customer.count())
             .from(customer)
-            .where(
-                emailContains(condition.getEmail()),
-                nameContains(condition.getName()),
-                phoneContains(condition.getPhone()),
-                statusEq(condition.getStatus()),
-                gradeEq(condition.getGrade()));
+            .where(searchConditions(condition));
 
     return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
   }
 
+  @Override
+  public Page<Map<String, Object>> findAllByCondition(
+      CustomerSearchCondition condition, List<CustomerField> fields, Pageable pageable) {
+    List<Map<String, Object>> content =
+        queryFactory
+            .select(SelectableField.expressions(fields))
+            .from(customer)
+            .where(searchConditions(condition))
+            .orderBy(getOrderSpecifiers(pageable.getSort()))
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .fetch()
+            .stream()
+            .map(tuple -> SelectableField.toMap(tuple, fields))
+            .toList();
+
+    JPAQuery<Long> countQuery =
+        queryFactory.select(customer.count()).from(customer).where(searchConditions(condition));
+
+    return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+  }
+
+  @Override
+  public boolean transitionStatus(UUID id, UserStatusTransition transition) {
+    int updated =
+        customerJpaRepository.updateStatusIfIn(
+            id,
+            transition.sourceNames(),
+            transition.getTarget().name(),
+            LocalDateTime.now(),
+            currentAuditor());
+    if (updated == 0) {
+      return false;
+    }
+    entityCacheEvictor.evict(Customer.class, id);
+    return true;
+  }
+
+  @Override
+  public List<UUID> transitionStatusAll(Collection<UUID> ids, UserStatusTransition transition) {
+    List<UUID> targets = customerJpaRepository.lockIdsByStatusIn(ids, transition.sourceNames());
+    if (targets.isEmpty()) {
+      return List.of();
+    }
+    customerJpaRepository.updateStatusByIdIn(
+        targets, transition.getTarget().name(), LocalDateTime.now(), currentAuditor());
+    targets.forEach(id -> entityCacheEvictor.evict(Customer.class, id));
+    return targets;
+  }
+
+  @Override
+  public List<UUID> upgradeGradeAll(
+      Collection<UUID> ids, CustomerGrade target, LocalDate fromMonth, long minAmount) {
+    List<String> lowerGrades =
+        Arrays.stream(CustomerGrade.values())
+            .filter(grade -> grade.isLowerThan(target))
+            .map(CustomerGrade::name)
+            .toList();
+    if (ids.isEmpty() || lowerGrades.isEmpty()) {
+      return List.of();
+    }
+    List<UUID> targets =
+        customerJpaRepository.lockIdsForGradeUpgrade(ids, lowerGrades, fromMonth, minAmount);
+    if (targets.isEmpty()) {
+      return List.of();
+    }
+    customerJpaRepository.updateGradeByIdIn(
+        targets, target.name(), LocalDateTime.now(), currentAuditor());
+    targets.forEach(id -> entityCacheEvictor.evict(Customer.class, id));
+    return targets;
+  }
+
+  @Override
+  public List<UUID> findIdsAfter(UUID after, int limit) {
+    return customerJpaRepository.findIdsAfter(after != null ? after : FIRST_ID, limit);
+  }
+
+  @Override
+  public List<UUID> markDormantAll(Collection<UUID> ids, LocalDateTime inactiveBefore) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    List<UUID> targets = customerJpaRepository.lockIdsForDormancy(ids, inactiveBefore);
+    if (targets.isEmpty()) {
+      return List.of();
+    }
+    customerJpaRepository.updateDormantAtByIdIn(targets, LocalDateTime.now(), currentAuditor());
+    targets.forEach(id -> entityCacheEvictor.evict(Customer.class, id));
+    return targets;
+  }
+
+  @Override
+  public void recordActivityAll(Collection<UUID> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+    if (customerJpaRepository.updateLastActivityByIdIn(ids, LocalDateTime.now()) > 0) {
+      ids.forEach(id -> entityCacheEvictor.evict(Customer.class, id));
+    }
+  }
+
+  private String currentAuditor() {
+    return auditorAware.getCurrentAuditor().orElse(SYSTEM_AUDITOR);
+  }
+
+  private BooleanExpression[] searchConditions(CustomerSearchCondition condition) {
+    return new BooleanExpression[] {
+      emailContains(condition.getEmail()),
+      nameContains(condition.getName()),
+      PhoneMatch.condition(customer.profile, condition.getPhone(), condition.getPhoneMatch()),
+      statusEq(condition.getStatus()),
+      gradeEq(condition.getGrade())
+    };
+  }
+
   private BooleanExpression emailContains(String email) {
-    return StringUtils.hasText(email) ? customer.email.containsIgnoreCase(email) : null;
+    return StringUtils.hasText(email)
+        ? customer.emailCanonical.contains(CanonicalEmail.of(email))
+        : null;
   }
 
   private BooleanExpression nameContains(String name) {
     return StringUtils.hasText(name) ? customer.profile.name.containsIgnoreCase(name) : null;
   }
 
-  private BooleanExpression phoneContains(String phone) {
-    return StringUtils.hasText(phone) ? customer.profile.phone.contains(phone) : null;
-  }
-
   private BooleanExpression statusEq(UserStatus status) {
     return status != null ? customer.status.eq(status) : null;
   }
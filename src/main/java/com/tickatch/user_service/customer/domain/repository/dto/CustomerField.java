@@ -0,0 +1,57 @@
+package com.tickatch.user_service.customer.domain.repository.dto;
+
+import static com.tickatch.user_service.customer.domain.QCustomer.customer;
+
+import com.querydsl.core.types.Expression;
+import com.tickatch.user_service.common.domain.repository.dto.SelectableField;
+import java.util.List;
+
+/**
+ * Customer 목록 조회에서 선택할 수 있는 필드.
+ *
+ * <p>필드명은 고객 조회 응답 DTO의 필드명과 같다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public enum CustomerField implements SelectableField {
+  ID("id", customer.id),
+  EMAIL("email", customer.email),
+  NAME("name", customer.profile.name),
+  PHONE("phone", customer.profile.phone),
+  BIRTH_DATE("birthDate", customer.birthDate),
+  GRADE("grade", customer.grade),
+  STATUS("status", customer.status),
+  DORMANT_AT("dormantAt", customer.dormantAt),
+  CREATED_AT("createdAt", customer.createdAt),
+  UPDATED_AT("updatedAt", customer.updatedAt);
+
+  private final String fieldName;
+  private final Expression<?> expression;
+
+  CustomerField(String fieldName, Expression<?> expression) {
+    this.fieldName = fieldName;
+    this.expression = expression;
+  }
+
+  @Override
+  public String fieldName() {
+    return fieldName;
+  }
+
+  @Override
+  public Expression<?> expression() {
+    return expression;
+  }
+
+  /**
+   * {@code fields} 파라미터를 선택 필드 목록으로 변환한다.
+   *
+   * @param fields 쉼표로 구분한 필드명 (예: id,name,status)
+   * @return 선택 필드 목록 (ID 항상 포함)
+   * @throws com.tickatch.user_service.common.domain.exception.UserException 선택할 수 없는 필드명이 있는 경우
+   */
+  public static List<CustomerField> parse(String fields) {
+    return SelectableField.parse(fields, CustomerField.class);
+  }
+}
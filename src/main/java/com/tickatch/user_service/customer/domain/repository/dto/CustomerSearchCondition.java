@@ -1,5 +1,6 @@
 package com.tickatch.user_service.customer.domain.repository.dto;
 
+import com.tickatch.user_service.common.domain.repository.dto.PhoneMatch;
 import com.tickatch.user_service.common.domain.vo.UserStatus;
 import com.tickatch.user_service.customer.domain.vo.CustomerGrade;
 import lombok.Builder;
@@ -18,6 +19,10 @@ public class CustomerSearchCondition {
   private final String email;
   private final String name;
   private final String phone;
+
+  /** 연락처 검색 방식 (null이면 부분 일치). */
+  private final PhoneMatch phoneMatch;
+
   private final UserStatus status;
   private final CustomerGrade grade;
 }
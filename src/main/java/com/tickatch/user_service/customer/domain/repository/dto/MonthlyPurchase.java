@@ -0,0 +1,26 @@
+package com.tickatch.user_service.customer.domain.repository.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 고객 월별 구매 집계에 더할 증분.
+ *
+ * @param customerId 고객 ID
+ * @param purchaseMonth 집계 월 (해당 월 1일)
+ * @param amount 더할 금액 (환불이면 음수)
+ * @param count 더할 건수 (환불이면 음수)
+ */
+public record MonthlyPurchase(UUID customerId, LocalDate purchaseMonth, long amount, int count) {
+
+  /**
+   * 같은 고객/월의 증분을 합친다.
+   *
+   * @param other 합칠 증분
+   * @return 합쳐진 증분
+   */
+  public MonthlyPurchase plus(MonthlyPurchase other) {
+    return new MonthlyPurchase(
+        customerId, purchaseMonth, amount + other.amount, count + other.count);
+  }
+}
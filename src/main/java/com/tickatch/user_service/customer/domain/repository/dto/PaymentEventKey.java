@@ -0,0 +1,13 @@
+package com.tickatch.user_service.customer.domain.repository.dto;
+
+import java.util.UUID;
+
+/**
+ * 처리한 결제 이벤트의 식별자.
+ *
+ * <p>결제 완료와 환불은 같은 결제 ID를 가지므로 환불 여부까지 합쳐 구분한다.
+ *
+ * @param paymentId 결제 ID
+ * @param refund 환불 이벤트이면 true
+ */
+public record PaymentEventKey(UUID paymentId, boolean refund) {}
@@ -0,0 +1,81 @@
+package com.tickatch.user_service.customer.infrastructure.messaging.config;
+
+import com.tickatch.user_service.customer.infrastructure.messaging.event.PaymentEvent;
+import io.github.tickatch.common.event.IntegrationEvent;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.backoff.FixedBackOff;
+
+/**
+ * 결제 이벤트 배치 Consumer 설정.
+ *
+ * <p>고객 등급 산정용 리스너 컨테이너를 구성한다. 기본 컨테이너({@code KafkaConsumerConfig})와 달리 한 번의 poll로 받은 레코드를
+ * 묶음({@code user.grade.batch-size})으로 전달하여, 묶음마다 한 트랜잭션에서 집계와 등급 변경을 처리한다.
+ *
+ * <ul>
+ *   <li>결제 서비스 이벤트에는 타입 헤더가 없으므로 {@link PaymentEvent}로 바로 역직렬화한다
+ *   <li>역직렬화에 실패한 레코드는 값이 null로 전달되어 리스너에서 건너뛴다
+ *   <li>처리 중 예외가 발생하면 1초 간격으로 3번 묶음 전체를 다시 처리한다. 결제 ID로 중복 반영을 막으므로 다시 처리해도 안전하다
+ *   <li>재시도 후에도 실패하면 묶음의 레코드를 {@code <토픽>.dlt}로 보낸 뒤 오프셋을 넘긴다. DLT 파티션은 Kafka가 정한다
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Configuration
+public class PaymentEventConsumerConfig {
+
+  @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
+  private String bootstrapServers;
+
+  @Value("${user.grade.batch-size:500}")
+  private int batchSize;
+
+  /** DLT 토픽 접미사. */
+  static final String DLT_SUFFIX = ".dlt";
+
+  @Bean
+  public ConcurrentKafkaListenerContainerFactory<String, PaymentEvent> paymentEventListenerFactory(
+      KafkaTemplate<String, IntegrationEvent> kafkaTemplate) {
+    Map<String, Object> configProps = new HashMap<>();
+    configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+    configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+    configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+    configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchSize);
+
+    configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+    configProps.put(
+        ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+    configProps.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
+    configProps.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
+    configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, PaymentEvent.class.getName());
+    configProps.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+
+    ConcurrentKafkaListenerContainerFactory<String, PaymentEvent> factory =
+        new ConcurrentKafkaListenerContainerFactory<>();
+    factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(configProps));
+    factory.setBatchListener(true);
+    factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+    DeadLetterPublishingRecoverer recoverer =
+        new DeadLetterPublishingRecoverer(
+            kafkaTemplate,
+            (record, exception) -> new TopicPartition(record.topic() + DLT_SUFFIX, -1));
+    factory.setCommonErrorHandler(new DefaultErrorHandler(recoverer, new FixedBackOff(1000L, 3L)));
+    factory.setConcurrency(3);
+    return factory;
+  }
+}
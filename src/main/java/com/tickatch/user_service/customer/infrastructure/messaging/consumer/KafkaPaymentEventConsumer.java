@@ -0,0 +1,76 @@
+package com.tickatch.user_service.customer.infrastructure.messaging.consumer;
+
+import com.tickatch.user_service.customer.application.service.command.CustomerGradeCommandService;
+import com.tickatch.user_service.customer.application.service.command.dto.PurchaseCommand;
+import com.tickatch.user_service.customer.infrastructure.messaging.event.PaymentEvent;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 이벤트 Kafka Consumer.
+ *
+ * <p>결제 완료/환불 이벤트를 묶음으로 받아 {@link CustomerGradeCommandService}로 고객 등급 산정에 반영한다. 묶음이 커밋된 뒤에만
+ * 오프셋을 커밋하므로, 재시작 시 커밋되지 않은 묶음은 다시 처리된다(최소 한 번 처리). 이미 반영한 결제 이벤트는 결제 ID로 걸러지므로 다시
+ * 처리해도 금액이 두 번 더해지지 않는다.
+ *
+ * <p>역직렬화에 실패했거나 필수 값이 없는 이벤트는 경고 로그를 남기고 건너뛴다. 반영 중 예외는 컨테이너의 에러 핸들러로 전달되어 재시도 후
+ * DLT로 보내진다({@code PaymentEventConsumerConfig}).
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class KafkaPaymentEventConsumer {
+
+  private final CustomerGradeCommandService customerGradeCommandService;
+  private final String refundedTopic;
+
+  public KafkaPaymentEventConsumer(
+      CustomerGradeCommandService customerGradeCommandService,
+      @Value("${user.grade.topics.payment-refunded:payment.refunded}") String refundedTopic) {
+    this.customerGradeCommandService = customerGradeCommandService;
+    this.refundedTopic = refundedTopic;
+  }
+
+  @KafkaListener(
+      topics = {
+        "${user.grade.topics.payment-completed:payment.completed}",
+        "${user.grade.topics.payment-refunded:payment.refunded}"
+      },
+      groupId = "${user.grade.consumer-group:user-service-grade}",
+      containerFactory = "paymentEventListenerFactory")
+  public void consume(List<ConsumerRecord<String, PaymentEvent>> records, Acknowledgment ack) {
+    List<PurchaseCommand> purchases = new ArrayList<>(records.size());
+    for (ConsumerRecord<String, PaymentEvent> record : records) {
+      PaymentEvent event = record.value();
+      if (event == null || !event.isValid()) {
+        log.warn(
+            "등급 산정 대상이 아닌 결제 이벤트. topic: {}, partition: {}, offset: {}",
+            record.topic(),
+            record.partition(),
+            record.offset());
+        continue;
+      }
+      purchases.add(toCommand(record.topic(), event));
+    }
+
+    customerGradeCommandService.applyPurchases(purchases);
+    ack.acknowledge();
+  }
+
+  private PurchaseCommand toCommand(String topic, PaymentEvent event) {
+    if (refundedTopic.equals(topic)) {
+      return PurchaseCommand.refund(
+          event.paymentId(), event.customerId(), event.amount(), event.occurredAt());
+    }
+    return PurchaseCommand.purchase(
+        event.paymentId(), event.customerId(), event.amount(), event.occurredAt());
+  }
+}
@@ -0,0 +1,30 @@
+package com.tickatch.user_service.customer.infrastructure.messaging.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 결제 서비스의 결제 완료/환불 이벤트.
+ *
+ * <p>등급 산정에 필요한 필드만 역직렬화하며, 나머지 필드는 무시한다. 완료/환불 구분은 토픽으로 한다.
+ *
+ * @param paymentId 결제 ID
+ * @param customerId 고객 ID
+ * @param amount 결제(환불) 금액
+ * @param occurredAt 결제(환불) 일시
+ */
+public record PaymentEvent(UUID paymentId, UUID customerId, Long amount, LocalDateTime occurredAt) {
+
+  /**
+   * 등급 산정에 필요한 값이 모두 있는지 확인.
+   *
+   * @return 유효하면 true
+   */
+  public boolean isValid() {
+    return paymentId != null
+        && customerId != null
+        && amount != null
+        && amount > 0
+        && occurredAt != null;
+  }
+}
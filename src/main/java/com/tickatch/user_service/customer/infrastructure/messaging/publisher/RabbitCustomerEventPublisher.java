@@ -6,6 +6,8 @@ import com.tickatch.user_service.common.infrastructure.messaging.event.UserStatu
 import com.tickatch.user_service.customer.application.messaging.CustomerEventPublisher;
 import com.tickatch.user_service.customer.domain.Customer;
 import io.github.tickatch.common.event.IntegrationEvent;
+import java.util.List;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -48,6 +50,37 @@ public class RabbitCustomerEventPublisher implements CustomerEventPublisher {
     publish(UserStatusChangedEvent.customerActivated(customer.getId()), "활성화");
   }
 
+  @Override
+  public void publishSuspendedAll(List<UUID> customerIds) {
+    publishAll(customerIds.stream().map(UserStatusChangedEvent::customerSuspended).toList(), "정지");
+  }
+
+  @Override
+  public void publishActivatedAll(List<UUID> customerIds) {
+    publishAll(customerIds.stream().map(UserStatusChangedEvent::customerActivated).toList(), "활성화");
+  }
+
+  private void publishAll(List<UserStatusChangedEvent> events, String actionName) {
+    if (events.isEmpty()) {
+      return;
+    }
+
+    try {
+      rabbitTemplate.invoke(
+          operations -> {
+            for (UserStatusChangedEvent event : events) {
+              operations.convertAndSend(
+                  userExchange, event.getRoutingKey(), IntegrationEvent.from(event, serviceName));
+            }
+            return null;
+          });
+      log.info("고객 {} 이벤트 일괄 발행 완료. count: {}", actionName, events.size());
+    } catch (Exception e) {
+      log.error("고객 {} 이벤트 일괄 발행 실패. count: {}", actionName, events.size(), e);
+      throw new UserException(UserErrorCode.EVENT_PUBLISH_FAILED, e, events.get(0).getUserId());
+    }
+  }
+
   private void publish(UserStatusChangedEvent event, String actionName) {
     log.info("고객 {} 이벤트 발행 시작. customerId: {}", actionName, event.getUserId());
 
@@ -4,6 +4,7 @@ import com.tickatch.user_service.common.infrastructure.messaging.config.RabbitMQ
 import com.tickatch.user_service.common.infrastructure.messaging.event.UserActionType;
 import com.tickatch.user_service.common.infrastructure.messaging.event.UserLogEvent;
 import com.tickatch.user_service.customer.application.messaging.CustomerLogEventPublisher;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -92,6 +93,44 @@ public class RabbitCustomerLogPublisher implements CustomerLogEventPublisher {
     log.warn("고객 활성화 실패 로그 발행. customerId: {}", customerId);
   }
 
+  @Override
+  public void publishSuspendedAll(List<UUID> customerIds) {
+    publishAll(customerIds, UserActionType.CUSTOMER_SUSPENDED);
+    log.info("고객 일괄 정지 로그 발행. count: {}", customerIds.size());
+  }
+
+  @Override
+  public void publishActivatedAll(List<UUID> customerIds) {
+    publishAll(customerIds, UserActionType.CUSTOMER_ACTIVATED);
+    log.info("고객 일괄 활성화 로그 발행. count: {}", customerIds.size());
+  }
+
+  private void publishAll(List<UUID> customerIds, String actionType) {
+    if (customerIds.isEmpty()) {
+      return;
+    }
+
+    try {
+      rabbitTemplate.invoke(
+          operations -> {
+            for (UUID customerId : customerIds) {
+              operations.convertAndSend(
+                  logExchange,
+                  RabbitMQConfig.ROUTING_KEY_USER_LOG,
+                  UserLogEvent.createSystemEvent(customerId, USER_TYPE, actionType));
+            }
+            return null;
+          });
+    } catch (Exception e) {
+      log.error(
+          "고객 로그 이벤트 일괄 발행 실패. count: {}, actionType: {}, error: {}",
+          customerIds.size(),
+          actionType,
+          e.getMessage(),
+          e);
+    }
+  }
+
   private void publish(UUID customerId, String actionType) {
     try {
       UserLogEvent event = UserLogEvent.createSystemEvent(customerId, USER_TYPE, actionType);
@@ -1,12 +1,17 @@
 package com.tickatch.user_service.customer.presentation.api;
 
+import com.tickatch.user_service.customer.application.service.command.CustomerBulkCommandService;
 import com.tickatch.user_service.customer.application.service.command.CustomerCommandService;
 import com.tickatch.user_service.customer.application.service.query.CustomerQueryService;
 import com.tickatch.user_service.customer.application.service.query.dto.CustomerResponse;
 import com.tickatch.user_service.customer.application.service.query.dto.CustomerSearchRequest;
+import com.tickatch.user_service.customer.presentation.api.dto.BulkCustomerStatusRequest;
 import com.tickatch.user_service.customer.presentation.api.dto.ChangeGradeRequest;
 import com.tickatch.user_service.customer.presentation.api.dto.CreateCustomerRequest;
+import com.tickatch.user_service.customer.presentation.api.dto.PatchCustomerProfileRequest;
 import com.tickatch.user_service.customer.presentation.api.dto.UpdateCustomerProfileRequest;
+import com.tickatch.user_service.global.job.dto.BulkJobResponse;
+import com.tickatch.user_service.global.web.ConditionalGet;
 import io.github.tickatch.common.api.ApiResponse;
 import io.github.tickatch.common.api.PageResponse;
 import io.github.tickatch.common.security.AuthenticatedUser;
@@ -15,21 +20,29 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.time.Duration;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -49,7 +62,15 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class CustomerApi {
 
+  /** 단건 조회 캐시 정책: 매번 재검증 (max-age=0, private). */
+  private static final CacheControl CUSTOMER_CACHE_CONTROL =
+      CacheControl.maxAge(Duration.ZERO).cachePrivate().mustRevalidate();
+
+  /** 내 정보 조회 캐시 정책: no-cache, private. */
+  private static final CacheControl ME_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
   private final CustomerCommandService customerCommandService;
+  private final CustomerBulkCommandService customerBulkCommandService;
   private final CustomerQueryService customerQueryService;
 
   // ========== 조회 ==========
@@ -57,65 +78,103 @@ public class CustomerApi {
   /**
    * 고객 목록을 조회한다.
    *
-   * @param request 검색 조건 (이메일, 이름, 연락처, 상태, 등급)
+   * @param request 검색 조건 (이메일, 이름, 연락처, 연락처 검색 방식, 상태, 등급)
    * @param pageable 페이징 정보 (기본값: size=10, sort=createdAt DESC)
+   * @param fields 응답에 포함할 필드 (없으면 전체, ID는 항상 포함)
    * @return 페이징된 고객 목록
    */
-  @Operation(summary = "고객 목록 조회", description = "검색 조건과 페이징을 적용하여 고객 목록을 조회한다.")
+  @Operation(
+      summary = "고객 목록 조회",
+      description = "검색 조건과 페이징을 적용하여 고객 목록을 조회한다. fields를 지정하면 해당 필드만 조회/응답한다.")
   @ApiResponses({
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
         responseCode = "200",
         description = "조회 성공")
   })
   @GetMapping
-  public ApiResponse<PageResponse<CustomerResponse>> getCustomers(
+  public ApiResponse<PageResponse<?>> getCustomers(
       @ModelAttribute CustomerSearchRequest request,
       @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC)
-          Pageable pageable) {
-    var customers = customerQueryService.searchCustomers(request, pageable);
-    return ApiResponse.success(PageResponse.from(customers));
+          Pageable pageable,
+      @Parameter(description = "응답에 포함할 필드 (쉼표 구분, 예: id,name,status)")
+          @RequestParam(required = false)
+          String fields) {
+    PageResponse<?> customers =
+        StringUtils.hasText(fields)
+            ? PageResponse.from(customerQueryService.searchCustomers(request, fields, pageable))
+            : PageResponse.from(customerQueryService.searchCustomers(request, pageable));
+    return ApiResponse.success(customers);
   }
 
   /**
    * 고객 단건을 조회한다.
    *
    * @param id 고객 ID
+   * @param ifNoneMatch 클라이언트가 보유한 ETag (일치하면 304)
    * @return 고객 상세 정보
    */
-  @Operation(summary = "고객 단건 조회", description = "고객 ID로 고객 상세 정보를 조회한다.")
+  @Operation(
+      summary = "고객 단건 조회",
+      description = "고객 ID로 고객 상세 정보를 조회한다. If-None-Match가 현재 ETag와 일치하면 304를 반환한다.")
   @ApiResponses({
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
         responseCode = "200",
         description = "조회 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "304",
+        description = "변경 없음 (ETag 일치)"),
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
         responseCode = "404",
         description = "고객을 찾을 수 없음")
   })
   @GetMapping("/{id}")
-  public ApiResponse<CustomerResponse> getCustomer(
-      @Parameter(description = "고객 ID", required = true) @PathVariable UUID id) {
-    return ApiResponse.success(customerQueryService.getCustomer(id));
+  public ResponseEntity<ApiResponse<CustomerResponse>> getCustomer(
+      @Parameter(description = "고객 ID", required = true) @PathVariable UUID id,
+      @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+          String ifNoneMatch) {
+    return ConditionalGet.respond(
+        id,
+        ifNoneMatch,
+        CUSTOMER_CACHE_CONTROL,
+        () -> customerQueryService.getCustomerVersion(id),
+        () -> customerQueryService.getCustomer(id),
+        CustomerResponse::updatedAt);
   }
 
   /**
    * 내 정보를 조회한다.
    *
    * @param user 인증된 사용자 정보
+   * @param ifNoneMatch 클라이언트가 보유한 ETag (일치하면 304)
    * @return 내 고객 정보
    */
-  @Operation(summary = "내 정보 조회", description = "인증된 사용자의 고객 정보를 조회한다.")
+  @Operation(
+      summary = "내 정보 조회",
+      description = "인증된 사용자의 고객 정보를 조회한다. If-None-Match가 현재 ETag와 일치하면 304를 반환한다.")
   @ApiResponses({
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
         responseCode = "200",
         description = "조회 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "304",
+        description = "변경 없음 (ETag 일치)"),
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
         responseCode = "404",
         description = "고객을 찾을 수 없음")
   })
   @GetMapping("/me")
-  public ApiResponse<CustomerResponse> getMe(
-      @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user) {
-    return ApiResponse.success(customerQueryService.getCustomer(UUID.fromString(user.getUserId())));
+  public ResponseEntity<ApiResponse<CustomerResponse>> getMe(
+      @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+      @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+          String ifNoneMatch) {
+    UUID customerId = UUID.fromString(user.getUserId());
+    return ConditionalGet.respond(
+        customerId,
+        ifNoneMatch,
+        ME_CACHE_CONTROL,
+        () -> customerQueryService.getCustomerVersion(customerId),
+        () -> customerQueryService.getCustomer(customerId),
+        CustomerResponse::updatedAt);
   }
 
   // ========== 생성 ==========
@@ -178,6 +237,33 @@ public class CustomerApi {
     return ApiResponse.success();
   }
 
+  /**
+   * 고객 프로필을 부분 수정한다.
+   *
+   * @param id 고객 ID
+   * @param request 프로필 부분 수정 요청 (생략한 항목은 유지)
+   * @return 빈 응답
+   */
+  @Operation(summary = "프로필 부분 수정", description = "전달한 항목만 수정한다. 생략한 항목은 기존 값을 유지한다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "수정 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "400",
+        description = "잘못된 요청"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "404",
+        description = "고객을 찾을 수 없음")
+  })
+  @PatchMapping("/{id}/profile")
+  public ApiResponse<Void> patchProfile(
+      @Parameter(description = "고객 ID", required = true) @PathVariable UUID id,
+      @Valid @RequestBody PatchCustomerProfileRequest request) {
+    customerCommandService.patchProfile(request.toCommand(id));
+    return ApiResponse.success();
+  }
+
   /**
    * 고객 등급을 변경한다.
    *
@@ -281,4 +367,85 @@ public class CustomerApi {
     customerCommandService.withdrawCustomer(id);
     return ApiResponse.success();
   }
+
+  // ========== 일괄 상태 변경 ==========
+
+  /**
+   * 고객을 일괄 정지한다.
+   *
+   * <p>작업을 등록하고 바로 응답한다. 진행 상황은 응답의 작업 ID로 조회한다.
+   *
+   * @param request 일괄 상태 변경 요청
+   * @return 작업 핸들
+   */
+  @Operation(
+      summary = "고객 일괄 정지",
+      description = "여러 고객을 비동기로 정지한다. 이미 정지되었거나 탈퇴한 고객은 건너뛴다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "202",
+        description = "작업 등록"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "400",
+        description = "잘못된 요청"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "503",
+        description = "진행 중인 일괄 작업이 많음")
+  })
+  @PostMapping("/bulk/suspend")
+  @ResponseStatus(HttpStatus.ACCEPTED)
+  public ApiResponse<BulkJobResponse> suspendCustomers(
+      @Valid @RequestBody BulkCustomerStatusRequest request) {
+    return ApiResponse.success(customerBulkCommandService.suspendCustomers(request.customerIds()));
+  }
+
+  /**
+   * 정지된 고객을 일괄 활성화한다.
+   *
+   * <p>작업을 등록하고 바로 응답한다. 진행 상황은 응답의 작업 ID로 조회한다.
+   *
+   * @param request 일괄 상태 변경 요청
+   * @return 작업 핸들
+   */
+  @Operation(
+      summary = "고객 일괄 활성화",
+      description = "정지된 여러 고객을 비동기로 활성화한다. 정지 상태가 아닌 고객은 건너뛴다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "202",
+        description = "작업 등록"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "400",
+        description = "잘못된 요청"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "503",
+        description = "진행 중인 일괄 작업이 많음")
+  })
+  @PostMapping("/bulk/activate")
+  @ResponseStatus(HttpStatus.ACCEPTED)
+  public ApiResponse<BulkJobResponse> activateCustomers(
+      @Valid @RequestBody BulkCustomerStatusRequest request) {
+    return ApiResponse.success(customerBulkCommandService.activateCustomers(request.customerIds()));
+  }
+
+  /**
+   * 고객 일괄 작업의 진행 상황을 조회한다.
+   *
+   * @param jobId 작업 ID
+   * @return 작업 진행 상황
+   */
+  @Operation(summary = "고객 일괄 작업 조회", description = "일괄 정지/활성화 작업의 진행 상황을 조회한다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "조회 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "404",
+        description = "작업을 찾을 수 없음")
+  })
+  @GetMapping("/bulk-jobs/{jobId}")
+  public ApiResponse<BulkJobResponse> getBulkJob(
+      @Parameter(description = "작업 ID", required = true) @PathVariable UUID jobId) {
+    return ApiResponse.success(customerQueryService.getBulkJob(jobId));
+  }
 }
@@ -0,0 +1,21 @@
+package com.tickatch.user_service.customer.presentation.api.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 고객 일괄 상태 변경 요청 DTO.
+ *
+ * <p>여러 고객을 한 번에 정지하거나 활성화할 때 사용한다. 중복 ID는 한 번만 처리된다.
+ *
+ * @param customerIds 대상 고객 ID 목록 (최대 10,000건)
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public record BulkCustomerStatusRequest(
+    @NotEmpty(message = "고객 ID 목록은 필수입니다")
+        @Size(max = 10_000, message = "한 번에 최대 10,000명까지 요청할 수 있습니다")
+        List<@NotNull UUID> customerIds) {}
@@ -0,0 +1,76 @@
+package com.tickatch.user_service.customer.presentation.grpc;
+
+import static com.tickatch.user_service.global.grpc.GrpcValues.text;
+
+import com.tickatch.user_service.customer.application.service.query.CustomerQueryService;
+import com.tickatch.user_service.customer.application.service.query.dto.CustomerResponse;
+import com.tickatch.user_service.global.grpc.GrpcValues;
+import com.tickatch.user_service.global.grpc.proto.BatchGetByIdsRequest;
+import com.tickatch.user_service.global.grpc.proto.BatchGetCustomersResponse;
+import com.tickatch.user_service.global.grpc.proto.Customer;
+import com.tickatch.user_service.global.grpc.proto.CustomerLookupServiceGrpc;
+import com.tickatch.user_service.global.grpc.proto.ExistsByEmailRequest;
+import com.tickatch.user_service.global.grpc.proto.ExistsResponse;
+import com.tickatch.user_service.global.grpc.proto.GetByIdRequest;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 고객 조회 내부 gRPC 서비스.
+ *
+ * <p>다른 서비스가 고객 정보를 조회할 때 사용하는 서비스 간 API이다. REST API와 같은 {@link CustomerQueryService}를 사용하므로 캐시,
+ * 요청 병합 동작이 동일하다. 게이트웨이로 노출하지 않는 별도 포트({@code spring.grpc.server.port})에서 제공한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+public class CustomerGrpcService extends CustomerLookupServiceGrpc.CustomerLookupServiceImplBase {
+
+  private final CustomerQueryService customerQueryService;
+
+  @Override
+  public void getCustomer(GetByIdRequest request, StreamObserver<Customer> responseObserver) {
+    responseObserver.onNext(
+        toMessage(customerQueryService.getCustomer(GrpcValues.uuid(request.getId()))));
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void batchGetCustomers(
+      BatchGetByIdsRequest request, StreamObserver<BatchGetCustomersResponse> responseObserver) {
+    BatchGetCustomersResponse.Builder response = BatchGetCustomersResponse.newBuilder();
+    customerQueryService
+        .getCustomers(GrpcValues.uuids(request.getIdsList()))
+        .forEach(customer -> response.addCustomers(toMessage(customer)));
+    responseObserver.onNext(response.build());
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void existsCustomerByEmail(
+      ExistsByEmailRequest request, StreamObserver<ExistsResponse> responseObserver) {
+    responseObserver.onNext(
+        ExistsResponse.newBuilder()
+            .setExists(customerQueryService.existsByEmail(request.getEmail()))
+            .build());
+    responseObserver.onCompleted();
+  }
+
+  private Customer toMessage(CustomerResponse customer) {
+    return Customer.newBuilder()
+        .setId(text(customer.id()))
+        .setEmail(text(customer.email()))
+        .setName(text(customer.name()))
+        .setPhone(text(customer.phone()))
+        .setBirthDate(text(customer.birthDate()))
+        .setGrade(text(customer.grade()))
+        .setStatus(text(customer.status()))
+        .setDormantAt(text(customer.dormantAt()))
+        .setCreatedAt(text(customer.createdAt()))
+        .setUpdatedAt(text(customer.updatedAt()))
+        .build();
+  }
+}
@@ -0,0 +1,116 @@
+package com.tickatch.user_service.global.archive;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 탈퇴 사용자 보관(archive) 테이블 조회기.
+ *
+ * <p>{@link WithdrawnUserArchiver}가 보관 테이블로 옮긴 사용자를 ID로 조회한다. 보관 테이블은 원본 테이블과 같은 컬럼에 {@code
+ * archived_at}만 추가된 구조이므로 원본 엔티티로 매핑할 수 있다.
+ *
+ * <p>조회된 엔티티는 영속성 컨텍스트에서 분리(detach)하여 반환한다. 원본 테이블에는 행이 없으므로 변경 감지로 UPDATE가 실행되면 안 된다.
+ * 엔티티의 논리 삭제 필터는 네이티브 쿼리에 적용되지 않으므로 {@code deleted_at} 조건을 직접 붙인다.
+ *
+ * <p>{@code user.archive.enabled}가 false이면 보관 테이블을 조회하지 않는다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Component
+public class UserArchive {
+
+  @PersistenceContext private EntityManager entityManager;
+
+  private final boolean enabled;
+
+  public UserArchive(@Value("${user.archive.enabled:false}") boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * 보관 테이블에서 사용자를 ID로 조회한다.
+   *
+   * @param table 원본 테이블명 (예: customers)
+   * @param id 사용자 ID
+   * @param entityType 매핑할 엔티티 타입
+   * @return 분리된 엔티티 (없으면 empty)
+   * @param <T> 엔티티 타입
+   */
+  public <T> Optional<T> findById(String table, UUID id, Class<T> entityType) {
+    return find(table, id, entityType, " AND deleted_at IS NULL");
+  }
+
+  /**
+   * 보관 테이블에서 논리 삭제된 사용자를 포함하여 ID로 조회한다. 감사 목적으로만 사용한다.
+   *
+   * @param table 원본 테이블명 (예: customers)
+   * @param id 사용자 ID
+   * @param entityType 매핑할 엔티티 타입
+   * @return 분리된 엔티티 (없으면 empty)
+   * @param <T> 엔티티 타입
+   */
+  public <T> Optional<T> findByIdIncludingDeleted(String table, UUID id, Class<T> entityType) {
+    return find(table, id, entityType, "");
+  }
+
+  private <T> Optional<T> find(String table, UUID id, Class<T> entityType, String condition) {
+    if (!enabled) {
+      return Optional.empty();
+    }
+
+    List<T> result =
+        entityManager
+            .createNativeQuery(
+                "SELECT * FROM " + archiveTable(table) + " WHERE id = :id" + condition,
+                entityType)
+            .setParameter("id", id)
+            .getResultList()
+            .stream()
+            .map(entityType::cast)
+            .toList();
+    result.forEach(entityManager::detach);
+    return result.stream().findFirst();
+  }
+
+  /**
+   * 보관 테이블에서 사용자의 수정 일시만 조회한다.
+   *
+   * @param table 원본 테이블명 (예: customers)
+   * @param id 사용자 ID
+   * @return 수정 일시 (없으면 empty)
+   */
+  public Optional<LocalDateTime> findUpdatedAtById(String table, UUID id) {
+    if (!enabled) {
+      return Optional.empty();
+    }
+
+    return entityManager
+        .createNativeQuery(
+            "SELECT updated_at FROM "
+                + archiveTable(table)
+                + " WHERE id = :id AND deleted_at IS NULL",
+            LocalDateTime.class)
+        .setParameter("id", id)
+        .getResultList()
+        .stream()
+        .map(LocalDateTime.class::cast)
+        .findFirst();
+  }
+
+  /**
+   * 원본 테이블에 대응하는 보관 테이블명을 반환한다.
+   *
+   * @param table 원본 테이블명
+   * @return 보관 테이블명
+   */
+  public static String archiveTable(String table) {
+    return table + "_archive";
+  }
+}
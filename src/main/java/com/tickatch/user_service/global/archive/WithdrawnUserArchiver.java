@@ -0,0 +1,164 @@
+package com.tickatch.user_service.global.archive;
+
+import com.tickatch.user_service.customer.domain.Customer;
+import com.tickatch.user_service.global.cache.EntityCacheEvictor;
+import com.tickatch.user_service.seller.domain.Seller;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 탈퇴 사용자 보관(archive) 작업.
+ *
+ * <p>탈퇴 후 보존 기간({@code user.archive.retention-days})이 지난 고객/판매자를 원본 테이블에서 보관 테이블({@code
+ * customers_archive}, {@code sellers_archive})로 옮겨 원본 테이블과 인덱스를 작게 유지한다. 탈퇴 시각은 탈퇴 전이에서만 기록되는
+ * {@code withdrawn_at}으로 판단하므로, 탈퇴 이후의 다른 수정(수정 일시 갱신)이 보존 기간을 늘리지 않는다.
+ *
+ * <p>처리 방식:
+ *
+ * <ul>
+ *   <li>ID 기준 키셋 페이지네이션으로 배치({@code user.archive.batch-size}) 단위 처리
+ *   <li>배치마다 SELECT ... FOR UPDATE SKIP LOCKED, DELETE ... RETURNING, INSERT를 한 문장으로 실행하여
+ *       원자적으로 이동
+ *   <li>두 테이블에 모두 있는 컬럼만 옮기므로 원본 테이블에 컬럼이 추가되어도 동작한다
+ *   <li>여러 인스턴스에서 동시에 실행되어도 잠긴 행은 건너뛴다
+ *   <li>옮긴 사용자는 배치마다 2차 캐시에서 무효화하여 원본 테이블에 없는 엔티티가 캐시로 응답되지 않게 한다
+ * </ul>
+ *
+ * <p>메트릭: {@code user.archive.rows{table}} - 보관 테이블로 옮긴 행 수
+ *
+ * <p>보관 테이블은 {@code schema-postgresql.sql}로 생성되며 PostgreSQL 전용이다. {@code
+ * user.archive.enabled}가 false이면 실행하지 않는다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class WithdrawnUserArchiver {
+
+  /** 보관 대상 원본 테이블과 엔티티 타입. */
+  private static final Map<String, Class<?>> TABLES =
+      Map.of("customers", Customer.class, "sellers", Seller.class);
+
+  private static final String COLUMNS_SQL =
+      """
+      SELECT h.column_name
+        FROM information_schema.columns h
+        JOIN information_schema.columns a
+          ON a.table_schema = h.table_schema
+         AND a.table_name = ?
+         AND a.column_name = h.column_name
+       WHERE h.table_schema = current_schema()
+         AND h.table_name = ?
+       ORDER BY h.ordinal_position
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final EntityCacheEvictor entityCacheEvictor;
+  private final MeterRegistry meterRegistry;
+  private final boolean enabled;
+  private final int retentionDays;
+  private final int batchSize;
+
+  public WithdrawnUserArchiver(
+      JdbcTemplate jdbcTemplate,
+      EntityCacheEvictor entityCacheEvictor,
+      MeterRegistry meterRegistry,
+      @Value("${user.archive.enabled:false}") boolean enabled,
+      @Value("${user.archive.retention-days:90}") int retentionDays,
+      @Value("${user.archive.batch-size:500}") int batchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.entityCacheEvictor = entityCacheEvictor;
+    this.meterRegistry = meterRegistry;
+    this.enabled = enabled;
+    this.retentionDays = retentionDays;
+    this.batchSize = batchSize;
+  }
+
+  /** 보존 기간이 지난 탈퇴 사용자를 보관 테이블로 옮긴다. */
+  @Scheduled(cron = "${user.archive.cron:0 30 3 * * *}")
+  public void archive() {
+    if (!enabled) {
+      return;
+    }
+
+    LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+    for (Map.Entry<String, Class<?>> target : TABLES.entrySet()) {
+      String table = target.getKey();
+      try {
+        long archived = archive(table, target.getValue(), cutoff);
+        log.info("탈퇴 사용자 보관 완료. table: {}, count: {}", table, archived);
+      } catch (Exception e) {
+        log.error("탈퇴 사용자 보관 실패. table: {}, error: {}", table, e.getMessage(), e);
+      }
+    }
+  }
+
+  /**
+   * 한 테이블의 보관 대상을 배치 단위로 옮긴다.
+   *
+   * @param table 원본 테이블명
+   * @param entityType 원본 테이블의 엔티티 타입 (2차 캐시 무효화용)
+   * @param cutoff 이 시각 이전에 탈퇴한 사용자만 옮긴다
+   * @return 옮긴 행 수
+   */
+  long archive(String table, Class<?> entityType, LocalDateTime cutoff) {
+    String archiveTable = UserArchive.archiveTable(table);
+    List<String> columns =
+        jdbcTemplate.queryForList(COLUMNS_SQL, String.class, archiveTable, table);
+    if (columns.isEmpty()) {
+      log.warn("보관 테이블이 없어 보관을 건너뜁니다. table: {}", archiveTable);
+      return 0;
+    }
+
+    String columnList =
+        columns.stream().map(column -> "\"" + column + "\"").collect(Collectors.joining(", "));
+    String sql =
+        """
+        WITH batch AS (
+          SELECT id FROM %1$s
+           WHERE status = 'WITHDRAWN' AND withdrawn_at < ? AND id > ?
+           ORDER BY id
+           LIMIT ?
+           FOR UPDATE SKIP LOCKED
+        ), moved AS (
+          DELETE FROM %1$s t USING batch b WHERE t.id = b.id RETURNING t.*
+        ), archived AS (
+          INSERT INTO %2$s (%3$s, archived_at)
+          SELECT %3$s, now() FROM moved
+          RETURNING id
+        )
+        SELECT id FROM archived ORDER BY id
+        """
+            .formatted(table, archiveTable, columnList);
+
+    Counter counter =
+        Counter.builder("user.archive.rows")
+            .description("보관 테이블로 옮긴 탈퇴 사용자 수")
+            .tag("table", table)
+            .register(meterRegistry);
+
+    UUID lastId = new UUID(0L, 0L);
+    long total = 0;
+    while (true) {
+      List<UUID> moved = jdbcTemplate.queryForList(sql, UUID.class, cutoff, lastId, batchSize);
+      if (moved.isEmpty()) {
+        return total;
+      }
+      moved.forEach(id -> entityCacheEvictor.evict(entityType, id));
+      total += moved.size();
+      counter.increment(moved.size());
+      lastId = moved.get(moved.size() - 1);
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package com.tickatch.user_service.global.cache;
+
+/**
+ * Hibernate 2차 캐시 리전 이름.
+ *
+ * <p>엔티티/자연 키/쿼리 캐시 리전을 한곳에서 관리한다. 리전은 {@code HibernateCacheConfig}에서 미리 생성되며, 정의되지 않은 리전을 사용하면
+ * 기동 시 실패한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public final class CacheRegions {
+
+  /** Customer 엔티티 리전. */
+  public static final String CUSTOMER = "user.customer";
+
+  /** Customer 이메일 자연 키 리전. */
+  public static final String CUSTOMER_NATURAL_ID = "user.customer.natural-id";
+
+  /** Seller 엔티티 리전. */
+  public static final String SELLER = "user.seller";
+
+  /** Seller 이메일 자연 키 리전. */
+  public static final String SELLER_NATURAL_ID = "user.seller.natural-id";
+
+  /** Admin 엔티티 리전. */
+  public static final String ADMIN = "user.admin";
+
+  /** Admin 이메일 자연 키 리전. */
+  public static final String ADMIN_NATURAL_ID = "user.admin.natural-id";
+
+  /** 역할별 관리자 수 쿼리 리전. */
+  public static final String ADMIN_ROLE_COUNT = "user.admin.role-count";
+
+  /** Hibernate 기본 쿼리 결과 리전. */
+  public static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+
+  /** Hibernate 테이블 갱신 시각 리전 (쿼리 캐시 무효화용). */
+  public static final String DEFAULT_UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+  private CacheRegions() {}
+}
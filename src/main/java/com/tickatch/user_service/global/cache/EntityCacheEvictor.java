@@ -0,0 +1,81 @@
+package com.tickatch.user_service.global.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 2차 캐시 엔티티 단건 무효화기.
+ *
+ * <p>네이티브 UPDATE처럼 Hibernate가 변경 대상을 알 수 없는 쿼리는 리전 전체를 비우므로, 쿼리 공간을 따로 지정해 자동 무효화를 피하고 바뀐
+ * 엔티티만 이 클래스로 무효화한다. 트랜잭션 안에서 호출되면 커밋 이후에도 다시 무효화하여 커밋 전 다른 요청이 이전 상태를 다시 캐싱하는 경우를
+ * 막는다.
+ *
+ * <p>무효화할 때 같은 ID의 진행 중 {@link SingleFlight} 조회와 해당 엔티티 타입의 이메일 조회도 목록에서 빼서, 쓰기 이후의 요청이 쓰기
+ * 이전에 시작된 조회 결과를 공유받지 않게 한다. 변경 감지로 저장되는 엔티티는 2차 캐시를 Hibernate가 갱신하므로 {@link
+ * LookupFlightListener}가 {@link #forgetLookups(Object, String)}로 진행 중 조회만 뺀다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityCacheEvictor {
+
+  /**
+   * 어떤 엔티티 테이블과도 겹치지 않는 네이티브 쿼리 공간.
+   *
+   * <p>네이티브 UPDATE에 {@code HibernateHints.HINT_NATIVE_SPACES}로 지정하면 Hibernate가 2차 캐시 리전을 비우지 않는다.
+   */
+  public static final String UNTRACKED_QUERY_SPACE = "user.untracked";
+
+  private final EntityManagerFactory entityManagerFactory;
+  private final SingleFlight singleFlight;
+
+  /**
+   * 엔티티 한 건을 2차 캐시에서 무효화한다.
+   *
+   * @param entityType 엔티티 타입
+   * @param id 엔티티 ID
+   */
+  public void evict(Class<?> entityType, Object id) {
+    evictNow(entityType, id);
+    afterCompletion(() -> evictNow(entityType, id));
+  }
+
+  /**
+   * 엔티티의 ID, 정규화한 이메일로 진행 중인 조회를 목록에서 뺀다. 트랜잭션 안에서 호출되면 커밋 이후에도 다시 뺀다.
+   *
+   * @param id 엔티티 ID
+   * @param emailCanonical 정규화한 이메일
+   */
+  public void forgetLookups(Object id, String emailCanonical) {
+    forgetNow(id, emailCanonical);
+    afterCompletion(() -> forgetNow(id, emailCanonical));
+  }
+
+  private void evictNow(Class<?> entityType, Object id) {
+    entityManagerFactory.getCache().evict(entityType, id);
+    singleFlight.forget(id);
+    singleFlight.forgetAll(SingleFlight.lookupName(entityType, "email"));
+  }
+
+  private void forgetNow(Object id, String emailCanonical) {
+    singleFlight.forget(id);
+    singleFlight.forget(emailCanonical);
+  }
+
+  private static void afterCompletion(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              action.run();
+            }
+          });
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.tickatch.user_service.global.cache;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 엔티티 변경 시 진행 중 조회 무효화 리스너.
+ *
+ * <p>변경 감지로 UPDATE/DELETE가 실행되면 {@link EntityCacheEvictor#forgetLookups(Object, String)}로 해당 ID와
+ * 정규화한 이메일의 진행 중 {@link SingleFlight} 조회를 목록에서 뺀다. 네이티브 UPDATE는 리스너를 거치지 않으므로 {@link
+ * EntityCacheEvictor#evict(Class, Object)}를 직접 호출해야 한다.
+ *
+ * <p>Hibernate가 Spring 빈 컨테이너로 생성한다. 무효화기가 없는 테스트 컨텍스트에서는 아무것도 하지 않는다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public class LookupFlightListener {
+
+  private final ObjectProvider<EntityCacheEvictor> entityCacheEvictor;
+
+  public LookupFlightListener(ObjectProvider<EntityCacheEvictor> entityCacheEvictor) {
+    this.entityCacheEvictor = entityCacheEvictor;
+  }
+
+  @PostUpdate
+  @PostRemove
+  void afterWrite(Object entity) {
+    if (entity instanceof LookupKeys keys) {
+      entityCacheEvictor.ifAvailable(
+          evictor -> evictor.forgetLookups(keys.getId(), keys.getEmailCanonical()));
+    }
+  }
+
+  /** 조회 키(ID, 정규화한 이메일)를 가진 엔티티. */
+  public interface LookupKeys {
+
+    Object getId();
+
+    String getEmailCanonical();
+  }
+}
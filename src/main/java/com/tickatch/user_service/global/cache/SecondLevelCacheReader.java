@@ -0,0 +1,53 @@
+package com.tickatch.user_service.global.cache;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 2차 캐시 엔티티 조회기.
+ *
+ * <p>2차 캐시에 있는 엔티티만 반환하고, 없으면 DB를 조회하지 않고 empty를 반환한다. 트랜잭션 없이 새 영속성 컨텍스트로 조회하므로 캐시 적중 시
+ * JDBC 커넥션을 획득하지 않는다. 반응형 조회 경로에서 MVC 경로와 같은 캐시를 공유하기 위해 사용한다.
+ *
+ * <p>캐시 포함 여부 확인은 호출 스레드에서 하고, 엔티티 조회는 boundedElastic 스케줄러에서 한다. 확인과 조회 사이에 항목이 무효화되면 해당
+ * 조회 한 번은 DB에서 읽히는데, 이 블로킹 조회가 이벤트 루프 스레드를 막지 않게 하기 위해서다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheReader {
+
+  private final EntityManagerFactory entityManagerFactory;
+
+  /**
+   * 2차 캐시에서 엔티티를 조회한다.
+   *
+   * @param entityType 엔티티 타입
+   * @param id 엔티티 ID
+   * @return 캐시된 엔티티 (캐시에 없으면 empty, 분리된 상태)
+   * @param <T> 엔티티 타입
+   */
+  public <T> Mono<T> find(Class<T> entityType, Object id) {
+    return Mono.defer(
+        () ->
+            entityManagerFactory.getCache().contains(entityType, id)
+                ? Mono.fromCallable(() -> load(entityType, id))
+                    .subscribeOn(Schedulers.boundedElastic())
+                : Mono.empty());
+  }
+
+  private <T> T load(Class<T> entityType, Object id) {
+    EntityManager entityManager = entityManagerFactory.createEntityManager();
+    try {
+      return entityManager.find(entityType, id);
+    } finally {
+      entityManager.close();
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package com.tickatch.user_service.global.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동일 키 동시 조회 병합기 (single-flight).
+ *
+ * <p>같은 키로 동시에 들어온 조회 중 첫 요청(leader)만 실제 로더를 실행하고, 나머지 요청(follower)은 leader의 결과를 공유한다. 로더가
+ * 끝나면 진행 중 목록에서 제거되므로 결과를 캐싱하지는 않는다.
+ *
+ * <p>공유되는 결과는 여러 스레드에서 동시에 사용되므로 불변 객체(응답 DTO)여야 한다. JPA 엔티티처럼 영속성 컨텍스트에 묶인 객체는 공유하지 않는다.
+ *
+ * <p>쓰기 이전에 시작된 조회에 쓰기 이후의 요청이 합류하면 변경 전 결과를 받게 된다. 엔티티가 바뀌면 {@link EntityCacheEvictor}가
+ * {@link #forget(Object)}로 해당 ID와 정규화한 이메일의 진행 중 조회를 목록에서 빼므로, 이후 요청은 새 조회를 시작한다. 이미 합류한 요청은
+ * 기존 결과를 받는다. 이메일 조회는 정규화한 이메일({@code CanonicalEmail})을 키로 써야 대소문자만 다른 요청도 병합되고 무효화된다.
+ *
+ * <p>조회 이름은 {@link #lookupName(Class, String)}로 만든다 (예: {@code customer.email}).
+ *
+ * <p>메트릭:
+ *
+ * <ul>
+ *   <li>{@code user.lookup.single_flight{name, role=leader}} - 실제 로더 실행 수
+ *   <li>{@code user.lookup.single_flight{name, role=coalesced}} - leader 결과를 공유받은 요청 수
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class SingleFlight {
+
+  private final MeterRegistry meterRegistry;
+  private final Map<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+  private final Map<CounterKey, Counter> counters = new ConcurrentHashMap<>();
+
+  /**
+   * 엔티티 타입과 키 이름으로 조회 이름을 만든다.
+   *
+   * @param entityType 엔티티 타입
+   * @param keyName 키 이름 (예: id, email)
+   * @return 조회 이름 (예: customer.email)
+   */
+  public static String lookupName(Class<?> entityType, String keyName) {
+    return entityType.getSimpleName().toLowerCase(Locale.ROOT) + "." + keyName;
+  }
+
+  /**
+   * 같은 이름/키의 진행 중 조회가 있으면 그 결과를 기다리고, 없으면 로더를 실행한다.
+   *
+   * <p>로더에서 발생한 런타임 예외는 leader와 모든 follower에게 그대로 전달된다.
+   *
+   * @param name 조회 이름 (예: customer.id)
+   * @param key 조회 키
+   * @param loader 실제 조회 함수
+   * @return 조회 결과
+   * @param <V> 결과 타입
+   */
+  @SuppressWarnings("unchecked")
+  public <V> V load(String name, Object key, Supplier<V> loader) {
+    FlightKey flightKey = new FlightKey(name, key);
+    CompletableFuture<Object> flight = new CompletableFuture<>();
+    CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+
+    if (existing != null) {
+      counter(name, "coalesced").increment();
+      return (V) await(existing);
+    }
+
+    counter(name, "leader").increment();
+    try {
+      V value = loader.get();
+      flight.complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(flightKey, flight);
+    }
+  }
+
+  /**
+   * 해당 키의 진행 중 조회를 목록에서 뺀다.
+   *
+   * <p>진행 중인 조회는 계속 실행되어 이미 합류한 요청에게 결과를 돌려주지만, 이후 같은 키로 들어온 요청은 새 조회를 시작한다. 조회 이름과
+   * 관계없이 키가 같은 조회를 모두 뺀다.
+   *
+   * @param key 조회 키 (예: 엔티티 ID, 정규화한 이메일, null이면 무시)
+   */
+  public void forget(Object key) {
+    if (key != null) {
+      inFlight.keySet().removeIf(flightKey -> key.equals(flightKey.key()));
+    }
+  }
+
+  /**
+   * 해당 이름의 진행 중 조회를 모두 목록에서 뺀다.
+   *
+   * <p>바뀐 엔티티의 ID만 알고 이메일은 모르는 경우(네이티브 UPDATE) 이메일 조회를 무효화하는 데 사용한다.
+   *
+   * @param name 조회 이름
+   */
+  public void forgetAll(String name) {
+    inFlight.keySet().removeIf(flightKey -> flightKey.name().equals(name));
+  }
+
+  private Object await(CompletableFuture<Object> flight) {
+    try {
+      return flight.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private Counter counter(String name, String role) {
+    return counters.computeIfAbsent(
+        new CounterKey(name, role),
+        counterKey ->
+            Counter.builder("user.lookup.single_flight")
+                .description("동일 키 동시 조회 병합 현황")
+                .tag("name", counterKey.name())
+                .tag("role", counterKey.role())
+                .register(meterRegistry));
+  }
+
+  private record FlightKey(String name, Object key) {}
+
+  private record CounterKey(String name, String role) {}
+}
@@ -61,6 +61,42 @@ public class AsyncConfig implements AsyncConfigurer {
     return executor;
   }
 
+  /**
+   * 일괄 작업 전용 스레드 풀. 대량 상태 변경처럼 오래 걸리는 작업이 다른 비동기 작업을 막지 않도록 분리한다.
+   *
+   * <p>대기 큐까지 가득 차면 작업을 거절하며, {@code BulkJobRegistry}가 이를 {@code SERVICE_UNAVAILABLE}로 변환한다.
+   */
+  @Bean(name = "bulkJobExecutor")
+  public Executor bulkJobExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(2);
+    executor.setMaxPoolSize(2);
+    executor.setQueueCapacity(10);
+    executor.setThreadNamePrefix("user-bulk-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(60);
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * 예약 청크 작업 전용 스레드 풀. 스레드 수가 청크 작업이 DB에 동시에 보내는 쿼리 수의 상한이 된다.
+   *
+   * <p>대기 큐까지 가득 차면 작업이 실패하며, {@code ChunkedScanRunner}가 다음 실행에서 체크포인트부터 재개한다.
+   */
+  @Bean(name = "scanJobExecutor")
+  public Executor scanJobExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(4);
+    executor.setMaxPoolSize(4);
+    executor.setQueueCapacity(8);
+    executor.setThreadNamePrefix("user-scan-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(60);
+    executor.initialize();
+    return executor;
+  }
+
   @Override
   public Executor getAsyncExecutor() {
     return taskExecutor();
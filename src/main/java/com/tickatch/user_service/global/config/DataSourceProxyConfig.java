@@ -0,0 +1,50 @@
+package com.tickatch.user_service.global.config;
+
+import com.tickatch.user_service.global.jdbc.DataSourceProxyPostProcessor;
+import com.tickatch.user_service.global.jdbc.QueryMetricsListener;
+import com.tickatch.user_service.global.jdbc.QueryStatsFilter;
+import com.tickatch.user_service.global.jdbc.QueryStatsResponseAdvice;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SQL 실행 계측 설정.
+ *
+ * <p>DataSource를 datasource-proxy로 감싸 요청별 SQL 문장 수와 DB 시간을 집계하고 느린 쿼리를 기록한다. 운영(prod) 외
+ * 프로파일에서는 {@link QueryStatsResponseAdvice}가 같은 값을 응답 헤더로 노출한다.
+ *
+ * <ul>
+ *   <li>{@code user.jdbc.proxy.enabled}: 계측 사용 여부 (기본 true)
+ *   <li>{@code user.jdbc.slow-query-threshold}: 느린 쿼리 기준 (기본 500ms)
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(
+    name = "user.jdbc.proxy.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class DataSourceProxyConfig {
+
+  /** BeanPostProcessor는 다른 빈보다 먼저 생성되어야 하므로 static으로 등록한다. */
+  @Bean
+  public static DataSourceProxyPostProcessor dataSourceProxyPostProcessor(
+      ObjectProvider<MeterRegistry> meterRegistry,
+      @Value("${user.jdbc.slow-query-threshold:500ms}") Duration slowQueryThreshold) {
+    return new DataSourceProxyPostProcessor(
+        new QueryMetricsListener(meterRegistry, slowQueryThreshold));
+  }
+
+  /** 요청별 SQL 통계 필터. */
+  @Bean
+  public QueryStatsFilter queryStatsFilter(MeterRegistry meterRegistry) {
+    return new QueryStatsFilter(meterRegistry);
+  }
+}
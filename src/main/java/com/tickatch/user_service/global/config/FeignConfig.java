@@ -18,11 +18,13 @@ import org.springframework.context.annotation.Configuration;
  *   <li>로깅 레벨: BASIC
  *   <li>에러 디코더: FeignErrorDecoder (BusinessException 변환)
  *   <li>요청 인터셉터: 인증 헤더 전파
- *   <li>재시도: 100ms 간격으로 최대 3회
+ *   <li>재시도: 하지 않음 (장애 중인 의존성에 부하를 키우지 않도록 서킷 브레이커로 격리)
+ *   <li>HTTP 클라이언트: Apache HttpClient 5 커넥션 풀, 타임아웃은 클라이언트별로 설정
  * </ul>
  *
  * @author Tickatch
  * @since 1.0.0
+ * @see FeignResilienceConfig
  */
 @Configuration
 @EnableFeignClients(basePackages = "com.tickatch.user_service")
@@ -55,9 +57,13 @@ public class FeignConfig {
     return new FeignRequestInterceptor();
   }
 
-  /** Feign 재시도 설정. 100ms 간격으로 최대 3회 재시도한다. */
+  /**
+   * Feign 재시도 설정. 재시도하지 않는다.
+   *
+   * <p>재시도는 느려진 의존성에 요청을 배로 보낸다. 실패는 서킷 브레이커가 집계하고 호출자가 처리한다.
+   */
   @Bean
   public Retryer retryer() {
-    return new Retryer.Default(100, 1000, 3);
+    return Retryer.NEVER_RETRY;
   }
 }
@@ -0,0 +1,116 @@
+package com.tickatch.user_service.global.config;
+
+import com.tickatch.user_service.global.feign.FeignFailurePredicate;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.time.Duration;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.routing.HttpRoute;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JConfigBuilder;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4jBulkheadConfigurationBuilder;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4jBulkheadProvider;
+import org.springframework.cloud.client.circuitbreaker.Customizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Feign Client 장애 격리 설정.
+ *
+ * <p>{@code spring.cloud.openfeign.circuitbreaker.enabled}가 true이면 모든 Feign Client 호출이 클라이언트 메서드
+ * 단위 서킷 브레이커와 세마포어 벌크헤드로 감싸진다.
+ *
+ * <ul>
+ *   <li>서킷 브레이커: {@link FeignFailurePredicate}가 판별한 실패(5xx, 연결 실패, 타임아웃)만 집계
+ *   <li>벌크헤드: 클라이언트 메서드별 동시 호출 수 제한, 초과 시 대기 없이 거절하여 요청 스레드가 느린 의존성에 묶이지 않게 한다
+ *   <li>시간 제한: TimeLimiter 대신 HTTP 클라이언트의 connect/read 타임아웃을 사용한다 (호출 스레드 유지)
+ * </ul>
+ *
+ * <p>메트릭: {@code resilience4j.circuitbreaker.*}, {@code resilience4j.bulkhead.*}, {@code
+ * httpcomponents.httpclient.pool.*}
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Configuration
+public class FeignResilienceConfig {
+
+  /** 모든 Feign 서킷 브레이커의 기본 설정. */
+  @Bean
+  public Customizer<Resilience4JCircuitBreakerFactory> feignCircuitBreakerCustomizer(
+      @Value("${user.feign.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+      @Value("${user.feign.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+      @Value("${user.feign.circuit-breaker.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+      @Value("${user.feign.circuit-breaker.wait-duration-in-open-state:10s}")
+          Duration waitDurationInOpenState) {
+    CircuitBreakerConfig config =
+        circuitBreakerConfig(
+            failureRateThreshold,
+            slidingWindowSize,
+            minimumNumberOfCalls,
+            waitDurationInOpenState);
+    return factory ->
+        factory.configureDefault(
+            id -> new Resilience4JConfigBuilder(id).circuitBreakerConfig(config).build());
+  }
+
+  /** 모든 Feign 벌크헤드의 기본 설정. */
+  @Bean
+  public Customizer<Resilience4jBulkheadProvider> feignBulkheadCustomizer(
+      @Value("${user.feign.bulkhead.max-concurrent-calls:20}") int maxConcurrentCalls,
+      @Value("${user.feign.bulkhead.max-wait-duration:0ms}") Duration maxWaitDuration) {
+    BulkheadConfig config = bulkheadConfig(maxConcurrentCalls, maxWaitDuration);
+    return provider ->
+        provider.configureDefault(
+            id ->
+                new Resilience4jBulkheadConfigurationBuilder()
+                    .bulkheadConfig(config)
+                    .threadPoolBulkheadConfig(ThreadPoolBulkheadConfig.ofDefaults())
+                    .build());
+  }
+
+  /** Feign HC5 커넥션 풀 메트릭. */
+  @Bean
+  @SuppressWarnings("unchecked")
+  public MeterBinder feignConnectionPoolMetrics(
+      ObjectProvider<HttpClientConnectionManager> connectionManager) {
+    return registry ->
+        connectionManager.ifAvailable(
+            manager -> {
+              if (manager instanceof ConnPoolControl<?> pool) {
+                new PoolingHttpClientConnectionManagerMetricsBinder(
+                        (ConnPoolControl<HttpRoute>) pool, "feign")
+                    .bindTo(registry);
+              }
+            });
+  }
+
+  static CircuitBreakerConfig circuitBreakerConfig(
+      float failureRateThreshold,
+      int slidingWindowSize,
+      int minimumNumberOfCalls,
+      Duration waitDurationInOpenState) {
+    return CircuitBreakerConfig.custom()
+        .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+        .slidingWindowSize(slidingWindowSize)
+        .minimumNumberOfCalls(minimumNumberOfCalls)
+        .failureRateThreshold(failureRateThreshold)
+        .waitDurationInOpenState(waitDurationInOpenState)
+        .permittedNumberOfCallsInHalfOpenState(Math.max(1, minimumNumberOfCalls / 2))
+        .recordException(new FeignFailurePredicate())
+        .build();
+  }
+
+  static BulkheadConfig bulkheadConfig(int maxConcurrentCalls, Duration maxWaitDuration) {
+    return BulkheadConfig.custom()
+        .maxConcurrentCalls(maxConcurrentCalls)
+        .maxWaitDuration(maxWaitDuration)
+        .build();
+  }
+}
@@ -0,0 +1,87 @@
+package com.tickatch.user_service.global.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.tickatch.user_service.global.cache.CacheRegions;
+import java.time.Duration;
+import java.util.OptionalLong;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 2차 캐시 설정.
+ *
+ * <p>Caffeine JCache를 Hibernate 2차 캐시로 사용한다. 리전별 크기와 만료 시간을 여기서 정의하며, 정의되지 않은 리전은 기동 시 실패하도록
+ * 한다({@code missing_cache_strategy=fail}).
+ *
+ * <p>리전 구성:
+ *
+ * <ul>
+ *   <li>엔티티 리전 (Customer, Seller, Admin): READ_WRITE
+ *   <li>자연 키 리전 (이메일 → ID)
+ *   <li>쿼리 리전 (역할별 관리자 수) 및 Hibernate 기본 쿼리/갱신 시각 리전
+ * </ul>
+ *
+ * <p>Hibernate 통계를 활성화하므로 리전별 적중률은 Actuator 메트릭({@code hibernate.second.level.cache.requests},
+ * {@code hibernate.cache.natural.id.requests}, {@code hibernate.cache.query.requests})으로 확인한다.
+ *
+ * <p>{@code user.cache.second-level.enabled}가 true일 때만 활성화된다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "user.cache.second-level.enabled", havingValue = "true")
+public class HibernateCacheConfig {
+
+  @Bean(destroyMethod = "close")
+  public CacheManager hibernateCacheManager(
+      @Value("${user.cache.second-level.entity-ttl:10m}") Duration entityTtl,
+      @Value("${user.cache.second-level.entity-max-size:100000}") long entityMaxSize,
+      @Value("${user.cache.second-level.query-ttl:1m}") Duration queryTtl) {
+    CacheManager cacheManager =
+        Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+
+    createRegion(cacheManager, CacheRegions.CUSTOMER, entityTtl, entityMaxSize);
+    createRegion(cacheManager, CacheRegions.CUSTOMER_NATURAL_ID, entityTtl, entityMaxSize);
+    createRegion(cacheManager, CacheRegions.SELLER, entityTtl, entityMaxSize);
+    createRegion(cacheManager, CacheRegions.SELLER_NATURAL_ID, entityTtl, entityMaxSize);
+    createRegion(cacheManager, CacheRegions.ADMIN, entityTtl, entityMaxSize);
+    createRegion(cacheManager, CacheRegions.ADMIN_NATURAL_ID, entityTtl, entityMaxSize);
+    createRegion(cacheManager, CacheRegions.ADMIN_ROLE_COUNT, queryTtl, 100);
+    createRegion(cacheManager, CacheRegions.DEFAULT_QUERY_RESULTS, queryTtl, 1_000);
+    // 갱신 시각 리전은 만료되면 쿼리 캐시가 오래된 결과를 반환할 수 있으므로 만료시키지 않는다
+    createRegion(cacheManager, CacheRegions.DEFAULT_UPDATE_TIMESTAMPS, null, 1_000);
+    return cacheManager;
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer hibernateSecondLevelCacheCustomizer(
+      CacheManager hibernateCacheManager) {
+    return properties -> {
+      properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+      properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+      properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+      properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+      properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+      properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+    };
+  }
+
+  private void createRegion(CacheManager cacheManager, String region, Duration ttl, long maxSize) {
+    CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+    configuration.setMaximumSize(OptionalLong.of(maxSize));
+    if (ttl != null) {
+      configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+    }
+    configuration.setStatisticsEnabled(true);
+    cacheManager.createCache(region, configuration);
+  }
+}
@@ -0,0 +1,87 @@
+package com.tickatch.user_service.global.config;
+
+import com.querydsl.core.types.dsl.BeanPath;
+import io.github.tickatch.common.api.ApiResponse;
+import io.github.tickatch.common.api.PageResponse;
+import io.github.tickatch.common.event.IntegrationEvent;
+import java.util.regex.Pattern;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.util.ClassUtils;
+
+/**
+ * GraalVM 네이티브 이미지용 리플렉션 힌트.
+ *
+ * <p>Spring AOT가 자동으로 추론하지 못하는 타입을 등록한다. AOT 처리(JVM) 시점에 클래스패스를 스캔하므로 새 DTO/이벤트를 추가해도 힌트를 따로
+ * 관리할 필요가 없다.
+ *
+ * <ul>
+ *   <li>QueryDSL Q-클래스: 경로 초기화와 {@code Projections.constructor}가 리플렉션을 사용한다
+ *   <li>DTO({@code ..dto..}), 메시징 이벤트({@code ..messaging.event..}): Jackson 직렬화/역직렬화
+ *   <li>AMQP 메시지 변환기는 {@code __TypeId__} 헤더로 이벤트 클래스를 로딩하므로 이벤트 타입을 모두 등록한다
+ * </ul>
+ *
+ * <p>JVM 실행에는 영향을 주지 않는다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+  private static final String BASE_PACKAGE = "com.tickatch.user_service";
+
+  private static final Pattern JSON_TYPE_PATTERN =
+      Pattern.compile(".*\\.(dto|messaging\\.event)\\..*");
+
+  private final BindingReflectionHintsRegistrar bindingRegistrar =
+      new BindingReflectionHintsRegistrar();
+
+  @Override
+  public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+    registerQueryDslTypes(hints, classLoader);
+    registerJsonTypes(hints, classLoader);
+    bindingRegistrar.registerReflectionHints(
+        hints.reflection(), ApiResponse.class, PageResponse.class, IntegrationEvent.class);
+  }
+
+  private void registerQueryDslTypes(RuntimeHints hints, ClassLoader classLoader) {
+    ClassPathScanningCandidateComponentProvider scanner = scanner();
+    scanner.addIncludeFilter(new AssignableTypeFilter(BeanPath.class));
+    for (BeanDefinition candidate : scanner.findCandidateComponents(BASE_PACKAGE)) {
+      hints
+          .reflection()
+          .registerType(
+              ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader),
+              MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+              MemberCategory.PUBLIC_FIELDS,
+              MemberCategory.DECLARED_FIELDS);
+    }
+  }
+
+  private void registerJsonTypes(RuntimeHints hints, ClassLoader classLoader) {
+    ClassPathScanningCandidateComponentProvider scanner = scanner();
+    scanner.addIncludeFilter(new RegexPatternTypeFilter(JSON_TYPE_PATTERN));
+    for (BeanDefinition candidate : scanner.findCandidateComponents(BASE_PACKAGE)) {
+      bindingRegistrar.registerReflectionHints(
+          hints.reflection(),
+          ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+    }
+  }
+
+  private ClassPathScanningCandidateComponentProvider scanner() {
+    return new ClassPathScanningCandidateComponentProvider(false) {
+      @Override
+      protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+        // record, 중첩 클래스(요청 DTO의 하위 record 등)까지 포함한다
+        return beanDefinition.getMetadata().isIndependent();
+      }
+    };
+  }
+}
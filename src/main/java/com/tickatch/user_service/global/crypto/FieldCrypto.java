@@ -0,0 +1,190 @@
+package com.tickatch.user_service.global.crypto;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * 컬럼 단위 암호화 유틸리티.
+ *
+ * <ul>
+ *   <li>암호화: AES-256-GCM. 값마다 무작위 IV를 사용하며 {@code v1:Base64(IV + 암호문 + 태그)} 형식으로 저장한다
+ *   <li>블라인드 인덱스: HMAC-SHA256. 같은 평문은 항상 같은 값이 되므로 암호화된 컬럼의 동등 비교 조회에 사용한다
+ * </ul>
+ *
+ * <p>엔티티/값 객체가 스프링 빈 없이 사용할 수 있도록 키를 정적으로 보관한다. 애플리케이션 실행 시 {@link FieldCryptoKeyInstaller}가
+ * 설정된 키를 설치한다. 키가 설치되기 전에 암호화/복호화/블라인드 인덱스 계산을 하면 예외가 발생한다(고정 키로 대신 처리하지 않는다).
+ *
+ * <p>{@code Cipher.getInstance}/{@code Mac.getInstance}는 프로바이더 탐색 비용이 크므로 스레드마다 인스턴스를 재사용한다. GCM은
+ * 같은 키와 IV로 다시 암호화할 수 없으므로 암호화마다 새 IV로 초기화한다.
+ *
+ * <p>{@code v1:} 접두어가 없는 값은 암호화 도입 이전에 저장된 평문으로 보고 그대로 반환한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public final class FieldCrypto {
+
+  private static final String CIPHER_ALGORITHM = "AES/GCM/NoPadding";
+  private static final String MAC_ALGORITHM = "HmacSHA256";
+  private static final String VERSION_PREFIX = "v1:";
+  private static final int IV_LENGTH = 12;
+  private static final int TAG_LENGTH_BITS = 128;
+
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  private static final ThreadLocal<Cipher> CIPHERS =
+      ThreadLocal.withInitial(() -> newCipher(CIPHER_ALGORITHM));
+
+  private static volatile Keys keys;
+
+  private FieldCrypto() {}
+
+  /**
+   * 키를 설치한다.
+   *
+   * @param encryptionKey AES-256 암호화 키 (32바이트)
+   * @param indexKey 블라인드 인덱스 HMAC 키 (32바이트 이상)
+   */
+  static void install(byte[] encryptionKey, byte[] indexKey) {
+    if (encryptionKey.length != 32) {
+      throw new IllegalArgumentException("암호화 키는 32바이트여야 합니다.");
+    }
+    if (indexKey.length < 32) {
+      throw new IllegalArgumentException("블라인드 인덱스 키는 32바이트 이상이어야 합니다.");
+    }
+    keys = new Keys(encryptionKey, indexKey);
+  }
+
+  /**
+   * 평문을 암호화한다.
+   *
+   * @param plaintext 평문 (null 허용)
+   * @return 암호문 (평문이 null이면 null)
+   * @throws IllegalStateException 키가 설치되지 않은 경우
+   */
+  public static String encrypt(String plaintext) {
+    if (plaintext == null) {
+      return null;
+    }
+
+    byte[] iv = new byte[IV_LENGTH];
+    RANDOM.nextBytes(iv);
+    try {
+      Cipher cipher = CIPHERS.get();
+      cipher.init(
+          Cipher.ENCRYPT_MODE, keys().encryptionKey(), new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+      byte[] encrypted = cipher.doFinal(plaintext.getBytes(StandardCharsets.UTF_8));
+      byte[] payload =
+          ByteBuffer.allocate(iv.length + encrypted.length).put(iv).put(encrypted).array();
+      return VERSION_PREFIX + Base64.getEncoder().encodeToString(payload);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("필드 암호화에 실패했습니다.", e);
+    }
+  }
+
+  /**
+   * 암호문을 복호화한다.
+   *
+   * @param value 암호문 (null, 암호화 이전 평문 허용)
+   * @return 평문 (값이 null이면 null)
+   * @throws IllegalStateException 키가 설치되지 않은 경우
+   */
+  public static String decrypt(String value) {
+    if (value == null || !isEncrypted(value)) {
+      return value;
+    }
+
+    byte[] payload = Base64.getDecoder().decode(value.substring(VERSION_PREFIX.length()));
+    try {
+      Cipher cipher = CIPHERS.get();
+      cipher.init(
+          Cipher.DECRYPT_MODE,
+          keys().encryptionKey(),
+          new GCMParameterSpec(TAG_LENGTH_BITS, payload, 0, IV_LENGTH));
+      byte[] decrypted = cipher.doFinal(payload, IV_LENGTH, payload.length - IV_LENGTH);
+      return new String(decrypted, StandardCharsets.UTF_8);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("필드 복호화에 실패했습니다.", e);
+    }
+  }
+
+  /**
+   * 블라인드 인덱스를 계산한다.
+   *
+   * @param plaintext 평문 (null 허용)
+   * @return Base64 HMAC-SHA256 값 (평문이 null이면 null)
+   * @throws IllegalStateException 키가 설치되지 않은 경우
+   */
+  public static String blindIndex(String plaintext) {
+    if (plaintext == null) {
+      return null;
+    }
+    byte[] digest = keys().mac().doFinal(plaintext.getBytes(StandardCharsets.UTF_8));
+    return Base64.getEncoder().encodeToString(digest);
+  }
+
+  /**
+   * 암호화된 값인지 확인한다.
+   *
+   * @param value 컬럼 값
+   * @return {@code v1:} 형식이면 true
+   */
+  public static boolean isEncrypted(String value) {
+    return value != null && value.startsWith(VERSION_PREFIX);
+  }
+
+  private static Keys keys() {
+    Keys installed = keys;
+    if (installed == null) {
+      throw new IllegalStateException("컬럼 암호화 키가 설치되지 않았습니다.");
+    }
+    return installed;
+  }
+
+  private static Cipher newCipher(String algorithm) {
+    try {
+      return Cipher.getInstance(algorithm);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("암호화 알고리즘을 사용할 수 없습니다: " + algorithm, e);
+    }
+  }
+
+  /** 설치된 키. HMAC은 키로 초기화된 인스턴스를 스레드마다 재사용한다. */
+  private static final class Keys {
+
+    private final SecretKey encryptionKey;
+    private final ThreadLocal<Mac> macs;
+
+    private Keys(byte[] encryptionKey, byte[] indexKey) {
+      this.encryptionKey = new SecretKeySpec(encryptionKey, "AES");
+      SecretKey macKey = new SecretKeySpec(indexKey, MAC_ALGORITHM);
+      this.macs = ThreadLocal.withInitial(() -> newMac(macKey));
+    }
+
+    SecretKey encryptionKey() {
+      return encryptionKey;
+    }
+
+    Mac mac() {
+      return macs.get();
+    }
+
+    private static Mac newMac(SecretKey key) {
+      try {
+        Mac mac = Mac.getInstance(MAC_ALGORITHM);
+        mac.init(key);
+        return mac;
+      } catch (GeneralSecurityException e) {
+        throw new IllegalStateException("HMAC을 초기화할 수 없습니다.", e);
+      }
+    }
+  }
+}
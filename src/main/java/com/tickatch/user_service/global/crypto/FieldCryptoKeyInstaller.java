@@ -0,0 +1,39 @@
+package com.tickatch.user_service.global.crypto;
+
+import java.util.Base64;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 설정된 컬럼 암호화 키를 {@link FieldCrypto}에 설치한다.
+ *
+ * <p>키는 Base64로 인코딩한 32바이트 값이며 Config Server 또는 환경 변수로 주입한다. 키가 없거나 형식이 잘못되면 애플리케이션이 기동되지
+ * 않는다.
+ *
+ * <ul>
+ *   <li>{@code user.crypto.encryption-key} - AES-256 암호화 키
+ *   <li>{@code user.crypto.index-key} - 블라인드 인덱스 HMAC 키. 바꾸면 기존 인덱스로 조회할 수 없으므로 교체하지 않는다
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class FieldCryptoKeyInstaller {
+
+  public FieldCryptoKeyInstaller(
+      @Value("${user.crypto.encryption-key}") String encryptionKey,
+      @Value("${user.crypto.index-key}") String indexKey) {
+    FieldCrypto.install(decode(encryptionKey), decode(indexKey));
+    log.info("컬럼 암호화 키 설치 완료.");
+  }
+
+  private static byte[] decode(String key) {
+    if (key == null || key.isBlank()) {
+      throw new IllegalArgumentException("컬럼 암호화 키가 설정되지 않았습니다.");
+    }
+    return Base64.getDecoder().decode(key.trim());
+  }
+}
@@ -65,6 +65,17 @@ public abstract class AbstractAuditEntity extends AbstractTimeEntity {
     this.deletedBy = username;
   }
 
+  /**
+   * 논리 삭제 여부를 반환합니다.
+   *
+   * <p>2차 캐시에서 조립된 엔티티에는 논리 삭제 필터가 적용되지 않으므로 조회 결과를 한 번 더 확인할 때 사용합니다.
+   *
+   * @return 논리 삭제되었으면 true
+   */
+  public boolean isDeleted() {
+    return deletedAt != null;
+  }
+
   /**
    * 논리 삭제를 수행합니다.
    *
@@ -0,0 +1,40 @@
+package com.tickatch.user_service.global.feign;
+
+import feign.RetryableException;
+import io.github.tickatch.common.error.BusinessException;
+import io.github.tickatch.common.error.ErrorCode;
+import io.github.tickatch.common.error.GlobalErrorCode;
+import java.io.IOException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Feign 호출 실패 중 서킷 브레이커의 실패로 집계할 예외를 판별한다.
+ *
+ * <p>상대 서비스의 장애만 실패로 집계한다. 4xx 응답은 요청 자체의 문제이므로 서킷을 열지 않는다.
+ *
+ * <ul>
+ *   <li>5xx 응답: {@link FeignErrorDecoder}가 변환한 {@code SERVICE_UNAVAILABLE}, {@code
+ *       EXTERNAL_API_TIMEOUT}, {@code EXTERNAL_API_ERROR}
+ *   <li>연결 실패, 읽기 타임아웃: {@link RetryableException}, {@link IOException}
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public class FeignFailurePredicate implements Predicate<Throwable> {
+
+  private static final Set<ErrorCode> SERVER_ERROR_CODES =
+      Set.of(
+          GlobalErrorCode.SERVICE_UNAVAILABLE,
+          GlobalErrorCode.EXTERNAL_API_TIMEOUT,
+          GlobalErrorCode.EXTERNAL_API_ERROR);
+
+  @Override
+  public boolean test(Throwable throwable) {
+    if (throwable instanceof BusinessException e) {
+      return SERVER_ERROR_CODES.contains(e.getErrorCode());
+    }
+    return throwable instanceof RetryableException || throwable instanceof IOException;
+  }
+}
@@ -67,7 +67,7 @@ public class FeignRequestInterceptor implements RequestInterceptor {
         template.header(HEADER_B3_SPAN_ID, spanId);
       }
 
-      log.info("헤더 전파: traceId={}, spanId={}", traceId, spanId);
+      log.debug("헤더 전파: traceId={}, spanId={}", traceId, spanId);
     }
   }
 
@@ -0,0 +1,44 @@
+package com.tickatch.user_service.global.grpc;
+
+import io.github.tickatch.common.error.BusinessException;
+import io.grpc.Status;
+import io.grpc.StatusException;
+import org.springframework.grpc.server.exception.GrpcExceptionHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * gRPC 비즈니스 예외 변환기.
+ *
+ * <p>서비스에서 발생한 {@link BusinessException}을 HTTP 상태에 대응하는 gRPC 상태로 바꾸고, 에러 코드(예: CUSTOMER_NOT_FOUND)를
+ * 상태 설명으로 전달한다. 그 외 예외는 기본 처리(INTERNAL)에 맡긴다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Component
+public class GrpcBusinessExceptionHandler implements GrpcExceptionHandler {
+
+  @Override
+  public StatusException handleException(Throwable exception) {
+    if (!(exception instanceof BusinessException businessException)) {
+      return null;
+    }
+    return toStatus(businessException.getErrorCode().getStatus())
+        .withDescription(businessException.getErrorCode().getCode())
+        .asException();
+  }
+
+  private static Status toStatus(int httpStatus) {
+    return switch (httpStatus) {
+      case 400 -> Status.INVALID_ARGUMENT;
+      case 401 -> Status.UNAUTHENTICATED;
+      case 403 -> Status.PERMISSION_DENIED;
+      case 404 -> Status.NOT_FOUND;
+      case 409 -> Status.ALREADY_EXISTS;
+      case 422 -> Status.FAILED_PRECONDITION;
+      case 429 -> Status.RESOURCE_EXHAUSTED;
+      case 503 -> Status.UNAVAILABLE;
+      default -> Status.INTERNAL;
+    };
+  }
+}
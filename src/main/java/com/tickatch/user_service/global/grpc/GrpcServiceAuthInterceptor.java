@@ -0,0 +1,76 @@
+package com.tickatch.user_service.global.grpc;
+
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.grpc.health.v1.HealthGrpc;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.grpc.server.GlobalServerInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 내부 gRPC 서비스 인증 인터셉터.
+ *
+ * <p>호출하는 서비스는 {@code x-service-name} 메타데이터로 자신을 밝히고 {@code x-service-token}으로 서비스 간 공유 토큰
+ * ({@code user.grpc.auth.token})을 보내야 한다. 둘 중 하나라도 없거나 토큰이 다르면 {@code UNAUTHENTICATED}로 거절한다. 조회
+ * 응답에 연락처, 생년월일 같은 개인정보가 포함되므로 토큰이 설정되지 않았으면 모든 호출을 거절한다.
+ *
+ * <p>헬스 체크({@code grpc.health.v1.Health})는 인증 없이 허용한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@GlobalServerInterceptor
+public class GrpcServiceAuthInterceptor implements ServerInterceptor {
+
+  /** 호출 서비스 이름 메타데이터 키. */
+  public static final Metadata.Key<String> SERVICE_NAME =
+      Metadata.Key.of("x-service-name", Metadata.ASCII_STRING_MARSHALLER);
+
+  /** 서비스 간 공유 토큰 메타데이터 키. */
+  public static final Metadata.Key<String> SERVICE_TOKEN =
+      Metadata.Key.of("x-service-token", Metadata.ASCII_STRING_MARSHALLER);
+
+  private final byte[] token;
+
+  public GrpcServiceAuthInterceptor(@Value("${user.grpc.auth.token:}") String token) {
+    this.token = token.getBytes(StandardCharsets.UTF_8);
+    if (!StringUtils.hasText(token)) {
+      log.error("gRPC 서비스 토큰(user.grpc.auth.token)이 설정되지 않아 모든 내부 gRPC 호출을 거절합니다.");
+    }
+  }
+
+  @Override
+  public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+      ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+    if (HealthGrpc.SERVICE_NAME.equals(call.getMethodDescriptor().getServiceName())) {
+      return next.startCall(call, headers);
+    }
+
+    String caller = headers.get(SERVICE_NAME);
+    if (!StringUtils.hasText(caller) || !matches(headers.get(SERVICE_TOKEN))) {
+      log.warn(
+          "gRPC 호출 거절. method: {}, caller: {}",
+          call.getMethodDescriptor().getFullMethodName(),
+          caller);
+      call.close(
+          Status.UNAUTHENTICATED.withDescription("service credentials required"), new Metadata());
+      return new ServerCall.Listener<>() {};
+    }
+    return next.startCall(call, headers);
+  }
+
+  private boolean matches(String presented) {
+    return token.length > 0
+        && presented != null
+        && MessageDigest.isEqual(token, presented.getBytes(StandardCharsets.UTF_8));
+  }
+}
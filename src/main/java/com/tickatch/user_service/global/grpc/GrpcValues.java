@@ -0,0 +1,65 @@
+package com.tickatch.user_service.global.grpc;
+
+import io.grpc.Status;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * gRPC 메시지 값 변환 유틸리티.
+ *
+ * <p>proto3 문자열 필드는 null을 가질 수 없으므로 값이 없으면 빈 문자열로 주고받는다. 일시는 REST 응답과 같은 ISO-8601 문자열을 사용한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public final class GrpcValues {
+
+  /** 일괄 조회 요청의 최대 ID 수 (REST 일괄 조회와 같다). */
+  public static final int MAX_BATCH_SIZE = 500;
+
+  private GrpcValues() {
+    // 인스턴스화 방지
+  }
+
+  /**
+   * 값을 문자열 필드 값으로 변환한다. 날짜/일시는 ISO-8601 형식이 된다.
+   *
+   * @param value 값 (null 허용)
+   * @return 문자열 (null이면 빈 문자열)
+   */
+  public static String text(Object value) {
+    return value != null ? value.toString() : "";
+  }
+
+  /**
+   * 요청 ID를 UUID로 변환한다.
+   *
+   * @param id ID 문자열
+   * @return UUID
+   * @throws io.grpc.StatusRuntimeException 형식이 잘못된 경우 (INVALID_ARGUMENT)
+   */
+  public static UUID uuid(String id) {
+    try {
+      return UUID.fromString(id);
+    } catch (IllegalArgumentException e) {
+      throw Status.INVALID_ARGUMENT.withDescription("invalid id: " + id).asRuntimeException();
+    }
+  }
+
+  /**
+   * 일괄 조회 요청 ID 목록을 UUID 목록으로 변환한다.
+   *
+   * @param ids ID 문자열 목록
+   * @return UUID 목록
+   * @throws io.grpc.StatusRuntimeException 비어 있거나 {@link #MAX_BATCH_SIZE}를 넘거나 형식이 잘못된 경우
+   *     (INVALID_ARGUMENT)
+   */
+  public static List<UUID> uuids(List<String> ids) {
+    if (ids.isEmpty() || ids.size() > MAX_BATCH_SIZE) {
+      throw Status.INVALID_ARGUMENT
+          .withDescription("ids must contain 1 to " + MAX_BATCH_SIZE + " items")
+          .asRuntimeException();
+    }
+    return ids.stream().map(GrpcValues::uuid).toList();
+  }
+}
@@ -0,0 +1,31 @@
+package com.tickatch.user_service.global.jdbc;
+
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * 모든 {@link DataSource} 빈을 datasource-proxy로 감싸 {@link QueryMetricsListener}를 연결한다.
+ *
+ * <p>Hikari 풀 메트릭과 헬스 체크는 {@code unwrap}으로 원본 풀에 접근하므로 그대로 동작한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public class DataSourceProxyPostProcessor implements BeanPostProcessor {
+
+  private final QueryMetricsListener listener;
+
+  public DataSourceProxyPostProcessor(QueryMetricsListener listener) {
+    this.listener = listener;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+      return ProxyDataSourceBuilder.create(dataSource).name(beanName).listener(listener).build();
+    }
+    return bean;
+  }
+}
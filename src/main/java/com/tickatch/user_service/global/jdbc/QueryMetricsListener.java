@@ -0,0 +1,116 @@
+package com.tickatch.user_service.global.jdbc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * SQL 실행 리스너.
+ *
+ * <p>datasource-proxy가 SQL 실행 직후 호출한다.
+ *
+ * <ul>
+ *   <li>현재 요청의 {@link QueryStats}에 문장 수와 실행 시간을 더한다
+ *   <li>문장 유형별 실행 수를 {@code user.db.statements{type}} 메트릭으로 남긴다
+ *   <li>임계값 이상 걸린 SQL을 WARN으로 남기고 {@code user.db.slow_queries}로 집계한다. 바인드 파라미터 값은 개인정보가 포함될 수
+ *       있으므로 타입만 남긴다
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+public class QueryMetricsListener implements QueryExecutionListener {
+
+  private final ObjectProvider<MeterRegistry> meterRegistry;
+  private final long slowQueryThresholdMillis;
+  private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+  public QueryMetricsListener(
+      ObjectProvider<MeterRegistry> meterRegistry, Duration slowQueryThreshold) {
+    this.meterRegistry = meterRegistry;
+    this.slowQueryThresholdMillis = slowQueryThreshold.toMillis();
+  }
+
+  @Override
+  public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {}
+
+  @Override
+  public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    int statements = execInfo.isBatch() ? execInfo.getBatchSize() : queryInfoList.size();
+    long elapsedMillis = execInfo.getElapsedTime();
+
+    QueryStats stats = QueryStats.current();
+    if (stats != null) {
+      stats.record(statements, elapsedMillis);
+    }
+
+    for (QueryInfo queryInfo : queryInfoList) {
+      increment("user.db.statements", typeOf(queryInfo.getQuery()));
+    }
+
+    if (elapsedMillis >= slowQueryThresholdMillis) {
+      increment("user.db.slow_queries", null);
+      log.warn(
+          "느린 쿼리. elapsed: {}ms, success: {}, query: {}, parameterTypes: {}",
+          elapsedMillis,
+          execInfo.isSuccess(),
+          queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; ")),
+          redactedParameters(queryInfoList));
+    }
+  }
+
+  private void increment(String name, String type) {
+    MeterRegistry registry = meterRegistry.getIfAvailable();
+    if (registry == null) {
+      return;
+    }
+    counters
+        .computeIfAbsent(
+            name + ':' + type,
+            key -> {
+              Counter.Builder builder = Counter.builder(name);
+              if (type != null) {
+                builder.tag("type", type);
+              }
+              return builder.register(registry);
+            })
+        .increment();
+  }
+
+  /** 문장의 첫 키워드로 유형을 구분한다. (select, insert, update, delete, other) */
+  static String typeOf(String query) {
+    String trimmed = query.stripLeading().toLowerCase(Locale.ROOT);
+    for (String type : List.of("select", "insert", "update", "delete")) {
+      if (trimmed.startsWith(type)) {
+        return type;
+      }
+    }
+    return trimmed.startsWith("with") ? "select" : "other";
+  }
+
+  /** 바인드 파라미터를 값 대신 타입으로 표시한다. (예: [[UUID, String]]) */
+  static List<List<String>> redactedParameters(List<QueryInfo> queryInfoList) {
+    return queryInfoList.stream()
+        .flatMap(queryInfo -> queryInfo.getParametersList().stream())
+        .map(
+            parameters ->
+                parameters.stream()
+                    .map(ParameterSetOperation::getArgs)
+                    .map(args -> args.length > 1 ? args[1] : null)
+                    .map(value -> value == null ? "null" : value.getClass().getSimpleName())
+                    .toList())
+        .toList();
+  }
+}
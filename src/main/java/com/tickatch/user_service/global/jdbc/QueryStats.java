@@ -0,0 +1,60 @@
+package com.tickatch.user_service.global.jdbc;
+
+/**
+ * 요청 단위 SQL 실행 통계.
+ *
+ * <p>{@link QueryStatsFilter}가 HTTP 요청마다 시작하고 종료하며, {@link QueryMetricsListener}가 현재 스레드의 통계에 실행한
+ * 문장 수와 DB 시간을 더한다. 요청 스레드 밖(스케줄러, 메시지 리스너)에서 실행된 SQL은 집계되지 않는다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public final class QueryStats {
+
+  private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+  private int statementCount;
+  private long totalTimeMillis;
+
+  private QueryStats() {}
+
+  /**
+   * 현재 스레드에서 통계 수집을 시작한다. 진행 중인 통계가 있으면 새로 시작한다.
+   *
+   * @return 시작된 통계
+   */
+  public static QueryStats start() {
+    QueryStats stats = new QueryStats();
+    CURRENT.set(stats);
+    return stats;
+  }
+
+  /**
+   * 현재 스레드의 통계를 반환한다.
+   *
+   * @return 진행 중인 통계 (없으면 null)
+   */
+  public static QueryStats current() {
+    return CURRENT.get();
+  }
+
+  /** 현재 스레드의 통계 수집을 종료한다. */
+  public static void clear() {
+    CURRENT.remove();
+  }
+
+  void record(int statements, long elapsedMillis) {
+    statementCount += statements;
+    totalTimeMillis += elapsedMillis;
+  }
+
+  /** 실행한 SQL 문장 수. 배치 실행은 배치 안의 문장 수만큼 센다. */
+  public int statementCount() {
+    return statementCount;
+  }
+
+  /** SQL 실행에 걸린 총 시간 (ms). */
+  public long totalTimeMillis() {
+    return totalTimeMillis;
+  }
+}
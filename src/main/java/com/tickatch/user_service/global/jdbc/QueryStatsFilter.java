@@ -0,0 +1,77 @@
+package com.tickatch.user_service.global.jdbc;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * HTTP 요청별 SQL 실행 통계 필터.
+ *
+ * <p>요청마다 {@link QueryStats}를 시작하고, 요청이 끝나면 엔드포인트(메서드, URI 패턴)별로 기록한다.
+ *
+ * <p>메트릭:
+ *
+ * <ul>
+ *   <li>{@code user.request.db.statements{method,uri}} - 요청당 SQL 문장 수
+ *   <li>{@code user.request.db.time{method,uri}} - 요청당 SQL 실행 시간 합계
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see QueryStatsResponseAdvice
+ * @see com.tickatch.user_service.global.config.DataSourceProxyConfig
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+  private final MeterRegistry meterRegistry;
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    QueryStats stats = QueryStats.start();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      QueryStats.clear();
+      record(request, stats);
+    }
+  }
+
+  private void record(HttpServletRequest request, QueryStats stats) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+
+    DistributionSummary.builder("user.request.db.statements")
+        .description("요청당 SQL 문장 수")
+        .tag("method", request.getMethod())
+        .tag("uri", uri)
+        .register(meterRegistry)
+        .record(stats.statementCount());
+    Timer.builder("user.request.db.time")
+        .description("요청당 SQL 실행 시간 합계")
+        .tag("method", request.getMethod())
+        .tag("uri", uri)
+        .register(meterRegistry)
+        .record(Duration.ofMillis(stats.totalTimeMillis()));
+
+    log.debug(
+        "요청 SQL 통계. {} {}, statements: {}, time: {}ms",
+        request.getMethod(),
+        uri,
+        stats.statementCount(),
+        stats.totalTimeMillis());
+  }
+}
@@ -0,0 +1,54 @@
+package com.tickatch.user_service.global.jdbc;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 헤더로 요청의 SQL 실행 통계를 노출한다. 운영(prod) 프로파일에서는 등록되지 않는다.
+ *
+ * <ul>
+ *   <li>{@code X-Query-Count}: 응답 본문을 쓰기 전까지 실행한 SQL 문장 수
+ *   <li>{@code X-Query-Time-Ms}: SQL 실행 시간 합계 (ms)
+ * </ul>
+ *
+ * <p>헤더는 본문을 쓰기 전에 확정되므로 본문 직렬화 중 지연 로딩으로 실행된 SQL은 포함되지 않는다. 이 경우는 {@code
+ * user.request.db.statements} 메트릭에 반영된다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Profile("!prod")
+@RestControllerAdvice
+public class QueryStatsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+  public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+  public static final String QUERY_TIME_HEADER = "X-Query-Time-Ms";
+
+  @Override
+  public boolean supports(
+      MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+    return true;
+  }
+
+  @Override
+  public Object beforeBodyWrite(
+      Object body,
+      MethodParameter returnType,
+      MediaType selectedContentType,
+      Class<? extends HttpMessageConverter<?>> selectedConverterType,
+      ServerHttpRequest request,
+      ServerHttpResponse response) {
+    QueryStats stats = QueryStats.current();
+    if (stats != null) {
+      response.getHeaders().set(QUERY_COUNT_HEADER, String.valueOf(stats.statementCount()));
+      response.getHeaders().set(QUERY_TIME_HEADER, String.valueOf(stats.totalTimeMillis()));
+    }
+    return body;
+  }
+}
@@ -0,0 +1,52 @@
+package com.tickatch.user_service.global.jdbc;
+
+import java.sql.SQLException;
+import java.util.Locale;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * 유일 제약 위반 판별.
+ *
+ * <p>존재 여부를 먼저 조회하지 않고 INSERT한 뒤 유일 제약 위반을 잡아 중복으로 처리할 때 사용한다. NOT NULL, 외래 키 등 다른 무결성
+ * 위반과 구분하기 위해 SQLSTATE {@code 23505}(PostgreSQL, H2 공통)를 확인한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public final class UniqueViolation {
+
+  private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
+  private UniqueViolation() {}
+
+  /**
+   * 유일 제약 위반인지 확인한다.
+   *
+   * @param e 무결성 위반 예외
+   * @return 유일 제약(기본 키 포함) 위반이면 true
+   */
+  public static boolean matches(DataIntegrityViolationException e) {
+    return NestedExceptionUtils.getMostSpecificCause(e) instanceof SQLException sqlException
+        && UNIQUE_VIOLATION_SQL_STATE.equals(sqlException.getSQLState());
+  }
+
+  /**
+   * 특정 유일 인덱스(제약) 위반인지 확인한다.
+   *
+   * <p>한 테이블에 유일 제약이 여러 개일 때 어느 키가 중복인지 구분하기 위해 사용한다. 드라이버 오류 메시지에 인덱스 이름이 포함되는지로
+   * 판단하며, H2는 이름을 대문자로 바꾸므로 대소문자를 무시한다.
+   *
+   * @param e 무결성 위반 예외
+   * @param indexName 유일 인덱스 또는 제약 이름
+   * @return 해당 인덱스의 유일 제약 위반이면 true
+   */
+  public static boolean matches(DataIntegrityViolationException e, String indexName) {
+    return matches(e)
+        && NestedExceptionUtils.getMostSpecificCause(e).getMessage() != null
+        && NestedExceptionUtils.getMostSpecificCause(e)
+            .getMessage()
+            .toLowerCase(Locale.ROOT)
+            .contains(indexName.toLowerCase(Locale.ROOT));
+  }
+}
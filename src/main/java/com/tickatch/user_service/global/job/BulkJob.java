@@ -0,0 +1,143 @@
+package com.tickatch.user_service.global.job;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 작업 진행 상황.
+ *
+ * <p>작업 스레드가 청크를 처리할 때마다 진행 건수를 갱신하고, {@link BulkJobRegistry}가 바뀐 값을 {@code bulk_jobs} 테이블에 기록한다.
+ * 조회 요청은 어느 인스턴스에서 오든 테이블에서 읽는다. 처리 건수 중 상태가 바뀌지 않은 건(이미 대상 상태, 없는 ID 등)은 건너뛴 건수로 집계한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Entity
+@Table(name = "bulk_jobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BulkJob {
+
+  private static final int MAX_ERROR_MESSAGE_LENGTH = 500;
+
+  /** 작업 ID. */
+  @Id
+  @Column(name = "job_id", nullable = false)
+  private UUID jobId;
+
+  /** 작업 유형. */
+  @Column(name = "type", nullable = false, length = 50)
+  private String type;
+
+  /** 요청 건수. */
+  @Column(name = "total", nullable = false)
+  private int total;
+
+  /** 처리 건수. */
+  @Column(name = "processed", nullable = false)
+  private int processed;
+
+  /** 상태가 바뀐 건수. */
+  @Column(name = "succeeded", nullable = false)
+  private int succeeded;
+
+  /** 작업 상태. */
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false, length = 20)
+  private BulkJobStatus status;
+
+  /** 시작 일시. */
+  @Column(name = "started_at", nullable = false)
+  private LocalDateTime startedAt;
+
+  /** 마지막 진행 기록 일시. */
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  /** 종료 일시. */
+  @Column(name = "finished_at")
+  private LocalDateTime finishedAt;
+
+  /** 실패 사유. */
+  @Column(name = "error_message", length = 500)
+  private String errorMessage;
+
+  /** 진행 상황이 바뀔 때마다 호출되는 기록 함수 (작업을 실행하는 인스턴스에서만 설정). */
+  @Transient private Consumer<BulkJob> progressListener = job -> {};
+
+  BulkJob(String type, int total) {
+    this.jobId = UUID.randomUUID();
+    this.type = type;
+    this.total = total;
+    this.status = BulkJobStatus.RUNNING;
+    this.startedAt = LocalDateTime.now();
+    this.updatedAt = this.startedAt;
+  }
+
+  /**
+   * 진행 상황 기록 함수를 연결한다.
+   *
+   * @param listener 바뀐 진행 상황을 기록하는 함수
+   */
+  void onProgress(Consumer<BulkJob> listener) {
+    this.progressListener = listener;
+  }
+
+  /**
+   * 청크 처리 결과를 반영한다.
+   *
+   * @param processedCount 처리한 건수
+   * @param succeededCount 상태가 바뀐 건수
+   */
+  public void recordChunk(int processedCount, int succeededCount) {
+    this.processed += processedCount;
+    this.succeeded += succeededCount;
+    this.updatedAt = LocalDateTime.now();
+    progressListener.accept(this);
+  }
+
+  /** 작업을 완료 처리한다. */
+  public void complete() {
+    finish(BulkJobStatus.COMPLETED, null);
+  }
+
+  /**
+   * 작업을 실패 처리한다. 이미 처리된 청크는 되돌리지 않는다.
+   *
+   * @param message 실패 사유
+   */
+  public void fail(String message) {
+    finish(BulkJobStatus.FAILED, message);
+  }
+
+  private void finish(BulkJobStatus finalStatus, String message) {
+    this.errorMessage =
+        message != null && message.length() > MAX_ERROR_MESSAGE_LENGTH
+            ? message.substring(0, MAX_ERROR_MESSAGE_LENGTH)
+            : message;
+    this.finishedAt = LocalDateTime.now();
+    this.updatedAt = this.finishedAt;
+    this.status = finalStatus;
+    progressListener.accept(this);
+  }
+
+  /**
+   * 상태가 바뀌지 않고 건너뛴 건수.
+   *
+   * @return 처리 건수 - 성공 건수
+   */
+  public int getSkipped() {
+    return processed - succeeded;
+  }
+}
@@ -0,0 +1,147 @@
+package com.tickatch.user_service.global.job;
+
+import io.github.tickatch.common.error.BusinessException;
+import io.github.tickatch.common.error.GlobalErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일괄 작업 실행기 및 진행 상황 저장소.
+ *
+ * <p>작업을 {@code bulkJobExecutor} 스레드 풀에서 실행하고 작업 핸들({@link BulkJob})을 바로 반환하여, 요청 스레드가 작업이 끝날 때까지
+ * 붙잡혀 있지 않게 한다. 요청자의 인증 정보는 작업 스레드로 전달되어 수정자({@code updated_by})로 기록된다.
+ *
+ * <p>진행 상황은 {@code bulk_jobs} 테이블에 작업 ID로 저장하므로, 작업을 시작한 인스턴스가 아니어도 조회할 수 있다. 청크마다, 그리고 종료 시
+ * 한 번씩 기록한다. 종료 후 보존 기간({@code user.bulk.job-retention-ms})이 지나면 제거하며, 보존 기간 동안 진행 기록이 없는 진행 중
+ * 작업은 실행하던 인스턴스가 종료된 것으로 보고 실패 처리한다. 스레드 풀과 대기 큐가 가득 차면 {@code SERVICE_UNAVAILABLE}로 거절한다.
+ *
+ * <p>메트릭: {@code user.bulk.jobs.active} - 이 인스턴스에서 진행 중인 일괄 작업 수
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class BulkJobRegistry {
+
+  private final Executor executor;
+  private final BulkJobRepository bulkJobRepository;
+  private final long retentionMillis;
+  private final AtomicInteger running = new AtomicInteger();
+
+  public BulkJobRegistry(
+      @Qualifier("bulkJobExecutor") Executor executor,
+      BulkJobRepository bulkJobRepository,
+      MeterRegistry meterRegistry,
+      @Value("${user.bulk.job-retention-ms:3600000}") long retentionMillis) {
+    this.executor = executor;
+    this.bulkJobRepository = bulkJobRepository;
+    this.retentionMillis = retentionMillis;
+    Gauge.builder("user.bulk.jobs.active", running, AtomicInteger::get)
+        .description("진행 중인 일괄 작업 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 일괄 작업을 시작한다.
+   *
+   * <p>작업 본문이 예외 없이 끝나면 완료, 예외가 발생하면 실패로 처리한다.
+   *
+   * @param type 작업 유형 (예: CUSTOMER_SUSPEND)
+   * @param total 요청 건수
+   * @param work 작업 본문 (진행 건수는 {@link BulkJob#recordChunk(int, int)}로 갱신)
+   * @return 작업 핸들
+   * @throws BusinessException 실행 대기열이 가득 찬 경우
+   */
+  public BulkJob submit(String type, int total, Consumer<BulkJob> work) {
+    BulkJob job = bulkJobRepository.saveAndFlush(new BulkJob(type, total));
+    job.onProgress(this::saveProgress);
+    running.incrementAndGet();
+    try {
+      executor.execute(new DelegatingSecurityContextRunnable(() -> run(job, work)));
+    } catch (RejectedExecutionException e) {
+      running.decrementAndGet();
+      bulkJobRepository.deleteById(job.getJobId());
+      log.warn("일괄 작업 거절. type: {}, total: {}", type, total);
+      throw new BusinessException(GlobalErrorCode.SERVICE_UNAVAILABLE);
+    }
+    log.info("일괄 작업 시작. jobId: {}, type: {}, total: {}", job.getJobId(), type, total);
+    return job;
+  }
+
+  /**
+   * 작업을 조회한다.
+   *
+   * @param jobId 작업 ID
+   * @return 작업 (없거나 보존 기간이 지나 제거되었으면 empty)
+   */
+  public Optional<BulkJob> find(UUID jobId) {
+    return bulkJobRepository.findById(jobId);
+  }
+
+  /** 보존 기간이 지난 종료 작업을 제거하고, 진행 기록이 멈춘 작업을 실패 처리한다. */
+  @Scheduled(fixedDelayString = "${user.bulk.cleanup-interval-ms:600000}")
+  public void removeExpired() {
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime cutoff = now.minusNanos(retentionMillis * 1_000_000L);
+    int stale = bulkJobRepository.failStale(cutoff, now, "작업 진행 기록이 중단되었습니다.");
+    int deleted = bulkJobRepository.deleteFinishedBefore(cutoff);
+    if (stale > 0 || deleted > 0) {
+      log.info("일괄 작업 정리 완료. stale: {}, deleted: {}", stale, deleted);
+    }
+  }
+
+  private void run(BulkJob job, Consumer<BulkJob> work) {
+    try {
+      work.accept(job);
+      job.complete();
+      log.info(
+          "일괄 작업 완료. jobId: {}, type: {}, processed: {}, succeeded: {}",
+          job.getJobId(),
+          job.getType(),
+          job.getProcessed(),
+          job.getSucceeded());
+    } catch (Exception e) {
+      job.fail(e.getMessage());
+      log.error(
+          "일괄 작업 실패. jobId: {}, type: {}, processed: {}, error: {}",
+          job.getJobId(),
+          job.getType(),
+          job.getProcessed(),
+          e.getMessage(),
+          e);
+    } finally {
+      running.decrementAndGet();
+    }
+  }
+
+  /** 진행 상황을 기록한다. 기록에 실패해도 작업은 계속한다. */
+  private void saveProgress(BulkJob job) {
+    try {
+      bulkJobRepository.updateProgress(
+          job.getJobId(),
+          job.getProcessed(),
+          job.getSucceeded(),
+          job.getStatus(),
+          job.getUpdatedAt(),
+          job.getFinishedAt(),
+          job.getErrorMessage());
+    } catch (DataAccessException e) {
+      log.warn("일괄 작업 진행 기록 실패. jobId: {}, error: {}", job.getJobId(), e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package com.tickatch.user_service.global.job;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 일괄 작업 진행 상황 리포지토리.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public interface BulkJobRepository extends JpaRepository<BulkJob, UUID> {
+
+  /**
+   * 작업의 진행 상황을 기록한다.
+   *
+   * <p>작업을 실행하는 스레드만 호출하므로 값을 그대로 덮어쓴다.
+   *
+   * @param jobId 작업 ID
+   * @param processed 처리 건수
+   * @param succeeded 상태가 바뀐 건수
+   * @param status 작업 상태
+   * @param updatedAt 기록 일시
+   * @param finishedAt 종료 일시 (진행 중이면 null)
+   * @param errorMessage 실패 사유
+   * @return 변경된 행 수
+   */
+  @Transactional
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      """
+      UPDATE BulkJob j
+         SET j.processed = :processed, j.succeeded = :succeeded, j.status = :status,
+             j.updatedAt = :updatedAt, j.finishedAt = :finishedAt, j.errorMessage = :errorMessage
+       WHERE j.jobId = :jobId
+      """)
+  int updateProgress(
+      @Param("jobId") UUID jobId,
+      @Param("processed") int processed,
+      @Param("succeeded") int succeeded,
+      @Param("status") BulkJobStatus status,
+      @Param("updatedAt") LocalDateTime updatedAt,
+      @Param("finishedAt") LocalDateTime finishedAt,
+      @Param("errorMessage") String errorMessage);
+
+  /**
+   * 진행 기록이 기준 일시 이전에 멈춘 진행 중 작업을 실패 처리한다.
+   *
+   * <p>작업을 실행하던 인스턴스가 종료되어 더 이상 갱신되지 않는 작업이 대상이다.
+   *
+   * @param staleBefore 이 일시 이전에 마지막으로 기록된 작업만 대상
+   * @param now 종료 일시
+   * @param message 실패 사유
+   * @return 변경된 행 수
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query(
+      """
+      UPDATE BulkJob j
+         SET j.status = com.tickatch.user_service.global.job.BulkJobStatus.FAILED,
+             j.finishedAt = :now, j.updatedAt = :now, j.errorMessage = :message
+       WHERE j.status = com.tickatch.user_service.global.job.BulkJobStatus.RUNNING
+         AND j.updatedAt < :staleBefore
+      """)
+  int failStale(
+      @Param("staleBefore") LocalDateTime staleBefore,
+      @Param("now") LocalDateTime now,
+      @Param("message") String message);
+
+  /**
+   * 기준 일시 이전에 종료된 작업을 삭제한다.
+   *
+   * @param finishedBefore 이 일시 이전에 종료된 작업만 삭제
+   * @return 삭제된 행 수
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("DELETE FROM BulkJob j WHERE j.finishedAt < :finishedBefore")
+  int deleteFinishedBefore(@Param("finishedBefore") LocalDateTime finishedBefore);
+}
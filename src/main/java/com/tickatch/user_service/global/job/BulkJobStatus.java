@@ -0,0 +1,35 @@
+package com.tickatch.user_service.global.job;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일괄 작업 상태.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BulkJobStatus {
+
+  /** 진행 중. */
+  RUNNING("진행 중"),
+
+  /** 완료. */
+  COMPLETED("완료"),
+
+  /** 실패. */
+  FAILED("실패");
+
+  private final String description;
+
+  /**
+   * 종료된 상태인지 확인.
+   *
+   * @return 완료 또는 실패 상태이면 true
+   */
+  public boolean isFinished() {
+    return this != RUNNING;
+  }
+}
@@ -0,0 +1,36 @@
+package com.tickatch.user_service.global.job.dto;
+
+import com.tickatch.user_service.global.job.BulkJob;
+import com.tickatch.user_service.global.job.BulkJobStatus;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** 일괄 작업 진행 상황 응답 DTO. */
+public record BulkJobResponse(
+    UUID jobId,
+    String type,
+    BulkJobStatus status,
+    int total,
+    int processed,
+    int succeeded,
+    int skipped,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt,
+    String errorMessage) {
+
+  public static BulkJobResponse from(BulkJob job) {
+    int processed = job.getProcessed();
+    int succeeded = job.getSucceeded();
+    return new BulkJobResponse(
+        job.getJobId(),
+        job.getType(),
+        job.getStatus(),
+        job.getTotal(),
+        processed,
+        succeeded,
+        processed - succeeded,
+        job.getStartedAt(),
+        job.getFinishedAt(),
+        job.getErrorMessage());
+  }
+}
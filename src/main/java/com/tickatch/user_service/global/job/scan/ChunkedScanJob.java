@@ -0,0 +1,40 @@
+package com.tickatch.user_service.global.job.scan;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 테이블 전체를 청크 단위로 훑는 예약 작업.
+ *
+ * <p>{@link ChunkedScanRunner}가 ID 기준 키셋 페이지네이션으로 청크를 읽고 처리를 호출한다. 처리는 여러 스레드에서 동시에 호출되며, 재시작
+ * 시 마지막 체크포인트 이후 청크가 다시 처리될 수 있으므로 멱등이어야 한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public interface ChunkedScanJob {
+
+  /**
+   * 작업 이름. 체크포인트 키로 사용하므로 작업마다 고유해야 한다.
+   *
+   * @return 작업 이름
+   */
+  String name();
+
+  /**
+   * 다음 청크의 ID를 읽는다.
+   *
+   * @param after 이 ID보다 큰 ID만 읽는다 (처음이면 null)
+   * @param size 최대 건수
+   * @return ID 오름차순 목록 (끝이면 빈 목록)
+   */
+  List<UUID> readChunk(UUID after, int size);
+
+  /**
+   * 청크를 처리한다. 청크마다 별도 트랜잭션에서 실행해야 한다.
+   *
+   * @param ids 청크 ID 목록
+   * @return 실제로 변경된 건수
+   */
+  int processChunk(List<UUID> ids);
+}
@@ -0,0 +1,207 @@
+package com.tickatch.user_service.global.job.scan;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 청크 작업 실행기.
+ *
+ * <p>{@link ChunkedScanJob}을 ID 기준 키셋 청크({@code user.scan.chunk-size})로 끝까지 실행한다. OFFSET 페이지네이션과
+ * 달리 청크를 읽는 비용이 테이블 위치와 관계없이 일정하다.
+ *
+ * <ul>
+ *   <li>청크를 {@code user.scan.parallelism}개씩 읽어 {@code scanJobExecutor} 스레드 풀에서 동시에 처리한다
+ *   <li>한 묶음이 모두 끝나면 마지막 키를 체크포인트({@link ScanCheckpoint})에 기록한다. 실패하거나 재시작되면 다음 실행이 체크포인트
+ *       다음부터 재개한다
+ *   <li>묶음마다 걸린 시간에 비례해 쉬어, 작업 시간 비율을 {@code user.scan.max-db-utilization} 이하로 유지한다
+ *   <li>체크포인트 행의 임대({@code user.scan.lease-ms})로 여러 인스턴스 중 하나만 실행한다. 임대는 묶음마다 연장한다
+ * </ul>
+ *
+ * <p>메트릭: {@code user.scan.rows{job}} - 읽은 건수, {@code user.scan.affected{job}} - 변경된 건수
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class ChunkedScanRunner {
+
+  private final ScanCheckpointRepository checkpointRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final Executor executor;
+  private final MeterRegistry meterRegistry;
+  private final DutyCycleThrottle throttle;
+  private final int chunkSize;
+  private final int parallelism;
+  private final long leaseMillis;
+
+  public ChunkedScanRunner(
+      ScanCheckpointRepository checkpointRepository,
+      TransactionTemplate transactionTemplate,
+      @Qualifier("scanJobExecutor") Executor executor,
+      MeterRegistry meterRegistry,
+      @Value("${user.scan.chunk-size:1000}") int chunkSize,
+      @Value("${user.scan.parallelism:2}") int parallelism,
+      @Value("${user.scan.max-db-utilization:0.25}") double maxDbUtilization,
+      @Value("${user.scan.lease-ms:1800000}") long leaseMillis) {
+    this.checkpointRepository = checkpointRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.executor = executor;
+    this.meterRegistry = meterRegistry;
+    this.throttle = new DutyCycleThrottle(maxDbUtilization);
+    this.chunkSize = chunkSize;
+    this.parallelism = parallelism;
+    this.leaseMillis = leaseMillis;
+  }
+
+  /**
+   * 작업을 실행한다.
+   *
+   * <p>다른 인스턴스가 실행 중이면 바로 반환한다. 처리 중 예외가 발생하면 로그를 남기고 임대를 반납하며, 이미 기록된 체크포인트는 유지한다.
+   *
+   * @param job 실행할 작업
+   */
+  public void run(ChunkedScanJob job) {
+    String name = job.name();
+    if (!acquireLease(name)) {
+      log.info("다른 인스턴스에서 실행 중이어서 건너뜁니다. job: {}", name);
+      return;
+    }
+
+    ScanCheckpoint checkpoint =
+        transactionTemplate.execute(
+            status -> {
+              ScanCheckpoint found = checkpointRepository.findById(name).orElseThrow();
+              found.start();
+              return found;
+            });
+    UUID cursor = checkpoint.getLastKey();
+    log.info("청크 작업 시작. job: {}, resumeAfter: {}", name, cursor);
+
+    Counter rowCounter = counter("user.scan.rows", "청크 작업에서 읽은 건수", name);
+    Counter affectedCounter = counter("user.scan.affected", "청크 작업에서 변경된 건수", name);
+    try {
+      while (true) {
+        long startedAt = System.nanoTime();
+        List<List<UUID>> chunks = readChunks(job, cursor);
+        if (chunks.isEmpty()) {
+          break;
+        }
+
+        List<CompletableFuture<Integer>> futures =
+            chunks.stream()
+                .map(
+                    chunk -> CompletableFuture.supplyAsync(() -> job.processChunk(chunk), executor))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        List<UUID> lastChunk = chunks.get(chunks.size() - 1);
+        cursor = lastChunk.get(lastChunk.size() - 1);
+        int rows = chunks.stream().mapToInt(List::size).sum();
+        int affected = futures.stream().mapToInt(CompletableFuture::join).sum();
+        saveProgress(name, cursor, rows, affected);
+        rowCounter.increment(rows);
+        affectedCounter.increment(affected);
+
+        if (lastChunk.size() < chunkSize) {
+          break;
+        }
+        throttle.pause(System.nanoTime() - startedAt);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      release(name);
+      log.warn("청크 작업 중단. job: {}, lastKey: {}", name, cursor);
+      return;
+    } catch (RuntimeException e) {
+      release(name);
+      log.error(
+          "청크 작업 실패. 다음 실행에서 체크포인트부터 재개합니다. job: {}, lastKey: {}, error: {}",
+          name,
+          cursor,
+          e.getMessage(),
+          e);
+      return;
+    }
+
+    ScanCheckpoint completed = complete(name);
+    log.info(
+        "청크 작업 완료. job: {}, processed: {}, affected: {}",
+        name,
+        completed.getProcessed(),
+        completed.getAffected());
+  }
+
+  private List<List<UUID>> readChunks(ChunkedScanJob job, UUID after) {
+    List<List<UUID>> chunks = new ArrayList<>(parallelism);
+    UUID cursor = after;
+    for (int i = 0; i < parallelism; i++) {
+      List<UUID> chunk = job.readChunk(cursor, chunkSize);
+      if (chunk.isEmpty()) {
+        break;
+      }
+      chunks.add(chunk);
+      if (chunk.size() < chunkSize) {
+        break;
+      }
+      cursor = chunk.get(chunk.size() - 1);
+    }
+    return chunks;
+  }
+
+  private boolean acquireLease(String name) {
+    if (!checkpointRepository.existsById(name)) {
+      try {
+        checkpointRepository.saveAndFlush(ScanCheckpoint.create(name));
+      } catch (DataIntegrityViolationException e) {
+        // 다른 인스턴스가 먼저 생성했다
+      }
+    }
+    LocalDateTime now = LocalDateTime.now();
+    return checkpointRepository.acquireLease(name, now, now.plusNanos(leaseMillis * 1_000_000L))
+        == 1;
+  }
+
+  private void saveProgress(String name, UUID lastKey, int rows, int affected) {
+    LocalDateTime leaseUntil = LocalDateTime.now().plusNanos(leaseMillis * 1_000_000L);
+    transactionTemplate.executeWithoutResult(
+        status ->
+            checkpointRepository
+                .findById(name)
+                .orElseThrow()
+                .advance(lastKey, rows, affected, leaseUntil));
+  }
+
+  private ScanCheckpoint complete(String name) {
+    return transactionTemplate.execute(
+        status -> {
+          ScanCheckpoint checkpoint = checkpointRepository.findById(name).orElseThrow();
+          checkpoint.complete();
+          return checkpoint;
+        });
+  }
+
+  private void release(String name) {
+    transactionTemplate.executeWithoutResult(
+        status -> checkpointRepository.findById(name).ifPresent(ScanCheckpoint::release));
+  }
+
+  private Counter counter(String meterName, String description, String job) {
+    return Counter.builder(meterName)
+        .description(description)
+        .tag("job", job)
+        .register(meterRegistry);
+  }
+}
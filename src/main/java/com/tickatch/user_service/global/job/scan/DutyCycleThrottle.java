@@ -0,0 +1,50 @@
+package com.tickatch.user_service.global.job.scan;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작업 시간 비율 제한기.
+ *
+ * <p>작업이 DB를 사용한 시간에 비례해 쉬어, 전체 시간 중 작업 시간 비율이 {@code maxUtilization}을 넘지 않게 한다. 예를 들어 0.25이면
+ * 1초 작업할 때마다 3초 쉰다. 1 이상이면 쉬지 않는다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public class DutyCycleThrottle {
+
+  private final double maxUtilization;
+
+  public DutyCycleThrottle(double maxUtilization) {
+    if (maxUtilization <= 0) {
+      throw new IllegalArgumentException("maxUtilization must be positive: " + maxUtilization);
+    }
+    this.maxUtilization = maxUtilization;
+  }
+
+  /**
+   * 작업 시간에 대해 쉬어야 하는 시간을 계산한다.
+   *
+   * @param busyNanos 작업 시간 (나노초)
+   * @return 쉬어야 하는 시간 (나노초)
+   */
+  public long pauseNanos(long busyNanos) {
+    if (maxUtilization >= 1 || busyNanos <= 0) {
+      return 0;
+    }
+    return (long) (busyNanos * (1 - maxUtilization) / maxUtilization);
+  }
+
+  /**
+   * 작업 시간에 비례해 쉰다.
+   *
+   * @param busyNanos 작업 시간 (나노초)
+   * @throws InterruptedException 쉬는 중 인터럽트된 경우
+   */
+  public void pause(long busyNanos) throws InterruptedException {
+    long pauseNanos = pauseNanos(busyNanos);
+    if (pauseNanos > 0) {
+      TimeUnit.NANOSECONDS.sleep(pauseNanos);
+    }
+  }
+}
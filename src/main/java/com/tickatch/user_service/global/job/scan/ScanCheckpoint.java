@@ -0,0 +1,102 @@
+package com.tickatch.user_service.global.job.scan;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 청크 작업 체크포인트.
+ *
+ * <p>작업마다 한 행을 두고, 마지막으로 처리한 키와 진행 건수를 기록한다. {@code last_key}가 있으면 이전 실행이 끝나지 않은 것이므로 다음 실행은 그
+ * 키 다음부터 재개한다. 실행 중에는 임대 만료 일시({@code lease_until})로 다른 인스턴스의 중복 실행을 막는다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Entity
+@Table(name = "scan_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ScanCheckpoint {
+
+  /** 작업 이름. */
+  @Id
+  @Column(name = "job_name", nullable = false, length = 100)
+  private String jobName;
+
+  /** 마지막으로 처리한 키 (실행 중이 아니면 null). */
+  @Column(name = "last_key")
+  private UUID lastKey;
+
+  /** 현재 실행에서 읽은 건수. */
+  @Column(name = "processed", nullable = false)
+  private long processed;
+
+  /** 현재 실행에서 변경된 건수. */
+  @Column(name = "affected", nullable = false)
+  private long affected;
+
+  /** 현재 실행 시작 일시. */
+  @Column(name = "run_started_at")
+  private LocalDateTime runStartedAt;
+
+  /** 마지막 완료 일시. */
+  @Column(name = "last_completed_at")
+  private LocalDateTime lastCompletedAt;
+
+  /** 임대 만료 일시 (실행 중이 아니면 null). */
+  @Column(name = "lease_until")
+  private LocalDateTime leaseUntil;
+
+  private ScanCheckpoint(String jobName) {
+    this.jobName = jobName;
+  }
+
+  static ScanCheckpoint create(String jobName) {
+    return new ScanCheckpoint(jobName);
+  }
+
+  /**
+   * 실행 중인지 확인.
+   *
+   * @return 이전 실행이 끝나지 않았으면 true
+   */
+  public boolean isInProgress() {
+    return lastKey != null;
+  }
+
+  /** 실행을 시작한다. 이전 실행이 끝나지 않았으면 진행 상황을 이어간다. */
+  void start() {
+    if (!isInProgress()) {
+      this.processed = 0;
+      this.affected = 0;
+      this.runStartedAt = LocalDateTime.now();
+    }
+  }
+
+  /** 처리한 청크를 반영하고 임대를 연장한다. */
+  void advance(UUID lastKey, int processedCount, int affectedCount, LocalDateTime leaseUntil) {
+    this.lastKey = lastKey;
+    this.processed += processedCount;
+    this.affected += affectedCount;
+    this.leaseUntil = leaseUntil;
+  }
+
+  /** 실행을 완료하고 임대를 반납한다. */
+  void complete() {
+    this.lastKey = null;
+    this.lastCompletedAt = LocalDateTime.now();
+    this.leaseUntil = null;
+  }
+
+  /** 진행 상황을 유지한 채 임대를 반납한다. */
+  void release() {
+    this.leaseUntil = null;
+  }
+}
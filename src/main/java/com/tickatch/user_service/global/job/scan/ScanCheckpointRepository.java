@@ -0,0 +1,38 @@
+package com.tickatch.user_service.global.job.scan;
+
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 청크 작업 체크포인트 JPA 리포지토리.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public interface ScanCheckpointRepository extends JpaRepository<ScanCheckpoint, String> {
+
+  /**
+   * 임대가 없거나 만료된 경우에만 임대를 잡는다.
+   *
+   * @param jobName 작업 이름
+   * @param now 현재 일시
+   * @param leaseUntil 임대 만료 일시
+   * @return 임대를 잡았으면 1
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query(
+      """
+      UPDATE ScanCheckpoint c
+         SET c.leaseUntil = :leaseUntil
+       WHERE c.jobName = :jobName AND (c.leaseUntil IS NULL OR c.leaseUntil < :now)
+      """)
+  int acquireLease(
+      @Param("jobName") String jobName,
+      @Param("now") LocalDateTime now,
+      @Param("leaseUntil") LocalDateTime leaseUntil);
+}
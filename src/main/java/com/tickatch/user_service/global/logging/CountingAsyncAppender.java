@@ -0,0 +1,51 @@
+package com.tickatch.user_service.global.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 버려진 이벤트를 집계하는 비동기 어펜더.
+ *
+ * <p>Logback {@link AsyncAppender}와 동작은 같고, 유실된 이벤트 수를 {@link LogEventCounters}에 남긴다.
+ *
+ * <ul>
+ *   <li>discarded: 큐 여유가 {@code discardingThreshold} 아래로 떨어져 INFO 이하 이벤트를 버린 경우
+ *   <li>queue_full: {@code neverBlock}이 켜진 상태에서 큐가 가득 차 이벤트를 버린 경우
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+
+  private LongAdder discarded = new LongAdder();
+  private LongAdder queueFull = new LongAdder();
+
+  @Override
+  public void start() {
+    discarded = LogEventCounters.dropped(getName(), "discarded");
+    queueFull = LogEventCounters.dropped(getName(), "queue_full");
+    LogEventCounters.registerQueue(getName(), this::getNumberOfElementsInQueue);
+    super.start();
+  }
+
+  @Override
+  protected void append(ILoggingEvent eventObject) {
+    // 가득 찬 큐에 넣으려는 이벤트는 상위 클래스에서 알림 없이 버려지므로 여기서 집계한다
+    if (isNeverBlock() && getRemainingCapacity() == 0) {
+      queueFull.increment();
+      return;
+    }
+    super.append(eventObject);
+  }
+
+  @Override
+  protected boolean isDiscardable(ILoggingEvent event) {
+    boolean discardable = super.isDiscardable(event);
+    if (discardable) {
+      discarded.increment();
+    }
+    return discardable;
+  }
+}
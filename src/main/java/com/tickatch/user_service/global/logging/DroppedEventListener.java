@@ -0,0 +1,31 @@
+package com.tickatch.user_service.global.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import net.logstash.logback.appender.listener.TcpAppenderListener;
+
+/**
+ * Logstash TCP 어펜더의 유실 이벤트를 집계하는 리스너.
+ *
+ * <ul>
+ *   <li>append_failed: 링 버퍼가 가득 차 이벤트를 버린 경우
+ *   <li>send_failed: Logstash로 전송하지 못한 경우
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public class DroppedEventListener implements TcpAppenderListener<ILoggingEvent> {
+
+  @Override
+  public void eventAppendFailed(
+      Appender<ILoggingEvent> appender, ILoggingEvent event, Throwable reason) {
+    LogEventCounters.dropped(appender.getName(), "append_failed").increment();
+  }
+
+  @Override
+  public void eventSendFailure(
+      Appender<ILoggingEvent> appender, ILoggingEvent event, Throwable reason) {
+    LogEventCounters.dropped(appender.getName(), "send_failed").increment();
+  }
+}
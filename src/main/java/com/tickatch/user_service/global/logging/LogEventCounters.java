@@ -0,0 +1,127 @@
+package com.tickatch.user_service.global.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * 로그 파이프라인 카운터 저장소.
+ *
+ * <p>Logback 구성 요소(어펜더, 터보 필터)는 스프링 컨텍스트보다 먼저 생성되므로 카운터를 정적으로 보관하고, {@link LoggingMetrics}가
+ * 바인딩된 이후에 생긴 카운터는 생성 시점에 바로 등록한다.
+ *
+ * <p>메트릭:
+ *
+ * <ul>
+ *   <li>{@code logging.events.dropped{appender,reason}} - 버려진 로그 이벤트 수
+ *   <li>{@code logging.events.sampled_out{logger}} - 샘플링으로 억제된 로그 이벤트 수
+ *   <li>{@code logging.async.queue.size{appender}} - 비동기 어펜더 큐에 대기 중인 이벤트 수
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public final class LogEventCounters {
+
+  private static final Map<DropKey, LongAdder> DROPPED = new ConcurrentHashMap<>();
+  private static final Map<String, LongAdder> SAMPLED_OUT = new ConcurrentHashMap<>();
+  private static final Map<String, IntSupplier> QUEUES = new ConcurrentHashMap<>();
+
+  private static volatile MeterRegistry registry;
+
+  private LogEventCounters() {}
+
+  /**
+   * 버려진 이벤트 카운터를 반환한다.
+   *
+   * @param appender 어펜더 이름
+   * @param reason 버려진 이유 (discarded, queue_full 등)
+   * @return 카운터
+   */
+  public static LongAdder dropped(String appender, String reason) {
+    return DROPPED.computeIfAbsent(
+        new DropKey(appender, reason),
+        key -> {
+          LongAdder adder = new LongAdder();
+          MeterRegistry current = registry;
+          if (current != null) {
+            registerDropped(current, key, adder);
+          }
+          return adder;
+        });
+  }
+
+  /**
+   * 샘플링으로 억제된 이벤트 카운터를 반환한다.
+   *
+   * @param logger 샘플링 대상 로거 접두사
+   * @return 카운터
+   */
+  public static LongAdder sampledOut(String logger) {
+    return SAMPLED_OUT.computeIfAbsent(
+        logger,
+        key -> {
+          LongAdder adder = new LongAdder();
+          MeterRegistry current = registry;
+          if (current != null) {
+            registerSampledOut(current, key, adder);
+          }
+          return adder;
+        });
+  }
+
+  /**
+   * 비동기 어펜더의 큐 크기 조회 함수를 등록한다. 재구성으로 같은 이름의 어펜더가 다시 시작되면 교체한다.
+   *
+   * @param appender 어펜더 이름
+   * @param queueSize 큐에 대기 중인 이벤트 수
+   */
+  public static void registerQueue(String appender, IntSupplier queueSize) {
+    boolean added = QUEUES.put(appender, queueSize) == null;
+    MeterRegistry current = registry;
+    if (added && current != null) {
+      registerQueueGauge(current, appender);
+    }
+  }
+
+  static synchronized void bindTo(MeterRegistry meterRegistry) {
+    registry = meterRegistry;
+    DROPPED.forEach((key, adder) -> registerDropped(meterRegistry, key, adder));
+    SAMPLED_OUT.forEach((key, adder) -> registerSampledOut(meterRegistry, key, adder));
+    QUEUES.keySet().forEach(appender -> registerQueueGauge(meterRegistry, appender));
+  }
+
+  private static void registerDropped(MeterRegistry meterRegistry, DropKey key, LongAdder adder) {
+    FunctionCounter.builder("logging.events.dropped", adder, LongAdder::sum)
+        .description("버려진 로그 이벤트 수")
+        .tag("appender", key.appender())
+        .tag("reason", key.reason())
+        .register(meterRegistry);
+  }
+
+  private static void registerSampledOut(
+      MeterRegistry meterRegistry, String logger, LongAdder adder) {
+    FunctionCounter.builder("logging.events.sampled_out", adder, LongAdder::sum)
+        .description("샘플링으로 억제된 로그 이벤트 수")
+        .tag("logger", logger)
+        .register(meterRegistry);
+  }
+
+  private static void registerQueueGauge(MeterRegistry meterRegistry, String appender) {
+    Gauge.builder(
+            "logging.async.queue.size",
+            () -> {
+              IntSupplier queueSize = QUEUES.get(appender);
+              return queueSize == null ? 0 : queueSize.getAsInt();
+            })
+        .description("비동기 어펜더 큐에 대기 중인 로그 이벤트 수")
+        .tag("appender", appender)
+        .register(meterRegistry);
+  }
+
+  private record DropKey(String appender, String reason) {}
+}
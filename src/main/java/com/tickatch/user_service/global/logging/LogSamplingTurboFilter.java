@@ -0,0 +1,113 @@
+package com.tickatch.user_service.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.slf4j.Marker;
+
+/**
+ * 고빈도 로그 샘플링 필터.
+ *
+ * <p>지정한 로거 접두사({@code loggerPrefix})에 속한 INFO 이하 로그를 로거와 메시지 템플릿 단위로 초당 {@code maxPerSecond}건까지만
+ * 출력한다. 같은 템플릿이 반복되는 핫패스 로그가 어펜더 큐를 채우지 않게 하며, 억제된 건수는 {@code
+ * logging.events.sampled_out} 메트릭으로 남긴다. WARN 이상은 항상 출력한다.
+ *
+ * <pre>{@code
+ * <turboFilter class="com.tickatch.user_service.global.logging.LogSamplingTurboFilter">
+ *   <loggerPrefix>com.tickatch.user_service.customer.application.service.command</loggerPrefix>
+ *   <maxPerSecond>20</maxPerSecond>
+ * </turboFilter>
+ * }</pre>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public class LogSamplingTurboFilter extends TurboFilter {
+
+  /** 추적할 최대 (로거, 템플릿) 수. 넘으면 초기화한다. */
+  private static final int MAX_TRACKED_TEMPLATES = 1_000;
+
+  private static final long WINDOW_NANOS = 1_000_000_000L;
+
+  private final List<String> loggerPrefixes = new CopyOnWriteArrayList<>();
+  private final Map<String, Window> windows = new ConcurrentHashMap<>();
+  private int maxPerSecond = 20;
+
+  public void addLoggerPrefix(String loggerPrefix) {
+    loggerPrefixes.add(loggerPrefix.trim());
+  }
+
+  public void setMaxPerSecond(int maxPerSecond) {
+    this.maxPerSecond = maxPerSecond;
+  }
+
+  @Override
+  public void start() {
+    if (maxPerSecond <= 0) {
+      addError("maxPerSecond는 1 이상이어야 합니다: " + maxPerSecond);
+      return;
+    }
+    loggerPrefixes.forEach(LogEventCounters::sampledOut);
+    super.start();
+  }
+
+  @Override
+  public FilterReply decide(
+      Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+    // isDebugEnabled() 등 레벨 확인 호출은 format이 null이다
+    if (!isStarted() || format == null || level == null || level.isGreaterOrEqual(Level.WARN)) {
+      return FilterReply.NEUTRAL;
+    }
+    String prefix = matchingPrefix(logger.getName());
+    if (prefix == null || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+      return FilterReply.NEUTRAL;
+    }
+
+    String key = logger.getName() + '|' + format;
+    if (windows.size() >= MAX_TRACKED_TEMPLATES && !windows.containsKey(key)) {
+      windows.clear();
+    }
+    long now = System.nanoTime();
+    if (windows.computeIfAbsent(key, k -> new Window(now)).tryAcquire(now, maxPerSecond)) {
+      return FilterReply.NEUTRAL;
+    }
+    LogEventCounters.sampledOut(prefix).increment();
+    return FilterReply.DENY;
+  }
+
+  private String matchingPrefix(String loggerName) {
+    for (String prefix : loggerPrefixes) {
+      if (loggerName.startsWith(prefix)) {
+        return prefix;
+      }
+    }
+    return null;
+  }
+
+  private static final class Window {
+
+    private long startedAt;
+    private int count;
+
+    Window(long startedAt) {
+      this.startedAt = startedAt;
+    }
+
+    synchronized boolean tryAcquire(long now, int limit) {
+      if (now - startedAt >= WINDOW_NANOS) {
+        startedAt = now;
+        count = 0;
+      }
+      if (count >= limit) {
+        return false;
+      }
+      count++;
+      return true;
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package com.tickatch.user_service.global.logging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그 파이프라인 메트릭 바인더.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see LogEventCounters
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    LogEventCounters.bindTo(registry);
+  }
+}
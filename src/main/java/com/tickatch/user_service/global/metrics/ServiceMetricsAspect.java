@@ -0,0 +1,116 @@
+package com.tickatch.user_service.global.metrics;
+
+import io.github.tickatch.common.error.BusinessException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커맨드/쿼리 서비스 메트릭 애스펙트.
+ *
+ * <p>{@code *CommandService}, {@code *QueryService}의 public 메서드 실행 시간을 결과별로 기록한다. 트랜잭션 커밋까지 포함하도록
+ * 트랜잭션 어드바이스보다 바깥에서 실행된다. {@code Mono}를 반환하는 반응형 조회기({@code *ReactiveReader})는 메서드가 조립만 하고
+ * 바로 반환하므로 대상에서 제외된다.
+ *
+ * <p>메트릭: {@code user.service.operation} (Timer)
+ *
+ * <ul>
+ *   <li>aggregate: customer, seller, admin
+ *   <li>type: command, query
+ *   <li>operation: 서비스 메서드명 (createCustomer, suspendSeller, searchAdmins 등)
+ *   <li>result: success, error
+ *   <li>error_code: BusinessException의 에러 코드, 그 외 예외는 클래스명, 성공 시 none
+ * </ul>
+ *
+ * <p>퍼센타일 히스토그램을 발행하므로 Prometheus에서 {@code histogram_quantile}로 집계할 수 있고, 결과별 호출 수는 {@code
+ * _count}로 조회한다. 트레이싱이 활성화되어 있으면 버킷에 trace exemplar가 함께 노출된다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceMetricsAspect {
+
+  static final String METRIC_NAME = "user.service.operation";
+
+  private static final String BASE_PACKAGE = "com.tickatch.user_service.";
+  private static final String NO_ERROR = "none";
+
+  private final MeterRegistry meterRegistry;
+  private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+  public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Pointcut(
+      "execution(public * com.tickatch.user_service..application.service..*CommandService.*(..))")
+  void commandService() {}
+
+  @Pointcut(
+      "execution(public * com.tickatch.user_service..application.service..*QueryService.*(..))")
+  void queryService() {}
+
+  @Around("commandService() || queryService()")
+  public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String errorCode = NO_ERROR;
+    try {
+      return joinPoint.proceed();
+    } catch (BusinessException e) {
+      errorCode = e.getErrorCode().getCode();
+      throw e;
+    } catch (Throwable t) {
+      errorCode = t.getClass().getSimpleName();
+      throw t;
+    } finally {
+      Class<?> serviceType = joinPoint.getSignature().getDeclaringType();
+      String operation = joinPoint.getSignature().getName();
+      sample.stop(
+          timers.computeIfAbsent(
+              new TimerKey(serviceType, operation, errorCode), this::registerTimer));
+    }
+  }
+
+  private Timer registerTimer(TimerKey key) {
+    return Timer.builder(METRIC_NAME)
+        .description("커맨드/쿼리 서비스 실행 시간")
+        .tag("aggregate", aggregateOf(key.serviceType()))
+        .tag("type", typeOf(key.serviceType()))
+        .tag("operation", key.operation())
+        .tag("result", NO_ERROR.equals(key.errorCode()) ? "success" : "error")
+        .tag("error_code", key.errorCode())
+        .publishPercentileHistogram()
+        .minimumExpectedValue(Duration.ofMillis(1))
+        .maximumExpectedValue(Duration.ofSeconds(10))
+        .register(meterRegistry);
+  }
+
+  /** 패키지명에서 애그리거트를 꺼낸다. (com.tickatch.user_service.customer.application... → customer) */
+  private static String aggregateOf(Class<?> serviceType) {
+    String packageName = serviceType.getPackageName();
+    if (!packageName.startsWith(BASE_PACKAGE)) {
+      return "unknown";
+    }
+    String relative = packageName.substring(BASE_PACKAGE.length());
+    int dot = relative.indexOf('.');
+    return dot < 0 ? relative : relative.substring(0, dot);
+  }
+
+  private static String typeOf(Class<?> serviceType) {
+    return serviceType.getSimpleName().endsWith("CommandService") ? "command" : "query";
+  }
+
+  private record TimerKey(Class<?> serviceType, String operation, String errorCode) {}
+}
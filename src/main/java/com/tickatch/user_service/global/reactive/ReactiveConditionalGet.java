@@ -0,0 +1,95 @@
+package com.tickatch.user_service.global.reactive;
+
+import com.tickatch.user_service.global.web.ConditionalGet;
+import io.github.tickatch.common.api.ApiResponse;
+import io.github.tickatch.common.error.BusinessException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * 반응형 {@code /me} 조회 응답 유틸리티.
+ *
+ * <p>MVC의 {@link ConditionalGet}과 같은 ETag, Cache-Control을 사용하므로 클라이언트는 두 경로를 구분하지 않고 조건부 GET을 보낼 수
+ * 있다. 사용자 ID는 게이트웨이가 전달한 {@code X-User-Id} 헤더에서 읽는다.
+ *
+ * <p>응답 상태:
+ *
+ * <ul>
+ *   <li>200 - 본문과 ETag
+ *   <li>304 - If-None-Match가 현재 ETag와 일치
+ *   <li>401 - 사용자 헤더가 없거나 형식이 잘못됨
+ *   <li>그 외 - {@link BusinessException}의 HTTP 상태 (본문 없음)
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public final class ReactiveConditionalGet {
+
+  /** 게이트웨이가 전달하는 사용자 ID 헤더. */
+  public static final String USER_ID_HEADER = "X-User-Id";
+
+  private ReactiveConditionalGet() {}
+
+  /**
+   * 인증된 사용자 본인의 리소스를 조건부 GET으로 응답한다.
+   *
+   * @param request 요청
+   * @param cacheControl Cache-Control 정책
+   * @param loader 사용자 ID로 본문을 조회하는 함수
+   * @param versionOf 본문에서 버전(updatedAt)을 꺼내는 함수
+   * @return 응답
+   * @param <T> 본문 타입
+   */
+  public static <T> Mono<ServerResponse> me(
+      ServerRequest request,
+      CacheControl cacheControl,
+      Function<UUID, Mono<T>> loader,
+      Function<T, LocalDateTime> versionOf) {
+    UUID userId = userId(request);
+    if (userId == null) {
+      return ServerResponse.status(HttpStatus.UNAUTHORIZED).build();
+    }
+
+    String ifNoneMatch = request.headers().firstHeader(HttpHeaders.IF_NONE_MATCH);
+    return loader
+        .apply(userId)
+        .flatMap(
+            body -> {
+              String eTag = ConditionalGet.eTag(userId, versionOf.apply(body));
+              if (ifNoneMatch != null && ConditionalGet.matches(ifNoneMatch, eTag)) {
+                return ServerResponse.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(cacheControl)
+                    .build();
+              }
+              return ServerResponse.ok()
+                  .eTag(eTag)
+                  .cacheControl(cacheControl)
+                  .bodyValue(ApiResponse.success(body));
+            })
+        .switchIfEmpty(Mono.defer(() -> ServerResponse.notFound().build()))
+        .onErrorResume(
+            BusinessException.class,
+            e -> ServerResponse.status(e.getErrorCode().getStatus()).build());
+  }
+
+  private static UUID userId(ServerRequest request) {
+    String header = request.headers().firstHeader(USER_ID_HEADER);
+    if (header == null) {
+      return null;
+    }
+    try {
+      return UUID.fromString(header);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+}
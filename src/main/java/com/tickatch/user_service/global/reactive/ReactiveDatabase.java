@@ -0,0 +1,54 @@
+package com.tickatch.user_service.global.reactive;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * 반응형 조회 경로용 R2DBC 커넥션 풀.
+ *
+ * <p>{@code ConnectionFactory}를 빈으로 노출하면 JDBC {@code DataSource} 자동 구성이 비활성화되므로 풀을 내부에서만 보유하고
+ * {@link DatabaseClient}만 제공한다. 조회 전용이며 트랜잭션을 사용하지 않는다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public class ReactiveDatabase implements DisposableBean {
+
+  private final ConnectionPool connectionPool;
+  private final DatabaseClient databaseClient;
+
+  public ReactiveDatabase(String url, String username, String password, int maxSize) {
+    ConnectionFactoryOptions options =
+        ConnectionFactoryOptions.parse(url)
+            .mutate()
+            .option(ConnectionFactoryOptions.USER, username)
+            .option(ConnectionFactoryOptions.PASSWORD, password)
+            .build();
+    this.connectionPool =
+        new ConnectionPool(
+            ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("user-reactive")
+                .initialSize(Math.min(2, maxSize))
+                .maxSize(maxSize)
+                .build());
+    this.databaseClient = DatabaseClient.create(connectionPool);
+  }
+
+  /**
+   * R2DBC 조회 클라이언트를 반환한다.
+   *
+   * @return DatabaseClient
+   */
+  public DatabaseClient client() {
+    return databaseClient;
+  }
+
+  @Override
+  public void destroy() {
+    connectionPool.dispose();
+  }
+}
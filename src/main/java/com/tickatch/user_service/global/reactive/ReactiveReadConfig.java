@@ -0,0 +1,49 @@
+package com.tickatch.user_service.global.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 반응형 조회 경로 설정.
+ *
+ * <p>가장 호출이 많은 {@code /me} 조회를 서블릿 스레드와 JDBC 커넥션을 점유하지 않는 경로로 제공한다. MVC 컨트롤러는 그대로 두고 별도
+ * 포트에서 함께 실행되며, 게이트웨이에서 {@code /me} 경로만 이 포트로 보내는 방식으로 전환한다.
+ *
+ * <p>조회 순서:
+ *
+ * <ol>
+ *   <li>Hibernate 2차 캐시 (MVC 경로와 같은 캐시, 커넥션 사용 없음)
+ *   <li>R2DBC 단건 조회
+ *   <li>없으면 기존 조회 서비스로 위임 (보관 테이블, 404 처리를 MVC와 같게 유지)
+ * </ol>
+ *
+ * <p>{@code user.reactive.enabled}가 true일 때만 활성화된다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "user.reactive.enabled", havingValue = "true")
+public class ReactiveReadConfig {
+
+  @Bean
+  public ReactiveDatabase reactiveDatabase(
+      @Value("${user.reactive.r2dbc.url}") String url,
+      @Value("${user.reactive.r2dbc.username:${spring.datasource.username:}}") String username,
+      @Value("${user.reactive.r2dbc.password:${spring.datasource.password:}}") String password,
+      @Value("${user.reactive.r2dbc.max-size:20}") int maxSize) {
+    return new ReactiveDatabase(url, username, password, maxSize);
+  }
+
+  @Bean
+  public ReactiveReadServer reactiveReadServer(
+      List<ReactiveRoutes> routes,
+      ObjectMapper objectMapper,
+      @Value("${user.reactive.port:8081}") int port) {
+    return new ReactiveReadServer(routes, objectMapper, port);
+  }
+}
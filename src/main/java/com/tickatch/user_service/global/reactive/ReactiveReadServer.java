@@ -0,0 +1,88 @@
+package com.tickatch.user_service.global.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * 반응형 조회 서버.
+ *
+ * <p>서블릿 컨테이너와 별도 포트({@code user.reactive.port})에서 Reactor Netty 서버를 띄우고 {@link ReactiveRoutes} 빈의
+ * 라우트를 제공한다. 응답 JSON은 MVC와 같은 {@link ObjectMapper}로 직렬화한다.
+ *
+ * <p>서블릿 필터 체인(Spring Security)을 거치지 않으므로 게이트웨이가 전달한 사용자 헤더로만 인증한다. 게이트웨이 뒤의 내부 포트로만
+ * 노출해야 한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+public class ReactiveReadServer implements SmartLifecycle {
+
+  private final List<ReactiveRoutes> routes;
+  private final ObjectMapper objectMapper;
+  private final int port;
+  private volatile DisposableServer server;
+
+  public ReactiveReadServer(List<ReactiveRoutes> routes, ObjectMapper objectMapper, int port) {
+    this.routes = routes;
+    this.objectMapper = objectMapper;
+    this.port = port;
+  }
+
+  @Override
+  public void start() {
+    RouterFunction<ServerResponse> router =
+        routes.stream()
+            .map(ReactiveRoutes::routes)
+            .reduce(RouterFunction::and)
+            .orElseThrow(() -> new IllegalStateException("등록된 반응형 라우트가 없습니다."));
+    HandlerStrategies strategies =
+        HandlerStrategies.builder()
+            .codecs(
+                codecs -> {
+                  codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                  codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+            .build();
+
+    ReactorHttpHandlerAdapter handler =
+        new ReactorHttpHandlerAdapter(RouterFunctions.toHttpHandler(router, strategies));
+    server = HttpServer.create().port(port).handle(handler).bindNow();
+    log.info("반응형 조회 서버 시작. port: {}", server.port());
+  }
+
+  @Override
+  public void stop() {
+    DisposableServer running = server;
+    if (running != null) {
+      running.disposeNow();
+      server = null;
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return server != null;
+  }
+
+  /**
+   * 서버가 바인딩된 포트를 반환한다. ({@code user.reactive.port=0}이면 임의 포트)
+   *
+   * @return 포트 (실행 중이 아니면 -1)
+   */
+  public int getPort() {
+    DisposableServer running = server;
+    return running != null ? running.port() : -1;
+  }
+}
@@ -0,0 +1,22 @@
+package com.tickatch.user_service.global.reactive;
+
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * 반응형 조회 서버에 등록할 라우트.
+ *
+ * <p>도메인별로 구현하여 빈으로 등록하면 {@link ReactiveReadServer}가 모아서 하나의 라우터로 제공한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public interface ReactiveRoutes {
+
+  /**
+   * 라우트를 반환한다.
+   *
+   * @return 라우터 함수
+   */
+  RouterFunction<ServerResponse> routes();
+}
@@ -0,0 +1,112 @@
+package com.tickatch.user_service.global.web;
+
+import io.github.tickatch.common.api.ApiResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * 조건부 GET(ETag / If-None-Match) 처리 유틸리티.
+ *
+ * <p>ETag는 리소스 ID와 수정 일시(updatedAt)로 만든 강한(strong) 검증자이다. 수정 일시는 DB 저장 정밀도(마이크로초)로 잘라서 계산하므로
+ * 메모리 상의 엔티티와 DB에서 읽은 값이 같은 ETag를 만든다.
+ *
+ * <p>처리 흐름:
+ *
+ * <ul>
+ *   <li>If-None-Match가 있으면 버전(updatedAt)만 조회하여 비교하고, 일치하면 본문 없이 304를 반환한다.
+ *   <li>그 외에는 본문을 조회하여 200과 함께 ETag, Cache-Control을 내려준다.
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public final class ConditionalGet {
+
+  private ConditionalGet() {}
+
+  /**
+   * 조건부 GET 응답을 만든다.
+   *
+   * @param id 리소스 ID
+   * @param ifNoneMatch If-None-Match 헤더 값 (없으면 null)
+   * @param cacheControl 엔드포인트별 Cache-Control 정책
+   * @param versionLookup 버전(updatedAt)만 조회하는 함수
+   * @param bodyLoader 본문을 조회하는 함수
+   * @param versionOf 본문에서 버전을 꺼내는 함수
+   * @return 304 또는 200 응답
+   * @param <T> 본문 타입
+   */
+  public static <T> ResponseEntity<ApiResponse<T>> respond(
+      UUID id,
+      String ifNoneMatch,
+      CacheControl cacheControl,
+      Supplier<LocalDateTime> versionLookup,
+      Supplier<T> bodyLoader,
+      Function<T, LocalDateTime> versionOf) {
+    if (StringUtils.hasText(ifNoneMatch)) {
+      String currentETag = eTag(id, versionLookup.get());
+      if (matches(ifNoneMatch, currentETag)) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+            .eTag(currentETag)
+            .cacheControl(cacheControl)
+            .build();
+      }
+    }
+
+    T body = bodyLoader.get();
+    return ResponseEntity.ok()
+        .eTag(eTag(id, versionOf.apply(body)))
+        .cacheControl(cacheControl)
+        .body(ApiResponse.success(body));
+  }
+
+  /**
+   * 리소스 ID와 수정 일시로 강한 ETag를 만든다.
+   *
+   * @param id 리소스 ID
+   * @param updatedAt 수정 일시
+   * @return 따옴표로 감싼 ETag 값
+   */
+  public static String eTag(UUID id, LocalDateTime updatedAt) {
+    long micros =
+        updatedAt == null
+            ? 0L
+            : updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + updatedAt.getNano() / 1_000;
+    String source = id + ":" + micros;
+    return "\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+  }
+
+  /**
+   * If-None-Match 헤더가 현재 ETag와 일치하는지 확인한다.
+   *
+   * <p>If-None-Match는 약한 비교(weak comparison)를 사용하므로 W/ 접두사는 무시한다.
+   *
+   * @param ifNoneMatch If-None-Match 헤더 값
+   * @param currentETag 현재 ETag
+   * @return 일치하면 true
+   */
+  public static boolean matches(String ifNoneMatch, String currentETag) {
+    for (String candidate : ifNoneMatch.split(",")) {
+      String tag = candidate.trim();
+      if ("*".equals(tag)) {
+        return true;
+      }
+      if (tag.startsWith("W/")) {
+        tag = tag.substring(2);
+      }
+      if (tag.equals(currentETag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,84 @@
+package com.tickatch.user_service.seller.application.service.command;
+
+import com.tickatch.user_service.global.job.scan.ChunkedScanJob;
+import com.tickatch.user_service.global.job.scan.ChunkedScanRunner;
+import com.tickatch.user_service.seller.domain.Seller;
+import com.tickatch.user_service.seller.domain.SellerRepository;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 평문 계좌번호 암호화 작업.
+ *
+ * <p>계좌번호 암호화 도입 이전에 저장된 판매자의 평문 계좌번호를 암호화하고, 블라인드 인덱스({@code account_number_index})와 마스킹
+ * 값({@code masked_account_number})을 채운다. 평문이 남은 판매자만 {@link ChunkedScanRunner}로 청크 단위로 읽으며, 청크마다
+ * 별도 트랜잭션에서 대상 행을 잠그고 엔티티로 변경한다.
+ *
+ * <p>블라인드 인덱스가 없는 판매자는 계좌번호 검색에 나오지 않으므로, 도입 후 이 작업이 끝날 때까지는 검색 결과가 빠질 수 있다. {@code
+ * user.crypto.migration.enabled}가 false이면 실행하지 않는다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class SellerAccountNumberEncryptionJob implements ChunkedScanJob {
+
+  /** 작업 이름 (체크포인트 키). */
+  public static final String NAME = "seller-account-number-encryption";
+
+  private final SellerRepository sellerRepository;
+  private final ChunkedScanRunner chunkedScanRunner;
+  private final TransactionTemplate transactionTemplate;
+  private final boolean enabled;
+
+  public SellerAccountNumberEncryptionJob(
+      SellerRepository sellerRepository,
+      ChunkedScanRunner chunkedScanRunner,
+      TransactionTemplate transactionTemplate,
+      @Value("${user.crypto.migration.enabled:false}") boolean enabled) {
+    this.sellerRepository = sellerRepository;
+    this.chunkedScanRunner = chunkedScanRunner;
+    this.transactionTemplate = transactionTemplate;
+    this.enabled = enabled;
+  }
+
+  /** 평문 계좌번호 암호화를 실행한다. 이전 실행이 중단되었으면 체크포인트부터 재개한다. */
+  @Scheduled(cron = "${user.crypto.migration.cron:0 0 3 * * *}")
+  public void run() {
+    if (!enabled) {
+      return;
+    }
+    chunkedScanRunner.run(this);
+  }
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  @Override
+  public List<UUID> readChunk(UUID after, int size) {
+    return sellerRepository.findIdsWithPlaintextAccountNumberAfter(after, size);
+  }
+
+  @Override
+  public int processChunk(List<UUID> ids) {
+    List<UUID> encrypted =
+        transactionTemplate.execute(
+            status ->
+                sellerRepository.findAllByIdForUpdate(ids).stream()
+                    .filter(Seller::encryptAccountNumber)
+                    .map(Seller::getId)
+                    .toList());
+    if (!encrypted.isEmpty()) {
+      log.debug("평문 계좌번호 암호화. chunk: {}, encrypted: {}", ids.size(), encrypted.size());
+    }
+    return encrypted.size();
+  }
+}
@@ -1,9 +1,12 @@
 package com.tickatch.user_service.seller.application.service.command;
 
+import com.tickatch.user_service.common.domain.vo.UserStatusTransition;
+import com.tickatch.user_service.global.jdbc.UniqueViolation;
 import com.tickatch.user_service.seller.application.messaging.SellerLogEventPublisher;
 import com.tickatch.user_service.seller.application.service.command.dto.CreateSellerCommand;
 import com.tickatch.user_service.seller.application.service.command.dto.UpdateSellerProfileCommand;
 import com.tickatch.user_service.seller.application.service.command.dto.UpdateSettlementInfoCommand;
+import com.tickatch.user_service.seller.application.service.query.SellerEligibilityCache;
 import com.tickatch.user_service.seller.domain.Seller;
 import com.tickatch.user_service.seller.domain.SellerRepository;
 import com.tickatch.user_service.seller.domain.exception.SellerErrorCode;
@@ -11,6 +14,7 @@ import com.tickatch.user_service.seller.domain.exception.SellerException;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +23,9 @@ import org.springframework.transaction.annotation.Transactional;
  *
  * <p>판매자 생성, 수정, 승인/거절, 상태 변경 등 상태를 변경하는 작업을 처리한다. 모든 주요 작업에 대해 성공/실패 로그를 로그 서비스로 발행한다.
  *
+ * <p>정지, 활성화, 탈퇴는 엔티티를 조회하지 않고 조건부 UPDATE 한 문장으로 처리한다. 바뀐 행이 없을 때만 엔티티를 조회하여 도메인 규칙으로
+ * 기존 예외(판매자 없음, 이미 정지 등)를 발생시킨다.
+ *
  * @author Tickatch
  * @since 1.0.0
  */
@@ -28,28 +35,27 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class SellerCommandService {
 
+  /** 삭제되지 않은 판매자의 사업자등록번호 유일 인덱스 (schema-postgresql.sql). */
+  static final String BUSINESS_NUMBER_UNIQUE_INDEX = "ux_sellers_business_number_live";
+
   private final SellerRepository sellerRepository;
   private final SellerLogEventPublisher logEventPublisher;
+  private final SellerEligibilityCache eligibilityCache;
 
   /**
    * 판매자를 생성한다.
    *
+   * <p>존재 여부를 먼저 조회하지 않고 바로 INSERT하며, 유일 제약 위반을 중복으로 처리한다. 사업자등록번호는 삭제되지 않은 판매자 사이의
+   * 부분 유일 인덱스({@value #BUSINESS_NUMBER_UNIQUE_INDEX})로, ID와 이메일(대소문자 무시)은 기본 키와 자연 키 제약으로 검사한다.
+   *
    * <p>성공 시 SELLER_CREATED 로그를, 실패 시 SELLER_CREATE_FAILED 로그를 발행한다.
    *
    * @param command 생성 커맨드
    * @return 생성된 판매자 ID
-   * @throws SellerException 이미 존재하는 이메일 또는 사업자등록번호인 경우
+   * @throws SellerException 이미 존재하는 판매자 ID, 이메일 또는 사업자등록번호인 경우
    */
   public UUID createSeller(CreateSellerCommand command) {
     try {
-      if (sellerRepository.existsByEmail(command.email())) {
-        throw new SellerException(SellerErrorCode.SELLER_ALREADY_EXISTS);
-      }
-
-      if (sellerRepository.existsByBusinessNumber(command.businessNumber())) {
-        throw new SellerException(SellerErrorCode.BUSINESS_NUMBER_ALREADY_EXISTS);
-      }
-
       Seller seller =
           Seller.create(
               command.authId(),
@@ -61,7 +67,7 @@ public class SellerCommandService {
               command.representativeName(),
               command.businessAddress());
 
-      UUID sellerId = sellerRepository.save(seller).getId();
+      UUID sellerId = insert(seller).getId();
       log.info("판매자 생성 완료. sellerId: {}", sellerId);
 
       logEventPublisher.publishCreated(sellerId);
@@ -95,6 +101,29 @@ public class SellerCommandService {
     }
   }
 
+  /**
+   * 판매자 프로필을 부분 수정한다.
+   *
+   * <p>커맨드에서 null인 항목은 기존 값을 유지하며, 바뀐 컬럼만 UPDATE된다. 성공 시 SELLER_UPDATED 로그를, 실패 시
+   * SELLER_UPDATE_FAILED 로그를 발행한다.
+   *
+   * @param command 프로필 수정 커맨드
+   * @throws SellerException 판매자를 찾을 수 없는 경우
+   */
+  public void patchProfile(UpdateSellerProfileCommand command) {
+    try {
+      Seller seller = findSellerById(command.sellerId());
+      seller.patchProfile(command.name(), command.phone());
+      log.info("판매자 프로필 부분 수정 완료. sellerId: {}", command.sellerId());
+
+      logEventPublisher.publishUpdated(command.sellerId());
+    } catch (Exception e) {
+      logEventPublisher.publishUpdateFailed(command.sellerId());
+      log.error("판매자 프로필 부분 수정 실패. sellerId: {}, error: {}", command.sellerId(), e.getMessage(), e);
+      throw e;
+    }
+  }
+
   /**
    * 정산 정보를 수정한다.
    *
@@ -118,6 +147,31 @@ public class SellerCommandService {
     }
   }
 
+  /**
+   * 정산 정보를 부분 수정한다.
+   *
+   * <p>커맨드에서 null인 항목은 기존 값을 유지하며, 바뀐 컬럼만 UPDATE된다. 성공 시 SELLER_UPDATED 로그를, 실패 시
+   * SELLER_UPDATE_FAILED 로그를 발행한다.
+   *
+   * @param command 정산 정보 수정 커맨드
+   * @throws SellerException 판매자를 찾을 수 없거나 승인되지 않은 경우
+   */
+  public void patchSettlementInfo(UpdateSettlementInfoCommand command) {
+    try {
+      Seller seller = findSellerById(command.sellerId());
+      seller.patchSettlementInfo(
+          command.bankCode(), command.accountNumber(), command.accountHolder());
+      log.info("판매자 정산 정보 부분 수정 완료. sellerId: {}", command.sellerId());
+
+      logEventPublisher.publishUpdated(command.sellerId());
+    } catch (Exception e) {
+      logEventPublisher.publishUpdateFailed(command.sellerId());
+      log.error(
+          "판매자 정산 정보 부분 수정 실패. sellerId: {}, error: {}", command.sellerId(), e.getMessage(), e);
+      throw e;
+    }
+  }
+
   /**
    * 판매자를 승인한다.
    *
@@ -131,6 +185,7 @@ public class SellerCommandService {
     try {
       Seller seller = findSellerById(sellerId);
       seller.approve(approvedBy);
+      eligibilityCache.evict(sellerId);
       log.info("판매자 승인 완료. sellerId: {}, approvedBy: {}", sellerId, approvedBy);
 
       logEventPublisher.publishApproved(sellerId);
@@ -154,6 +209,7 @@ public class SellerCommandService {
     try {
       Seller seller = findSellerById(sellerId);
       seller.reject(reason);
+      eligibilityCache.evict(sellerId);
       log.info("판매자 거절 완료. sellerId: {}, reason: {}", sellerId, reason);
 
       logEventPublisher.publishRejected(sellerId);
@@ -174,8 +230,10 @@ public class SellerCommandService {
    */
   public void suspendSeller(UUID sellerId) {
     try {
-      Seller seller = findSellerById(sellerId);
-      seller.suspend();
+      if (!sellerRepository.transitionStatus(sellerId, UserStatusTransition.SUSPEND)) {
+        findSellerById(sellerId).suspend();
+      }
+      eligibilityCache.evict(sellerId);
       log.info("판매자 정지 완료. sellerId: {}", sellerId);
 
       logEventPublisher.publishSuspended(sellerId);
@@ -196,8 +254,10 @@ public class SellerCommandService {
    */
   public void activateSeller(UUID sellerId) {
     try {
-      Seller seller = findSellerById(sellerId);
-      seller.activate();
+      if (!sellerRepository.transitionStatus(sellerId, UserStatusTransition.ACTIVATE)) {
+        findSellerById(sellerId).activate();
+      }
+      eligibilityCache.evict(sellerId);
       log.info("판매자 활성화 완료. sellerId: {}", sellerId);
 
       logEventPublisher.publishActivated(sellerId);
@@ -218,8 +278,10 @@ public class SellerCommandService {
    */
   public void withdrawSeller(UUID sellerId) {
     try {
-      Seller seller = findSellerById(sellerId);
-      seller.withdraw();
+      if (!sellerRepository.transitionStatus(sellerId, UserStatusTransition.WITHDRAW)) {
+        findSellerById(sellerId).withdraw();
+      }
+      eligibilityCache.evict(sellerId);
       log.info("판매자 탈퇴 완료. sellerId: {}", sellerId);
 
       logEventPublisher.publishWithdrawn(sellerId);
@@ -235,4 +297,18 @@ public class SellerCommandService {
         .findById(sellerId)
         .orElseThrow(() -> new SellerException(SellerErrorCode.SELLER_NOT_FOUND));
   }
+
+  private Seller insert(Seller seller) {
+    try {
+      return sellerRepository.insert(seller);
+    } catch (DataIntegrityViolationException e) {
+      if (UniqueViolation.matches(e, BUSINESS_NUMBER_UNIQUE_INDEX)) {
+        throw new SellerException(SellerErrorCode.BUSINESS_NUMBER_ALREADY_EXISTS);
+      }
+      if (UniqueViolation.matches(e)) {
+        throw new SellerException(SellerErrorCode.SELLER_ALREADY_EXISTS);
+      }
+      throw e;
+    }
+  }
 }
@@ -0,0 +1,152 @@
+package com.tickatch.user_service.seller.application.service.query;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 판매자 공연 등록 가능 여부 인메모리 캐시.
+ *
+ * <p>공연 서비스는 공연 등록마다 판매자 자격을 확인하므로, 판단 결과를 판매자 ID 단위로 캐싱한다. 판매자 상태를 바꾸는 커맨드(승인, 거절, 정지,
+ * 활성화, 탈퇴)는 {@link #evict(UUID)}로 즉시 무효화하며, 커밋 이후에도 한 번 더 무효화하여 커밋 전 다른 요청이 이전 상태를 다시 캐싱하는
+ * 경우를 막는다. 다른 인스턴스에서 변경된 상태는 TTL 만료로 반영된다.
+ *
+ * <p>조회 측은 DB를 읽기 전에 {@link #generation()}으로 세대를 받아 {@link #put(UUID, boolean, long)}에 넘긴다. 무효화는
+ * 세대를 올리므로, 조회 도중 무효화가 일어나면 그 조회 결과는 캐싱되지 않는다.
+ *
+ * <p>메트릭:
+ *
+ * <ul>
+ *   <li>{@code seller.eligibility.cache{result=hit|miss}} - 캐시 조회 결과
+ *   <li>{@code seller.eligibility.cache.size} - 캐시 항목 수
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Component
+public class SellerEligibilityCache {
+
+  private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+  private final AtomicLong generation = new AtomicLong();
+  private final long ttlNanos;
+  private final int maxSize;
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  public SellerEligibilityCache(
+      MeterRegistry meterRegistry,
+      @Value("${seller.eligibility.cache.ttl-ms:30000}") long ttlMillis,
+      @Value("${seller.eligibility.cache.max-size:100000}") int maxSize) {
+    this.ttlNanos = ttlMillis * 1_000_000L;
+    this.maxSize = maxSize;
+    this.hitCounter = cacheCounter(meterRegistry, "hit");
+    this.missCounter = cacheCounter(meterRegistry, "miss");
+    Gauge.builder("seller.eligibility.cache.size", entries, Map::size)
+        .description("판매자 자격 캐시 항목 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 캐시된 자격 여부를 조회한다.
+   *
+   * @param sellerId 판매자 ID
+   * @return 캐시된 자격 여부 (없거나 만료되면 null)
+   */
+  public Boolean get(UUID sellerId) {
+    Entry entry = entries.get(sellerId);
+    if (entry == null || entry.isExpired(System.nanoTime())) {
+      missCounter.increment();
+      return null;
+    }
+    hitCounter.increment();
+    return entry.eligible();
+  }
+
+  /**
+   * 현재 캐시 세대를 반환한다.
+   *
+   * <p>캐싱할 값을 DB에서 읽기 전에 호출해야 한다.
+   *
+   * @return 현재 세대
+   */
+  public long generation() {
+    return generation.get();
+  }
+
+  /**
+   * 자격 여부를 캐싱한다.
+   *
+   * <p>값을 읽은 뒤 무효화가 있었으면(세대가 바뀌었으면) 캐싱하지 않는다. 저장 직후 세대를 다시 확인하여, 확인과 저장 사이에 끼어든 무효화도
+   * 저장한 항목을 제거하는 것으로 반영한다. 최대 크기를 넘으면 만료 항목을 정리하고, 그래도 넘으면 전체를 비운다.
+   *
+   * @param sellerId 판매자 ID
+   * @param eligible 공연 등록 가능 여부
+   * @param readGeneration 값을 읽기 전에 {@link #generation()}으로 받은 세대
+   */
+  public void put(UUID sellerId, boolean eligible, long readGeneration) {
+    if (generation.get() != readGeneration) {
+      return;
+    }
+    long now = System.nanoTime();
+    if (entries.size() >= maxSize) {
+      entries.values().removeIf(entry -> entry.isExpired(now));
+      if (entries.size() >= maxSize) {
+        entries.clear();
+      }
+    }
+    Entry entry = new Entry(eligible, now + ttlNanos);
+    entries.put(sellerId, entry);
+    if (generation.get() != readGeneration) {
+      entries.remove(sellerId, entry);
+    }
+  }
+
+  /**
+   * 판매자 자격 캐시를 무효화한다.
+   *
+   * <p>세대를 올린 뒤 항목을 제거하여 진행 중인 조회가 이전 상태를 캐싱하지 못하게 한다. 트랜잭션 안에서 호출되면 커밋 이후에도 다시
+   * 무효화한다.
+   *
+   * @param sellerId 판매자 ID
+   */
+  public void evict(UUID sellerId) {
+    evictNow(sellerId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              evictNow(sellerId);
+            }
+          });
+    }
+  }
+
+  private void evictNow(UUID sellerId) {
+    generation.incrementAndGet();
+    entries.remove(sellerId);
+  }
+
+  private Counter cacheCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("seller.eligibility.cache")
+        .description("판매자 자격 캐시 조회 결과")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  private record Entry(boolean eligible, long expiresAt) {
+
+    boolean isExpired(long now) {
+      return now - expiresAt >= 0;
+    }
+  }
+}
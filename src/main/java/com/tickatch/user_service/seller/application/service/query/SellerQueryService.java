@@ -1,22 +1,34 @@
 package com.tickatch.user_service.seller.application.service.query;
 
+import com.tickatch.user_service.common.domain.vo.CanonicalEmail;
+import com.tickatch.user_service.global.cache.SingleFlight;
+import com.tickatch.user_service.seller.application.service.query.dto.SellerEligibilityResponse;
 import com.tickatch.user_service.seller.application.service.query.dto.SellerResponse;
 import com.tickatch.user_service.seller.application.service.query.dto.SellerSearchRequest;
 import com.tickatch.user_service.seller.domain.Seller;
 import com.tickatch.user_service.seller.domain.SellerRepository;
 import com.tickatch.user_service.seller.domain.exception.SellerErrorCode;
 import com.tickatch.user_service.seller.domain.exception.SellerException;
+import com.tickatch.user_service.seller.domain.repository.dto.SellerEligibility;
+import com.tickatch.user_service.seller.domain.repository.dto.SellerField;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 판매자 조회 서비스.
  *
- * <p>판매자 조회 작업을 처리한다.
+ * <p>판매자 조회 작업을 처리한다. ID/이메일 단건 조회는 {@link SingleFlight}로 동일 키 동시 요청을 하나의 DB 조회로
+ * 병합한다. 병합을 기다리는 요청이 DB 커넥션을 점유하지 않도록 단건 조회는 트랜잭션 없이 시작한다.
  *
  * @author Tickatch
  * @since 1.0.0
@@ -27,6 +39,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class SellerQueryService {
 
   private final SellerRepository sellerRepository;
+  private final SingleFlight singleFlight;
+  private final SellerEligibilityCache eligibilityCache;
 
   /**
    * ID로 판매자를 조회한다.
@@ -35,12 +49,16 @@ public class SellerQueryService {
    * @return 판매자 응답
    * @throws SellerException 판매자를 찾을 수 없는 경우
    */
+  @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
   public SellerResponse getSeller(UUID sellerId) {
-    Seller seller =
-        sellerRepository
-            .findById(sellerId)
-            .orElseThrow(() -> new SellerException(SellerErrorCode.SELLER_NOT_FOUND));
-    return SellerResponse.from(seller);
+    return singleFlight.load(
+        SingleFlight.lookupName(Seller.class, "id"),
+        sellerId,
+        () ->
+            SellerResponse.from(
+                sellerRepository
+                    .findById(sellerId)
+                    .orElseThrow(() -> new SellerException(SellerErrorCode.SELLER_NOT_FOUND))));
   }
 
   /**
@@ -50,12 +68,31 @@ public class SellerQueryService {
    * @return 판매자 응답
    * @throws SellerException 판매자를 찾을 수 없는 경우
    */
+  @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
   public SellerResponse getSellerByEmail(String email) {
-    Seller seller =
-        sellerRepository
-            .findByEmail(email)
-            .orElseThrow(() -> new SellerException(SellerErrorCode.SELLER_NOT_FOUND));
-    return SellerResponse.from(seller);
+    return singleFlight.load(
+        SingleFlight.lookupName(Seller.class, "email"),
+        CanonicalEmail.of(email),
+        () ->
+            SellerResponse.from(
+                sellerRepository
+                    .findByEmail(email)
+                    .orElseThrow(() -> new SellerException(SellerErrorCode.SELLER_NOT_FOUND))));
+  }
+
+  /**
+   * 판매자의 현재 버전(수정 일시)만 조회한다.
+   *
+   * <p>조건부 GET에서 엔티티를 로딩하지 않고 ETag를 비교하기 위해 사용한다.
+   *
+   * @param sellerId 판매자 ID
+   * @return 수정 일시
+   * @throws SellerException 판매자를 찾을 수 없는 경우
+   */
+  public LocalDateTime getSellerVersion(UUID sellerId) {
+    return sellerRepository
+        .findUpdatedAtById(sellerId)
+        .orElseThrow(() -> new SellerException(SellerErrorCode.SELLER_NOT_FOUND));
   }
 
   /**
@@ -71,9 +108,28 @@ public class SellerQueryService {
         .map(SellerResponse::from);
   }
 
+  /**
+   * 조건에 맞는 판매자 목록을 선택한 필드만 페이징하여 조회한다.
+   *
+   * <p>선택한 필드의 컬럼만 조회하므로 목록 화면처럼 일부 필드만 필요한 경우 조회/전송량이 줄어든다. ID는 항상 포함된다.
+   *
+   * @param request 검색 요청
+   * @param fields 쉼표로 구분한 필드명 (예: id,name,sellerStatus)
+   * @param pageable 페이징 정보
+   * @return 페이징된 필드명-값 맵 목록
+   * @throws com.tickatch.user_service.common.domain.exception.UserException 선택할 수 없는 필드명이 있는 경우
+   */
+  public Page<Map<String, Object>> searchSellers(
+      SellerSearchRequest request, String fields, Pageable pageable) {
+    return sellerRepository.findAllByCondition(
+        request.toCondition(), SellerField.parse(fields), pageable);
+  }
+
   /**
    * 이메일 존재 여부를 확인한다.
    *
+   * <p>정규화한 이메일로 DB를 조회하므로 다른 인스턴스에서 가입한 사용자도 바로 확인된다.
+   *
    * @param email 이메일
    * @return 존재하면 true
    */
@@ -90,4 +146,68 @@ public class SellerQueryService {
   public boolean existsByBusinessNumber(String businessNumber) {
     return sellerRepository.existsByBusinessNumber(businessNumber);
   }
+
+  /**
+   * 판매자의 공연 등록 가능 여부를 조회한다.
+   *
+   * <p>캐시를 먼저 확인하고, 없으면 상태 컬럼만 조회하여 판단한 뒤 캐싱한다. 캐시 적중 시 DB 커넥션을 사용하지 않도록 트랜잭션 없이 시작한다.
+   * 조회 전에 캐시 세대를 받아 두어, 조회 도중 상태 변경으로 무효화되면 읽은 값을 캐싱하지 않는다.
+   *
+   * @param sellerId 판매자 ID
+   * @return 공연 등록 가능 여부
+   * @throws SellerException 판매자를 찾을 수 없는 경우
+   */
+  @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+  public SellerEligibilityResponse getPerformanceEligibility(UUID sellerId) {
+    Boolean cached = eligibilityCache.get(sellerId);
+    if (cached != null) {
+      return new SellerEligibilityResponse(sellerId, cached);
+    }
+
+    long generation = eligibilityCache.generation();
+    SellerEligibility eligibility =
+        sellerRepository
+            .findEligibilityById(sellerId)
+            .orElseThrow(() -> new SellerException(SellerErrorCode.SELLER_NOT_FOUND));
+    eligibilityCache.put(sellerId, eligibility.canRegisterPerformance(), generation);
+    return new SellerEligibilityResponse(sellerId, eligibility.canRegisterPerformance());
+  }
+
+  /**
+   * 여러 판매자의 공연 등록 가능 여부를 한 번에 조회한다.
+   *
+   * <p>캐시에 없는 ID만 모아 한 번의 IN 쿼리로 조회한다. 존재하지 않는 판매자는 등록 불가(false)로 응답하며 캐싱하지 않는다. 응답 순서는
+   * 요청 순서를 따르고 중복 ID는 한 번만 응답한다. 단건 조회와 같이 조회 도중 무효화된 결과는 캐싱하지 않는다.
+   *
+   * @param sellerIds 판매자 ID 목록
+   * @return 판매자별 공연 등록 가능 여부
+   */
+  @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+  public List<SellerEligibilityResponse> getPerformanceEligibilities(List<UUID> sellerIds) {
+    Map<UUID, Boolean> results = new LinkedHashMap<>();
+    List<UUID> misses = new ArrayList<>();
+    for (UUID sellerId : sellerIds) {
+      if (results.containsKey(sellerId)) {
+        continue;
+      }
+      Boolean cached = eligibilityCache.get(sellerId);
+      results.put(sellerId, cached);
+      if (cached == null) {
+        misses.add(sellerId);
+      }
+    }
+
+    if (!misses.isEmpty()) {
+      long generation = eligibilityCache.generation();
+      for (SellerEligibility eligibility : sellerRepository.findEligibilitiesByIds(misses)) {
+        boolean eligible = eligibility.canRegisterPerformance();
+        eligibilityCache.put(eligibility.sellerId(), eligible, generation);
+        results.put(eligibility.sellerId(), eligible);
+      }
+    }
+
+    return results.entrySet().stream()
+        .map(e -> new SellerEligibilityResponse(e.getKey(), Boolean.TRUE.equals(e.getValue())))
+        .toList();
+  }
 }
@@ -0,0 +1,89 @@
+package com.tickatch.user_service.seller.application.service.query;
+
+import com.tickatch.user_service.common.domain.vo.UserStatus;
+import com.tickatch.user_service.global.cache.SecondLevelCacheReader;
+import com.tickatch.user_service.global.reactive.ReactiveDatabase;
+import com.tickatch.user_service.seller.application.service.query.dto.SellerResponse;
+import com.tickatch.user_service.seller.domain.Seller;
+import com.tickatch.user_service.seller.domain.vo.BusinessInfo;
+import com.tickatch.user_service.seller.domain.vo.SellerStatus;
+import io.r2dbc.spi.Readable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 판매자 반응형 조회기.
+ *
+ * <p>2차 캐시, R2DBC 순으로 조회하고, 둘 다 없으면 {@link SellerQueryService}에 위임한다. 정산 정보 등록 여부는 계좌 컬럼을 읽지
+ * 않도록 SQL에서 판단한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Service
+@ConditionalOnProperty(name = "user.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class SellerReactiveReader {
+
+  private static final String SELECT_BY_ID =
+      """
+      SELECT id, email, name, phone, business_name, business_number, representative_name,
+             seller_status, status, approved_at, approved_by, rejected_reason,
+             created_at, updated_at,
+             CASE WHEN TRIM(bank_code) <> '' AND TRIM(account_number) <> ''
+                   AND TRIM(account_holder) <> '' THEN TRUE ELSE FALSE END AS has_settlement_info
+        FROM sellers
+       WHERE id = :id AND deleted_at IS NULL
+      """;
+
+  private final SecondLevelCacheReader secondLevelCacheReader;
+  private final ReactiveDatabase reactiveDatabase;
+  private final SellerQueryService sellerQueryService;
+
+  /**
+   * ID로 판매자를 조회한다.
+   *
+   * @param sellerId 판매자 ID
+   * @return 판매자 응답 (없으면 SellerException 에러)
+   */
+  public Mono<SellerResponse> getSeller(UUID sellerId) {
+    return secondLevelCacheReader
+        .find(Seller.class, sellerId)
+        .filter(seller -> !seller.isDeleted())
+        .map(SellerResponse::from)
+        .switchIfEmpty(
+            reactiveDatabase
+                .client()
+                .sql(SELECT_BY_ID)
+                .bind("id", sellerId)
+                .map(SellerReactiveReader::toResponse)
+                .one())
+        .switchIfEmpty(
+            Mono.fromCallable(() -> sellerQueryService.getSeller(sellerId))
+                .subscribeOn(Schedulers.boundedElastic()));
+  }
+
+  private static SellerResponse toResponse(Readable row) {
+    return new SellerResponse(
+        row.get("id", UUID.class),
+        row.get("email", String.class),
+        row.get("name", String.class),
+        row.get("phone", String.class),
+        row.get("business_name", String.class),
+        BusinessInfo.format(row.get("business_number", String.class)),
+        row.get("representative_name", String.class),
+        SellerStatus.valueOf(row.get("seller_status", String.class)),
+        UserStatus.valueOf(row.get("status", String.class)),
+        Boolean.TRUE.equals(row.get("has_settlement_info", Boolean.class)),
+        row.get("approved_at", LocalDateTime.class),
+        row.get("approved_by", String.class),
+        row.get("rejected_reason", String.class),
+        row.get("created_at", LocalDateTime.class),
+        row.get("updated_at", LocalDateTime.class));
+  }
+}
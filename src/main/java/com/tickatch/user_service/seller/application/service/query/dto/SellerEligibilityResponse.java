@@ -0,0 +1,11 @@
+package com.tickatch.user_service.seller.application.service.query.dto;
+
+import java.util.UUID;
+
+/**
+ * 판매자 공연 등록 가능 여부 응답 DTO.
+ *
+ * @param sellerId 판매자 ID
+ * @param eligible 공연 등록 가능 여부 (존재하지 않는 판매자는 false)
+ */
+public record SellerEligibilityResponse(UUID sellerId, boolean eligible) {}
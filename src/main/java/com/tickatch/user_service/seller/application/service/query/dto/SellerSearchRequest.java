@@ -1,5 +1,6 @@
 package com.tickatch.user_service.seller.application.service.query.dto;
 
+import com.tickatch.user_service.common.domain.repository.dto.PhoneMatch;
 import com.tickatch.user_service.common.domain.vo.UserStatus;
 import com.tickatch.user_service.seller.domain.repository.dto.SellerSearchCondition;
 import com.tickatch.user_service.seller.domain.vo.SellerStatus;
@@ -8,19 +9,25 @@ import com.tickatch.user_service.seller.domain.vo.SellerStatus;
 public record SellerSearchRequest(
     String email,
     String name,
+    String phone,
+    PhoneMatch phoneMatch,
     UserStatus status,
     SellerStatus sellerStatus,
     String businessName,
-    String businessNumber) {
+    String businessNumber,
+    String accountNumber) {
 
   public SellerSearchCondition toCondition() {
     return SellerSearchCondition.builder()
         .email(email)
         .name(name)
+        .phone(phone)
+        .phoneMatch(phoneMatch)
         .status(status)
         .sellerStatus(sellerStatus)
         .businessName(businessName)
         .businessNumber(businessNumber)
+        .accountNumber(accountNumber)
         .build();
   }
 }
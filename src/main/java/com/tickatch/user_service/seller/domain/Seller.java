@@ -10,6 +10,7 @@ import static com.tickatch.user_service.seller.domain.exception.SellerErrorCode.
 import com.tickatch.user_service.common.domain.BaseUser;
 import com.tickatch.user_service.common.domain.vo.Address;
 import com.tickatch.user_service.common.domain.vo.UserProfile;
+import com.tickatch.user_service.global.cache.CacheRegions;
 import com.tickatch.user_service.seller.domain.exception.SellerException;
 import com.tickatch.user_service.seller.domain.vo.BusinessInfo;
 import com.tickatch.user_service.seller.domain.vo.SellerStatus;
@@ -26,17 +27,33 @@ import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.SQLRestriction;
 
 /**
  * 판매자 엔티티 (Aggregate Root).
  *
  * <p>공연 판매자를 나타낸다.
  *
+ * <p>논리 삭제({@code deleted_at})된 행은 모든 엔티티 조회에서 제외된다. 감사 목적의 조회는 리포지토리의 {@code
+ * findByIdIncludingDeleted}를 사용한다.
+ *
+ * <p>2차 캐시 대상이며, 이메일을 자연 키로 사용하여 이메일 조회도 자연 키 캐시를 거친다.
+ *
+ * <p>컬럼이 많은 테이블이므로 {@code @DynamicUpdate}로 변경된 컬럼만 UPDATE한다.
+ *
  * @author Tickatch
  * @since 1.0.0
  */
 @Entity
 @Table(name = "sellers")
+@DynamicUpdate
+@SQLRestriction("deleted_at IS NULL")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SELLER)
+@NaturalIdCache(region = CacheRegions.SELLER_NATURAL_ID)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Seller extends BaseUser {
@@ -166,6 +183,39 @@ public class Seller extends BaseUser {
     this.settlementInfo = this.settlementInfo.update(bankCode, accountNumber, accountHolder);
   }
 
+  /**
+   * 정산 정보 부분 수정 (승인된 판매자만 가능).
+   *
+   * <p>전달된 항목만 바꾸며, 바뀐 컬럼만 UPDATE된다.
+   *
+   * @param bankCode 은행 코드 (null이면 유지)
+   * @param accountNumber 계좌번호 (null이면 유지)
+   * @param accountHolder 예금주명 (null이면 유지)
+   * @throws SellerException 승인 상태가 아니거나 병합한 정산 정보가 유효하지 않은 경우
+   */
+  public void patchSettlementInfo(String bankCode, String accountNumber, String accountHolder) {
+    validateNotWithdrawn();
+    if (!this.sellerStatus.canUpdateSettlement()) {
+      throw new SellerException(CANNOT_UPDATE_SETTLEMENT_BEFORE_APPROVAL);
+    }
+    this.settlementInfo = this.settlementInfo.patch(bankCode, accountNumber, accountHolder);
+  }
+
+  /**
+   * 평문으로 저장된 계좌번호를 암호화한다.
+   *
+   * <p>암호화 도입 이전 데이터를 옮기는 용도이며, 판매자 상태와 관계없이 적용한다.
+   *
+   * @return 암호화했으면 true (이미 암호화되어 있거나 계좌번호가 없으면 false)
+   */
+  public boolean encryptAccountNumber() {
+    if (!this.settlementInfo.isPlaintextAccountNumber()) {
+      return false;
+    }
+    this.settlementInfo = this.settlementInfo.encryptAccountNumber();
+    return true;
+  }
+
   /**
    * 공연 등록 가능 여부 확인.
    *
@@ -1,8 +1,17 @@
 package com.tickatch.user_service.seller.domain;
 
+import com.tickatch.user_service.common.domain.vo.UserStatusTransition;
+import com.tickatch.user_service.global.jdbc.UniqueViolation;
+import com.tickatch.user_service.seller.domain.repository.dto.SellerEligibility;
+import com.tickatch.user_service.seller.domain.repository.dto.SellerField;
 import com.tickatch.user_service.seller.domain.repository.dto.SellerSearchCondition;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -24,16 +33,66 @@ public interface SellerRepository {
    */
   Seller save(Seller seller);
 
+  /**
+   * 새 Seller를 즉시 INSERT한다.
+   *
+   * <p>존재 여부를 먼저 조회하지 않는다. ID 또는 정규화한 이메일이 이미 있으면 유일 제약 위반으로 {@link
+   * DataIntegrityViolationException}이 발생하므로, 호출한 쪽에서 {@link UniqueViolation}으로 판별하여 중복으로 처리한다.
+   *
+   * @param seller 저장할 Seller 엔티티
+   * @return 저장된 Seller 엔티티
+   * @throws DataIntegrityViolationException 무결성 제약을 위반한 경우
+   */
+  Seller insert(Seller seller);
+
   /**
    * ID로 Seller를 조회한다.
    *
+   * <p>보관 테이블로 옮겨진 탈퇴 Seller도 조회되며, 이 경우 영속성 컨텍스트에서 분리된 상태로 반환된다.
+   *
    * @param id Seller ID (= Auth ID)
    * @return 조회된 Seller (없으면 empty)
    */
   Optional<Seller> findById(UUID id);
 
   /**
-   * 이메일로 Seller를 조회한다.
+   * ID로 Seller의 수정 일시만 조회한다.
+   *
+   * <p>엔티티를 로딩하지 않는 조건부 조회(ETag 비교)용 경량 쿼리이다. 보관 테이블도 조회한다.
+   *
+   * @param id Seller ID
+   * @return 수정 일시 (없으면 empty)
+   */
+  Optional<LocalDateTime> findUpdatedAtById(UUID id);
+
+  /**
+   * 논리 삭제된 Seller를 포함하여 ID로 조회한다.
+   *
+   * <p>감사 목적으로만 사용한다. 보관 테이블도 조회한다.
+   *
+   * @param id Seller ID
+   * @return 조회된 Seller (없으면 empty)
+   */
+  Optional<Seller> findByIdIncludingDeleted(UUID id);
+
+  /**
+   * ID로 공연 등록 가능 여부 판단용 상태만 조회한다.
+   *
+   * @param id Seller ID
+   * @return 상태 프로젝션 (없으면 empty)
+   */
+  Optional<SellerEligibility> findEligibilityById(UUID id);
+
+  /**
+   * 여러 ID의 공연 등록 가능 여부 판단용 상태를 한 번에 조회한다.
+   *
+   * @param ids Seller ID 목록
+   * @return 존재하는 Seller의 상태 프로젝션 목록
+   */
+  List<SellerEligibility> findEligibilitiesByIds(Collection<UUID> ids);
+
+  /**
+   * 이메일로 Seller를 조회한다. 대소문자를 구분하지 않는다.
    *
    * @param email 이메일
    * @return 조회된 Seller (없으면 empty)
@@ -64,4 +123,48 @@ public interface SellerRepository {
    * @return 페이징된 Seller 목록
    */
   Page<Seller> findAllByCondition(SellerSearchCondition condition, Pageable pageable);
+
+  /**
+   * 검색 조건에 맞는 Seller 목록을 선택한 필드만 조회한다.
+   *
+   * <p>선택한 필드의 컬럼만 SELECT하며 엔티티를 로딩하지 않는다.
+   *
+   * @param condition 검색 조건
+   * @param fields 선택 필드 목록
+   * @param pageable 페이징 정보
+   * @return 페이징된 필드명-값 맵 목록
+   */
+  Page<Map<String, Object>> findAllByCondition(
+      SellerSearchCondition condition, List<SellerField> fields, Pageable pageable);
+
+  /**
+   * 현재 상태에서 허용되는 경우에만 Seller 상태를 전이한다.
+   *
+   * <p>엔티티를 로딩하지 않고 조건부 UPDATE 한 문장으로 실행한다. 변경된 행이 없으면(없는 ID, 허용되지 않는 상태, 보관 테이블로 옮겨진 경우) false를
+   * 반환하며, 호출한 쪽에서 엔티티를 조회하여 기존 도메인 예외로 변환한다. 실행 후 영속성 컨텍스트는 비워진다.
+   *
+   * @param id Seller ID
+   * @param transition 상태 전이
+   * @return 상태가 바뀌었으면 true
+   */
+  boolean transitionStatus(UUID id, UserStatusTransition transition);
+
+  /**
+   * 계좌번호가 평문으로 저장된 Seller의 ID를 키셋 방식으로 조회한다.
+   *
+   * <p>계좌번호 암호화 이전 데이터를 옮기는 청크 작업에서 사용한다.
+   *
+   * @param after 이 ID보다 큰 ID만 조회한다 (처음이면 null)
+   * @param limit 최대 조회 건수
+   * @return ID 오름차순 Seller ID
+   */
+  List<UUID> findIdsWithPlaintextAccountNumberAfter(UUID after, int limit);
+
+  /**
+   * ID 목록의 Seller를 행 잠금과 함께 조회한다. 트랜잭션 안에서 호출해야 한다.
+   *
+   * @param ids Seller ID 목록
+   * @return 조회된 Seller 목록
+   */
+  List<Seller> findAllByIdForUpdate(Collection<UUID> ids);
 }
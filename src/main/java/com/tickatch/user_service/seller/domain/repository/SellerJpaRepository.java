@@ -1,10 +1,20 @@
 package com.tickatch.user_service.seller.domain.repository;
 
+import com.tickatch.user_service.global.cache.EntityCacheEvictor;
 import com.tickatch.user_service.seller.domain.Seller;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 /**
@@ -18,29 +28,110 @@ import org.springframework.data.repository.query.Param;
 public interface SellerJpaRepository extends JpaRepository<Seller, UUID> {
 
   /**
-   * 이메일로 Seller를 조회한다.
+   * 정규화한 이메일로 Seller 존재 여부를 확인한다.
    *
-   * @param email 이메일
-   * @return 조회된 Seller (없으면 empty)
-   */
-  Optional<Seller> findByEmail(String email);
-
-  /**
-   * 이메일로 Seller 존재 여부를 확인한다.
+   * <p>파생 exists 쿼리는 LIMIT 1로 실행되어 첫 행에서 종료된다.
    *
-   * @param email 이메일
+   * @param emailCanonical 정규화한 이메일
    * @return 존재하면 true
    */
-  boolean existsByEmail(String email);
+  boolean existsByEmailCanonical(String emailCanonical);
 
   /**
    * 사업자등록번호로 Seller 존재 여부를 확인한다.
    *
+   * <p>COUNT 대신 파생 exists 쿼리(LIMIT 1)를 사용하여 일치하는 첫 행에서 종료된다.
+   *
    * @param businessNumber 사업자등록번호
    * @return 존재하면 true
    */
+  boolean existsByBusinessInfoBusinessNumber(String businessNumber);
+
+  /**
+   * ID로 Seller의 수정 일시만 조회한다.
+   *
+   * @param id Seller ID
+   * @return 수정 일시 (없으면 empty)
+   */
+  @Query("SELECT s.updatedAt FROM Seller s WHERE s.id = :id")
+  Optional<LocalDateTime> findUpdatedAtById(@Param("id") UUID id);
+
+  /**
+   * 논리 삭제된 행을 포함하여 ID로 Seller를 조회한다.
+   *
+   * <p>엔티티의 논리 삭제 필터는 네이티브 쿼리에 적용되지 않는다. 감사 목적으로만 사용한다.
+   *
+   * @param id Seller ID
+   * @return 조회된 Seller (없으면 empty)
+   */
+  @Query(value = "SELECT * FROM sellers WHERE id = :id", nativeQuery = true)
+  Optional<Seller> findByIdIncludingDeleted(@Param("id") UUID id);
+
+  /**
+   * 계좌번호가 평문(암호화 형식 {@code v1:}이 아닌 값)인 Seller의 ID를 키셋 방식으로 조회한다.
+   *
+   * @param after 이 ID보다 큰 ID만 조회한다
+   * @param limit 최대 조회 건수
+   * @return ID 오름차순 Seller ID
+   */
+  @Query(
+      value =
+          """
+          SELECT id FROM sellers
+           WHERE id > :after AND deleted_at IS NULL
+             AND account_number IS NOT NULL AND account_number NOT LIKE 'v1:%'
+           ORDER BY id
+           LIMIT :limit
+          """,
+      nativeQuery = true)
+  List<UUID> findIdsWithPlaintextAccountNumberAfter(
+      @Param("after") UUID after, @Param("limit") int limit);
+
+  /**
+   * ID 목록의 Seller를 행 잠금(SELECT ... FOR UPDATE)과 함께 조회한다.
+   *
+   * <p>동시에 같은 판매자를 잠그는 작업과 교착 상태가 생기지 않도록 ID 순서로 잠근다.
+   *
+   * @param ids Seller ID 목록
+   * @return 조회된 Seller 목록
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT s FROM Seller s WHERE s.id IN :ids ORDER BY s.id")
+  List<Seller> findAllByIdInForUpdate(@Param("ids") Collection<UUID> ids);
+
+  /**
+   * 현재 상태가 허용 상태 중 하나일 때만 상태를 바꾼다.
+   *
+   * <p>조회 없이 조건부 UPDATE 한 문장으로 실행한다. 감사 컬럼은 엔티티 리스너를 거치지 않으므로 직접 갱신한다. 탈퇴로 바꿀 때는 탈퇴
+   * 일시({@code withdrawn_at})도 수정 일시로 기록한다. 2차 캐시 리전 전체가 비워지지 않도록 쿼리 공간을 따로 지정하므로, 호출한 쪽에서
+   * 해당 엔티티만 무효화해야 한다.
+   *
+   * @param id Seller ID
+   * @param sources 전이가 허용되는 현재 상태 이름
+   * @param target 바꿀 상태 이름
+   * @param updatedAt 수정 일시
+   * @param updatedBy 수정자
+   * @return 변경된 행 수 (0 또는 1)
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
   @Query(
-      "SELECT CASE WHEN COUNT(s) > 0 THEN true ELSE false END FROM Seller s "
-          + "WHERE s.businessInfo.businessNumber = :businessNumber")
-  boolean existsByBusinessNumber(@Param("businessNumber") String businessNumber);
+      value =
+          """
+          UPDATE sellers
+             SET status = :target, updated_at = :updatedAt, updated_by = :updatedBy,
+                 withdrawn_at = CASE WHEN :target = 'WITHDRAWN' THEN :updatedAt
+                                     ELSE withdrawn_at END
+           WHERE id = :id AND status IN (:sources) AND deleted_at IS NULL
+          """,
+      nativeQuery = true)
+  @QueryHints(
+      @QueryHint(
+          name = HibernateHints.HINT_NATIVE_SPACES,
+          value = EntityCacheEvictor.UNTRACKED_QUERY_SPACE))
+  int updateStatusIfIn(
+      @Param("id") UUID id,
+      @Param("sources") Collection<String> sources,
+      @Param("target") String target,
+      @Param("updatedAt") LocalDateTime updatedAt,
+      @Param("updatedBy") String updatedBy);
 }
@@ -2,21 +2,38 @@ package com.tickatch.user_service.seller.domain.repository;
 
 import static com.tickatch.user_service.seller.domain.QSeller.seller;
 
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.tickatch.user_service.common.domain.repository.dto.PhoneMatch;
+import com.tickatch.user_service.common.domain.repository.dto.SelectableField;
+import com.tickatch.user_service.common.domain.vo.CanonicalEmail;
 import com.tickatch.user_service.common.domain.vo.UserStatus;
+import com.tickatch.user_service.common.domain.vo.UserStatusTransition;
+import com.tickatch.user_service.global.archive.UserArchive;
+import com.tickatch.user_service.global.cache.EntityCacheEvictor;
 import com.tickatch.user_service.seller.domain.Seller;
 import com.tickatch.user_service.seller.domain.SellerRepository;
+import com.tickatch.user_service.seller.domain.repository.dto.SellerEligibility;
+import com.tickatch.user_service.seller.domain.repository.dto.SellerField;
 import com.tickatch.user_service.seller.domain.repository.dto.SellerSearchCondition;
 import com.tickatch.user_service.seller.domain.vo.SellerStatus;
+import com.tickatch.user_service.seller.domain.vo.SettlementInfo;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -27,7 +44,12 @@ import org.springframework.util.StringUtils;
 /**
  * Seller 리포지토리 구현체.
  *
- * <p>JPA와 QueryDSL을 사용하여 Seller 데이터를 조회/저장한다.
+ * <p>JPA와 QueryDSL을 사용하여 Seller 데이터를 조회/저장한다. ID 조회는 원본 테이블에 없으면 탈퇴 사용자 보관 테이블을 조회한다.
+ *
+ * <p>이메일 조회는 자연 키 조회로 2차 캐시를 거친다. 2차 캐시에서 조립된 엔티티에는 논리 삭제 필터가 적용되지 않으므로 ID/이메일 조회
+ * 결과의 삭제 여부를 다시 확인한다.
+ *
+ * <p>상태 전이는 엔티티를 로딩하지 않는 조건부 UPDATE 한 문장으로 실행하고, 바뀐 엔티티만 2차 캐시에서 무효화한다.
  *
  * @author Tickatch
  * @since 1.0.0
@@ -36,32 +58,94 @@ import org.springframework.util.StringUtils;
 @RequiredArgsConstructor
 public class SellerRepositoryImpl implements SellerRepository {
 
+  /** 인증 정보가 없을 때 사용하는 수정자. */
+  private static final String SYSTEM_AUDITOR = "SYSTEM";
+
+  /** 보관 테이블 조회 시 사용하는 원본 테이블명. */
+  private static final String TABLE_NAME = "sellers";
+
+  /** 키셋 페이지네이션 시작 키 (가장 작은 UUID). */
+  private static final UUID FIRST_ID = new UUID(0L, 0L);
+
   private final SellerJpaRepository sellerJpaRepository;
+  private final EntityManager entityManager;
   private final JPAQueryFactory queryFactory;
+  private final UserArchive userArchive;
+  private final AuditorAware<String> auditorAware;
+  private final EntityCacheEvictor entityCacheEvictor;
 
   @Override
   public Seller save(Seller seller) {
     return sellerJpaRepository.save(seller);
   }
 
+  @Override
+  public Seller insert(Seller seller) {
+    return sellerJpaRepository.saveAndFlush(seller);
+  }
+
   @Override
   public Optional<Seller> findById(UUID id) {
-    return sellerJpaRepository.findById(id);
+    return sellerJpaRepository
+        .findById(id)
+        .filter(found -> !found.isDeleted())
+        .or(() -> userArchive.findById(TABLE_NAME, id, Seller.class));
+  }
+
+  @Override
+  public Optional<LocalDateTime> findUpdatedAtById(UUID id) {
+    return sellerJpaRepository
+        .findUpdatedAtById(id)
+        .or(() -> userArchive.findUpdatedAtById(TABLE_NAME, id));
+  }
+
+  @Override
+  public Optional<Seller> findByIdIncludingDeleted(UUID id) {
+    return sellerJpaRepository
+        .findByIdIncludingDeleted(id)
+        .or(() -> userArchive.findByIdIncludingDeleted(TABLE_NAME, id, Seller.class));
+  }
+
+  @Override
+  public Optional<SellerEligibility> findEligibilityById(UUID id) {
+    return Optional.ofNullable(
+        queryFactory
+            .select(eligibilityProjection())
+            .from(seller)
+            .where(seller.id.eq(id))
+            .fetchOne())
+        .or(() -> userArchive.findById(TABLE_NAME, id, Seller.class).map(SellerEligibility::from));
+  }
+
+  @Override
+  public List<SellerEligibility> findEligibilitiesByIds(Collection<UUID> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    return queryFactory
+        .select(eligibilityProjection())
+        .from(seller)
+        .where(seller.id.in(ids))
+        .fetch();
   }
 
   @Override
   public Optional<Seller> findByEmail(String email) {
-    return sellerJpaRepository.findByEmail(email);
+    return entityManager
+        .unwrap(Session.class)
+        .bySimpleNaturalId(Seller.class)
+        .loadOptional(CanonicalEmail.of(email))
+        .filter(found -> !found.isDeleted());
   }
 
   @Override
   public boolean existsByEmail(String email) {
-    return sellerJpaRepository.existsByEmail(email);
+    return sellerJpaRepository.existsByEmailCanonical(CanonicalEmail.of(email));
   }
 
   @Override
   public boolean existsByBusinessNumber(String businessNumber) {
-    return sellerJpaRepository.existsByBusinessNumber(businessNumber);
+    return sellerJpaRepository.existsByBusinessInfoBusinessNumber(businessNumber);
   }
 
   @Override
@@ -69,13 +153,7 @@ public class SellerRepositoryImpl implements SellerRepository {
     List<Seller> content =
         queryFactory
             .selectFrom(seller)
-            .where(
-                emailContains(condition.getEmail()),
-                nameContains(condition.getName()),
-                statusEq(condition.getStatus()),
-                sellerStatusEq(condition.getSellerStatus()),
-                businessNameContains(condition.getBusinessName()),
-                businessNumberEq(condition.getBusinessNumber()))
+            .where(searchConditions(condition))
             .orderBy(getOrderSpecifiers(pageable.getSort()))
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize())
@@ -85,19 +163,89 @@ public class SellerRepositoryImpl implements SellerRepository {
         queryFactory
             .select(seller.count())
             .from(seller)
-            .where(
-                emailContains(condition.getEmail()),
-                nameContains(condition.getName()),
-                statusEq(condition.getStatus()),
-                sellerStatusEq(condition.getSellerStatus()),
-                businessNameContains(condition.getBusinessName()),
-                businessNumberEq(condition.getBusinessNumber()));
+            .where(searchConditions(condition));
+
+    return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+  }
+
+  @Override
+  public Page<Map<String, Object>> findAllByCondition(
+      SellerSearchCondition condition, List<SellerField> fields, Pageable pageable) {
+    List<Map<String, Object>> content =
+        queryFactory
+            .select(SelectableField.expressions(fields))
+            .from(seller)
+            .where(searchConditions(condition))
+            .orderBy(getOrderSpecifiers(pageable.getSort()))
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .fetch()
+            .stream()
+            .map(tuple -> SelectableField.toMap(tuple, fields))
+            .toList();
+
+    JPAQuery<Long> countQuery =
+        queryFactory.select(seller.count()).from(seller).where(searchConditions(condition));
 
     return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
   }
 
+  @Override
+  public boolean transitionStatus(UUID id, UserStatusTransition transition) {
+    int updated =
+        sellerJpaRepository.updateStatusIfIn(
+            id,
+            transition.sourceNames(),
+            transition.getTarget().name(),
+            LocalDateTime.now(),
+            currentAuditor());
+    if (updated == 0) {
+      return false;
+    }
+    entityCacheEvictor.evict(Seller.class, id);
+    return true;
+  }
+
+  @Override
+  public List<UUID> findIdsWithPlaintextAccountNumberAfter(UUID after, int limit) {
+    return sellerJpaRepository.findIdsWithPlaintextAccountNumberAfter(
+        after != null ? after : FIRST_ID, limit);
+  }
+
+  @Override
+  public List<Seller> findAllByIdForUpdate(Collection<UUID> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    return sellerJpaRepository.findAllByIdInForUpdate(ids);
+  }
+
+  private String currentAuditor() {
+    return auditorAware.getCurrentAuditor().orElse(SYSTEM_AUDITOR);
+  }
+
+  private ConstructorExpression<SellerEligibility> eligibilityProjection() {
+    return Projections.constructor(
+        SellerEligibility.class, seller.id, seller.status, seller.sellerStatus);
+  }
+
+  private BooleanExpression[] searchConditions(SellerSearchCondition condition) {
+    return new BooleanExpression[] {
+      emailContains(condition.getEmail()),
+      nameContains(condition.getName()),
+      PhoneMatch.condition(seller.profile, condition.getPhone(), condition.getPhoneMatch()),
+      statusEq(condition.getStatus()),
+      sellerStatusEq(condition.getSellerStatus()),
+      businessNameContains(condition.getBusinessName()),
+      businessNumberEq(condition.getBusinessNumber()),
+      accountNumberEq(condition.getAccountNumber())
+    };
+  }
+
   private BooleanExpression emailContains(String email) {
-    return StringUtils.hasText(email) ? seller.email.containsIgnoreCase(email) : null;
+    return StringUtils.hasText(email)
+        ? seller.emailCanonical.contains(CanonicalEmail.of(email))
+        : null;
   }
 
   private BooleanExpression nameContains(String name) {
@@ -124,6 +272,13 @@ public class SellerRepositoryImpl implements SellerRepository {
         : null;
   }
 
+  private BooleanExpression accountNumberEq(String accountNumber) {
+    return StringUtils.hasText(accountNumber)
+        ? seller.settlementInfo.accountNumberIndex.eq(
+            SettlementInfo.accountNumberIndexOf(accountNumber))
+        : null;
+  }
+
   private OrderSpecifier<?>[] getOrderSpecifiers(Sort sort) {
     List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
 
@@ -0,0 +1,40 @@
+package com.tickatch.user_service.seller.domain.repository.dto;
+
+import com.tickatch.user_service.common.domain.vo.UserStatus;
+import com.tickatch.user_service.seller.domain.Seller;
+import com.tickatch.user_service.seller.domain.vo.SellerStatus;
+import java.util.UUID;
+
+/**
+ * 판매자 공연 등록 가능 여부 판단용 상태 프로젝션.
+ *
+ * <p>엔티티 전체를 로딩하지 않고 판단에 필요한 상태 컬럼만 조회한다. 판단 규칙은 {@code Seller.canRegisterPerformance()}와
+ * 동일하다.
+ *
+ * @param sellerId 판매자 ID
+ * @param status 사용자 상태
+ * @param sellerStatus 판매자 승인 상태
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public record SellerEligibility(UUID sellerId, UserStatus status, SellerStatus sellerStatus) {
+
+  /**
+   * 로딩된 Seller에서 상태 프로젝션을 만든다.
+   *
+   * @param seller Seller
+   * @return 상태 프로젝션
+   */
+  public static SellerEligibility from(Seller seller) {
+    return new SellerEligibility(seller.getId(), seller.getStatus(), seller.getSellerStatus());
+  }
+
+  /**
+   * 공연 등록 가능 여부를 반환한다.
+   *
+   * @return 활성 상태이면서 승인 완료 상태이면 true
+   */
+  public boolean canRegisterPerformance() {
+    return status.isActive() && sellerStatus.canRegisterPerformance();
+  }
+}
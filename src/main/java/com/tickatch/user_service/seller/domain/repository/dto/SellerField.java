@@ -0,0 +1,86 @@
+package com.tickatch.user_service.seller.domain.repository.dto;
+
+import static com.tickatch.user_service.seller.domain.QSeller.seller;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.tickatch.user_service.common.domain.repository.dto.SelectableField;
+import com.tickatch.user_service.seller.domain.vo.BusinessInfo;
+import com.tickatch.user_service.seller.domain.vo.QSettlementInfo;
+import com.tickatch.user_service.seller.domain.vo.SettlementInfo;
+import java.util.List;
+
+/**
+ * Seller 목록 조회에서 선택할 수 있는 필드.
+ *
+ * <p>필드명은 판매자 조회 응답 DTO의 필드명과 같다. 정산 정보 등록 여부는 계좌 컬럼을 읽지 않도록 SQL에서 판단한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public enum SellerField implements SelectableField {
+  ID("id", seller.id),
+  EMAIL("email", seller.email),
+  NAME("name", seller.profile.name),
+  PHONE("phone", seller.profile.phone),
+  BUSINESS_NAME("businessName", seller.businessInfo.businessName),
+  FORMATTED_BUSINESS_NUMBER("formattedBusinessNumber", seller.businessInfo.businessNumber) {
+    @Override
+    public Object read(Tuple tuple) {
+      return BusinessInfo.format(tuple.get(seller.businessInfo.businessNumber));
+    }
+  },
+  REPRESENTATIVE_NAME("representativeName", seller.businessInfo.representativeName),
+  SELLER_STATUS("sellerStatus", seller.sellerStatus),
+  STATUS("status", seller.status),
+  HAS_SETTLEMENT_INFO("hasSettlementInfo", settlementComplete()),
+  APPROVED_AT("approvedAt", seller.approvedAt),
+  APPROVED_BY("approvedBy", seller.approvedBy),
+  REJECTED_REASON("rejectedReason", seller.rejectedReason),
+  CREATED_AT("createdAt", seller.createdAt),
+  UPDATED_AT("updatedAt", seller.updatedAt);
+
+  private final String fieldName;
+  private final Expression<?> expression;
+
+  SellerField(String fieldName, Expression<?> expression) {
+    this.fieldName = fieldName;
+    this.expression = expression;
+  }
+
+  @Override
+  public String fieldName() {
+    return fieldName;
+  }
+
+  @Override
+  public Expression<?> expression() {
+    return expression;
+  }
+
+  /** 정산 정보가 모두 입력되었는지 판단하는 식. ({@link SettlementInfo#isComplete()}와 같은 조건) */
+  private static Expression<Boolean> settlementComplete() {
+    QSettlementInfo settlement = seller.settlementInfo;
+    return new CaseBuilder()
+        .when(
+            Expressions.allOf(
+                settlement.bankCode.trim().isNotEmpty(),
+                settlement.encryptedAccountNumber.trim().isNotEmpty(),
+                settlement.accountHolder.trim().isNotEmpty()))
+        .then(Expressions.TRUE)
+        .otherwise(Expressions.FALSE);
+  }
+
+  /**
+   * {@code fields} 파라미터를 선택 필드 목록으로 변환한다.
+   *
+   * @param fields 쉼표로 구분한 필드명 (예: id,name,sellerStatus)
+   * @return 선택 필드 목록 (ID 항상 포함)
+   * @throws com.tickatch.user_service.common.domain.exception.UserException 선택할 수 없는 필드명이 있는 경우
+   */
+  public static List<SellerField> parse(String fields) {
+    return SelectableField.parse(fields, SellerField.class);
+  }
+}
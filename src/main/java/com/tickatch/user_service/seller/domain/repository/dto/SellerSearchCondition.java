@@ -1,5 +1,6 @@
 package com.tickatch.user_service.seller.domain.repository.dto;
 
+import com.tickatch.user_service.common.domain.repository.dto.PhoneMatch;
 import com.tickatch.user_service.common.domain.vo.UserStatus;
 import com.tickatch.user_service.seller.domain.vo.SellerStatus;
 import lombok.Builder;
@@ -17,8 +18,16 @@ public class SellerSearchCondition {
 
   private final String email;
   private final String name;
+  private final String phone;
+
+  /** 연락처 검색 방식 (null이면 부분 일치). */
+  private final PhoneMatch phoneMatch;
+
   private final UserStatus status;
   private final SellerStatus sellerStatus;
   private final String businessName;
   private final String businessNumber;
+
+  /** 정산 계좌번호 (블라인드 인덱스로 일치 검색). */
+  private final String accountNumber;
 }
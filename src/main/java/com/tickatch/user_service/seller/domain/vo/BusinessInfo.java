@@ -161,6 +161,16 @@ public class BusinessInfo {
    * @return XXX-XX-XXXXX 형식
    */
   public String getFormattedBusinessNumber() {
+    return format(businessNumber);
+  }
+
+  /**
+   * 사업자등록번호를 XXX-XX-XXXXX 형식으로 포맷팅한다.
+   *
+   * @param businessNumber 숫자만 있는 사업자등록번호
+   * @return XXX-XX-XXXXX 형식 (10자리가 아니면 그대로)
+   */
+  public static String format(String businessNumber) {
     if (businessNumber == null || businessNumber.length() != 10) {
       return businessNumber;
     }
@@ -4,9 +4,11 @@ import static com.tickatch.user_service.seller.domain.exception.SellerErrorCode.
 import static com.tickatch.user_service.seller.domain.exception.SellerErrorCode.INVALID_ACCOUNT_NUMBER;
 import static com.tickatch.user_service.seller.domain.exception.SellerErrorCode.INVALID_BANK_CODE;
 
+import com.tickatch.user_service.global.crypto.FieldCrypto;
 import com.tickatch.user_service.seller.domain.exception.SellerException;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
+import jakarta.persistence.Transient;
 import java.util.Set;
 import java.util.regex.Pattern;
 import lombok.AccessLevel;
@@ -17,12 +19,22 @@ import lombok.NoArgsConstructor;
 /**
  * 정산 정보 Value Object.
  *
+ * <p>계좌번호는 {@link FieldCrypto}로 암호화하여 저장한다. 함께 저장하는 값:
+ *
+ * <ul>
+ *   <li>블라인드 인덱스({@code account_number_index}): 복호화 없이 계좌번호로 판매자를 찾을 때 사용
+ *   <li>마스킹 값({@code masked_account_number}): 조회 응답에서 복호화 없이 사용
+ * </ul>
+ *
+ * <p>평문 계좌번호는 {@link #getAccountNumber()}를 처음 호출할 때 복호화하여 인스턴스에 보관한다. 암호문은 매번 다른 IV를 사용하므로
+ * 동등성은 블라인드 인덱스로 비교한다.
+ *
  * @author Tickatch
  * @since 1.0.0
  */
 @Getter
 @Embeddable
-@EqualsAndHashCode
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SettlementInfo {
 
@@ -57,21 +69,38 @@ public class SettlementInfo {
           );
 
   /** 은행 코드. */
+  @EqualsAndHashCode.Include
   @Column(name = "bank_code", length = 10)
   private String bankCode;
 
-  /** 계좌번호. */
-  @Column(name = "account_number", length = 50)
-  private String accountNumber;
+  /** 암호화된 계좌번호. */
+  @Column(name = "account_number", length = 100)
+  private String encryptedAccountNumber;
+
+  /** 계좌번호 블라인드 인덱스. */
+  @EqualsAndHashCode.Include
+  @Column(name = "account_number_index", length = 64)
+  private String accountNumberIndex;
+
+  /** 마스킹된 계좌번호. */
+  @Column(name = "masked_account_number", length = 50)
+  private String maskedAccountNumber;
 
   /** 예금주명. */
+  @EqualsAndHashCode.Include
   @Column(name = "account_holder", length = 100)
   private String accountHolder;
 
+  /** 복호화한 계좌번호. */
+  @Transient private String accountNumber;
+
   private SettlementInfo(String bankCode, String accountNumber, String accountHolder) {
     this.bankCode = bankCode;
-    this.accountNumber = accountNumber;
+    this.encryptedAccountNumber = FieldCrypto.encrypt(accountNumber);
+    this.accountNumberIndex = FieldCrypto.blindIndex(accountNumber);
+    this.maskedAccountNumber = mask(accountNumber);
     this.accountHolder = accountHolder;
+    this.accountNumber = accountNumber;
   }
 
   /**
@@ -113,6 +142,50 @@ public class SettlementInfo {
     return SettlementInfo.of(bankCode, accountNumber, accountHolder);
   }
 
+  /**
+   * 정산 정보 부분 수정.
+   *
+   * <p>null인 항목은 기존 값을 유지한다. 결과가 기존 값과 같으면 자기 자신을 반환한다.
+   *
+   * @param bankCode 새 은행 코드 (null이면 유지)
+   * @param accountNumber 새 계좌번호 (null이면 유지)
+   * @param accountHolder 새 예금주명 (null이면 유지)
+   * @return 수정된 SettlementInfo
+   * @throws SellerException 병합한 결과가 유효하지 않은 경우
+   */
+  public SettlementInfo patch(String bankCode, String accountNumber, String accountHolder) {
+    SettlementInfo patched =
+        SettlementInfo.of(
+            bankCode != null ? bankCode : this.bankCode,
+            accountNumber != null ? accountNumber : getAccountNumber(),
+            accountHolder != null ? accountHolder : this.accountHolder);
+    return patched.equals(this) ? this : patched;
+  }
+
+  /**
+   * 암호화 도입 이전에 평문으로 저장된 계좌번호인지 확인.
+   *
+   * @return 계좌번호가 평문이면 true
+   */
+  public boolean isPlaintextAccountNumber() {
+    return encryptedAccountNumber != null && !FieldCrypto.isEncrypted(encryptedAccountNumber);
+  }
+
+  /**
+   * 평문 계좌번호를 암호화한 정산 정보를 만든다.
+   *
+   * <p>블라인드 인덱스와 마스킹 값도 함께 채운다. 기존 데이터를 옮기는 용도이므로 형식은 검증하지 않는다.
+   *
+   * @return 암호화된 SettlementInfo (이미 암호화되어 있으면 자기 자신)
+   */
+  public SettlementInfo encryptAccountNumber() {
+    if (!isPlaintextAccountNumber()) {
+      return this;
+    }
+    return new SettlementInfo(
+        bankCode, normalizeAccountNumber(encryptedAccountNumber.trim()), accountHolder);
+  }
+
   /**
    * 정산 정보가 비어있는지 확인.
    *
@@ -120,7 +193,7 @@ public class SettlementInfo {
    */
   public boolean isEmpty() {
     return (bankCode == null || bankCode.isBlank())
-        && (accountNumber == null || accountNumber.isBlank())
+        && (encryptedAccountNumber == null || encryptedAccountNumber.isBlank())
         && (accountHolder == null || accountHolder.isBlank());
   }
 
@@ -132,8 +205,8 @@ public class SettlementInfo {
   public boolean isComplete() {
     return bankCode != null
         && !bankCode.isBlank()
-        && accountNumber != null
-        && !accountNumber.isBlank()
+        && encryptedAccountNumber != null
+        && !encryptedAccountNumber.isBlank()
         && accountHolder != null
         && !accountHolder.isBlank();
   }
@@ -170,12 +243,47 @@ public class SettlementInfo {
     return accountNumber.replaceAll("-", "");
   }
 
+  /**
+   * 계좌번호 블라인드 인덱스 계산.
+   *
+   * <p>{@code account_number_index} 컬럼과 비교하여 계좌번호로 판매자를 조회할 때 사용한다.
+   *
+   * @param accountNumber 계좌번호 (하이픈 허용)
+   * @return 블라인드 인덱스
+   */
+  public static String accountNumberIndexOf(String accountNumber) {
+    return FieldCrypto.blindIndex(normalizeAccountNumber(accountNumber.trim()));
+  }
+
+  /**
+   * 계좌번호 반환.
+   *
+   * <p>처음 호출할 때 복호화한다.
+   *
+   * @return 평문 계좌번호
+   */
+  public String getAccountNumber() {
+    if (accountNumber == null && encryptedAccountNumber != null) {
+      accountNumber = FieldCrypto.decrypt(encryptedAccountNumber);
+    }
+    return accountNumber;
+  }
+
   /**
    * 마스킹된 계좌번호 반환.
    *
+   * <p>저장된 마스킹 값을 사용하며, 암호화 도입 이전에 저장되어 마스킹 값이 없는 경우에만 계좌번호로 계산한다.
+   *
    * @return 앞 4자리만 표시 (예: 1234******)
    */
   public String getMaskedAccountNumber() {
+    if (maskedAccountNumber == null && encryptedAccountNumber != null) {
+      return mask(getAccountNumber());
+    }
+    return maskedAccountNumber;
+  }
+
+  private static String mask(String accountNumber) {
     if (accountNumber == null || accountNumber.length() < 4) {
       return accountNumber;
     }
@@ -1,11 +1,16 @@
 package com.tickatch.user_service.seller.presentation.api;
 
+import com.tickatch.user_service.global.web.ConditionalGet;
 import com.tickatch.user_service.seller.application.service.command.SellerCommandService;
 import com.tickatch.user_service.seller.application.service.query.SellerQueryService;
+import com.tickatch.user_service.seller.application.service.query.dto.SellerEligibilityResponse;
 import com.tickatch.user_service.seller.application.service.query.dto.SellerResponse;
 import com.tickatch.user_service.seller.application.service.query.dto.SellerSearchRequest;
 import com.tickatch.user_service.seller.presentation.api.dto.CreateSellerRequest;
+import com.tickatch.user_service.seller.presentation.api.dto.PatchSellerProfileRequest;
+import com.tickatch.user_service.seller.presentation.api.dto.PatchSettlementInfoRequest;
 import com.tickatch.user_service.seller.presentation.api.dto.RejectRequest;
+import com.tickatch.user_service.seller.presentation.api.dto.SellerEligibilityBatchRequest;
 import com.tickatch.user_service.seller.presentation.api.dto.UpdateSellerProfileRequest;
 import com.tickatch.user_service.seller.presentation.api.dto.UpdateSettlementInfoRequest;
 import io.github.tickatch.common.api.ApiResponse;
@@ -16,21 +21,30 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -50,6 +64,13 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class SellerApi {
 
+  /** 단건 조회 캐시 정책: 30초 캐시 후 재검증 (max-age=30, private). */
+  private static final CacheControl SELLER_CACHE_CONTROL =
+      CacheControl.maxAge(Duration.ofSeconds(30)).cachePrivate();
+
+  /** 내 정보 조회 캐시 정책: no-cache, private. */
+  private static final CacheControl ME_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
   private final SellerCommandService sellerCommandService;
   private final SellerQueryService sellerQueryService;
 
@@ -58,65 +79,149 @@ public class SellerApi {
   /**
    * 판매자 목록을 조회한다.
    *
-   * @param request 검색 조건 (이메일, 이름, 상태, 승인상태, 상호명, 사업자번호)
+   * @param request 검색 조건 (이메일, 이름, 연락처, 연락처 검색 방식, 상태, 승인상태, 상호명, 사업자번호, 정산 계좌번호)
    * @param pageable 페이징 정보 (기본값: size=10, sort=createdAt DESC)
+   * @param fields 응답에 포함할 필드 (없으면 전체, ID는 항상 포함)
    * @return 페이징된 판매자 목록
    */
-  @Operation(summary = "판매자 목록 조회", description = "검색 조건과 페이징을 적용하여 판매자 목록을 조회한다.")
+  @Operation(
+      summary = "판매자 목록 조회",
+      description = "검색 조건과 페이징을 적용하여 판매자 목록을 조회한다. fields를 지정하면 해당 필드만 조회/응답한다.")
   @ApiResponses({
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
         responseCode = "200",
         description = "조회 성공")
   })
   @GetMapping
-  public ApiResponse<PageResponse<SellerResponse>> getSellers(
+  public ApiResponse<PageResponse<?>> getSellers(
       @ModelAttribute SellerSearchRequest request,
       @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC)
-          Pageable pageable) {
-    var sellers = sellerQueryService.searchSellers(request, pageable);
-    return ApiResponse.success(PageResponse.from(sellers));
+          Pageable pageable,
+      @Parameter(description = "응답에 포함할 필드 (쉼표 구분, 예: id,name,sellerStatus)")
+          @RequestParam(required = false)
+          String fields) {
+    PageResponse<?> sellers =
+        StringUtils.hasText(fields)
+            ? PageResponse.from(sellerQueryService.searchSellers(request, fields, pageable))
+            : PageResponse.from(sellerQueryService.searchSellers(request, pageable));
+    return ApiResponse.success(sellers);
   }
 
   /**
    * 판매자 단건을 조회한다.
    *
    * @param id 판매자 ID
+   * @param ifNoneMatch 클라이언트가 보유한 ETag (일치하면 304)
    * @return 판매자 상세 정보
    */
-  @Operation(summary = "판매자 단건 조회", description = "판매자 ID로 판매자 상세 정보를 조회한다.")
+  @Operation(
+      summary = "판매자 단건 조회",
+      description = "판매자 ID로 판매자 상세 정보를 조회한다. If-None-Match가 현재 ETag와 일치하면 304를 반환한다.")
   @ApiResponses({
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
         responseCode = "200",
         description = "조회 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "304",
+        description = "변경 없음 (ETag 일치)"),
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
         responseCode = "404",
         description = "판매자를 찾을 수 없음")
   })
   @GetMapping("/{id}")
-  public ApiResponse<SellerResponse> getSeller(
-      @Parameter(description = "판매자 ID", required = true) @PathVariable UUID id) {
-    return ApiResponse.success(sellerQueryService.getSeller(id));
+  public ResponseEntity<ApiResponse<SellerResponse>> getSeller(
+      @Parameter(description = "판매자 ID", required = true) @PathVariable UUID id,
+      @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+          String ifNoneMatch) {
+    return ConditionalGet.respond(
+        id,
+        ifNoneMatch,
+        SELLER_CACHE_CONTROL,
+        () -> sellerQueryService.getSellerVersion(id),
+        () -> sellerQueryService.getSeller(id),
+        SellerResponse::updatedAt);
   }
 
   /**
    * 내 정보를 조회한다.
    *
    * @param user 인증된 사용자 정보
+   * @param ifNoneMatch 클라이언트가 보유한 ETag (일치하면 304)
    * @return 내 판매자 정보
    */
-  @Operation(summary = "내 정보 조회", description = "인증된 사용자의 판매자 정보를 조회한다.")
+  @Operation(
+      summary = "내 정보 조회",
+      description = "인증된 사용자의 판매자 정보를 조회한다. If-None-Match가 현재 ETag와 일치하면 304를 반환한다.")
   @ApiResponses({
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
         responseCode = "200",
         description = "조회 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "304",
+        description = "변경 없음 (ETag 일치)"),
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
         responseCode = "404",
         description = "판매자를 찾을 수 없음")
   })
   @GetMapping("/me")
-  public ApiResponse<SellerResponse> getMe(
-      @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user) {
-    return ApiResponse.success(sellerQueryService.getSeller(UUID.fromString(user.getUserId())));
+  public ResponseEntity<ApiResponse<SellerResponse>> getMe(
+      @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+      @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+          String ifNoneMatch) {
+    UUID sellerId = UUID.fromString(user.getUserId());
+    return ConditionalGet.respond(
+        sellerId,
+        ifNoneMatch,
+        ME_CACHE_CONTROL,
+        () -> sellerQueryService.getSellerVersion(sellerId),
+        () -> sellerQueryService.getSeller(sellerId),
+        SellerResponse::updatedAt);
+  }
+
+  /**
+   * 판매자의 공연 등록 가능 여부를 조회한다.
+   *
+   * <p>공연 서비스가 공연 등록 시 호출한다.
+   *
+   * @param id 판매자 ID
+   * @return 공연 등록 가능 여부
+   */
+  @Operation(summary = "공연 등록 가능 여부 조회", description = "판매자가 공연을 등록할 수 있는 상태인지 조회한다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "조회 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "404",
+        description = "판매자를 찾을 수 없음")
+  })
+  @GetMapping("/{id}/eligibility")
+  public ApiResponse<SellerEligibilityResponse> getPerformanceEligibility(
+      @Parameter(description = "판매자 ID", required = true) @PathVariable UUID id) {
+    return ApiResponse.success(sellerQueryService.getPerformanceEligibility(id));
+  }
+
+  /**
+   * 여러 판매자의 공연 등록 가능 여부를 일괄 조회한다.
+   *
+   * @param request 판매자 ID 목록
+   * @return 판매자별 공연 등록 가능 여부 (존재하지 않는 판매자는 false)
+   */
+  @Operation(
+      summary = "공연 등록 가능 여부 일괄 조회",
+      description = "여러 판매자의 공연 등록 가능 여부를 한 번에 조회한다. 존재하지 않는 판매자는 false로 응답한다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "조회 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "400",
+        description = "잘못된 요청")
+  })
+  @PostMapping("/eligibility")
+  public ApiResponse<List<SellerEligibilityResponse>> getPerformanceEligibilities(
+      @Valid @RequestBody SellerEligibilityBatchRequest request) {
+    return ApiResponse.success(sellerQueryService.getPerformanceEligibilities(request.sellerIds()));
   }
 
   // ========== 생성 ==========
@@ -179,6 +284,33 @@ public class SellerApi {
     return ApiResponse.success();
   }
 
+  /**
+   * 판매자 프로필을 부분 수정한다.
+   *
+   * @param id 판매자 ID
+   * @param request 프로필 부분 수정 요청 (생략한 항목은 유지)
+   * @return 빈 응답
+   */
+  @Operation(summary = "프로필 부분 수정", description = "전달한 항목만 수정한다. 생략한 항목은 기존 값을 유지한다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "수정 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "400",
+        description = "잘못된 요청"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "404",
+        description = "판매자를 찾을 수 없음")
+  })
+  @PatchMapping("/{id}/profile")
+  public ApiResponse<Void> patchProfile(
+      @Parameter(description = "판매자 ID", required = true) @PathVariable UUID id,
+      @Valid @RequestBody PatchSellerProfileRequest request) {
+    sellerCommandService.patchProfile(request.toCommand(id));
+    return ApiResponse.success();
+  }
+
   /**
    * 정산 정보를 수정한다.
    *
@@ -209,6 +341,36 @@ public class SellerApi {
     return ApiResponse.success();
   }
 
+  /**
+   * 정산 정보를 부분 수정한다.
+   *
+   * @param id 판매자 ID
+   * @param request 정산 정보 부분 수정 요청 (생략한 항목은 유지)
+   * @return 빈 응답
+   */
+  @Operation(summary = "정산 정보 부분 수정", description = "전달한 항목만 수정한다. 승인된 판매자만 가능하다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "수정 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "400",
+        description = "잘못된 요청"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "404",
+        description = "판매자를 찾을 수 없음"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "422",
+        description = "승인 전에는 수정 불가")
+  })
+  @PatchMapping("/{id}/settlement")
+  public ApiResponse<Void> patchSettlementInfo(
+      @Parameter(description = "판매자 ID", required = true) @PathVariable UUID id,
+      @Valid @RequestBody PatchSettlementInfoRequest request) {
+    sellerCommandService.patchSettlementInfo(request.toCommand(id));
+    return ApiResponse.success();
+  }
+
   // ========== 심사 ==========
 
   /**
@@ -0,0 +1,32 @@
+package com.tickatch.user_service.seller.presentation.api.dto;
+
+import com.tickatch.user_service.seller.application.service.command.dto.UpdateSellerProfileCommand;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import java.util.UUID;
+
+/**
+ * 판매자 프로필 부분 수정 요청 DTO.
+ *
+ * <p>전달된 항목만 수정한다. 생략(null)한 항목은 기존 값을 유지한다.
+ *
+ * @param name 이름 (선택)
+ * @param phone 연락처 (선택, 빈 문자열이면 삭제)
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public record PatchSellerProfileRequest(
+    @Size(min = 1, max = 50, message = "이름은 1자 이상 50자 이하여야 합니다") String name,
+    @Pattern(regexp = "^$|^01[0-9]-?[0-9]{3,4}-?[0-9]{4}$", message = "연락처 형식이 올바르지 않습니다")
+        String phone) {
+
+  /**
+   * Command 객체로 변환한다.
+   *
+   * @param sellerId 판매자 ID
+   * @return UpdateSellerProfileCommand
+   */
+  public UpdateSellerProfileCommand toCommand(UUID sellerId) {
+    return UpdateSellerProfileCommand.of(sellerId, name, phone);
+  }
+}
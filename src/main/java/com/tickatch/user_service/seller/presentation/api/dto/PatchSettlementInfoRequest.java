@@ -0,0 +1,33 @@
+package com.tickatch.user_service.seller.presentation.api.dto;
+
+import com.tickatch.user_service.seller.application.service.command.dto.UpdateSettlementInfoCommand;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import java.util.UUID;
+
+/**
+ * 정산 정보 부분 수정 요청 DTO.
+ *
+ * <p>전달된 항목만 수정한다. 생략(null)한 항목은 기존 값을 유지하며, 병합한 결과는 정산 정보 검증을 통과해야 한다.
+ *
+ * @param bankCode 은행 코드 (선택, 3자리)
+ * @param accountNumber 계좌번호 (선택)
+ * @param accountHolder 예금주명 (선택)
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public record PatchSettlementInfoRequest(
+    @Pattern(regexp = "^[0-9]{3}$", message = "은행 코드는 3자리 숫자여야 합니다") String bankCode,
+    @Pattern(regexp = "^[0-9-]{10,20}$", message = "계좌번호 형식이 올바르지 않습니다") String accountNumber,
+    @Size(min = 1, max = 100, message = "예금주명은 1자 이상 100자 이하여야 합니다") String accountHolder) {
+
+  /**
+   * Command 객체로 변환한다.
+   *
+   * @param sellerId 판매자 ID
+   * @return UpdateSettlementInfoCommand
+   */
+  public UpdateSettlementInfoCommand toCommand(UUID sellerId) {
+    return UpdateSettlementInfoCommand.of(sellerId, bankCode, accountNumber, accountHolder);
+  }
+}
@@ -0,0 +1,17 @@
+package com.tickatch.user_service.seller.presentation.api.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 판매자 공연 등록 가능 여부 일괄 조회 요청 DTO.
+ *
+ * @param sellerIds 판매자 ID 목록 (최대 500개)
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public record SellerEligibilityBatchRequest(
+    @NotEmpty(message = "판매자 ID 목록은 필수입니다") @Size(max = 500, message = "판매자 ID는 500개 이하여야 합니다")
+        List<UUID> sellerIds) {}
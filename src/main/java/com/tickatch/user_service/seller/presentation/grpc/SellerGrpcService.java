@@ -0,0 +1,99 @@
+package com.tickatch.user_service.seller.presentation.grpc;
+
+import static com.tickatch.user_service.global.grpc.GrpcValues.text;
+
+import com.tickatch.user_service.global.grpc.GrpcValues;
+import com.tickatch.user_service.global.grpc.proto.BatchGetByIdsRequest;
+import com.tickatch.user_service.global.grpc.proto.BatchGetSellerEligibilitiesResponse;
+import com.tickatch.user_service.global.grpc.proto.ExistsByEmailRequest;
+import com.tickatch.user_service.global.grpc.proto.ExistsResponse;
+import com.tickatch.user_service.global.grpc.proto.GetByIdRequest;
+import com.tickatch.user_service.global.grpc.proto.Seller;
+import com.tickatch.user_service.global.grpc.proto.SellerEligibility;
+import com.tickatch.user_service.global.grpc.proto.SellerLookupServiceGrpc;
+import com.tickatch.user_service.seller.application.service.query.SellerQueryService;
+import com.tickatch.user_service.seller.application.service.query.dto.SellerEligibilityResponse;
+import com.tickatch.user_service.seller.application.service.query.dto.SellerResponse;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 판매자 조회 내부 gRPC 서비스.
+ *
+ * <p>공연 서비스 등이 판매자 정보와 공연 등록 가능 여부를 조회할 때 사용하는 서비스 간 API이다. REST API와 같은 {@link
+ * SellerQueryService}를 사용하므로 자격 캐시가 그대로 적용된다. 승인 처리자, 거절 사유 등 관리자용 필드는 제공하지 않는다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+public class SellerGrpcService extends SellerLookupServiceGrpc.SellerLookupServiceImplBase {
+
+  private final SellerQueryService sellerQueryService;
+
+  @Override
+  public void getSeller(GetByIdRequest request, StreamObserver<Seller> responseObserver) {
+    responseObserver.onNext(
+        toMessage(sellerQueryService.getSeller(GrpcValues.uuid(request.getId()))));
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void existsSellerByEmail(
+      ExistsByEmailRequest request, StreamObserver<ExistsResponse> responseObserver) {
+    responseObserver.onNext(
+        ExistsResponse.newBuilder()
+            .setExists(sellerQueryService.existsByEmail(request.getEmail()))
+            .build());
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void getSellerEligibility(
+      GetByIdRequest request, StreamObserver<SellerEligibility> responseObserver) {
+    responseObserver.onNext(
+        toMessage(
+            sellerQueryService.getPerformanceEligibility(GrpcValues.uuid(request.getId()))));
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void batchGetSellerEligibilities(
+      BatchGetByIdsRequest request,
+      StreamObserver<BatchGetSellerEligibilitiesResponse> responseObserver) {
+    BatchGetSellerEligibilitiesResponse.Builder response =
+        BatchGetSellerEligibilitiesResponse.newBuilder();
+    sellerQueryService
+        .getPerformanceEligibilities(GrpcValues.uuids(request.getIdsList()))
+        .forEach(eligibility -> response.addEligibilities(toMessage(eligibility)));
+    responseObserver.onNext(response.build());
+    responseObserver.onCompleted();
+  }
+
+  private Seller toMessage(SellerResponse seller) {
+    return Seller.newBuilder()
+        .setId(text(seller.id()))
+        .setEmail(text(seller.email()))
+        .setName(text(seller.name()))
+        .setPhone(text(seller.phone()))
+        .setBusinessName(text(seller.businessName()))
+        .setFormattedBusinessNumber(text(seller.formattedBusinessNumber()))
+        .setRepresentativeName(text(seller.representativeName()))
+        .setSellerStatus(text(seller.sellerStatus()))
+        .setStatus(text(seller.status()))
+        .setHasSettlementInfo(seller.hasSettlementInfo())
+        .setApprovedAt(text(seller.approvedAt()))
+        .setCreatedAt(text(seller.createdAt()))
+        .setUpdatedAt(text(seller.updatedAt()))
+        .build();
+  }
+
+  private SellerEligibility toMessage(SellerEligibilityResponse eligibility) {
+    return SellerEligibility.newBuilder()
+        .setSellerId(text(eligibility.sellerId()))
+        .setEligible(eligibility.eligible())
+        .build();
+  }
+}
@@ -0,0 +1,172 @@
+-- ========================================
+-- user-service 보조 스키마 (PostgreSQL)
+-- ========================================
+-- spring.sql.init으로 Hibernate 스키마 생성 이후 실행된다.
+-- 모든 문장은 여러 번 실행되어도 안전해야 한다.
+-- ========================================
+
+-- ===== 유일 인덱스 생성 (중복 보고) =====
+-- 기존 데이터에 중복 키가 있으면 CREATE UNIQUE INDEX는 어떤 키가 중복인지 알려주지 않고 실패하므로, 중복이 없을 때만 인덱스를 만든다.
+-- 중복이 있으면 키와 행 ID를 unique_index_conflicts에 기록하고 건너뛴다. 중복 방지를 이 인덱스에 맡기는 경우에는 바로 뒤에
+-- require_unique_index로 인덱스가 있는지 확인해, 없으면 기동을 멈춘다 (인덱스 없이 기동하면 중복 INSERT를 막지 못한다).
+-- 중복을 정리하고 재기동하면 인덱스가 만들어지고 기록이 지워진다. 이미 인덱스가 있으면 검사하지 않는다.
+-- 함수 본문은 spring.sql.init의 문장 분리(;)를 피하기 위해 작은따옴표로 감싸고, 본문 안의 문자열은 달러 인용을 쓴다.
+CREATE TABLE IF NOT EXISTS unique_index_conflicts (
+    index_name   VARCHAR(100) NOT NULL,
+    conflict_key VARCHAR(255) NOT NULL,
+    ids          TEXT         NOT NULL,
+    detected_at  TIMESTAMP    NOT NULL DEFAULT now(),
+    PRIMARY KEY (index_name, conflict_key)
+);
+
+CREATE OR REPLACE FUNCTION create_unique_index_if_clean(p_index TEXT, p_table TEXT, p_column TEXT, p_predicate TEXT)
+RETURNS BOOLEAN LANGUAGE plpgsql AS '
+DECLARE
+    v_where     TEXT := format($w$%I IS NOT NULL$w$, p_column) || coalesce($a$ AND $a$ || p_predicate, $e$$e$);
+    v_conflicts INTEGER;
+BEGIN
+    IF to_regclass(p_index) IS NOT NULL THEN
+        DELETE FROM unique_index_conflicts WHERE index_name = p_index;
+        RETURN TRUE;
+    END IF;
+
+    DELETE FROM unique_index_conflicts WHERE index_name = p_index;
+    EXECUTE format(
+        $q$INSERT INTO unique_index_conflicts (index_name, conflict_key, ids)
+           SELECT %L, %I, string_agg(id::text, $s$, $s$ ORDER BY id)
+             FROM %I WHERE %s GROUP BY %I HAVING count(*) > 1$q$,
+        p_index, p_column, p_table, v_where, p_column);
+    GET DIAGNOSTICS v_conflicts = ROW_COUNT;
+
+    IF v_conflicts > 0 THEN
+        RAISE WARNING $m$유일 인덱스 % 생성 보류: 중복 키 %건 (unique_index_conflicts 참고)$m$, p_index, v_conflicts;
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format($c$CREATE UNIQUE INDEX %I ON %I (%I) WHERE %s$c$, p_index, p_table, p_column, v_where);
+    RETURN TRUE;
+END';
+
+CREATE OR REPLACE FUNCTION require_unique_index(p_index TEXT)
+RETURNS VOID LANGUAGE plpgsql AS '
+BEGIN
+    IF to_regclass(p_index) IS NULL THEN
+        RAISE EXCEPTION $m$유일 인덱스 % 없음: 중복 키를 정리한 뒤 재기동해야 한다 (unique_index_conflicts 참고)$m$, p_index;
+    END IF;
+END';
+
+-- ===== 기동마다 반복하지 않는 변경 =====
+-- 이 스크립트는 인스턴스가 기동할 때마다 실행된다. 컬럼 타입 변경은 테이블 전체에 ACCESS EXCLUSIVE 잠금을 잡으므로 현재 길이가 짧을
+-- 때만 실행하고, 전체 행을 훑는 데이터 보정은 schema_backfills에 이름을 기록해 한 번만 실행한다.
+CREATE TABLE IF NOT EXISTS schema_backfills (
+    name       VARCHAR(100) PRIMARY KEY,
+    applied_at TIMESTAMP    NOT NULL DEFAULT now()
+);
+
+CREATE OR REPLACE FUNCTION widen_varchar_column(p_table TEXT, p_column TEXT, p_length INTEGER)
+RETURNS VOID LANGUAGE plpgsql AS '
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+                WHERE table_schema = current_schema() AND table_name = p_table AND column_name = p_column
+                  AND character_maximum_length < p_length) THEN
+        EXECUTE format($q$ALTER TABLE %I ALTER COLUMN %I TYPE VARCHAR(%s)$q$, p_table, p_column, p_length);
+    END IF;
+END';
+
+CREATE OR REPLACE FUNCTION run_backfill_once(p_name TEXT, p_sql TEXT)
+RETURNS VOID LANGUAGE plpgsql AS '
+BEGIN
+    IF EXISTS (SELECT 1 FROM schema_backfills WHERE name = p_name) THEN
+        RETURN;
+    END IF;
+    EXECUTE p_sql;
+    INSERT INTO schema_backfills (name) VALUES (p_name) ON CONFLICT DO NOTHING;
+END';
+
+-- ===== 탈퇴 사용자 보관 테이블 =====
+-- 원본 테이블과 같은 컬럼 + archived_at. 보관 테이블에는 ID 유일 인덱스만 둔다.
+CREATE TABLE IF NOT EXISTS customers_archive (LIKE customers INCLUDING DEFAULTS);
+ALTER TABLE customers_archive ADD COLUMN IF NOT EXISTS archived_at TIMESTAMP NOT NULL DEFAULT now();
+CREATE UNIQUE INDEX IF NOT EXISTS ux_customers_archive_id ON customers_archive (id);
+
+CREATE TABLE IF NOT EXISTS sellers_archive (LIKE sellers INCLUDING DEFAULTS);
+ALTER TABLE sellers_archive ADD COLUMN IF NOT EXISTS archived_at TIMESTAMP NOT NULL DEFAULT now();
+CREATE UNIQUE INDEX IF NOT EXISTS ux_sellers_archive_id ON sellers_archive (id);
+
+-- ===== 탈퇴 일시 =====
+-- 보관 대상은 탈퇴 전이에서만 기록되는 withdrawn_at으로 판단한다. 도입 이전에 탈퇴한 행은 탈퇴 처리 때 갱신된 updated_at으로 채운다.
+ALTER TABLE customers_archive ADD COLUMN IF NOT EXISTS withdrawn_at TIMESTAMP;
+ALTER TABLE sellers_archive ADD COLUMN IF NOT EXISTS withdrawn_at TIMESTAMP;
+SELECT run_backfill_once('customers.withdrawn_at', 'UPDATE customers SET withdrawn_at = updated_at WHERE withdrawn_at IS NULL AND status = ''WITHDRAWN''');
+SELECT run_backfill_once('sellers.withdrawn_at', 'UPDATE sellers SET withdrawn_at = updated_at WHERE withdrawn_at IS NULL AND status = ''WITHDRAWN''');
+SELECT run_backfill_once('customers_archive.withdrawn_at', 'UPDATE customers_archive SET withdrawn_at = updated_at WHERE withdrawn_at IS NULL');
+SELECT run_backfill_once('sellers_archive.withdrawn_at', 'UPDATE sellers_archive SET withdrawn_at = updated_at WHERE withdrawn_at IS NULL');
+
+-- 보관 대상 탐색용 부분 인덱스 (탈퇴 사용자만). updated_at 기준 인덱스는 더 이상 사용하지 않는다.
+CREATE INDEX IF NOT EXISTS ix_customers_withdrawn_at_id ON customers (id, withdrawn_at) WHERE status = 'WITHDRAWN';
+CREATE INDEX IF NOT EXISTS ix_sellers_withdrawn_at_id ON sellers (id, withdrawn_at) WHERE status = 'WITHDRAWN';
+DROP INDEX IF EXISTS ix_customers_withdrawn_id;
+DROP INDEX IF EXISTS ix_sellers_withdrawn_id;
+
+-- ===== 논리 삭제 제외 부분 인덱스 =====
+-- 엔티티 조회는 항상 deleted_at IS NULL 조건이 붙으므로 삭제되지 않은 행만 인덱싱한다.
+CREATE INDEX IF NOT EXISTS ix_customers_status_created_live ON customers (status, created_at) WHERE deleted_at IS NULL;
+
+-- 사업자등록번호는 삭제되지 않은 판매자 사이에서 유일하다. 판매자 생성은 이 인덱스의 위반을 중복으로 처리한다.
+SELECT create_unique_index_if_clean('ux_sellers_business_number_live', 'sellers', 'business_number', 'deleted_at IS NULL');
+SELECT require_unique_index('ux_sellers_business_number_live');
+CREATE INDEX IF NOT EXISTS ix_sellers_business_number_live ON sellers (business_number) WHERE deleted_at IS NULL;
+DO 'BEGIN IF to_regclass($n$ux_sellers_business_number_live$n$) IS NOT NULL THEN DROP INDEX IF EXISTS ix_sellers_business_number_live; END IF; END';
+CREATE INDEX IF NOT EXISTS ix_sellers_status_created_live ON sellers (seller_status, status, created_at) WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS ix_admins_role_status_live ON admins (admin_role, status) WHERE deleted_at IS NULL;
+
+-- ===== 휴면 전환 =====
+-- 보관 테이블은 원본 테이블 복사 시점의 컬럼만 가지므로 휴면 전환 컬럼을 함께 맞춘다.
+ALTER TABLE customers_archive ADD COLUMN IF NOT EXISTS last_activity_at TIMESTAMP;
+ALTER TABLE customers_archive ADD COLUMN IF NOT EXISTS dormant_at TIMESTAMP;
+
+-- ===== 정산 계좌번호 암호화 =====
+-- 암호문(v1:Base64)은 평문보다 길다. 보관 테이블은 원본 테이블 복사 시점의 컬럼만 가지므로 함께 맞춘다.
+SELECT widen_varchar_column('sellers', 'account_number', 100);
+SELECT widen_varchar_column('sellers_archive', 'account_number', 100);
+ALTER TABLE sellers_archive ADD COLUMN IF NOT EXISTS account_number_index VARCHAR(64);
+ALTER TABLE sellers_archive ADD COLUMN IF NOT EXISTS masked_account_number VARCHAR(50);
+CREATE INDEX IF NOT EXISTS ix_sellers_account_number_index_live ON sellers (account_number_index) WHERE deleted_at IS NULL;
+
+-- ===== 연락처 정규화 (E.164) =====
+-- 정규화 컬럼 도입 이전 행을 채운다. phone은 하이픈을 제거한 국내 형식(0으로 시작)으로 저장되어 있다.
+ALTER TABLE customers_archive ADD COLUMN IF NOT EXISTS phone_e164 VARCHAR(20);
+ALTER TABLE sellers_archive ADD COLUMN IF NOT EXISTS phone_e164 VARCHAR(20);
+SELECT run_backfill_once('customers.phone_e164', 'UPDATE customers SET phone_e164 = ''+82'' || substr(phone, 2) WHERE phone_e164 IS NULL AND phone LIKE ''0%''');
+SELECT run_backfill_once('sellers.phone_e164', 'UPDATE sellers SET phone_e164 = ''+82'' || substr(phone, 2) WHERE phone_e164 IS NULL AND phone LIKE ''0%''');
+SELECT run_backfill_once('customers_archive.phone_e164', 'UPDATE customers_archive SET phone_e164 = ''+82'' || substr(phone, 2) WHERE phone_e164 IS NULL AND phone LIKE ''0%''');
+SELECT run_backfill_once('sellers_archive.phone_e164', 'UPDATE sellers_archive SET phone_e164 = ''+82'' || substr(phone, 2) WHERE phone_e164 IS NULL AND phone LIKE ''0%''');
+
+-- 일치(=)와 앞부분 일치(LIKE '...%') 검색 모두 인덱스를 사용하도록 pattern_ops로 만든다
+CREATE INDEX IF NOT EXISTS ix_customers_phone_e164_live ON customers (phone_e164 varchar_pattern_ops) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS ix_sellers_phone_e164_live ON sellers (phone_e164 varchar_pattern_ops) WHERE deleted_at IS NULL;
+
+-- ===== 정규화 이메일 (대소문자 무시) =====
+-- 이메일 조회와 중복 검사는 email_canonical(lower(trim(email)))의 유일 제약을 사용한다. 가입은 이 인덱스의 위반을 중복으로 처리하고
+-- 자연 키 조회는 행이 하나라고 가정하므로, 인덱스를 만들 수 없으면 기동을 멈춘다.
+-- 도입 이전 행을 채운다. 대소문자만 다른 중복 행이 있으면 키와 행 ID를 unique_index_conflicts에 기록한다.
+ALTER TABLE customers_archive ADD COLUMN IF NOT EXISTS email_canonical VARCHAR(255);
+ALTER TABLE sellers_archive ADD COLUMN IF NOT EXISTS email_canonical VARCHAR(255);
+SELECT run_backfill_once('customers.email_canonical', 'UPDATE customers SET email_canonical = lower(trim(email)) WHERE email_canonical IS NULL');
+SELECT run_backfill_once('sellers.email_canonical', 'UPDATE sellers SET email_canonical = lower(trim(email)) WHERE email_canonical IS NULL');
+SELECT run_backfill_once('admins.email_canonical', 'UPDATE admins SET email_canonical = lower(trim(email)) WHERE email_canonical IS NULL');
+SELECT run_backfill_once('customers_archive.email_canonical', 'UPDATE customers_archive SET email_canonical = lower(trim(email)) WHERE email_canonical IS NULL');
+SELECT run_backfill_once('sellers_archive.email_canonical', 'UPDATE sellers_archive SET email_canonical = lower(trim(email)) WHERE email_canonical IS NULL');
+
+SELECT create_unique_index_if_clean('ux_customers_email_canonical', 'customers', 'email_canonical', NULL);
+SELECT create_unique_index_if_clean('ux_sellers_email_canonical', 'sellers', 'email_canonical', NULL);
+SELECT create_unique_index_if_clean('ux_admins_email_canonical', 'admins', 'email_canonical', NULL);
+SELECT require_unique_index('ux_customers_email_canonical');
+SELECT require_unique_index('ux_sellers_email_canonical');
+SELECT require_unique_index('ux_admins_email_canonical');
+
+-- 원본 email 조회 인덱스는 더 이상 사용하지 않는다. 위에서 정규화 이메일 유일 인덱스가 있는 것을 확인한 뒤에만 지운다.
+DROP INDEX IF EXISTS ix_customers_email_live;
+DROP INDEX IF EXISTS ix_sellers_email_live;
+DROP INDEX IF EXISTS ix_admins_email_live;
@@ -13,6 +13,7 @@ import com.tickatch.user_service.admin.domain.repository.AdminRepositoryImpl;
 import com.tickatch.user_service.admin.domain.vo.AdminRole;
 import com.tickatch.user_service.common.domain.vo.UserStatus;
 import com.tickatch.user_service.config.QueryDslTestConfig;
+import com.tickatch.user_service.global.cache.SingleFlight;
 import jakarta.persistence.EntityManager;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
@@ -26,7 +27,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 @DataJpaTest
-@Import({QueryDslTestConfig.class, AdminRepositoryImpl.class, AdminQueryService.class})
+@Import({
+  QueryDslTestConfig.class,
+  AdminRepositoryImpl.class,
+  AdminQueryService.class,
+  SingleFlight.class
+})
 @DisplayName("AdminQueryService 테스트")
 class AdminQueryServiceTest {
 
@@ -13,13 +13,17 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tickatch.user_service.admin.application.service.command.AdminCommandService;
+import com.tickatch.user_service.admin.application.service.command.DeadLetterRedriveService;
 import com.tickatch.user_service.admin.application.service.query.AdminQueryService;
+import com.tickatch.user_service.admin.application.service.query.UserAuditQueryService;
 import com.tickatch.user_service.admin.application.service.query.dto.AdminResponse;
+import com.tickatch.user_service.admin.application.service.query.dto.UserAuditResponse;
 import com.tickatch.user_service.admin.domain.vo.AdminRole;
 import com.tickatch.user_service.admin.presentation.api.dto.ChangeRoleRequest;
 import com.tickatch.user_service.admin.presentation.api.dto.CreateAdminRequest;
 import com.tickatch.user_service.admin.presentation.api.dto.UpdateAdminProfileRequest;
 import com.tickatch.user_service.common.domain.vo.UserStatus;
+import com.tickatch.user_service.common.infrastructure.messaging.redrive.dto.RedriveResult;
 import com.tickatch.user_service.config.TestSecurityConfig;
 import io.github.tickatch.common.security.test.MockUser;
 import java.time.LocalDateTime;
@@ -54,6 +58,10 @@ class AdminApiTest {
 
   @MockitoBean private AdminQueryService adminQueryService;
 
+  @MockitoBean private UserAuditQueryService userAuditQueryService;
+
+  @MockitoBean private DeadLetterRedriveService deadLetterRedriveService;
+
   private static final String BASE_URL = "/api/v1/user/admins";
 
   private AdminResponse createResponse(UUID id, String email, String name, AdminRole role) {
@@ -101,6 +109,53 @@ class AdminApiTest {
         .andExpect(jsonPath("$.data.email").value("admin@example.com"));
   }
 
+  @Test
+  @MockUser(userId = "550e8400-e29b-41d4-a716-446655440000")
+  @DisplayName("논리 삭제된 고객을 감사용으로 조회한다")
+  void getCustomerForAudit() throws Exception {
+    UUID auditorId = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+    UUID customerId = UUID.randomUUID();
+    LocalDateTime deletedAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+    given(userAuditQueryService.getCustomer(auditorId, customerId))
+        .willReturn(
+            new UserAuditResponse(
+                customerId,
+                "CUSTOMER",
+                "customer@example.com",
+                "홍길동",
+                UserStatus.WITHDRAWN,
+                LocalDateTime.now(),
+                "SYSTEM",
+                LocalDateTime.now(),
+                "SYSTEM",
+                deletedAt,
+                "admin"));
+
+    mockMvc
+        .perform(get(BASE_URL + "/audit/customers/{id}", customerId))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.userType").value("CUSTOMER"))
+        .andExpect(jsonPath("$.data.deletedBy").value("admin"));
+  }
+
+  @Test
+  @MockUser(userId = "550e8400-e29b-41d4-a716-446655440000")
+  @DisplayName("DLQ 메시지를 재처리한다")
+  void redriveDeadLetters() throws Exception {
+    UUID operatorId = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+    String queue = "tickatch.user.withdrawn.auth.queue.dlq";
+    given(deadLetterRedriveService.redrive(operatorId, queue, 20))
+        .willReturn(new RedriveResult(queue, 18, 2, 0));
+
+    mockMvc
+        .perform(post(BASE_URL + "/dlq/{queue}/redrive", queue).param("limit", "20"))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.replayed").value(18))
+        .andExpect(jsonPath("$.data.quarantined").value(2));
+  }
+
   @Test
   @MockUser(userId = "550e8400-e29b-41d4-a716-446655440000")
   @DisplayName("내 정보를 조회한다")
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -23,6 +24,7 @@ class UserProfileTest {
       UserProfile profile = UserProfile.of("홍길동", "010-1234-5678");
       assertThat(profile.getName()).isEqualTo("홍길동");
       assertThat(profile.getPhone()).isEqualTo("01012345678");
+      assertThat(profile.getPhoneE164()).isEqualTo("+821012345678");
     }
 
     @Test
@@ -99,6 +101,32 @@ class UserProfileTest {
     }
   }
 
+  @Nested
+  class E164_변환_테스트 {
+
+    @ParameterizedTest
+    @CsvSource({
+      "010-1234-5678, +821012345678",
+      "01012345678, +821012345678",
+      "+82 10-1234-5678, +821012345678",
+      "821012345678, +821012345678",
+      "82119876543, +82119876543",
+      "010-1234, +82101234",
+      "8212, +828212",
+      "+8210, +8210"
+    })
+    void 연락처를_E164_형식으로_변환한다(String phone, String expected) {
+      assertThat(UserProfile.toE164(phone)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"-", "abc"})
+    void 숫자가_없으면_null을_반환한다(String phone) {
+      assertThat(UserProfile.toE164(phone)).isNull();
+    }
+  }
+
   @Nested
   class 수정_테스트 {
 
@@ -111,6 +139,29 @@ class UserProfileTest {
       // 원본 불변 확인
       assertThat(original.getName()).isEqualTo("홍길동");
     }
+
+    @Test
+    void 부분_수정은_전달한_항목만_바꾼다() {
+      UserProfile original = UserProfile.of("홍길동", "01012345678");
+      UserProfile patched = original.patch("김철수", null);
+      assertThat(patched.getName()).isEqualTo("김철수");
+      assertThat(patched.getPhone()).isEqualTo("01012345678");
+    }
+
+    @Test
+    void 부분_수정에서_빈_연락처는_연락처를_삭제한다() {
+      UserProfile original = UserProfile.of("홍길동", "01012345678");
+      UserProfile patched = original.patch(null, "");
+      assertThat(patched.getName()).isEqualTo("홍길동");
+      assertThat(patched.getPhone()).isNull();
+    }
+
+    @Test
+    void 부분_수정_결과가_같으면_같은_인스턴스를_반환한다() {
+      UserProfile original = UserProfile.of("홍길동", "01012345678");
+      assertThat(original.patch("홍길동", "010-1234-5678")).isSameAs(original);
+      assertThat(original.patch(null, null)).isSameAs(original);
+    }
   }
 
   @Nested
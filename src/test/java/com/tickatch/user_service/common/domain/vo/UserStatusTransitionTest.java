@@ -0,0 +1,36 @@
+package com.tickatch.user_service.common.domain.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UserStatusTransition 단위 테스트")
+class UserStatusTransitionTest {
+
+  @Test
+  void 정지는_활성_상태에서만_허용된다() {
+    UserStatusTransition transition = UserStatusTransition.SUSPEND;
+
+    assertThat(transition.getTarget()).isEqualTo(UserStatus.SUSPENDED);
+    assertThat(transition.getSources()).containsExactly(UserStatus.ACTIVE);
+  }
+
+  @Test
+  void 활성화는_정지_상태에서만_허용된다() {
+    UserStatusTransition transition = UserStatusTransition.ACTIVATE;
+
+    assertThat(transition.getTarget()).isEqualTo(UserStatus.ACTIVE);
+    assertThat(transition.getSources()).containsExactly(UserStatus.SUSPENDED);
+  }
+
+  @Test
+  void 탈퇴는_탈퇴_상태가_아니면_허용된다() {
+    UserStatusTransition transition = UserStatusTransition.WITHDRAW;
+
+    assertThat(transition.getTarget()).isEqualTo(UserStatus.WITHDRAWN);
+    assertThat(transition.getSources())
+        .containsExactlyInAnyOrder(UserStatus.ACTIVE, UserStatus.SUSPENDED);
+    assertThat(transition.sourceNames()).containsExactlyInAnyOrder("ACTIVE", "SUSPENDED");
+  }
+}
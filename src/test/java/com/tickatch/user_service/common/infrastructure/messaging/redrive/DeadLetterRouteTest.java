@@ -0,0 +1,61 @@
+package com.tickatch.user_service.common.infrastructure.messaging.redrive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.MessageProperties;
+
+@DisplayName("DeadLetterRoute 테스트")
+class DeadLetterRouteTest {
+
+  @Test
+  @DisplayName("가장 최근 x-death 기록의 큐를 읽는다")
+  void from_latestDeath() {
+    MessageProperties properties = new MessageProperties();
+    properties.setHeader(
+        "x-death",
+        List.of(
+            Map.of(
+                "queue", "tickatch.user.withdrawn.auth.queue",
+                "exchange", "tickatch.user",
+                "routing-keys", List.of("customer.withdrawn")),
+            Map.of(
+                "queue", "other.queue",
+                "exchange", "other",
+                "routing-keys", List.of("other.key"))));
+
+    assertThat(DeadLetterRoute.from(properties))
+        .contains(new DeadLetterRoute("tickatch.user.withdrawn.auth.queue"));
+  }
+
+  @Test
+  @DisplayName("x-death 헤더가 없으면 empty를 반환한다")
+  void from_withoutDeath() {
+    assertThat(DeadLetterRoute.from(new MessageProperties())).isEmpty();
+  }
+
+  @Test
+  @DisplayName("큐 이름이 없으면 empty를 반환한다")
+  void from_withoutQueue() {
+    MessageProperties properties = new MessageProperties();
+    properties.setHeader(
+        "x-death",
+        List.of(
+            Map.of("exchange", "tickatch.user", "routing-keys", List.of("customer.withdrawn"))));
+
+    assertThat(DeadLetterRoute.from(properties)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("재처리 횟수 헤더가 없으면 0으로 본다")
+  void redriveCount() {
+    MessageProperties properties = new MessageProperties();
+    assertThat(DeadLetterRedriver.redriveCount(properties)).isZero();
+
+    properties.setHeader(DeadLetterRedriver.REDRIVE_COUNT_HEADER, 2);
+    assertThat(DeadLetterRedriver.redriveCount(properties)).isEqualTo(2);
+  }
+}
@@ -0,0 +1,44 @@
+package com.tickatch.user_service.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tickatch.user_service.global.jdbc.QueryStats;
+import jakarta.persistence.EntityManager;
+
+/**
+ * SQL 문장 수 검증 유틸리티.
+ *
+ * <p>{@code DataSourceProxyConfig}가 등록된 컨텍스트에서 사용한다. ({@code @DataJpaTest}는 {@code @Import}로 추가)
+ * 영속성 컨텍스트에 쌓인 변경이 측정 중에 flush되지 않고 1차 캐시 적중으로 조회가 빠지지 않도록, 전달받은 {@link EntityManager}를 측정
+ * 전에 flush/clear한다.
+ *
+ * <pre>{@code
+ * QueryCounter.assertStatementCount(
+ *     entityManager, 2, () -> repository.findAllByCondition(condition, page));
+ * }</pre>
+ */
+public final class QueryCounter {
+
+  private QueryCounter() {}
+
+  /** 영속성 컨텍스트를 flush/clear한 뒤 작업을 실행하고 그동안 실행된 SQL 통계를 반환한다. */
+  public static QueryStats count(EntityManager entityManager, Runnable action) {
+    entityManager.flush();
+    entityManager.clear();
+    QueryStats stats = QueryStats.start();
+    try {
+      action.run();
+      return stats;
+    } finally {
+      QueryStats.clear();
+    }
+  }
+
+  /** 작업이 실행한 SQL 문장 수를 검증한다. */
+  public static void assertStatementCount(
+      EntityManager entityManager, int expected, Runnable action) {
+    assertThat(count(entityManager, action).statementCount())
+        .as("실행된 SQL 문장 수")
+        .isEqualTo(expected);
+  }
+}
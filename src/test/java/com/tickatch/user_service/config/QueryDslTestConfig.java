@@ -1,6 +1,8 @@
 package com.tickatch.user_service.config;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import java.util.Optional;
@@ -24,4 +26,9 @@ public class QueryDslTestConfig {
   public AuditorAware<String> auditorAware() {
     return () -> Optional.of("test-user");
   }
+
+  @Bean
+  public MeterRegistry meterRegistry() {
+    return new SimpleMeterRegistry();
+  }
 }
@@ -3,6 +3,8 @@ package com.tickatch.user_service.customer.application.service.command;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.tickatch.user_service.common.domain.exception.UserErrorCode;
+import com.tickatch.user_service.common.domain.exception.UserException;
 import com.tickatch.user_service.config.QueryDslTestConfig;
 import com.tickatch.user_service.customer.application.messaging.CustomerLogEventPublisher;
 import com.tickatch.user_service.customer.application.service.command.dto.CreateCustomerCommand;
@@ -13,6 +15,9 @@ import com.tickatch.user_service.customer.domain.exception.CustomerErrorCode;
 import com.tickatch.user_service.customer.domain.exception.CustomerException;
 import com.tickatch.user_service.customer.domain.repository.CustomerRepositoryImpl;
 import com.tickatch.user_service.customer.domain.vo.CustomerGrade;
+import com.tickatch.user_service.global.archive.UserArchive;
+import com.tickatch.user_service.global.cache.EntityCacheEvictor;
+import com.tickatch.user_service.global.cache.SingleFlight;
 import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
 import java.util.UUID;
@@ -25,7 +30,14 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 @DataJpaTest
-@Import({QueryDslTestConfig.class, CustomerRepositoryImpl.class, CustomerCommandService.class})
+@Import({
+  QueryDslTestConfig.class,
+  CustomerRepositoryImpl.class,
+  UserArchive.class,
+  EntityCacheEvictor.class,
+  SingleFlight.class,
+  CustomerCommandService.class
+})
 @DisplayName("CustomerCommandService 테스트")
 class CustomerCommandServiceTest {
 
@@ -91,6 +103,26 @@ class CustomerCommandServiceTest {
                     .isEqualTo(CustomerErrorCode.CUSTOMER_ALREADY_EXISTS);
               });
     }
+
+    @Test
+    @DisplayName("대소문자만 다른 이메일도 중복으로 판단한다")
+    void createCustomer_caseVariantEmail_throwsException() {
+      // given
+      Customer existing =
+          Customer.create(UUID.randomUUID(), "test@example.com", "기존고객", "010-0000-0000", null);
+      customerRepository.save(existing);
+      flushAndClear();
+
+      CreateCustomerCommand command =
+          CreateCustomerCommand.of(
+              UUID.randomUUID(), "Test@Example.COM", "홍길동", "010-1234-5678", null);
+
+      // when & then
+      assertThatThrownBy(() -> customerCommandService.createCustomer(command))
+          .isInstanceOf(CustomerException.class)
+          .extracting(ex -> ((CustomerException) ex).getErrorCode())
+          .isEqualTo(CustomerErrorCode.CUSTOMER_ALREADY_EXISTS);
+    }
   }
 
   @Nested
@@ -213,6 +245,46 @@ class CustomerCommandServiceTest {
       Customer updated = customerRepository.findById(customerId).orElseThrow();
       assertThat(updated.isSuspended()).isTrue();
     }
+
+    @Test
+    @DisplayName("이미 정지된 고객이면 예외가 발생한다")
+    void suspendCustomer_alreadySuspended_throwsException() {
+      // given
+      Customer customer =
+          Customer.create(UUID.randomUUID(), "test@example.com", "홍길동", "010-1234-5678", null);
+      customer.suspend();
+      customerRepository.save(customer);
+      flushAndClear();
+
+      UUID customerId = customer.getId();
+
+      // when & then
+      assertThatThrownBy(() -> customerCommandService.suspendCustomer(customerId))
+          .isInstanceOf(UserException.class)
+          .satisfies(
+              ex -> {
+                UserException userException = (UserException) ex;
+                assertThat(userException.getErrorCode())
+                    .isEqualTo(UserErrorCode.USER_ALREADY_SUSPENDED);
+              });
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 고객이면 예외가 발생한다")
+    void suspendCustomer_notFound_throwsException() {
+      // given
+      UUID customerId = UUID.randomUUID();
+
+      // when & then
+      assertThatThrownBy(() -> customerCommandService.suspendCustomer(customerId))
+          .isInstanceOf(CustomerException.class)
+          .satisfies(
+              ex -> {
+                CustomerException customerException = (CustomerException) ex;
+                assertThat(customerException.getErrorCode())
+                    .isEqualTo(CustomerErrorCode.CUSTOMER_NOT_FOUND);
+              });
+    }
   }
 
   @Nested
@@ -264,5 +336,28 @@ class CustomerCommandServiceTest {
       Customer updated = customerRepository.findById(customerId).orElseThrow();
       assertThat(updated.isWithdrawn()).isTrue();
     }
+
+    @Test
+    @DisplayName("이미 탈퇴한 고객이면 예외가 발생한다")
+    void withdrawCustomer_alreadyWithdrawn_throwsException() {
+      // given
+      Customer customer =
+          Customer.create(UUID.randomUUID(), "test@example.com", "홍길동", "010-1234-5678", null);
+      customer.withdraw();
+      customerRepository.save(customer);
+      flushAndClear();
+
+      UUID customerId = customer.getId();
+
+      // when & then
+      assertThatThrownBy(() -> customerCommandService.withdrawCustomer(customerId))
+          .isInstanceOf(UserException.class)
+          .satisfies(
+              ex -> {
+                UserException userException = (UserException) ex;
+                assertThat(userException.getErrorCode())
+                    .isEqualTo(UserErrorCode.USER_ALREADY_WITHDRAWN);
+              });
+    }
   }
 }
@@ -0,0 +1,178 @@
+package com.tickatch.user_service.customer.application.service.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tickatch.user_service.config.QueryDslTestConfig;
+import com.tickatch.user_service.customer.domain.Customer;
+import com.tickatch.user_service.customer.domain.CustomerRepository;
+import com.tickatch.user_service.customer.domain.repository.CustomerRepositoryImpl;
+import com.tickatch.user_service.global.archive.UserArchive;
+import com.tickatch.user_service.global.cache.EntityCacheEvictor;
+import com.tickatch.user_service.global.cache.SingleFlight;
+import com.tickatch.user_service.global.job.scan.ChunkedScanRunner;
+import com.tickatch.user_service.global.job.scan.ScanCheckpoint;
+import com.tickatch.user_service.global.job.scan.ScanCheckpointRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest(
+    properties = {
+      "user.scan.chunk-size=2",
+      "user.scan.parallelism=2",
+      "user.scan.max-db-utilization=1.0",
+      "user.dormancy.enabled=true",
+      "user.dormancy.inactive-days=365"
+    })
+@Import({
+  QueryDslTestConfig.class,
+  CustomerRepositoryImpl.class,
+  UserArchive.class,
+  EntityCacheEvictor.class,
+  SingleFlight.class,
+  ChunkedScanRunner.class,
+  CustomerDormancyJob.class,
+  CustomerDormancyJobTest.ScanTestConfig.class
+})
+@DisplayName("CustomerDormancyJob 테스트")
+class CustomerDormancyJobTest {
+
+  @Autowired private CustomerDormancyJob customerDormancyJob;
+
+  @Autowired private CustomerRepository customerRepository;
+
+  @Autowired private ScanCheckpointRepository checkpointRepository;
+
+  @Autowired private EntityManager entityManager;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @TestConfiguration
+  static class ScanTestConfig {
+
+    /** 청크를 호출한 스레드에서 처리하여 테스트 트랜잭션에 참여시킨다. */
+    @Bean(name = "scanJobExecutor")
+    Executor scanJobExecutor() {
+      return Runnable::run;
+    }
+  }
+
+  private void flushAndClear() {
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  private UUID createCustomer(String email, LocalDateTime lastActivityAt) {
+    Customer customer = Customer.create(UUID.randomUUID(), email, "홍길동", "010-1234-5678", null);
+    UUID id = customerRepository.save(customer).getId();
+    flushAndClear();
+    jdbcTemplate.update(
+        "UPDATE customers SET last_activity_at = ? WHERE id = ?", lastActivityAt, id);
+    return id;
+  }
+
+  private boolean isDormant(UUID customerId) {
+    return customerRepository.findById(customerId).orElseThrow().isDormant();
+  }
+
+  @Nested
+  @DisplayName("run 테스트")
+  class RunTest {
+
+    @Test
+    @DisplayName("1년 넘게 활동이 없는 활성 고객만 휴면으로 전환한다")
+    void run_marksInactiveCustomers() {
+      // given
+      LocalDateTime old = LocalDateTime.now().minusDays(400);
+      List<UUID> inactive = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        inactive.add(createCustomer("old" + i + "@example.com", old));
+      }
+      UUID recent = createCustomer("recent@example.com", LocalDateTime.now().minusDays(10));
+      UUID suspended = createCustomer("suspended@example.com", old);
+      customerRepository.findById(suspended).orElseThrow().suspend();
+      flushAndClear();
+
+      // when
+      customerDormancyJob.run();
+      flushAndClear();
+
+      // then
+      assertThat(inactive).allMatch(CustomerDormancyJobTest.this::isDormant);
+      assertThat(isDormant(recent)).isFalse();
+      assertThat(isDormant(suspended)).isFalse();
+
+      ScanCheckpoint checkpoint =
+          checkpointRepository.findById(CustomerDormancyJob.NAME).orElseThrow();
+      assertThat(checkpoint.isInProgress()).isFalse();
+      assertThat(checkpoint.getProcessed()).isEqualTo(5);
+      assertThat(checkpoint.getAffected()).isEqualTo(3);
+      assertThat(checkpoint.getLastCompletedAt()).isNotNull();
+      assertThat(checkpoint.getLeaseUntil()).isNull();
+    }
+
+    @Test
+    @DisplayName("중단된 실행이 있으면 체크포인트 다음 키부터 재개한다")
+    void run_resumesFromCheckpoint() {
+      // given
+      LocalDateTime old = LocalDateTime.now().minusDays(400);
+      for (int i = 0; i < 4; i++) {
+        createCustomer("old" + i + "@example.com", old);
+      }
+      List<UUID> ordered = customerRepository.findIdsAfter(null, 10);
+      UUID resumeAfter = ordered.get(1);
+      jdbcTemplate.update(
+          "INSERT INTO scan_checkpoints (job_name, last_key, processed, affected)"
+              + " VALUES (?, ?, 2, 0)",
+          CustomerDormancyJob.NAME,
+          resumeAfter);
+
+      // when
+      customerDormancyJob.run();
+      flushAndClear();
+
+      // then
+      assertThat(isDormant(ordered.get(0))).isFalse();
+      assertThat(isDormant(ordered.get(1))).isFalse();
+      assertThat(isDormant(ordered.get(2))).isTrue();
+      assertThat(isDormant(ordered.get(3))).isTrue();
+      assertThat(checkpointRepository.findById(CustomerDormancyJob.NAME).orElseThrow())
+          .satisfies(
+              checkpoint -> {
+                assertThat(checkpoint.getProcessed()).isEqualTo(4);
+                assertThat(checkpoint.getAffected()).isEqualTo(2);
+              });
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 임대를 가지고 있으면 실행하지 않는다")
+    void run_skipsWhenLeased() {
+      // given
+      UUID customerId = createCustomer("old@example.com", LocalDateTime.now().minusDays(400));
+      jdbcTemplate.update(
+          "INSERT INTO scan_checkpoints (job_name, processed, affected, lease_until)"
+              + " VALUES (?, 0, 0, ?)",
+          CustomerDormancyJob.NAME,
+          LocalDateTime.now().plusMinutes(10));
+
+      // when
+      customerDormancyJob.run();
+      flushAndClear();
+
+      // then
+      assertThat(isDormant(customerId)).isFalse();
+    }
+  }
+}
@@ -0,0 +1,229 @@
+package com.tickatch.user_service.customer.application.service.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tickatch.user_service.config.QueryDslTestConfig;
+import com.tickatch.user_service.customer.application.service.command.dto.PurchaseCommand;
+import com.tickatch.user_service.customer.domain.Customer;
+import com.tickatch.user_service.customer.domain.CustomerRepository;
+import com.tickatch.user_service.customer.domain.repository.CustomerPurchaseRepositoryImpl;
+import com.tickatch.user_service.customer.domain.repository.CustomerRepositoryImpl;
+import com.tickatch.user_service.customer.domain.vo.CustomerGrade;
+import com.tickatch.user_service.global.archive.UserArchive;
+import com.tickatch.user_service.global.cache.EntityCacheEvictor;
+import com.tickatch.user_service.global.cache.SingleFlight;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest(properties = {"user.grade.vip-min-amount=100000", "user.grade.window-months=12"})
+@Import({
+  QueryDslTestConfig.class,
+  CustomerRepositoryImpl.class,
+  CustomerPurchaseRepositoryImpl.class,
+  UserArchive.class,
+  EntityCacheEvictor.class,
+  SingleFlight.class,
+  CustomerGradeCommandService.class
+})
+@DisplayName("CustomerGradeCommandService 테스트")
+class CustomerGradeCommandServiceTest {
+
+  @Autowired private CustomerGradeCommandService customerGradeCommandService;
+
+  @Autowired private CustomerRepository customerRepository;
+
+  @Autowired private EntityManager entityManager;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private void flushAndClear() {
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  private UUID createCustomer(String email) {
+    Customer customer = Customer.create(UUID.randomUUID(), email, "홍길동", "010-1234-5678", null);
+    UUID id = customerRepository.save(customer).getId();
+    flushAndClear();
+    return id;
+  }
+
+  private long aggregatedAmount(UUID customerId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT COALESCE(SUM(amount), 0) FROM customer_purchase_monthly WHERE customer_id = ?",
+        Long.class,
+        customerId);
+  }
+
+  @Nested
+  @DisplayName("applyPurchases 테스트")
+  class ApplyPurchasesTest {
+
+    @Test
+    @DisplayName("산정 기간 구매 금액이 기준 이상이면 VIP로 올린다")
+    void applyPurchases_upgradesToVip() {
+      // given
+      UUID customerId = createCustomer("vip@example.com");
+      LocalDateTime now = LocalDateTime.now();
+
+      // when
+      List<UUID> upgraded =
+          customerGradeCommandService.applyPurchases(
+              List.of(
+                  PurchaseCommand.purchase(UUID.randomUUID(), customerId, 60_000, now),
+                  PurchaseCommand.purchase(UUID.randomUUID(), customerId, 50_000, now)));
+
+      // then
+      assertThat(upgraded).containsExactly(customerId);
+      assertThat(customerRepository.findById(customerId).orElseThrow().getGrade())
+          .isEqualTo(CustomerGrade.VIP);
+      assertThat(aggregatedAmount(customerId)).isEqualTo(110_000);
+    }
+
+    @Test
+    @DisplayName("여러 묶음에 걸쳐 누적된 금액으로 등급을 산정한다")
+    void applyPurchases_accumulatesAcrossBatches() {
+      // given
+      UUID customerId = createCustomer("vip@example.com");
+      LocalDateTime now = LocalDateTime.now();
+      customerGradeCommandService.applyPurchases(
+          List.of(PurchaseCommand.purchase(UUID.randomUUID(), customerId, 70_000, now)));
+
+      // when
+      List<UUID> upgraded =
+          customerGradeCommandService.applyPurchases(
+              List.of(PurchaseCommand.purchase(UUID.randomUUID(), customerId, 30_000, now)));
+
+      // then
+      assertThat(upgraded).containsExactly(customerId);
+      assertThat(aggregatedAmount(customerId)).isEqualTo(100_000);
+    }
+
+    @Test
+    @DisplayName("환불을 차감한 금액이 기준 미만이면 등급을 유지한다")
+    void applyPurchases_refundKeepsGrade() {
+      // given
+      UUID customerId = createCustomer("normal@example.com");
+      LocalDateTime now = LocalDateTime.now();
+
+      // when
+      List<UUID> upgraded =
+          customerGradeCommandService.applyPurchases(
+              List.of(
+                  PurchaseCommand.purchase(UUID.randomUUID(), customerId, 120_000, now),
+                  PurchaseCommand.refund(UUID.randomUUID(), customerId, 30_000, now)));
+
+      // then
+      assertThat(upgraded).isEmpty();
+      assertThat(customerRepository.findById(customerId).orElseThrow().getGrade())
+          .isEqualTo(CustomerGrade.NORMAL);
+      assertThat(aggregatedAmount(customerId)).isEqualTo(90_000);
+    }
+
+    @Test
+    @DisplayName("이미 반영한 결제 이벤트는 다시 와도 합산하지 않는다")
+    void applyPurchases_skipsDuplicatePayments() {
+      // given
+      UUID customerId = createCustomer("duplicate@example.com");
+      UUID paymentId = UUID.randomUUID();
+      LocalDateTime now = LocalDateTime.now();
+      PurchaseCommand purchase = PurchaseCommand.purchase(paymentId, customerId, 60_000, now);
+      customerGradeCommandService.applyPurchases(List.of(purchase, purchase));
+
+      // when
+      List<UUID> upgraded = customerGradeCommandService.applyPurchases(List.of(purchase));
+
+      // then
+      assertThat(upgraded).isEmpty();
+      assertThat(aggregatedAmount(customerId)).isEqualTo(60_000);
+    }
+
+    @Test
+    @DisplayName("같은 결제 ID의 결제 완료와 환불은 각각 반영한다")
+    void applyPurchases_refundOfSamePaymentApplied() {
+      // given
+      UUID customerId = createCustomer("refund@example.com");
+      UUID paymentId = UUID.randomUUID();
+      LocalDateTime now = LocalDateTime.now();
+      customerGradeCommandService.applyPurchases(
+          List.of(PurchaseCommand.purchase(paymentId, customerId, 60_000, now)));
+
+      // when
+      customerGradeCommandService.applyPurchases(
+          List.of(
+              PurchaseCommand.refund(paymentId, customerId, 60_000, now),
+              PurchaseCommand.refund(paymentId, customerId, 60_000, now)));
+
+      // then
+      assertThat(aggregatedAmount(customerId)).isZero();
+    }
+
+    @Test
+    @DisplayName("산정 기간 이전의 구매는 합산하지 않는다")
+    void applyPurchases_ignoresPurchasesOutsideWindow() {
+      // given
+      UUID customerId = createCustomer("old@example.com");
+      LocalDateTime now = LocalDateTime.now();
+
+      // when
+      List<UUID> upgraded =
+          customerGradeCommandService.applyPurchases(
+              List.of(
+                  PurchaseCommand.purchase(
+                      UUID.randomUUID(), customerId, 80_000, now.minusMonths(12)),
+                  PurchaseCommand.purchase(UUID.randomUUID(), customerId, 50_000, now)));
+
+      // then
+      assertThat(upgraded).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 VIP인 고객은 다시 변경하지 않는다")
+    void applyPurchases_alreadyVip() {
+      // given
+      UUID customerId = createCustomer("vip@example.com");
+      LocalDateTime now = LocalDateTime.now();
+      customerGradeCommandService.applyPurchases(
+          List.of(PurchaseCommand.purchase(UUID.randomUUID(), customerId, 100_000, now)));
+
+      // when
+      List<UUID> upgraded =
+          customerGradeCommandService.applyPurchases(
+              List.of(PurchaseCommand.purchase(UUID.randomUUID(), customerId, 10_000, now)));
+
+      // then
+      assertThat(upgraded).isEmpty();
+      assertThat(customerRepository.findById(customerId).orElseThrow().getGrade())
+          .isEqualTo(CustomerGrade.VIP);
+    }
+
+    @Test
+    @DisplayName("구매한 휴면 고객은 휴면이 해제된다")
+    void applyPurchases_clearsDormancy() {
+      // given
+      UUID customerId = createCustomer("dormant@example.com");
+      jdbcTemplate.update(
+          "UPDATE customers SET dormant_at = ? WHERE id = ?", LocalDateTime.now(), customerId);
+
+      // when
+      customerGradeCommandService.applyPurchases(
+          List.of(
+              PurchaseCommand.purchase(
+                  UUID.randomUUID(), customerId, 10_000, LocalDateTime.now())));
+
+      // then
+      Customer customer = customerRepository.findById(customerId).orElseThrow();
+      assertThat(customer.isDormant()).isFalse();
+      assertThat(customer.getLastActivityAt()).isNotNull();
+    }
+  }
+}
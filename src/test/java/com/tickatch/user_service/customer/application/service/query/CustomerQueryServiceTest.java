@@ -2,7 +2,11 @@ package com.tickatch.user_service.customer.application.service.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 
+import com.tickatch.user_service.common.domain.repository.dto.PhoneMatch;
 import com.tickatch.user_service.common.domain.vo.UserStatus;
 import com.tickatch.user_service.config.QueryDslTestConfig;
 import com.tickatch.user_service.customer.application.service.query.dto.CustomerResponse;
@@ -13,8 +17,16 @@ import com.tickatch.user_service.customer.domain.exception.CustomerErrorCode;
 import com.tickatch.user_service.customer.domain.exception.CustomerException;
 import com.tickatch.user_service.customer.domain.repository.CustomerRepositoryImpl;
 import com.tickatch.user_service.customer.domain.vo.CustomerGrade;
+import com.tickatch.user_service.global.archive.UserArchive;
+import com.tickatch.user_service.global.cache.EntityCacheEvictor;
+import com.tickatch.user_service.global.cache.SingleFlight;
+import com.tickatch.user_service.global.job.BulkJob;
+import com.tickatch.user_service.global.job.BulkJobRegistry;
 import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -25,9 +37,17 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 @DataJpaTest
-@Import({QueryDslTestConfig.class, CustomerRepositoryImpl.class, CustomerQueryService.class})
+@Import({
+  QueryDslTestConfig.class,
+  CustomerRepositoryImpl.class,
+  UserArchive.class,
+  EntityCacheEvictor.class,
+  CustomerQueryService.class,
+  SingleFlight.class
+})
 @DisplayName("CustomerQueryService 테스트")
 class CustomerQueryServiceTest {
 
@@ -37,6 +57,8 @@ class CustomerQueryServiceTest {
 
   @Autowired private EntityManager entityManager;
 
+  @MockitoBean private BulkJobRegistry bulkJobRegistry;
+
   private void flushAndClear() {
     entityManager.flush();
     entityManager.clear();
@@ -93,6 +115,34 @@ class CustomerQueryServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("getCustomers 테스트")
+  class GetCustomersTest {
+
+    @Test
+    @DisplayName("요청 순서대로 조회하고 중복과 없는 ID는 제외한다")
+    void getCustomers_keepsOrderAndSkipsMissing() {
+      // given
+      Customer first =
+          Customer.create(UUID.randomUUID(), "first@example.com", "홍길동", "010-1234-5678", null);
+      Customer second =
+          Customer.create(UUID.randomUUID(), "second@example.com", "김철수", "010-9876-5432", null);
+      customerRepository.save(first);
+      customerRepository.save(second);
+      flushAndClear();
+
+      // when
+      List<CustomerResponse> responses =
+          customerQueryService.getCustomers(
+              List.of(second.getId(), UUID.randomUUID(), first.getId(), second.getId()));
+
+      // then
+      assertThat(responses)
+          .extracting(CustomerResponse::id)
+          .containsExactly(second.getId(), first.getId());
+    }
+  }
+
   @Nested
   @DisplayName("getCustomerByEmail 테스트")
   class GetCustomerByEmailTest {
@@ -152,7 +202,7 @@ class CustomerQueryServiceTest {
       flushAndClear();
 
       CustomerSearchRequest request =
-          new CustomerSearchRequest(null, "홍", null, UserStatus.ACTIVE, null);
+          new CustomerSearchRequest(null, "홍", null, null, UserStatus.ACTIVE, null);
       Pageable pageable = PageRequest.of(0, 10);
 
       // when
@@ -165,6 +215,35 @@ class CustomerQueryServiceTest {
           .containsExactlyInAnyOrder("홍길동", "홍길순");
     }
 
+    @Test
+    @DisplayName("정규화한 연락처로 일치/앞부분 일치 검색한다")
+    void searchCustomers_byNormalizedPhone() {
+      // given
+      Customer customer1 =
+          Customer.create(UUID.randomUUID(), "hong1@example.com", "홍길동", "010-1234-5678", null);
+      Customer customer2 =
+          Customer.create(UUID.randomUUID(), "hong2@example.com", "홍길순", "010-1234-9999", null);
+      customerRepository.save(customer1);
+      customerRepository.save(customer2);
+      flushAndClear();
+
+      CustomerSearchRequest exact =
+          new CustomerSearchRequest(null, null, "+82 10-1234-5678", PhoneMatch.EXACT, null, null);
+      CustomerSearchRequest prefix =
+          new CustomerSearchRequest(null, null, "010-1234", PhoneMatch.PREFIX, null, null);
+      Pageable pageable = PageRequest.of(0, 10);
+
+      // when
+      Page<CustomerResponse> exactResult = customerQueryService.searchCustomers(exact, pageable);
+      Page<CustomerResponse> prefixResult = customerQueryService.searchCustomers(prefix, pageable);
+
+      // then
+      assertThat(exactResult.getContent())
+          .extracting(CustomerResponse::id)
+          .containsExactly(customer1.getId());
+      assertThat(prefixResult.getContent()).hasSize(2);
+    }
+
     @Test
     @DisplayName("검색 결과가 없으면 빈 페이지를 반환한다")
     void searchCustomers_empty() {
@@ -175,7 +254,7 @@ class CustomerQueryServiceTest {
       flushAndClear();
 
       CustomerSearchRequest request =
-          new CustomerSearchRequest(null, null, null, null, CustomerGrade.VIP);
+          new CustomerSearchRequest(null, null, null, null, null, CustomerGrade.VIP);
       Pageable pageable = PageRequest.of(0, 10);
 
       // when
@@ -185,6 +264,31 @@ class CustomerQueryServiceTest {
       assertThat(result.getContent()).isEmpty();
       assertThat(result.getTotalElements()).isZero();
     }
+
+    @Test
+    @DisplayName("선택한 필드만 조회하고 ID는 항상 포함한다")
+    void searchCustomers_selectedFieldsOnly() {
+      // given
+      Customer customer =
+          Customer.create(UUID.randomUUID(), "hong@example.com", "홍길동", "010-1111-1111", null);
+      customerRepository.save(customer);
+      flushAndClear();
+
+      CustomerSearchRequest request = new CustomerSearchRequest(null, "홍", null, null, null, null);
+      Pageable pageable = PageRequest.of(0, 10);
+
+      // when
+      Page<Map<String, Object>> result =
+          customerQueryService.searchCustomers(request, "status,name", pageable);
+
+      // then
+      assertThat(result.getTotalElements()).isEqualTo(1);
+      assertThat(result.getContent().get(0))
+          .containsExactly(
+              entry("id", customer.getId()),
+              entry("name", "홍길동"),
+              entry("status", UserStatus.ACTIVE));
+    }
   }
 
   @Nested
@@ -220,4 +324,41 @@ class CustomerQueryServiceTest {
       assertThat(result).isFalse();
     }
   }
+
+  @Nested
+  @DisplayName("getBulkJob 테스트")
+  class GetBulkJobTest {
+
+    @Test
+    @DisplayName("작업이 없으면 예외가 발생한다")
+    void getBulkJob_notFound_throwsException() {
+      // given
+      UUID jobId = UUID.randomUUID();
+      given(bulkJobRegistry.find(jobId)).willReturn(Optional.empty());
+
+      // when & then
+      assertThatThrownBy(() -> customerQueryService.getBulkJob(jobId))
+          .isInstanceOf(CustomerException.class)
+          .satisfies(
+              ex -> {
+                CustomerException customerException = (CustomerException) ex;
+                assertThat(customerException.getErrorCode())
+                    .isEqualTo(CustomerErrorCode.BULK_JOB_NOT_FOUND);
+              });
+    }
+
+    @Test
+    @DisplayName("고객 일괄 작업이 아니면 예외가 발생한다")
+    void getBulkJob_otherType_throwsException() {
+      // given
+      UUID jobId = UUID.randomUUID();
+      BulkJob job = mock(BulkJob.class);
+      given(job.getType()).willReturn("SELLER_SUSPEND");
+      given(bulkJobRegistry.find(jobId)).willReturn(Optional.of(job));
+
+      // when & then
+      assertThatThrownBy(() -> customerQueryService.getBulkJob(jobId))
+          .isInstanceOf(CustomerException.class);
+    }
+  }
 }
@@ -3,11 +3,21 @@ package com.tickatch.user_service.customer.domain;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.tickatch.user_service.common.domain.vo.UserStatus;
+import com.tickatch.user_service.common.domain.vo.UserStatusTransition;
+import com.tickatch.user_service.config.QueryCounter;
 import com.tickatch.user_service.config.QueryDslTestConfig;
 import com.tickatch.user_service.customer.domain.repository.CustomerRepositoryImpl;
 import com.tickatch.user_service.customer.domain.repository.dto.CustomerSearchCondition;
 import com.tickatch.user_service.customer.domain.vo.CustomerGrade;
+import com.tickatch.user_service.global.archive.UserArchive;
+import com.tickatch.user_service.global.cache.EntityCacheEvictor;
+import com.tickatch.user_service.global.cache.SingleFlight;
+import com.tickatch.user_service.global.config.DataSourceProxyConfig;
+import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,12 +32,21 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 
 @DataJpaTest
-@Import({QueryDslTestConfig.class, CustomerRepositoryImpl.class})
+@Import({
+  QueryDslTestConfig.class,
+  CustomerRepositoryImpl.class,
+  UserArchive.class,
+  EntityCacheEvictor.class,
+  SingleFlight.class,
+  DataSourceProxyConfig.class
+})
 @DisplayName("CustomerRepository 테스트")
 class CustomerRepositoryTest {
 
   @Autowired private CustomerRepository customerRepository;
 
+  @Autowired private EntityManager entityManager;
+
   private Customer customer1;
   private Customer customer2;
   private Customer customer3;
@@ -97,6 +116,56 @@ class CustomerRepositoryTest {
     }
   }
 
+  @Nested
+  class FindUpdatedAtById_테스트 {
+
+    @Test
+    void ID로_수정_일시만_조회한다() {
+      Customer saved = customerRepository.save(customer1);
+
+      Optional<LocalDateTime> updatedAt = customerRepository.findUpdatedAtById(saved.getId());
+
+      assertThat(updatedAt).isPresent();
+    }
+
+    @Test
+    void 존재하지_않는_ID_조회_시_empty를_반환한다() {
+      Optional<LocalDateTime> updatedAt = customerRepository.findUpdatedAtById(UUID.randomUUID());
+
+      assertThat(updatedAt).isEmpty();
+    }
+  }
+
+  @Nested
+  class 논리_삭제_테스트 {
+
+    @Test
+    void 논리_삭제된_Customer는_조회되지_않는다() {
+      Customer saved = customerRepository.save(customer1);
+      saved.delete("admin");
+      entityManager.flush();
+      entityManager.clear();
+
+      assertThat(customerRepository.findById(saved.getId())).isEmpty();
+      assertThat(customerRepository.findByEmail("hong@test.com")).isEmpty();
+      assertThat(customerRepository.existsByEmail("hong@test.com")).isFalse();
+    }
+
+    @Test
+    void 감사용_조회는_논리_삭제된_Customer도_조회한다() {
+      Customer saved = customerRepository.save(customer1);
+      saved.delete("admin");
+      entityManager.flush();
+      entityManager.clear();
+
+      Optional<Customer> found = customerRepository.findByIdIncludingDeleted(saved.getId());
+
+      assertThat(found).isPresent();
+      assertThat(found.get().getDeletedAt()).isNotNull();
+      assertThat(found.get().getDeletedBy()).isEqualTo("admin");
+    }
+  }
+
   @Nested
   class findByEmail_테스트 {
 
@@ -110,6 +179,16 @@ class CustomerRepositoryTest {
       assertThat(found.get().getProfile().getName()).isEqualTo("홍길동");
     }
 
+    @Test
+    void 대소문자와_관계없이_이메일로_조회한다() {
+      customerRepository.save(customer1);
+
+      Optional<Customer> found = customerRepository.findByEmail(" Hong@Test.COM ");
+
+      assertThat(found).isPresent();
+      assertThat(found.get().getEmail()).isEqualTo("hong@test.com");
+    }
+
     @Test
     void 존재하지_않는_이메일_조회_시_empty를_반환한다() {
       Optional<Customer> found = customerRepository.findByEmail("notfound@test.com");
@@ -247,4 +326,128 @@ class CustomerRepositoryTest {
       assertThat(result.getContent().get(2).getEmail()).isEqualTo("lee@test.com");
     }
   }
+
+  @Nested
+  class 쿼리_수_테스트 {
+
+    @BeforeEach
+    void 데이터_초기화() {
+      customerRepository.save(customer1);
+      customerRepository.save(customer2);
+      customerRepository.save(customer3);
+      entityManager.flush();
+      entityManager.clear();
+    }
+
+    @Test
+    void 페이지가_가득_차면_목록과_건수를_각각_조회한다() {
+      CustomerSearchCondition condition = CustomerSearchCondition.builder().build();
+
+      QueryCounter.assertStatementCount(
+          entityManager,
+          2,
+          () -> customerRepository.findAllByCondition(condition, PageRequest.of(0, 2)));
+    }
+
+    @Test
+    void 마지막_페이지는_건수_조회를_생략한다() {
+      CustomerSearchCondition condition = CustomerSearchCondition.builder().build();
+
+      QueryCounter.assertStatementCount(
+          entityManager,
+          1,
+          () -> customerRepository.findAllByCondition(condition, PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void ID_조회는_한_번의_쿼리로_끝난다() {
+      QueryCounter.assertStatementCount(
+          entityManager, 1, () -> customerRepository.findById(customer1.getId()));
+    }
+  }
+
+  @Nested
+  class 상태_전이_테스트 {
+
+    @BeforeEach
+    void 데이터_초기화() {
+      customerRepository.save(customer1);
+      entityManager.flush();
+      entityManager.clear();
+    }
+
+    @Test
+    void 허용된_상태면_조회_없이_한_문장으로_전이한다() {
+      UUID id = customer1.getId();
+
+      QueryCounter.assertStatementCount(
+          entityManager,
+          1,
+          () -> customerRepository.transitionStatus(id, UserStatusTransition.SUSPEND));
+
+      Customer found = customerRepository.findById(id).orElseThrow();
+      assertThat(found.getStatus()).isEqualTo(UserStatus.SUSPENDED);
+      assertThat(found.getUpdatedBy()).isEqualTo("test-user");
+    }
+
+    @Test
+    void 허용되지_않는_상태면_false를_반환한다() {
+      UUID id = customer1.getId();
+
+      boolean activated = customerRepository.transitionStatus(id, UserStatusTransition.ACTIVATE);
+
+      assertThat(activated).isFalse();
+      assertThat(customerRepository.findById(id).orElseThrow().getStatus())
+          .isEqualTo(UserStatus.ACTIVE);
+    }
+
+    @Test
+    void 탈퇴한_Customer는_다시_전이하지_않는다() {
+      UUID id = customer1.getId();
+      customerRepository.transitionStatus(id, UserStatusTransition.WITHDRAW);
+      assertThat(customerRepository.findById(id).orElseThrow().getWithdrawnAt()).isNotNull();
+
+      assertThat(customerRepository.transitionStatus(id, UserStatusTransition.SUSPEND)).isFalse();
+      assertThat(customerRepository.transitionStatus(id, UserStatusTransition.WITHDRAW)).isFalse();
+    }
+
+    @Test
+    void 여러_Customer는_건수와_관계없이_두_문장으로_일괄_전이한다() {
+      customer2.suspend();
+      customerRepository.save(customer2);
+      customerRepository.save(customer3);
+      List<UUID> ids =
+          List.of(customer1.getId(), customer2.getId(), customer3.getId(), UUID.randomUUID());
+      List<UUID> changed = new ArrayList<>();
+
+      QueryCounter.assertStatementCount(
+          entityManager,
+          2,
+          () ->
+              changed.addAll(
+                  customerRepository.transitionStatusAll(ids, UserStatusTransition.SUSPEND)));
+
+      assertThat(changed).containsExactlyInAnyOrder(customer1.getId(), customer3.getId());
+      assertThat(customerRepository.findById(customer3.getId()).orElseThrow().getStatus())
+          .isEqualTo(UserStatus.SUSPENDED);
+    }
+
+    @Test
+    void 일괄_전이_대상이_없으면_UPDATE하지_않는다() {
+      QueryCounter.assertStatementCount(
+          entityManager,
+          1,
+          () ->
+              customerRepository.transitionStatusAll(
+                  List.of(customer1.getId()), UserStatusTransition.ACTIVATE));
+    }
+
+    @Test
+    void 없는_ID면_false를_반환한다() {
+      boolean suspended =
+          customerRepository.transitionStatus(UUID.randomUUID(), UserStatusTransition.SUSPEND);
+
+      assertThat(suspended).isFalse();
+    }
+  }
 }
@@ -4,28 +4,38 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tickatch.user_service.common.domain.vo.UserStatus;
 import com.tickatch.user_service.config.TestSecurityConfig;
+import com.tickatch.user_service.customer.application.service.command.CustomerBulkCommandService;
 import com.tickatch.user_service.customer.application.service.command.CustomerCommandService;
 import com.tickatch.user_service.customer.application.service.query.CustomerQueryService;
 import com.tickatch.user_service.customer.application.service.query.dto.CustomerResponse;
 import com.tickatch.user_service.customer.domain.vo.CustomerGrade;
+import com.tickatch.user_service.customer.presentation.api.dto.BulkCustomerStatusRequest;
 import com.tickatch.user_service.customer.presentation.api.dto.ChangeGradeRequest;
 import com.tickatch.user_service.customer.presentation.api.dto.CreateCustomerRequest;
 import com.tickatch.user_service.customer.presentation.api.dto.UpdateCustomerProfileRequest;
+import com.tickatch.user_service.global.job.BulkJobStatus;
+import com.tickatch.user_service.global.job.dto.BulkJobResponse;
+import com.tickatch.user_service.global.web.ConditionalGet;
 import io.github.tickatch.common.security.test.MockUser;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,6 +43,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -54,6 +65,8 @@ class CustomerApiTest {
 
   @MockitoBean private CustomerCommandService customerCommandService;
 
+  @MockitoBean private CustomerBulkCommandService customerBulkCommandService;
+
   @MockitoBean private CustomerQueryService customerQueryService;
 
   private static final String BASE_URL = "/api/v1/user/customers";
@@ -67,6 +80,7 @@ class CustomerApiTest {
         LocalDate.of(1990, 1, 1),
         CustomerGrade.NORMAL,
         UserStatus.ACTIVE,
+        null,
         LocalDateTime.now(),
         LocalDateTime.now());
   }
@@ -87,6 +101,22 @@ class CustomerApiTest {
         .andExpect(jsonPath("$.data.content[0].email").value("test@example.com"));
   }
 
+  @Test
+  @MockUser(userId = "550e8400-e29b-41d4-a716-446655440000")
+  @DisplayName("fields를 지정하면 선택한 필드만 응답한다")
+  void getCustomers_withFields() throws Exception {
+    UUID id = UUID.randomUUID();
+    given(customerQueryService.searchCustomers(any(), eq("name"), any()))
+        .willReturn(new PageImpl<>(List.of(Map.<String, Object>of("id", id, "name", "홍길동"))));
+
+    mockMvc
+        .perform(get(BASE_URL).param("fields", "name"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.content[0].id").value(id.toString()))
+        .andExpect(jsonPath("$.data.content[0].name").value("홍길동"))
+        .andExpect(jsonPath("$.data.content[0].email").doesNotExist());
+  }
+
   @Test
   @MockUser(userId = "550e8400-e29b-41d4-a716-446655440000")
   @DisplayName("고객 단건을 조회한다")
@@ -102,6 +132,60 @@ class CustomerApiTest {
         .andExpect(jsonPath("$.data.email").value("test@example.com"));
   }
 
+  @Test
+  @MockUser(userId = "550e8400-e29b-41d4-a716-446655440000")
+  @DisplayName("고객 단건 조회 시 ETag와 Cache-Control을 내려준다")
+  void getCustomer_withETag() throws Exception {
+    UUID id = UUID.randomUUID();
+    CustomerResponse response = createResponse(id, "test@example.com", "홍길동");
+    given(customerQueryService.getCustomer(id)).willReturn(response);
+
+    mockMvc
+        .perform(get(BASE_URL + "/{id}", id))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, ConditionalGet.eTag(id, response.updatedAt())))
+        .andExpect(
+            header().string(HttpHeaders.CACHE_CONTROL, "max-age=0, must-revalidate, private"));
+  }
+
+  @Test
+  @MockUser(userId = "550e8400-e29b-41d4-a716-446655440000")
+  @DisplayName("If-None-Match가 현재 ETag와 일치하면 본문 조회 없이 304를 반환한다")
+  void getCustomer_notModified() throws Exception {
+    UUID id = UUID.randomUUID();
+    LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+    given(customerQueryService.getCustomerVersion(id)).willReturn(updatedAt);
+
+    mockMvc
+        .perform(
+            get(BASE_URL + "/{id}", id)
+                .header(HttpHeaders.IF_NONE_MATCH, ConditionalGet.eTag(id, updatedAt)))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+
+    verify(customerQueryService, never()).getCustomer(id);
+  }
+
+  @Test
+  @MockUser(userId = "550e8400-e29b-41d4-a716-446655440000")
+  @DisplayName("If-None-Match가 이전 버전이면 200과 새 ETag를 반환한다")
+  void getCustomer_modified() throws Exception {
+    UUID id = UUID.randomUUID();
+    CustomerResponse response = createResponse(id, "test@example.com", "홍길동");
+    given(customerQueryService.getCustomerVersion(id)).willReturn(response.updatedAt());
+    given(customerQueryService.getCustomer(id)).willReturn(response);
+
+    mockMvc
+        .perform(
+            get(BASE_URL + "/{id}", id)
+                .header(
+                    HttpHeaders.IF_NONE_MATCH,
+                    ConditionalGet.eTag(id, response.updatedAt().minusMinutes(1))))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, ConditionalGet.eTag(id, response.updatedAt())))
+        .andExpect(jsonPath("$.data.email").value("test@example.com"));
+  }
+
   @Test
   @MockUser(userId = "550e8400-e29b-41d4-a716-446655440000")
   @DisplayName("내 정보를 조회한다")
@@ -204,4 +288,79 @@ class CustomerApiTest {
 
     mockMvc.perform(delete(BASE_URL + "/{id}", id)).andDo(print()).andExpect(status().isOk());
   }
+
+  @Test
+  @MockUser(userId = "550e8400-e29b-41d4-a716-446655440000")
+  @DisplayName("고객을 일괄 정지하면 작업 핸들을 바로 반환한다")
+  void suspendCustomers() throws Exception {
+    List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+    UUID jobId = UUID.randomUUID();
+    BulkJobResponse response =
+        new BulkJobResponse(
+            jobId,
+            "CUSTOMER_SUSPEND",
+            BulkJobStatus.RUNNING,
+            2,
+            0,
+            0,
+            0,
+            LocalDateTime.now(),
+            null,
+            null);
+    given(customerBulkCommandService.suspendCustomers(ids)).willReturn(response);
+
+    mockMvc
+        .perform(
+            post(BASE_URL + "/bulk/suspend")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BulkCustomerStatusRequest(ids))))
+        .andDo(print())
+        .andExpect(status().isAccepted())
+        .andExpect(jsonPath("$.data.jobId").value(jobId.toString()))
+        .andExpect(jsonPath("$.data.status").value("RUNNING"))
+        .andExpect(jsonPath("$.data.total").value(2));
+  }
+
+  @Test
+  @MockUser(userId = "550e8400-e29b-41d4-a716-446655440000")
+  @DisplayName("일괄 정지 대상이 비어 있으면 400을 반환한다")
+  void suspendCustomers_emptyIds() throws Exception {
+    mockMvc
+        .perform(
+            post(BASE_URL + "/bulk/suspend")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BulkCustomerStatusRequest(List.of()))))
+        .andDo(print())
+        .andExpect(status().isBadRequest());
+
+    verify(customerBulkCommandService, never()).suspendCustomers(any());
+  }
+
+  @Test
+  @MockUser(userId = "550e8400-e29b-41d4-a716-446655440000")
+  @DisplayName("일괄 작업 진행 상황을 조회한다")
+  void getBulkJob() throws Exception {
+    UUID jobId = UUID.randomUUID();
+    BulkJobResponse response =
+        new BulkJobResponse(
+            jobId,
+            "CUSTOMER_ACTIVATE",
+            BulkJobStatus.COMPLETED,
+            3,
+            3,
+            2,
+            1,
+            LocalDateTime.now(),
+            LocalDateTime.now(),
+            null);
+    given(customerQueryService.getBulkJob(jobId)).willReturn(response);
+
+    mockMvc
+        .perform(get(BASE_URL + "/bulk-jobs/{jobId}", jobId))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.status").value("COMPLETED"))
+        .andExpect(jsonPath("$.data.succeeded").value(2))
+        .andExpect(jsonPath("$.data.skipped").value(1));
+  }
 }
@@ -0,0 +1,180 @@
+package com.tickatch.user_service.customer.presentation.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.tickatch.user_service.common.domain.vo.UserStatus;
+import com.tickatch.user_service.customer.application.service.query.CustomerQueryService;
+import com.tickatch.user_service.customer.application.service.query.dto.CustomerResponse;
+import com.tickatch.user_service.customer.domain.vo.CustomerGrade;
+import com.tickatch.user_service.global.grpc.GrpcServiceAuthInterceptor;
+import com.tickatch.user_service.global.grpc.proto.Customer;
+import com.tickatch.user_service.global.grpc.proto.CustomerLookupServiceGrpc;
+import com.tickatch.user_service.global.grpc.proto.GetByIdRequest;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.stub.MetadataUtils;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * 고객 단건 조회 REST/gRPC 벤치마크.
+ *
+ * <p>같은 조회 서비스 결과를 REST(HTTP/1.1 + JSON)와 내부 gRPC(HTTP/2 + protobuf)로 받아 호출당 평균 지연, 프로세스 CPU 시간, 응답
+ * 크기를 비교한다. 조회 서비스는 모킹하므로 DB 비용은 제외된다. 클라이언트와 서버가 같은 JVM에서 돌기 때문에 CPU 시간은 양쪽을 합한 값이다.
+ * 일반 테스트에서는 제외되며 {@code ./gradlew benchmark}로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("고객 조회 REST/gRPC 벤치마크")
+class CustomerLookupBenchmarkTest {
+
+  private static final int WARMUP = 2_000;
+  private static final int ITERATIONS = 10_000;
+  private static final int GRPC_PORT = freePort();
+
+  @LocalServerPort private int httpPort;
+
+  @Value("${user.grpc.auth.token}")
+  private String serviceToken;
+
+  @MockitoBean private CustomerQueryService customerQueryService;
+
+  @DynamicPropertySource
+  static void grpcPort(DynamicPropertyRegistry registry) {
+    registry.add("spring.grpc.server.port", () -> GRPC_PORT);
+  }
+
+  @Test
+  @DisplayName("gRPC 조회는 REST 조회보다 응답이 작다")
+  void getCustomer_restVsGrpc() throws Exception {
+    // given
+    UUID customerId = UUID.randomUUID();
+    given(customerQueryService.getCustomer(customerId))
+        .willReturn(
+            new CustomerResponse(
+                customerId,
+                "bench@example.com",
+                "홍길동",
+                "01012345678",
+                LocalDate.of(1990, 1, 1),
+                CustomerGrade.VIP,
+                UserStatus.ACTIVE,
+                null,
+                LocalDateTime.now(),
+                LocalDateTime.now()));
+
+    HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    HttpRequest httpRequest =
+        HttpRequest.newBuilder(
+                URI.create("http://localhost:" + httpPort + "/api/v1/user/customers/" + customerId))
+            .header("X-User-Id", customerId.toString())
+            .header("X-User-Type", "CUSTOMER")
+            .GET()
+            .build();
+    IntSupplier rest =
+        () -> {
+          try {
+            HttpResponse<byte[]> response =
+                httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+            assertThat(response.statusCode()).isEqualTo(200);
+            return response.body().length;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+          }
+        };
+
+    ManagedChannel channel =
+        ManagedChannelBuilder.forAddress("localhost", GRPC_PORT).usePlaintext().build();
+    Metadata credentials = new Metadata();
+    credentials.put(GrpcServiceAuthInterceptor.SERVICE_NAME, "benchmark");
+    credentials.put(GrpcServiceAuthInterceptor.SERVICE_TOKEN, serviceToken);
+    CustomerLookupServiceGrpc.CustomerLookupServiceBlockingStub stub =
+        CustomerLookupServiceGrpc.newBlockingStub(channel)
+            .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(credentials));
+    GetByIdRequest grpcRequest = GetByIdRequest.newBuilder().setId(customerId.toString()).build();
+    IntSupplier grpc =
+        () -> {
+          Customer customer = stub.getCustomer(grpcRequest);
+          return customer.getSerializedSize();
+        };
+
+    // when
+    Result restResult;
+    Result grpcResult;
+    try {
+      restResult = run(rest);
+      grpcResult = run(grpc);
+    } finally {
+      channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    // then
+    System.out.printf(
+        "%n[고객 조회 벤치마크] %d회 평균%n"
+            + "  REST : %6.1f us, CPU %6.1f us, %4d bytes%n"
+            + "  gRPC : %6.1f us, CPU %6.1f us, %4d bytes%n",
+        ITERATIONS,
+        restResult.averageMicros(),
+        restResult.cpuMicros(),
+        restResult.bytes(),
+        grpcResult.averageMicros(),
+        grpcResult.cpuMicros(),
+        grpcResult.bytes());
+    assertThat(grpcResult.bytes()).isLessThan(restResult.bytes());
+  }
+
+  private static Result run(IntSupplier call) {
+    for (int i = 0; i < WARMUP; i++) {
+      call.getAsInt();
+    }
+    int bytes = 0;
+    long cpuStarted = processCpuNanos();
+    long started = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      bytes = call.getAsInt();
+    }
+    double averageMicros = (System.nanoTime() - started) / 1_000.0 / ITERATIONS;
+    double cpuMicros = (processCpuNanos() - cpuStarted) / 1_000.0 / ITERATIONS;
+    return new Result(averageMicros, cpuMicros, bytes);
+  }
+
+  private static long processCpuNanos() {
+    return ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean())
+        .getProcessCpuTime();
+  }
+
+  private static int freePort() {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private record Result(double averageMicros, double cpuMicros, int bytes) {}
+}
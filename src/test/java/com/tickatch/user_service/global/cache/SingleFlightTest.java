@@ -0,0 +1,199 @@
+package com.tickatch.user_service.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SingleFlight 테스트")
+class SingleFlightTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private SingleFlight singleFlight;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    singleFlight = new SingleFlight(meterRegistry);
+  }
+
+  private double count(String role) {
+    return meterRegistry.get("user.lookup.single_flight").tag("role", role).counter().count();
+  }
+
+  @Test
+  @DisplayName("동시에 들어온 같은 키 조회는 로더를 한 번만 실행한다")
+  void load_concurrentSameKey_coalesced() throws Exception {
+    int callers = 8;
+    AtomicInteger loaderCalls = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+    try {
+      List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < callers; i++) {
+        results.add(
+            executor.submit(
+                () ->
+                    singleFlight.load(
+                        "customer.id",
+                        "same-key",
+                        () -> {
+                          loaderCalls.incrementAndGet();
+                          await(release);
+                          return "value";
+                        })));
+      }
+
+      while (countOrZero("leader") + countOrZero("coalesced") < callers) {
+        Thread.sleep(10);
+      }
+      release.countDown();
+
+      for (Future<String> result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+      }
+      assertThat(loaderCalls.get()).isEqualTo(1);
+      assertThat(count("coalesced")).isEqualTo(callers - 1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("진행 중인 조회가 끝나면 다음 조회는 로더를 다시 실행한다")
+  void load_sequential_notCached() {
+    AtomicInteger loaderCalls = new AtomicInteger();
+
+    singleFlight.load("customer.id", "key", loaderCalls::incrementAndGet);
+    singleFlight.load("customer.id", "key", loaderCalls::incrementAndGet);
+
+    assertThat(loaderCalls.get()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("forget 이후 같은 키 조회는 진행 중 조회에 합류하지 않고 로더를 다시 실행한다")
+  void load_afterForget_startsNewFlight() throws Exception {
+    AtomicInteger loaderCalls = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    try {
+      Future<String> stale =
+          executor.submit(
+              () ->
+                  singleFlight.load(
+                      "customer.id",
+                      "key",
+                      () -> {
+                        loaderCalls.incrementAndGet();
+                        started.countDown();
+                        await(release);
+                        return "before-write";
+                      }));
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+      singleFlight.forget("key");
+      String fresh =
+          singleFlight.load(
+              "customer.id",
+              "key",
+              () -> {
+                loaderCalls.incrementAndGet();
+                return "after-write";
+              });
+      release.countDown();
+
+      assertThat(fresh).isEqualTo("after-write");
+      assertThat(stale.get(5, TimeUnit.SECONDS)).isEqualTo("before-write");
+      assertThat(loaderCalls.get()).isEqualTo(2);
+      assertThat(countOrZero("coalesced")).isZero();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("forgetAll 이후 같은 이름의 조회는 진행 중 조회에 합류하지 않는다")
+  void load_afterForgetAll_startsNewFlight() throws Exception {
+    AtomicInteger loaderCalls = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    String name = SingleFlight.lookupName(SingleFlightTest.class, "email");
+
+    try {
+      Future<String> stale =
+          executor.submit(
+              () ->
+                  singleFlight.load(
+                      name,
+                      "hong@test.com",
+                      () -> {
+                        loaderCalls.incrementAndGet();
+                        started.countDown();
+                        await(release);
+                        return "before-write";
+                      }));
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+      singleFlight.forgetAll(name);
+      String fresh =
+          singleFlight.load(
+              name,
+              "hong@test.com",
+              () -> {
+                loaderCalls.incrementAndGet();
+                return "after-write";
+              });
+      release.countDown();
+
+      assertThat(name).isEqualTo("singleflighttest.email");
+      assertThat(fresh).isEqualTo("after-write");
+      assertThat(stale.get(5, TimeUnit.SECONDS)).isEqualTo("before-write");
+      assertThat(loaderCalls.get()).isEqualTo(2);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("로더 예외는 호출자에게 그대로 전달된다")
+  void load_exception_propagated() {
+    assertThatThrownBy(
+            () ->
+                singleFlight.load(
+                    "customer.id",
+                    "key",
+                    () -> {
+                      throw new IllegalStateException("not found");
+                    }))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("not found");
+  }
+
+  private double countOrZero(String role) {
+    var counter = meterRegistry.find("user.lookup.single_flight").tag("role", role).counter();
+    return counter != null ? counter.count() : 0.0;
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
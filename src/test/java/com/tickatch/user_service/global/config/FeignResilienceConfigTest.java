@@ -0,0 +1,195 @@
+package com.tickatch.user_service.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.tickatch.user_service.global.feign.FeignErrorDecoder;
+import feign.Feign;
+import feign.Param;
+import feign.Request;
+import feign.RequestLine;
+import feign.RetryableException;
+import feign.Retryer;
+import feign.hc5.ApacheHttp5Client;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.tickatch.common.error.BusinessException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Feign 장애 격리 테스트 (스텁 서버)")
+class FeignResilienceConfigTest {
+
+  private HttpServer server;
+  private ExecutorService serverExecutor;
+  private StubClient client;
+  private final AtomicInteger requestCount = new AtomicInteger();
+  private final CountDownLatch slowArrived = new CountDownLatch(1);
+  private final CountDownLatch slowRelease = new CountDownLatch(1);
+
+  interface StubClient {
+
+    @RequestLine("GET /status/{code}")
+    String status(@Param("code") int code);
+
+    @RequestLine("GET /slow")
+    String slow();
+  }
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext(
+        "/status/",
+        exchange -> {
+          requestCount.incrementAndGet();
+          String path = exchange.getRequestURI().getPath();
+          respond(exchange, Integer.parseInt(path.substring(path.lastIndexOf('/') + 1)));
+        });
+    server.createContext(
+        "/slow",
+        exchange -> {
+          requestCount.incrementAndGet();
+          slowArrived.countDown();
+          try {
+            slowRelease.await(5, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          respond(exchange, 200);
+        });
+    serverExecutor = Executors.newCachedThreadPool();
+    server.setExecutor(serverExecutor);
+    server.start();
+
+    client =
+        Feign.builder()
+            .client(new ApacheHttp5Client())
+            .errorDecoder(new FeignErrorDecoder())
+            .retryer(Retryer.NEVER_RETRY)
+            .options(new Request.Options(1, TimeUnit.SECONDS, 300, TimeUnit.MILLISECONDS, true))
+            .target(StubClient.class, "http://127.0.0.1:" + server.getAddress().getPort());
+  }
+
+  @AfterEach
+  void tearDown() {
+    slowRelease.countDown();
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  private static void respond(HttpExchange exchange, int status) throws IOException {
+    byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(status, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+
+  private CircuitBreaker circuitBreaker() {
+    return CircuitBreaker.of(
+        "stub", FeignResilienceConfig.circuitBreakerConfig(50, 4, 4, Duration.ofMinutes(1)));
+  }
+
+  private static void callIgnoringFailure(CircuitBreaker circuitBreaker, Supplier<String> call) {
+    try {
+      circuitBreaker.executeSupplier(call);
+    } catch (RuntimeException ignored) {
+      // 서킷 상태만 검증한다
+    }
+  }
+
+  @Test
+  @DisplayName("5xx 응답이 누적되면 서킷이 열리고 이후 호출은 서버로 전송되지 않는다")
+  void serverErrors_openCircuit() {
+    // given
+    CircuitBreaker circuitBreaker = circuitBreaker();
+    for (int i = 0; i < 4; i++) {
+      callIgnoringFailure(circuitBreaker, () -> client.status(503));
+    }
+
+    // when & then
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    assertThatThrownBy(() -> circuitBreaker.executeSupplier(() -> client.status(200)))
+        .isInstanceOf(CallNotPermittedException.class);
+    assertThat(requestCount.get()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("4xx 응답은 실패로 집계하지 않아 서킷이 열리지 않는다")
+  void clientErrors_keepCircuitClosed() {
+    // given
+    CircuitBreaker circuitBreaker = circuitBreaker();
+
+    // when
+    for (int i = 0; i < 8; i++) {
+      callIgnoringFailure(circuitBreaker, () -> client.status(404));
+    }
+
+    // then
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isZero();
+    assertThatThrownBy(() -> circuitBreaker.executeSupplier(() -> client.status(404)))
+        .isInstanceOf(BusinessException.class);
+  }
+
+  @Test
+  @DisplayName("읽기 타임아웃은 재시도 없이 실패로 집계된다")
+  void readTimeout_recordedWithoutRetry() {
+    // given
+    CircuitBreaker circuitBreaker = circuitBreaker();
+
+    // when & then
+    assertThatThrownBy(() -> circuitBreaker.executeSupplier(client::slow))
+        .isInstanceOf(RetryableException.class);
+    assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isEqualTo(1);
+    assertThat(requestCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("동시 호출 수를 넘으면 벌크헤드가 대기 없이 거절한다")
+  void bulkheadFull_rejectsImmediately() throws Exception {
+    // given
+    Bulkhead bulkhead = Bulkhead.of("stub", FeignResilienceConfig.bulkheadConfig(1, Duration.ZERO));
+    client =
+        Feign.builder()
+            .client(new ApacheHttp5Client())
+            .errorDecoder(new FeignErrorDecoder())
+            .retryer(Retryer.NEVER_RETRY)
+            .target(StubClient.class, "http://127.0.0.1:" + server.getAddress().getPort());
+    ExecutorService caller = Executors.newSingleThreadExecutor();
+
+    try {
+      Future<String> inFlight = caller.submit(() -> bulkhead.executeSupplier(client::slow));
+      assertThat(slowArrived.await(5, TimeUnit.SECONDS)).isTrue();
+
+      // when & then
+      assertThatThrownBy(() -> bulkhead.executeSupplier(() -> client.status(200)))
+          .isInstanceOf(BulkheadFullException.class);
+
+      slowRelease.countDown();
+      assertThat(inFlight.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+      assertThat(bulkhead.executeSupplier(() -> client.status(200))).isEqualTo("ok");
+    } finally {
+      caller.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package com.tickatch.user_service.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tickatch.user_service.common.infrastructure.messaging.event.UserStatusChangedEvent;
+import com.tickatch.user_service.customer.application.service.query.dto.CustomerResponse;
+import com.tickatch.user_service.customer.domain.QCustomer;
+import com.tickatch.user_service.seller.domain.repository.dto.SellerEligibility;
+import com.tickatch.user_service.seller.presentation.api.dto.CreateSellerRequest.AddressRequest;
+import io.github.tickatch.common.api.ApiResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+@DisplayName("NativeRuntimeHints 테스트")
+class NativeRuntimeHintsTest {
+
+  private RuntimeHints hints;
+
+  @BeforeEach
+  void setUp() {
+    hints = new RuntimeHints();
+    new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+  }
+
+  @Test
+  @DisplayName("QueryDSL Q-클래스를 등록한다")
+  void registersQueryDslTypes() {
+    assertThat(RuntimeHintsPredicates.reflection().onType(QCustomer.class)).accepts(hints);
+  }
+
+  @Test
+  @DisplayName("DTO와 중첩 record를 등록한다")
+  void registersDtoTypes() {
+    assertThat(RuntimeHintsPredicates.reflection().onType(CustomerResponse.class)).accepts(hints);
+    assertThat(RuntimeHintsPredicates.reflection().onType(SellerEligibility.class)).accepts(hints);
+    assertThat(RuntimeHintsPredicates.reflection().onType(AddressRequest.class)).accepts(hints);
+  }
+
+  @Test
+  @DisplayName("메시징 이벤트와 공통 응답 타입을 등록한다")
+  void registersEventAndCommonTypes() {
+    assertThat(RuntimeHintsPredicates.reflection().onType(UserStatusChangedEvent.class))
+        .accepts(hints);
+    assertThat(RuntimeHintsPredicates.reflection().onType(ApiResponse.class)).accepts(hints);
+  }
+}
@@ -0,0 +1,23 @@
+package com.tickatch.user_service.global.crypto;
+
+import java.util.Base64;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * 테스트용 컬럼 암호화 키 설치 확장.
+ *
+ * <p>{@link FieldCrypto}는 키가 설치되기 전에는 동작하지 않으므로, 스프링 컨텍스트 없이 엔티티/값 객체를 만드는 테스트를 위해 모든 테스트
+ * 클래스 실행 전에 키를 설치한다. {@code META-INF/services}로 자동 등록되며, 키는 테스트 {@code application.yml}의 값과 같다.
+ */
+public class FieldCryptoTestKeys implements BeforeAllCallback {
+
+  private static final String ENCRYPTION_KEY = "XFaSWeBpWPm6tP4nLCmDRD0Bw6LL4WUo4931xMlqHDg=";
+  private static final String INDEX_KEY = "fvcq6wrxXi2nsf7k3b6JO9nOP4bY6MRuOm/jLS6I3i4=";
+
+  @Override
+  public void beforeAll(ExtensionContext context) {
+    FieldCrypto.install(
+        Base64.getDecoder().decode(ENCRYPTION_KEY), Base64.getDecoder().decode(INDEX_KEY));
+  }
+}
@@ -0,0 +1,120 @@
+package com.tickatch.user_service.global.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.tickatch.user_service.global.grpc.proto.CustomerLookupServiceGrpc;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+import io.grpc.health.v1.HealthGrpc;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+@DisplayName("GrpcServiceAuthInterceptor 테스트")
+class GrpcServiceAuthInterceptorTest {
+
+  private static final String TOKEN = "service-token";
+
+  @SuppressWarnings("unchecked")
+  private final ServerCallHandler<Object, Object> next = mock(ServerCallHandler.class);
+
+  @Test
+  @DisplayName("서비스 이름과 토큰이 맞으면 호출을 진행한다")
+  void interceptCall_authenticated() {
+    // given
+    ServerCall<Object, Object> call = call(CustomerLookupServiceGrpc.getGetCustomerMethod());
+    Metadata headers = headers("order-service", TOKEN);
+
+    // when
+    new GrpcServiceAuthInterceptor(TOKEN).interceptCall(call, headers, next);
+
+    // then
+    then(next).should().startCall(call, headers);
+    then(call).should(never()).close(any(), any());
+  }
+
+  @Test
+  @DisplayName("토큰이 다르면 UNAUTHENTICATED로 거절한다")
+  void interceptCall_wrongToken() {
+    // given
+    ServerCall<Object, Object> call = call(CustomerLookupServiceGrpc.getGetCustomerMethod());
+
+    // when
+    new GrpcServiceAuthInterceptor(TOKEN)
+        .interceptCall(call, headers("order-service", "other-token"), next);
+
+    // then
+    assertRejected(call);
+  }
+
+  @Test
+  @DisplayName("서비스 이름이 없으면 거절한다")
+  void interceptCall_missingServiceName() {
+    // given
+    ServerCall<Object, Object> call = call(CustomerLookupServiceGrpc.getGetCustomerMethod());
+
+    // when
+    new GrpcServiceAuthInterceptor(TOKEN).interceptCall(call, headers(null, TOKEN), next);
+
+    // then
+    assertRejected(call);
+  }
+
+  @Test
+  @DisplayName("토큰이 설정되지 않았으면 모든 호출을 거절한다")
+  void interceptCall_tokenNotConfigured() {
+    // given
+    ServerCall<Object, Object> call = call(CustomerLookupServiceGrpc.getGetCustomerMethod());
+
+    // when
+    new GrpcServiceAuthInterceptor("").interceptCall(call, headers("order-service", ""), next);
+
+    // then
+    assertRejected(call);
+  }
+
+  @Test
+  @DisplayName("헬스 체크는 인증 없이 허용한다")
+  void interceptCall_healthCheck() {
+    // given
+    ServerCall<Object, Object> call = call(HealthGrpc.getCheckMethod());
+    Metadata headers = new Metadata();
+
+    // when
+    new GrpcServiceAuthInterceptor(TOKEN).interceptCall(call, headers, next);
+
+    // then
+    then(next).should().startCall(call, headers);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ServerCall<Object, Object> call(MethodDescriptor<?, ?> method) {
+    ServerCall<Object, Object> call = mock(ServerCall.class);
+    given(call.getMethodDescriptor()).willReturn((MethodDescriptor<Object, Object>) method);
+    return call;
+  }
+
+  private static Metadata headers(String serviceName, String token) {
+    Metadata headers = new Metadata();
+    if (serviceName != null) {
+      headers.put(GrpcServiceAuthInterceptor.SERVICE_NAME, serviceName);
+    }
+    headers.put(GrpcServiceAuthInterceptor.SERVICE_TOKEN, token);
+    return headers;
+  }
+
+  private void assertRejected(ServerCall<Object, Object> call) {
+    ArgumentCaptor<Status> status = ArgumentCaptor.forClass(Status.class);
+    then(call).should().close(status.capture(), any());
+    assertThat(status.getValue().getCode()).isEqualTo(Status.Code.UNAUTHENTICATED);
+    then(next).should(never()).startCall(any(), any());
+  }
+}
@@ -0,0 +1,135 @@
+package com.tickatch.user_service.global.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.tickatch.user_service.config.QueryDslTestConfig;
+import io.github.tickatch.common.error.BusinessException;
+import io.github.tickatch.common.error.GlobalErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import(QueryDslTestConfig.class)
+@DisplayName("BulkJobRegistry 테스트")
+class BulkJobRegistryTest {
+
+  @Autowired private BulkJobRepository bulkJobRepository;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private BulkJobRegistry registry(long retentionMillis) {
+    return new BulkJobRegistry(Runnable::run, bulkJobRepository, meterRegistry, retentionMillis);
+  }
+
+  @Test
+  @DisplayName("작업 본문이 끝나면 완료 상태와 진행 건수가 기록된다")
+  void submit_completed() {
+    // given
+    BulkJobRegistry registry = registry(60_000);
+
+    // when
+    BulkJob job =
+        registry.submit(
+            "CUSTOMER_SUSPEND",
+            5,
+            started -> {
+              started.recordChunk(3, 2);
+              started.recordChunk(2, 2);
+            });
+
+    // then
+    BulkJob saved = registry.find(job.getJobId()).orElseThrow();
+    assertThat(saved.getStatus()).isEqualTo(BulkJobStatus.COMPLETED);
+    assertThat(saved.getProcessed()).isEqualTo(5);
+    assertThat(saved.getSucceeded()).isEqualTo(4);
+    assertThat(saved.getSkipped()).isEqualTo(1);
+    assertThat(saved.getFinishedAt()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("작업 본문에서 예외가 발생하면 처리된 건수를 유지한 채 실패 상태가 된다")
+  void submit_failed() {
+    // given
+    BulkJobRegistry registry = registry(60_000);
+
+    // when
+    BulkJob job =
+        registry.submit(
+            "CUSTOMER_SUSPEND",
+            4,
+            started -> {
+              started.recordChunk(2, 2);
+              throw new IllegalStateException("broker down");
+            });
+
+    // then
+    BulkJob saved = registry.find(job.getJobId()).orElseThrow();
+    assertThat(saved.getStatus()).isEqualTo(BulkJobStatus.FAILED);
+    assertThat(saved.getErrorMessage()).isEqualTo("broker down");
+    assertThat(saved.getProcessed()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("실행 대기열이 가득 차면 SERVICE_UNAVAILABLE로 거절하고 작업을 남기지 않는다")
+  void submit_rejected() {
+    // given
+    BulkJobRegistry registry =
+        new BulkJobRegistry(
+            command -> {
+              throw new RejectedExecutionException();
+            },
+            bulkJobRepository,
+            meterRegistry,
+            60_000);
+
+    // when & then
+    assertThatThrownBy(() -> registry.submit("CUSTOMER_SUSPEND", 1, started -> {}))
+        .isInstanceOf(BusinessException.class)
+        .satisfies(
+            e -> {
+              BusinessException be = (BusinessException) e;
+              assertThat(be.getErrorCode()).isEqualTo(GlobalErrorCode.SERVICE_UNAVAILABLE);
+            });
+    assertThat(meterRegistry.get("user.bulk.jobs.active").gauge().value()).isZero();
+    assertThat(bulkJobRepository.count()).isZero();
+  }
+
+  @Test
+  @DisplayName("보존 기간이 지난 종료 작업은 제거된다")
+  void removeExpired() throws InterruptedException {
+    // given
+    BulkJobRegistry registry = registry(0);
+    BulkJob job = registry.submit("CUSTOMER_SUSPEND", 0, started -> {});
+    Thread.sleep(5);
+
+    // when
+    registry.removeExpired();
+
+    // then
+    assertThat(registry.find(job.getJobId())).isEmpty();
+  }
+
+  @Test
+  @DisplayName("진행 기록이 보존 기간 동안 멈춘 작업은 실패 처리된다")
+  void removeExpired_failsStaleJob() throws InterruptedException {
+    // given
+    BulkJobRegistry registry =
+        new BulkJobRegistry(command -> {}, bulkJobRepository, meterRegistry, 0);
+    BulkJob job = registry.submit("CUSTOMER_SUSPEND", 3, started -> {});
+    Thread.sleep(5);
+
+    // when
+    registry.removeExpired();
+
+    // then
+    BulkJob saved = registry.find(job.getJobId()).orElseThrow();
+    assertThat(saved.getStatus()).isEqualTo(BulkJobStatus.FAILED);
+    assertThat(saved.getFinishedAt()).isNotNull();
+  }
+}
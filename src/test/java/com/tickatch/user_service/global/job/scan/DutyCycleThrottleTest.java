@@ -0,0 +1,34 @@
+package com.tickatch.user_service.global.job.scan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DutyCycleThrottle 테스트")
+class DutyCycleThrottleTest {
+
+  @Test
+  @DisplayName("작업 시간 비율이 상한이 되도록 쉬는 시간을 계산한다")
+  void pauseNanos_keepsUtilization() {
+    DutyCycleThrottle throttle = new DutyCycleThrottle(0.25);
+
+    assertThat(throttle.pauseNanos(1_000)).isEqualTo(3_000);
+  }
+
+  @Test
+  @DisplayName("상한이 1 이상이면 쉬지 않는다")
+  void pauseNanos_fullUtilization() {
+    DutyCycleThrottle throttle = new DutyCycleThrottle(1.0);
+
+    assertThat(throttle.pauseNanos(1_000)).isZero();
+  }
+
+  @Test
+  @DisplayName("상한이 0 이하이면 예외가 발생한다")
+  void create_invalidUtilization() {
+    assertThatThrownBy(() -> new DutyCycleThrottle(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,108 @@
+package com.tickatch.user_service.global.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LogSamplingTurboFilter 테스트")
+class LogSamplingTurboFilterTest {
+
+  private static final String SAMPLED = "com.example.sampled";
+
+  private LoggerContext context;
+  private ListAppender<ILoggingEvent> appender;
+
+  @BeforeEach
+  void setUp() {
+    context = new LoggerContext();
+
+    LogSamplingTurboFilter filter = new LogSamplingTurboFilter();
+    filter.setContext(context);
+    filter.addLoggerPrefix(SAMPLED);
+    filter.setMaxPerSecond(3);
+    filter.start();
+    context.addTurboFilter(filter);
+
+    appender = new ListAppender<>();
+    appender.setContext(context);
+    appender.start();
+    Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+    root.setLevel(Level.INFO);
+    root.addAppender(appender);
+  }
+
+  @Test
+  @DisplayName("같은 템플릿의 INFO 로그는 초당 최대 건수까지만 출력되고 나머지는 집계된다")
+  void sameTemplate_limitedPerSecond() {
+    // given
+    Logger logger = context.getLogger(SAMPLED + ".CommandService");
+    double before = LogEventCounters.sampledOut(SAMPLED).sum();
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      logger.info("고객 조회. id: {}", i);
+    }
+
+    // then
+    assertThat(appender.list).hasSize(3);
+    assertThat(LogEventCounters.sampledOut(SAMPLED).sum() - before).isEqualTo(7);
+  }
+
+  @Test
+  @DisplayName("템플릿이 다르면 각각 한도를 가진다")
+  void differentTemplates_limitedSeparately() {
+    // given
+    Logger logger = context.getLogger(SAMPLED + ".CommandService");
+
+    // when
+    for (int i = 0; i < 5; i++) {
+      logger.info("고객 생성. id: {}", i);
+      logger.info("고객 수정. id: {}", i);
+    }
+
+    // then
+    assertThat(appender.list).hasSize(6);
+  }
+
+  @Test
+  @DisplayName("WARN 이상과 대상이 아닌 로거는 샘플링하지 않는다")
+  void warnAndOtherLoggers_notSampled() {
+    // given
+    Logger sampled = context.getLogger(SAMPLED + ".CommandService");
+    Logger other = context.getLogger("com.example.other.Service");
+
+    // when
+    for (int i = 0; i < 5; i++) {
+      sampled.warn("외부 호출 실패. id: {}", i);
+      other.info("고객 조회. id: {}", i);
+    }
+
+    // then
+    assertThat(appender.list).hasSize(10);
+  }
+
+  @Test
+  @DisplayName("출력되지 않는 레벨은 한도를 소모하지 않는다")
+  void disabledLevel_doesNotConsumeLimit() {
+    // given
+    Logger logger = context.getLogger(SAMPLED + ".CommandService");
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      logger.debug("고객 조회. id: {}", i);
+    }
+    for (int i = 0; i < 3; i++) {
+      logger.info("고객 조회. id: {}", i);
+    }
+
+    // then
+    assertThat(appender.list).hasSize(3);
+  }
+}
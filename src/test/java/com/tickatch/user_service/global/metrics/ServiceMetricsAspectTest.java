@@ -0,0 +1,104 @@
+package com.tickatch.user_service.global.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.tickatch.user_service.customer.application.service.command.CustomerCommandService;
+import com.tickatch.user_service.customer.domain.exception.CustomerErrorCode;
+import com.tickatch.user_service.customer.domain.exception.CustomerException;
+import com.tickatch.user_service.seller.application.service.query.SellerQueryService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ServiceMetricsAspect 테스트")
+class ServiceMetricsAspectTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private ServiceMetricsAspect aspect;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    aspect = new ServiceMetricsAspect(meterRegistry);
+  }
+
+  private ProceedingJoinPoint joinPoint(Class<?> serviceType, String method) {
+    Signature signature = mock(Signature.class);
+    given(signature.getDeclaringType()).willReturn(serviceType);
+    given(signature.getName()).willReturn(method);
+    ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+    given(joinPoint.getSignature()).willReturn(signature);
+    return joinPoint;
+  }
+
+  @Test
+  @DisplayName("성공한 호출은 애그리거트, 유형, 오퍼레이션 태그와 함께 success로 기록된다")
+  void success_recorded() throws Throwable {
+    // given
+    ProceedingJoinPoint joinPoint = joinPoint(SellerQueryService.class, "searchSellers");
+    given(joinPoint.proceed()).willReturn("result");
+
+    // when
+    Object result = aspect.record(joinPoint);
+
+    // then
+    assertThat(result).isEqualTo("result");
+    Timer timer =
+        meterRegistry
+            .get(ServiceMetricsAspect.METRIC_NAME)
+            .tag("aggregate", "seller")
+            .tag("type", "query")
+            .tag("operation", "searchSellers")
+            .tag("result", "success")
+            .tag("error_code", "none")
+            .timer();
+    assertThat(timer.count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("비즈니스 예외는 에러 코드와 함께 error로 기록되고 그대로 전파된다")
+  void businessException_recordedWithErrorCode() throws Throwable {
+    // given
+    ProceedingJoinPoint joinPoint = joinPoint(CustomerCommandService.class, "suspendCustomer");
+    given(joinPoint.proceed())
+        .willThrow(new CustomerException(CustomerErrorCode.CUSTOMER_NOT_FOUND, "id"));
+
+    // when & then
+    assertThatThrownBy(() -> aspect.record(joinPoint)).isInstanceOf(CustomerException.class);
+    Timer timer =
+        meterRegistry
+            .get(ServiceMetricsAspect.METRIC_NAME)
+            .tag("aggregate", "customer")
+            .tag("type", "command")
+            .tag("result", "error")
+            .tag("error_code", CustomerErrorCode.CUSTOMER_NOT_FOUND.getCode())
+            .timer();
+    assertThat(timer.count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("그 외 예외는 예외 클래스명으로 기록된다")
+  void otherException_recordedWithClassName() throws Throwable {
+    // given
+    ProceedingJoinPoint joinPoint = joinPoint(CustomerCommandService.class, "createCustomer");
+    given(joinPoint.proceed()).willThrow(new IllegalStateException("boom"));
+
+    // when & then
+    assertThatThrownBy(() -> aspect.record(joinPoint)).isInstanceOf(IllegalStateException.class);
+    assertThat(
+            meterRegistry
+                .get(ServiceMetricsAspect.METRIC_NAME)
+                .tag("operation", "createCustomer")
+                .tag("error_code", "IllegalStateException")
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+}
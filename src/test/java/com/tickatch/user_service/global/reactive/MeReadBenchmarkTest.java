@@ -0,0 +1,159 @@
+package com.tickatch.user_service.global.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tickatch.user_service.customer.domain.Customer;
+import com.tickatch.user_service.customer.domain.CustomerRepository;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@code /me} 조회 MVC/반응형 처리량 벤치마크.
+ *
+ * <p>같은 고객을 같은 동시 클라이언트 수로 MVC(서블릿 + JDBC)와 반응형 경로(Reactor Netty + R2DBC)에 일정 시간 요청하여 초당 처리량과
+ * 프로세스 CPU 1초당 처리량을 비교한다. CPU를 고정할 수 없으므로 CPU 시간당 처리량으로 같은 CPU 조건을 맞춘다. 클라이언트도 같은 JVM에서
+ * 실행되므로 CPU 시간에는 클라이언트 비용이 포함된다. 반응형 경로는 인메모리 H2에 r2dbc-h2로 연결하며, 일반 테스트에서는 제외되고 {@code
+ * ./gradlew benchmark}로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+      "user.reactive.enabled=true",
+      "user.reactive.port=0",
+      "user.reactive.r2dbc.url=r2dbc:h2:mem:///testdb",
+      "user.reactive.r2dbc.max-size=10"
+    })
+@DisplayName("/me 조회 MVC/반응형 벤치마크")
+class MeReadBenchmarkTest {
+
+  private static final int CLIENTS = 64;
+  private static final Duration WARMUP = Duration.ofSeconds(3);
+  private static final Duration MEASURE = Duration.ofSeconds(10);
+
+  @LocalServerPort private int httpPort;
+
+  @Autowired private ReactiveReadServer reactiveReadServer;
+
+  @Autowired private CustomerRepository customerRepository;
+
+  @Autowired private TransactionTemplate transactionTemplate;
+
+  @Test
+  @DisplayName("두 경로 모두 같은 고객을 응답하고 CPU 시간당 처리량을 출력한다")
+  void me_mvcVsReactive() throws Exception {
+    // given
+    UUID customerId = UUID.randomUUID();
+    transactionTemplate.executeWithoutResult(
+        status ->
+            customerRepository.save(
+                Customer.create(
+                    customerId, "bench@example.com", "홍길동", "010-1234-5678", null)));
+
+    String path = "/api/v1/user/customers/me";
+    URI mvc = URI.create("http://localhost:" + httpPort + path);
+    URI reactive = URI.create("http://localhost:" + reactiveReadServer.getPort() + path);
+
+    // when
+    Result mvcResult = run(mvc, customerId);
+    Result reactiveResult = run(reactive, customerId);
+
+    // then
+    System.out.printf(
+        "%n[/me 벤치마크] 동시 클라이언트 %d, %d초%n"
+            + "  MVC      : %8.0f req/s, CPU %6.2f s, %8.0f req/CPU-s%n"
+            + "  Reactive : %8.0f req/s, CPU %6.2f s, %8.0f req/CPU-s%n",
+        CLIENTS,
+        MEASURE.toSeconds(),
+        mvcResult.throughput(),
+        mvcResult.cpuSeconds(),
+        mvcResult.perCpuSecond(),
+        reactiveResult.throughput(),
+        reactiveResult.cpuSeconds(),
+        reactiveResult.perCpuSecond());
+    assertThat(mvcResult.requests()).isPositive();
+    assertThat(reactiveResult.requests()).isPositive();
+  }
+
+  private Result run(URI uri, UUID customerId) throws Exception {
+    HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    HttpRequest request =
+        HttpRequest.newBuilder(uri)
+            .header(ReactiveConditionalGet.USER_ID_HEADER, customerId.toString())
+            .header("X-User-Type", "CUSTOMER")
+            .GET()
+            .build();
+    HttpResponse<String> first = client.send(request, HttpResponse.BodyHandlers.ofString());
+    assertThat(first.statusCode()).isEqualTo(200);
+    assertThat(first.body()).contains(customerId.toString());
+
+    load(client, request, WARMUP);
+    long cpuStarted = processCpuNanos();
+    long requests = load(client, request, MEASURE);
+    double cpuSeconds = (processCpuNanos() - cpuStarted) / 1_000_000_000.0;
+    return new Result(requests, requests / (double) MEASURE.toSeconds(), cpuSeconds);
+  }
+
+  private static long load(HttpClient client, HttpRequest request, Duration duration)
+      throws Exception {
+    AtomicBoolean running = new AtomicBoolean(true);
+    ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+    try {
+      List<Future<Long>> futures = new ArrayList<>();
+      for (int i = 0; i < CLIENTS; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  long count = 0;
+                  while (running.get()) {
+                    HttpResponse<Void> response =
+                        client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 200) {
+                      count++;
+                    }
+                  }
+                  return count;
+                }));
+      }
+      Thread.sleep(duration.toMillis());
+      running.set(false);
+      long total = 0;
+      for (Future<Long> future : futures) {
+        total += future.get();
+      }
+      return total;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static long processCpuNanos() {
+    return ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean())
+        .getProcessCpuTime();
+  }
+
+  private record Result(long requests, double throughput, double cpuSeconds) {
+
+    double perCpuSecond() {
+      return cpuSeconds > 0 ? requests / cpuSeconds : 0;
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package com.tickatch.user_service.seller.application.service.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tickatch.user_service.common.domain.vo.Address;
+import com.tickatch.user_service.config.QueryDslTestConfig;
+import com.tickatch.user_service.global.archive.UserArchive;
+import com.tickatch.user_service.global.cache.EntityCacheEvictor;
+import com.tickatch.user_service.global.cache.SingleFlight;
+import com.tickatch.user_service.global.crypto.FieldCrypto;
+import com.tickatch.user_service.global.job.scan.ChunkedScanRunner;
+import com.tickatch.user_service.global.job.scan.ScanCheckpoint;
+import com.tickatch.user_service.global.job.scan.ScanCheckpointRepository;
+import com.tickatch.user_service.seller.domain.Seller;
+import com.tickatch.user_service.seller.domain.SellerRepository;
+import com.tickatch.user_service.seller.domain.repository.SellerRepositoryImpl;
+import com.tickatch.user_service.seller.domain.vo.SettlementInfo;
+import jakarta.persistence.EntityManager;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest(
+    properties = {
+      "user.scan.chunk-size=2",
+      "user.scan.parallelism=2",
+      "user.scan.max-db-utilization=1.0",
+      "user.crypto.migration.enabled=true"
+    })
+@Import({
+  QueryDslTestConfig.class,
+  SellerRepositoryImpl.class,
+  UserArchive.class,
+  EntityCacheEvictor.class,
+  SingleFlight.class,
+  ChunkedScanRunner.class,
+  SellerAccountNumberEncryptionJob.class,
+  SellerAccountNumberEncryptionJobTest.ScanTestConfig.class
+})
+@DisplayName("SellerAccountNumberEncryptionJob 테스트")
+class SellerAccountNumberEncryptionJobTest {
+
+  @Autowired private SellerAccountNumberEncryptionJob encryptionJob;
+
+  @Autowired private SellerRepository sellerRepository;
+
+  @Autowired private ScanCheckpointRepository checkpointRepository;
+
+  @Autowired private EntityManager entityManager;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @TestConfiguration
+  static class ScanTestConfig {
+
+    /** 청크를 호출한 스레드에서 처리하여 테스트 트랜잭션에 참여시킨다. */
+    @Bean(name = "scanJobExecutor")
+    Executor scanJobExecutor() {
+      return Runnable::run;
+    }
+  }
+
+  private void flushAndClear() {
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  /** 암호화 도입 이전처럼 계좌번호를 평문으로 저장한 판매자를 만든다. */
+  private UUID createSeller(String email, String businessNumber, String plainAccountNumber) {
+    Seller seller =
+        Seller.create(
+            UUID.randomUUID(),
+            email,
+            "판매자",
+            "01012345678",
+            "테스트상점",
+            businessNumber,
+            "홍길동",
+            Address.of("12345", "서울시 강남구", "테헤란로 123"));
+    UUID id = sellerRepository.save(seller).getId();
+    flushAndClear();
+    if (plainAccountNumber != null) {
+      jdbcTemplate.update(
+          "UPDATE sellers SET bank_code = '004', account_number = ?, account_holder = '홍길동'"
+              + " WHERE id = ?",
+          plainAccountNumber,
+          id);
+    }
+    return id;
+  }
+
+  private Map<String, Object> settlementColumns(UUID id) {
+    return jdbcTemplate.queryForMap(
+        "SELECT account_number, account_number_index, masked_account_number FROM sellers"
+            + " WHERE id = ?",
+        id);
+  }
+
+  @Test
+  @DisplayName("평문 계좌번호를 암호화하고 블라인드 인덱스와 마스킹 값을 채운다")
+  void run_encryptsPlaintextAccountNumbers() {
+    // given
+    UUID first = createSeller("seller1@test.com", "1234567890", "12345678901234");
+    UUID second = createSeller("seller2@test.com", "1234567891", "98765432109876");
+    UUID third = createSeller("seller3@test.com", "1234567892", "11112222333344");
+    UUID none = createSeller("seller4@test.com", "1234567893", null);
+
+    // when
+    encryptionJob.run();
+    flushAndClear();
+
+    // then
+    Map<String, Object> columns = settlementColumns(first);
+    assertThat((String) columns.get("account_number")).startsWith("v1:");
+    assertThat(FieldCrypto.decrypt((String) columns.get("account_number")))
+        .isEqualTo("12345678901234");
+    assertThat(columns.get("account_number_index"))
+        .isEqualTo(SettlementInfo.accountNumberIndexOf("12345678901234"));
+    assertThat(columns.get("masked_account_number")).isEqualTo("1234**********");
+    assertThat((String) settlementColumns(second).get("account_number")).startsWith("v1:");
+    assertThat((String) settlementColumns(third).get("account_number")).startsWith("v1:");
+    assertThat(settlementColumns(none).get("account_number")).isNull();
+
+    ScanCheckpoint checkpoint =
+        checkpointRepository.findById(SellerAccountNumberEncryptionJob.NAME).orElseThrow();
+    assertThat(checkpoint.isInProgress()).isFalse();
+    assertThat(checkpoint.getAffected()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("이미 암호화된 계좌번호는 다시 읽지 않는다")
+  void run_skipsEncryptedAccountNumbers() {
+    // given
+    createSeller("seller1@test.com", "1234567890", "12345678901234");
+    encryptionJob.run();
+    flushAndClear();
+
+    // when
+    encryptionJob.run();
+
+    // then
+    ScanCheckpoint checkpoint =
+        checkpointRepository.findById(SellerAccountNumberEncryptionJob.NAME).orElseThrow();
+    assertThat(checkpoint.getProcessed()).isZero();
+  }
+}
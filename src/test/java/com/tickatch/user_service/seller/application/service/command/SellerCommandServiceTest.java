@@ -4,10 +4,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.tickatch.user_service.config.QueryDslTestConfig;
+import com.tickatch.user_service.global.archive.UserArchive;
+import com.tickatch.user_service.global.cache.EntityCacheEvictor;
+import com.tickatch.user_service.global.cache.SingleFlight;
 import com.tickatch.user_service.seller.application.messaging.SellerLogEventPublisher;
 import com.tickatch.user_service.seller.application.service.command.dto.CreateSellerCommand;
 import com.tickatch.user_service.seller.application.service.command.dto.UpdateSellerProfileCommand;
 import com.tickatch.user_service.seller.application.service.command.dto.UpdateSettlementInfoCommand;
+import com.tickatch.user_service.seller.application.service.query.SellerEligibilityCache;
 import com.tickatch.user_service.seller.domain.Seller;
 import com.tickatch.user_service.seller.domain.SellerRepository;
 import com.tickatch.user_service.seller.domain.exception.SellerErrorCode;
@@ -22,10 +26,24 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 @DataJpaTest
-@Import({QueryDslTestConfig.class, SellerRepositoryImpl.class, SellerCommandService.class})
+@Import({
+  QueryDslTestConfig.class,
+  SellerRepositoryImpl.class,
+  UserArchive.class,
+  EntityCacheEvictor.class,
+  SingleFlight.class,
+  SellerEligibilityCache.class,
+  SellerCommandService.class
+})
+@TestPropertySource(
+    properties = {
+      "spring.jpa.defer-datasource-initialization=true",
+      "spring.sql.init.schema-locations=classpath:sql/sellers-business-number-unique.sql"
+    })
 @DisplayName("SellerCommandService 테스트")
 class SellerCommandServiceTest {
 
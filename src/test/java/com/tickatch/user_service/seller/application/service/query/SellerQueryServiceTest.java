@@ -2,9 +2,16 @@ package com.tickatch.user_service.seller.application.service.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 
+import com.tickatch.user_service.common.domain.exception.UserErrorCode;
+import com.tickatch.user_service.common.domain.exception.UserException;
 import com.tickatch.user_service.common.domain.vo.UserStatus;
 import com.tickatch.user_service.config.QueryDslTestConfig;
+import com.tickatch.user_service.global.archive.UserArchive;
+import com.tickatch.user_service.global.cache.EntityCacheEvictor;
+import com.tickatch.user_service.global.cache.SingleFlight;
+import com.tickatch.user_service.seller.application.service.query.dto.SellerEligibilityResponse;
 import com.tickatch.user_service.seller.application.service.query.dto.SellerResponse;
 import com.tickatch.user_service.seller.application.service.query.dto.SellerSearchRequest;
 import com.tickatch.user_service.seller.domain.Seller;
@@ -14,6 +21,8 @@ import com.tickatch.user_service.seller.domain.exception.SellerException;
 import com.tickatch.user_service.seller.domain.repository.SellerRepositoryImpl;
 import com.tickatch.user_service.seller.domain.vo.SellerStatus;
 import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -26,7 +35,15 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 @DataJpaTest
-@Import({QueryDslTestConfig.class, SellerRepositoryImpl.class, SellerQueryService.class})
+@Import({
+  QueryDslTestConfig.class,
+  SellerRepositoryImpl.class,
+  UserArchive.class,
+  EntityCacheEvictor.class,
+  SellerQueryService.class,
+  SellerEligibilityCache.class,
+  SingleFlight.class
+})
 @DisplayName("SellerQueryService 테스트")
 class SellerQueryServiceTest {
 
@@ -36,6 +53,8 @@ class SellerQueryServiceTest {
 
   @Autowired private EntityManager entityManager;
 
+  @Autowired private SellerEligibilityCache eligibilityCache;
+
   private void flushAndClear() {
     entityManager.flush();
     entityManager.clear();
@@ -169,7 +188,8 @@ class SellerQueryServiceTest {
       flushAndClear();
 
       SellerSearchRequest request =
-          new SellerSearchRequest(null, null, UserStatus.ACTIVE, SellerStatus.PENDING, null, null);
+          new SellerSearchRequest(
+              null, null, null, null, UserStatus.ACTIVE, SellerStatus.PENDING, null, null, null);
       Pageable pageable = PageRequest.of(0, 10);
 
       // when
@@ -212,7 +232,8 @@ class SellerQueryServiceTest {
       flushAndClear();
 
       SellerSearchRequest request =
-          new SellerSearchRequest(null, null, null, SellerStatus.APPROVED, null, null);
+          new SellerSearchRequest(
+              null, null, null, null, null, SellerStatus.APPROVED, null, null, null);
       Pageable pageable = PageRequest.of(0, 10);
 
       // when
@@ -222,6 +243,107 @@ class SellerQueryServiceTest {
       assertThat(result.getContent()).hasSize(1);
       assertThat(result.getContent().get(0).sellerStatus()).isEqualTo(SellerStatus.APPROVED);
     }
+
+    @Test
+    @DisplayName("정산 계좌번호로 판매자를 검색한다")
+    void searchSellers_byAccountNumber() {
+      // given
+      Seller target =
+          Seller.create(
+              UUID.randomUUID(),
+              "account@example.com",
+              "계좌판매자",
+              "010-1111-1111",
+              "계좌상점",
+              "1111111111",
+              "계좌대표",
+              null);
+      Seller other =
+          Seller.create(
+              UUID.randomUUID(),
+              "other@example.com",
+              "다른판매자",
+              "010-2222-2222",
+              "다른상점",
+              "2222222222",
+              "다른대표",
+              null);
+      target.approve("admin");
+      target.updateSettlementInfo("004", "12345678901234", "계좌대표");
+      other.approve("admin");
+      other.updateSettlementInfo("004", "98765432109876", "다른대표");
+      sellerRepository.save(target);
+      sellerRepository.save(other);
+      flushAndClear();
+
+      SellerSearchRequest request =
+          new SellerSearchRequest(
+              null, null, null, null, null, null, null, null, "1234-5678-901234");
+      Pageable pageable = PageRequest.of(0, 10);
+
+      // when
+      Page<SellerResponse> result = sellerQueryService.searchSellers(request, pageable);
+
+      // then
+      assertThat(result.getContent())
+          .extracting(SellerResponse::id)
+          .containsExactly(target.getId());
+    }
+
+    @Test
+    @DisplayName("선택한 필드만 조회하고 ID는 항상 포함한다")
+    void searchSellers_selectedFieldsOnly() {
+      // given
+      Seller seller =
+          Seller.create(
+              UUID.randomUUID(),
+              "fields@example.com",
+              "김판매",
+              "010-1111-1111",
+              "판매상점",
+              "1234567890",
+              "김대표",
+              null);
+      seller.approve("admin");
+      seller.updateSettlementInfo("004", "12345678901234", "김대표");
+      sellerRepository.save(seller);
+      flushAndClear();
+
+      SellerSearchRequest request =
+          new SellerSearchRequest(null, null, null, null, null, null, null, null, null);
+      Pageable pageable = PageRequest.of(0, 10);
+
+      // when
+      Page<Map<String, Object>> result =
+          sellerQueryService.searchSellers(
+              request, "hasSettlementInfo, formattedBusinessNumber,sellerStatus", pageable);
+
+      // then
+      assertThat(result.getContent()).hasSize(1);
+      assertThat(result.getContent().get(0))
+          .containsExactly(
+              entry("id", seller.getId()),
+              entry("formattedBusinessNumber", "123-45-67890"),
+              entry("sellerStatus", SellerStatus.APPROVED),
+              entry("hasSettlementInfo", true));
+    }
+
+    @Test
+    @DisplayName("선택할 수 없는 필드가 있으면 예외가 발생한다")
+    void searchSellers_unknownField_throwsException() {
+      // given
+      SellerSearchRequest request =
+          new SellerSearchRequest(null, null, null, null, null, null, null, null, null);
+
+      // when & then
+      assertThatThrownBy(
+              () -> sellerQueryService.searchSellers(request, "id,password", PageRequest.of(0, 10)))
+          .isInstanceOf(UserException.class)
+          .satisfies(
+              ex ->
+                  assertThat(((UserException) ex).getErrorCode())
+                      .isEqualTo(UserErrorCode.INVALID_FIELDS));
+    }
   }
 
   @Nested
@@ -302,4 +424,114 @@ class SellerQueryServiceTest {
       assertThat(result).isFalse();
     }
   }
+
+  @Nested
+  @DisplayName("getPerformanceEligibility 테스트")
+  class GetPerformanceEligibilityTest {
+
+    private Seller createSeller(String email, String businessNumber) {
+      return Seller.create(
+          UUID.randomUUID(),
+          email,
+          "김판매",
+          "010-1234-5678",
+          "판매상점",
+          businessNumber,
+          "김대표",
+          null);
+    }
+
+    @Test
+    @DisplayName("승인된 활성 판매자는 공연 등록이 가능하다")
+    void getPerformanceEligibility_approved() {
+      // given
+      Seller seller = createSeller("approved@example.com", "1234567890");
+      seller.approve("admin");
+      sellerRepository.save(seller);
+      flushAndClear();
+
+      // when
+      SellerEligibilityResponse result =
+          sellerQueryService.getPerformanceEligibility(seller.getId());
+
+      // then
+      assertThat(result.sellerId()).isEqualTo(seller.getId());
+      assertThat(result.eligible()).isTrue();
+    }
+
+    @Test
+    @DisplayName("승인 대기 판매자는 공연 등록이 불가능하다")
+    void getPerformanceEligibility_pending() {
+      // given
+      Seller seller = createSeller("pending@example.com", "1234567890");
+      sellerRepository.save(seller);
+      flushAndClear();
+
+      // when
+      SellerEligibilityResponse result =
+          sellerQueryService.getPerformanceEligibility(seller.getId());
+
+      // then
+      assertThat(result.eligible()).isFalse();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 판매자 조회 시 예외가 발생한다")
+    void getPerformanceEligibility_notFound() {
+      // given
+      UUID sellerId = UUID.randomUUID();
+
+      // when & then
+      assertThatThrownBy(() -> sellerQueryService.getPerformanceEligibility(sellerId))
+          .isInstanceOf(SellerException.class)
+          .satisfies(
+              ex -> {
+                SellerException sellerException = (SellerException) ex;
+                assertThat(sellerException.getErrorCode())
+                    .isEqualTo(SellerErrorCode.SELLER_NOT_FOUND);
+              });
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 읽은 값을 캐싱하지 않는다")
+    void put_afterConcurrentEvict_isDiscarded() {
+      // given
+      UUID sellerId = UUID.randomUUID();
+      long generation = eligibilityCache.generation();
+      eligibilityCache.evict(sellerId);
+
+      // when
+      eligibilityCache.put(sellerId, true, generation);
+
+      // then
+      assertThat(eligibilityCache.get(sellerId)).isNull();
+      eligibilityCache.put(sellerId, true, eligibilityCache.generation());
+      assertThat(eligibilityCache.get(sellerId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("일괄 조회 시 요청 순서대로 응답하고 존재하지 않는 판매자는 false로 응답한다")
+    void getPerformanceEligibilities_batch() {
+      // given
+      Seller approved = createSeller("approved@example.com", "1111111111");
+      approved.approve("admin");
+      Seller pending = createSeller("pending@example.com", "2222222222");
+      sellerRepository.save(approved);
+      sellerRepository.save(pending);
+      flushAndClear();
+      UUID unknown = UUID.randomUUID();
+
+      // when
+      List<SellerEligibilityResponse> result =
+          sellerQueryService.getPerformanceEligibilities(
+              List.of(pending.getId(), unknown, approved.getId(), pending.getId()));
+
+      // then
+      assertThat(result)
+          .containsExactly(
+              new SellerEligibilityResponse(pending.getId(), false),
+              new SellerEligibilityResponse(unknown, false),
+              new SellerEligibilityResponse(approved.getId(), true));
+    }
+  }
 }
@@ -5,6 +5,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.tickatch.user_service.common.domain.vo.Address;
 import com.tickatch.user_service.common.domain.vo.UserStatus;
 import com.tickatch.user_service.config.QueryDslTestConfig;
+import com.tickatch.user_service.global.archive.UserArchive;
+import com.tickatch.user_service.global.cache.EntityCacheEvictor;
+import com.tickatch.user_service.global.cache.SingleFlight;
 import com.tickatch.user_service.seller.domain.repository.SellerRepositoryImpl;
 import com.tickatch.user_service.seller.domain.repository.dto.SellerSearchCondition;
 import com.tickatch.user_service.seller.domain.vo.SellerStatus;
@@ -22,7 +25,13 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 
 @DataJpaTest
-@Import({QueryDslTestConfig.class, SellerRepositoryImpl.class})
+@Import({
+  QueryDslTestConfig.class,
+  SellerRepositoryImpl.class,
+  UserArchive.class,
+  EntityCacheEvictor.class,
+  SingleFlight.class
+})
 @DisplayName("SellerRepository 테스트")
 class SellerRepositoryTest {
 
@@ -226,6 +226,32 @@ class SellerTest {
               });
     }
 
+    @Test
+    void 정산_정보를_부분_수정하면_전달한_항목만_바뀐다() {
+      Seller seller = createSeller();
+      seller.approve("admin@test.com");
+      seller.updateSettlementInfo("004", "12345678901234", "홍길동");
+
+      seller.patchSettlementInfo(null, "98765432109876", null);
+
+      assertThat(seller.getSettlementInfo().getBankCode()).isEqualTo("004");
+      assertThat(seller.getSettlementInfo().getAccountNumber()).isEqualTo("98765432109876");
+      assertThat(seller.getSettlementInfo().getAccountHolder()).isEqualTo("홍길동");
+    }
+
+    @Test
+    void 정산_정보가_없으면_일부_항목만으로_부분_수정할_수_없다() {
+      Seller seller = createSeller();
+      seller.approve("admin@test.com");
+      assertThatThrownBy(() -> seller.patchSettlementInfo("004", null, null))
+          .isInstanceOf(SellerException.class)
+          .satisfies(
+              e -> {
+                SellerException se = (SellerException) e;
+                assertThat(se.getErrorCode()).isEqualTo(SellerErrorCode.INVALID_ACCOUNT_NUMBER);
+              });
+    }
+
     @Test
     void 거절된_판매자는_정산_정보_수정이_불가능하다() {
       Seller seller = createSeller();
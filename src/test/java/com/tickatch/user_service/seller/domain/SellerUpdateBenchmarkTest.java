@@ -0,0 +1,153 @@
+package com.tickatch.user_service.seller.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tickatch.user_service.common.domain.vo.Address;
+import com.tickatch.user_service.config.QueryDslTestConfig;
+import jakarta.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 판매자 부분 수정 UPDATE 벤치마크.
+ *
+ * <p>{@code @DynamicUpdate}로 생성되는 UPDATE와, 적용 전처럼 모든 컬럼을 쓰는 UPDATE의 문장 크기와 실행 시간을 비교한다. 일반 테스트에서는
+ * 제외되며 {@code ./gradlew benchmark}로 실행한다. 수치는 인메모리 H2 기준이므로 PostgreSQL의 WAL 감소량은 컬럼 수 비율로 가늠한다.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = SellerUpdateBenchmarkTest.INSPECTOR_PROPERTY)
+@Import(QueryDslTestConfig.class)
+@DisplayName("판매자 UPDATE 벤치마크")
+class SellerUpdateBenchmarkTest {
+
+  static final String INSPECTOR_PROPERTY =
+      "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+          + "com.tickatch.user_service.seller.domain.SellerUpdateBenchmarkTest$CapturingInspector";
+
+  private static final int WARMUP = 1_000;
+  private static final int ITERATIONS = 10_000;
+
+  @Autowired private EntityManager entityManager;
+
+  @Autowired private DataSource dataSource;
+
+  /** Hibernate가 실행하는 SQL을 기록한다. */
+  public static class CapturingInspector implements StatementInspector {
+
+    static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+      STATEMENTS.add(sql);
+      return sql;
+    }
+  }
+
+  @Test
+  @DisplayName("프로필 부분 수정은 바뀐 컬럼만 UPDATE하여 전체 컬럼 UPDATE보다 작고 빠르다")
+  void patchProfile_updatesChangedColumnsOnly() {
+    // given
+    Seller seller =
+        Seller.create(
+            UUID.randomUUID(),
+            "bench@test.com",
+            "판매자",
+            "01012345678",
+            "벤치상점",
+            "1234567890",
+            "홍길동",
+            Address.of("12345", "서울시 강남구", "테헤란로 123"));
+    seller.approve("admin");
+    seller.updateSettlementInfo("004", "12345678901234", "홍길동");
+    entityManager.persist(seller);
+    entityManager.flush();
+    entityManager.clear();
+
+    // when
+    CapturingInspector.STATEMENTS.clear();
+    entityManager.find(Seller.class, seller.getId()).patchProfile("새이름", null);
+    entityManager.flush();
+    entityManager.clear();
+
+    String dynamicSql =
+        CapturingInspector.STATEMENTS.stream()
+            .filter(sql -> sql.toLowerCase(Locale.ROOT).startsWith("update sellers"))
+            .findFirst()
+            .orElseThrow();
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    List<String> allColumns =
+        jdbcTemplate
+            .queryForList(
+                "SELECT column_name FROM information_schema.columns"
+                    + " WHERE LOWER(table_name) = 'sellers' ORDER BY ordinal_position",
+                String.class)
+            .stream()
+            .map(column -> column.toLowerCase(Locale.ROOT))
+            .filter(column -> !column.equals("id"))
+            .toList();
+    String fullSql = "update sellers set " + String.join("=?,", allColumns) + "=? where id=?";
+
+    Result dynamic = run(jdbcTemplate, dynamicSql, setColumns(dynamicSql), seller.getId());
+    Result full = run(jdbcTemplate, fullSql, allColumns, seller.getId());
+
+    // then
+    System.out.printf(
+        "%n[UPDATE 벤치마크] %d회 평균%n"
+            + "  전체 컬럼 : %2d columns, %4d chars, %6.2f us%n"
+            + "  변경 컬럼 : %2d columns, %4d chars, %6.2f us%n"
+            + "  %s%n",
+        ITERATIONS,
+        full.columns(),
+        fullSql.length(),
+        full.averageMicros(),
+        dynamic.columns(),
+        dynamicSql.length(),
+        dynamic.averageMicros(),
+        dynamicSql);
+    assertThat(dynamic.columns()).isLessThan(full.columns());
+    assertThat(dynamicSql).doesNotContain("bank_code", "business_number", "seller_status");
+  }
+
+  /** UPDATE의 SET 절에서 컬럼명을 꺼낸다. (WHERE 절의 id 제외) */
+  private static List<String> setColumns(String sql) {
+    String lower = sql.toLowerCase(Locale.ROOT);
+    String setClause = lower.substring(lower.indexOf(" set ") + 5, lower.indexOf(" where "));
+    return Arrays.stream(setClause.split(","))
+        .map(assignment -> assignment.substring(0, assignment.indexOf('=')).trim())
+        .toList();
+  }
+
+  private static Result run(JdbcTemplate jdbcTemplate, String sql, List<String> columns, UUID id) {
+    Map<String, Object> row = jdbcTemplate.queryForMap("SELECT * FROM sellers WHERE id = ?", id);
+    Object[] args = new Object[columns.size() + 1];
+    for (int i = 0; i < columns.size(); i++) {
+      args[i] = row.get(columns.get(i));
+    }
+    args[columns.size()] = id;
+
+    for (int i = 0; i < WARMUP; i++) {
+      jdbcTemplate.update(sql, args);
+    }
+    long started = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      jdbcTemplate.update(sql, args);
+    }
+    double averageMicros = (System.nanoTime() - started) / 1_000.0 / ITERATIONS;
+    return new Result(columns.size(), averageMicros);
+  }
+
+  private record Result(int columns, double averageMicros) {}
+}
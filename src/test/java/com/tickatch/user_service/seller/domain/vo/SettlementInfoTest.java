@@ -3,6 +3,7 @@ package com.tickatch.user_service.seller.domain.vo;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.tickatch.user_service.global.crypto.FieldCrypto;
 import com.tickatch.user_service.seller.domain.exception.SellerErrorCode;
 import com.tickatch.user_service.seller.domain.exception.SellerException;
 import org.junit.jupiter.api.DisplayName;
@@ -171,6 +172,34 @@ class SettlementInfoTest {
     }
   }
 
+  @Nested
+  class 암호화_테스트 {
+
+    @Test
+    void 계좌번호는_암호화되고_복호화하면_원래_값이다() {
+      SettlementInfo settlementInfo =
+          SettlementInfo.of(VALID_BANK_CODE, "12345678901234", VALID_ACCOUNT_HOLDER);
+      assertThat(settlementInfo.getEncryptedAccountNumber())
+          .startsWith("v1:")
+          .doesNotContain("12345678901234");
+      assertThat(FieldCrypto.decrypt(settlementInfo.getEncryptedAccountNumber()))
+          .isEqualTo("12345678901234");
+    }
+
+    @Test
+    void 같은_계좌번호도_암호문은_다르고_블라인드_인덱스는_같다() {
+      SettlementInfo info1 =
+          SettlementInfo.of(VALID_BANK_CODE, "12345678901234", VALID_ACCOUNT_HOLDER);
+      SettlementInfo info2 =
+          SettlementInfo.of(VALID_BANK_CODE, "1234-5678-901234", VALID_ACCOUNT_HOLDER);
+      assertThat(info1.getEncryptedAccountNumber())
+          .isNotEqualTo(info2.getEncryptedAccountNumber());
+      assertThat(info1.getAccountNumberIndex())
+          .isEqualTo(info2.getAccountNumberIndex())
+          .isEqualTo(SettlementInfo.accountNumberIndexOf("1234-5678-901234"));
+    }
+  }
+
   @Nested
   class 마스킹_테스트 {
 
@@ -4,8 +4,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -16,12 +18,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tickatch.user_service.common.domain.vo.UserStatus;
 import com.tickatch.user_service.config.TestSecurityConfig;
 import com.tickatch.user_service.seller.application.service.command.SellerCommandService;
+import com.tickatch.user_service.seller.application.service.command.dto.UpdateSettlementInfoCommand;
 import com.tickatch.user_service.seller.application.service.query.SellerQueryService;
+import com.tickatch.user_service.seller.application.service.query.dto.SellerEligibilityResponse;
 import com.tickatch.user_service.seller.application.service.query.dto.SellerResponse;
 import com.tickatch.user_service.seller.domain.vo.SellerStatus;
-import com.tickatch.user_service.seller.presentation.api.dto.CreateSellerRequest;
 import com.tickatch.user_service.seller.presentation.api.dto.CreateSellerRequest.AddressRequest;
+import com.tickatch.user_service.seller.presentation.api.dto.CreateSellerRequest;
 import com.tickatch.user_service.seller.presentation.api.dto.RejectRequest;
+import com.tickatch.user_service.seller.presentation.api.dto.SellerEligibilityBatchRequest;
 import com.tickatch.user_service.seller.presentation.api.dto.UpdateSellerProfileRequest;
 import com.tickatch.user_service.seller.presentation.api.dto.UpdateSettlementInfoRequest;
 import io.github.tickatch.common.security.test.MockUser;
@@ -123,6 +128,31 @@ class SellerApiTest {
         .andExpect(jsonPath("$.data.id").value(userId.toString()));
   }
 
+  @Test
+  @MockUser(userId = "550e8400-e29b-41d4-a716-446655440000")
+  @DisplayName("판매자 공연 등록 가능 여부를 일괄 조회한다")
+  void getPerformanceEligibilities() throws Exception {
+    UUID approvedId = UUID.randomUUID();
+    UUID pendingId = UUID.randomUUID();
+    SellerEligibilityBatchRequest request =
+        new SellerEligibilityBatchRequest(List.of(approvedId, pendingId));
+    given(sellerQueryService.getPerformanceEligibilities(List.of(approvedId, pendingId)))
+        .willReturn(
+            List.of(
+                new SellerEligibilityResponse(approvedId, true),
+                new SellerEligibilityResponse(pendingId, false)));
+
+    mockMvc
+        .perform(
+            post(BASE_URL + "/eligibility")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data[0].eligible").value(true))
+        .andExpect(jsonPath("$.data[1].eligible").value(false));
+  }
+
   @Test
   @MockUser(userId = "550e8400-e29b-41d4-a716-446655440000")
   @DisplayName("판매자를 생성한다")
@@ -184,6 +214,25 @@ class SellerApiTest {
         .andExpect(status().isOk());
   }
 
+  @Test
+  @MockUser(userId = "550e8400-e29b-41d4-a716-446655440000")
+  @DisplayName("정산 정보를 부분 수정한다")
+  void patchSettlementInfo() throws Exception {
+    UUID id = UUID.randomUUID();
+    willDoNothing().given(sellerCommandService).patchSettlementInfo(any());
+
+    mockMvc
+        .perform(
+            patch(BASE_URL + "/{id}/settlement", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"accountNumber\":\"98765432109876\"}"))
+        .andDo(print())
+        .andExpect(status().isOk());
+
+    verify(sellerCommandService)
+        .patchSettlementInfo(UpdateSettlementInfoCommand.of(id, null, "98765432109876", null));
+  }
+
   @Test
   @MockUser(userId = "550e8400-e29b-41d4-a716-446655440000")
   @DisplayName("판매자를 승인한다")
@@ -0,0 +1,3 @@
+-- schema-postgresql.sql의 ux_sellers_business_number_live에 대응한다.
+-- H2는 부분 인덱스를 지원하지 않으므로 deleted_at 조건 없이 만든다.
+CREATE UNIQUE INDEX ux_sellers_business_number_live ON sellers (business_number);